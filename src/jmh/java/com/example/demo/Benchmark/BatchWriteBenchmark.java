@@ -0,0 +1,194 @@
+package com.example.demo.Benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.demo.Dao.Batch.BulkInsertMode;
+import com.example.demo.Entity.DataJDBCEntity;
+import com.example.demo.Entity.JDBCEntity;
+import com.example.demo.Entity.JPAEntity;
+
+/**
+ * @author Takumi
+ * <pre>
+ * 一括挿入・一括更新・一括削除を5つのデータアクセス方法で比較する
+ * 件数は{@link #batchSize}で切り替える
+ * すべてロールバックするトランザクション内で実行する
+ * ※MyBatisはExecutorType.BATCHのSqlSessionを使用し、最後にflushStatementsする
+ * ※JPAの一括挿入はsaveAll（1件ごとにmerge）とpersistAll（mergeせずにpersistし、JDBCのバッチで送る）の両方を計測する
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchWriteBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	public int batchSize;
+
+	private List<JDBCEntity> insertList;
+	private List<JDBCEntity> updateList;
+	private List<Integer> idList;
+	private List<JPAEntity> jpaInsertList;
+	private List<JPAEntity> jpaUpdateList;
+	private List<DataJDBCEntity> dataJdbcInsertList;
+	private List<DataJDBCEntity> dataJdbcUpdateList;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		insertList = DataAccessStackState.entities(DataAccessStackState.NEW_ID, batchSize, "一括挿入");
+		updateList = DataAccessStackState.entities(DataAccessStackState.FIRST_ID, batchSize, "一括更新");
+		jpaInsertList = DataAccessStackState.jpaEntities(DataAccessStackState.NEW_ID, batchSize, "一括挿入");
+		jpaUpdateList = DataAccessStackState.jpaEntities(DataAccessStackState.FIRST_ID, batchSize, "一括更新");
+		dataJdbcInsertList = DataAccessStackState.dataJdbcEntities(DataAccessStackState.NEW_ID, batchSize, "一括挿入");
+		dataJdbcUpdateList = DataAccessStackState.dataJdbcEntities(DataAccessStackState.FIRST_ID, batchSize, "一括更新");
+		idList = new ArrayList<>(batchSize);
+		for (JDBCEntity entity : updateList) {
+			idList.add(entity.getId());
+		}
+	}
+
+	// ---- 一括挿入 ----
+
+	@Benchmark
+	public int batchInsertJdbcTemplate(DataAccessStackState state) {
+		return state.rollback(() -> state.jdbcTempDao.batchInsert(insertList));
+	}
+
+	@Benchmark
+	public int batchInsertNamedJdbcTemplate(DataAccessStackState state) {
+		return state.rollback(() -> state.namedJdbcDao.batchInsert(insertList));
+	}
+
+	@Benchmark
+	public int batchInsertJdbcTemplateMultiRow(DataAccessStackState state) {
+		return state.rollback(() -> state.jdbcTempDao.batchInsert(insertList, BulkInsertMode.DEFAULT_CHUNK_SIZE,
+				BulkInsertMode.MULTI_ROW));
+	}
+
+	@Benchmark
+	public int batchInsertNamedJdbcTemplateMultiRow(DataAccessStackState state) {
+		return state.rollback(() -> state.namedJdbcDao.batchInsert(insertList, BulkInsertMode.DEFAULT_CHUNK_SIZE,
+				BulkInsertMode.MULTI_ROW));
+	}
+
+	@Benchmark
+	public int batchInsertJpa(DataAccessStackState state) {
+		return state.rollback(() -> {
+			state.jpaRepository.saveAll(jpaInsertList);
+			state.jpaRepository.flush();
+			return batchSize;
+		});
+	}
+
+	@Benchmark
+	public int batchInsertJpaPersist(DataAccessStackState state) {
+		return state.rollback(() -> state.jpaRepository.persistAll(jpaInsertList));
+	}
+
+	@Benchmark
+	public int batchInsertDataJdbc(DataAccessStackState state) {
+		return state.rollback(() -> {
+			state.jdbcAggregateTemplate.insertAll(dataJdbcInsertList);
+			return batchSize;
+		});
+	}
+
+	@Benchmark
+	public int batchInsertMyBatis(DataAccessStackState state) {
+		return state.rollback(() -> {
+			for (JDBCEntity entity : insertList) {
+				state.batchMapper.insert(entity);
+			}
+			return state.batchSqlSession.flushStatements().size();
+		});
+	}
+
+	// ---- 一括更新 ----
+
+	@Benchmark
+	public int batchUpdateJdbcTemplate(DataAccessStackState state) {
+		return state.rollback(() -> state.jdbcTempDao.batchUpdate(updateList));
+	}
+
+	@Benchmark
+	public int batchUpdateNamedJdbcTemplate(DataAccessStackState state) {
+		return state.rollback(() -> state.namedJdbcDao.batchUpdate(updateList));
+	}
+
+	@Benchmark
+	public int batchUpdateJpa(DataAccessStackState state) {
+		return state.rollback(() -> {
+			state.jpaRepository.saveAll(jpaUpdateList);
+			state.jpaRepository.flush();
+			return batchSize;
+		});
+	}
+
+	@Benchmark
+	public int batchUpdateDataJdbc(DataAccessStackState state) {
+		return state.rollback(() -> {
+			state.dataJdbcRepository.saveAll(dataJdbcUpdateList);
+			return batchSize;
+		});
+	}
+
+	@Benchmark
+	public int batchUpdateMyBatis(DataAccessStackState state) {
+		return state.rollback(() -> {
+			for (JDBCEntity entity : updateList) {
+				state.batchMapper.update(entity);
+			}
+			return state.batchSqlSession.flushStatements().size();
+		});
+	}
+
+	// ---- 一括削除 ----
+
+	@Benchmark
+	public int batchDeleteJdbcTemplate(DataAccessStackState state) {
+		return state.rollback(() -> state.jdbcTempDao.batchDelete(updateList));
+	}
+
+	@Benchmark
+	public int batchDeleteNamedJdbcTemplate(DataAccessStackState state) {
+		return state.rollback(() -> state.namedJdbcDao.batchDelete(updateList));
+	}
+
+	@Benchmark
+	public int batchDeleteJpa(DataAccessStackState state) {
+		return state.rollback(() -> {
+			state.jpaRepository.deleteAllByIdInBatch(idList);
+			return batchSize;
+		});
+	}
+
+	@Benchmark
+	public int batchDeleteDataJdbc(DataAccessStackState state) {
+		return state.rollback(() -> {
+			state.dataJdbcRepository.deleteAllById(idList);
+			return batchSize;
+		});
+	}
+
+	@Benchmark
+	public int batchDeleteMyBatis(DataAccessStackState state) {
+		return state.rollback(() -> {
+			for (Integer id : idList) {
+				state.batchMapper.deleteById(id);
+			}
+			return state.batchSqlSession.flushStatements().size();
+		});
+	}
+}
@@ -0,0 +1,167 @@
+package com.example.demo.Benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.SqlApplication;
+import com.example.demo.Dao.JDBCTempDao;
+import com.example.demo.Dao.NamedJDBCDao;
+import com.example.demo.Entity.DataJDBCEntity;
+import com.example.demo.Entity.JDBCEntity;
+import com.example.demo.Entity.JPAEntity;
+import com.example.demo.Mapper.JDBCEntityMapper;
+import com.example.demo.Repository.DataJDBCRepository;
+import com.example.demo.Repository.JPARepository;
+
+/**
+ * @author Takumi
+ * <pre>
+ * 5つのデータアクセス方法（JdbcTemplate, NamedParameterJdbcTemplate, Spring Data JPA, Spring Data JDBC, MyBatis）
+ * のベンチマークで共有する状態
+ * Springのコンテキストは試行ごとに1度だけ起動し、組み込みH2に{@link #TABLE_ROWS}件のデータを追加しておく
+ * 書き込み系は{@link #rollback(Supplier)}でトランザクション内で実行し、最後にロールバックすることで
+ * テーブルの状態を毎回同じに保つ
+ * ※Spring Data JDBCの{@link DataJDBCEntity}はTESTテーブル、それ以外はtest_tableを対象とする
+ * </pre>
+ */
+@State(Scope.Benchmark)
+public class DataAccessStackState {
+
+	/** ベンチマーク用に追加するデータの件数 */
+	public static final int TABLE_ROWS = 10_000;
+
+	/** 追加したデータの先頭のid（data.sqlのデータと被らないようにする） */
+	public static final int FIRST_ID = 1_001;
+
+	/** 挿入系のベンチマークで使用するidの先頭（追加したデータと被らないようにする） */
+	public static final int NEW_ID = 1_000_001;
+
+	public ConfigurableApplicationContext context;
+	public JDBCTempDao jdbcTempDao;
+	public NamedJDBCDao namedJdbcDao;
+	public JPARepository jpaRepository;
+	public DataJDBCRepository dataJdbcRepository;
+	public JdbcAggregateTemplate jdbcAggregateTemplate;
+	public JDBCEntityMapper mapper;
+	public SqlSessionTemplate batchSqlSession;
+	public JDBCEntityMapper batchMapper;
+
+	private TransactionTemplate transactionTemplate;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		//ベンチマーク用のDBに接続する
+		//データアクセス方法同士の比較のため、idでの取得結果のキャッシュ・DAOのメトリクス・SQLのログ出力・遅いSQLの検出は無効にする
+		context = new SpringApplicationBuilder(SqlApplication.class)
+				.web(WebApplicationType.NONE)
+				.run("--spring.datasource.driver-class-name=org.h2.Driver",
+						"--spring.datasource.url=jdbc:h2:mem:benchdb",
+						"--entity-cache.enabled=false",
+						"--dao-metrics.enabled=false",
+						"--sql-log.enabled=false",
+						"--slow-query.enabled=false",
+						"--logging.level.root=WARN");
+
+		jdbcTempDao = context.getBean(JDBCTempDao.class);
+		namedJdbcDao = context.getBean(NamedJDBCDao.class);
+		jpaRepository = context.getBean(JPARepository.class);
+		dataJdbcRepository = context.getBean(DataJDBCRepository.class);
+		jdbcAggregateTemplate = context.getBean(JdbcAggregateTemplate.class);
+		mapper = context.getBean(JDBCEntityMapper.class);
+		batchSqlSession = new SqlSessionTemplate(context.getBean(SqlSessionFactory.class), ExecutorType.BATCH);
+		batchMapper = batchSqlSession.getMapper(JDBCEntityMapper.class);
+		transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+		jdbcTempDao.batchInsert(entities(FIRST_ID, TABLE_ROWS, "ベンチ"));
+		context.getBean(JdbcTemplate.class).batchUpdate(
+				"INSERT INTO TEST (ID, FIRST_NAME, LAST_NAME, BIRTH_DAY) VALUES (?, ?, ?, ?)",
+				dataJdbcEntities(FIRST_ID, TABLE_ROWS, "ベンチ"), 1_000,
+				(ps, entity) -> {
+					ps.setInt(1, entity.getId());
+					ps.setString(2, entity.getFirstName());
+					ps.setString(3, entity.getLastName());
+					ps.setInt(4, entity.getBirthDay());
+				});
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	/**
+	 * <pre>
+	 * トランザクション内で処理を実行し、最後にロールバックする
+	 * </pre>
+	 * @param <T>
+	 * @param action 実行したい処理
+	 * @return 処理の戻り値
+	 */
+	public <T> T rollback(Supplier<T> action) {
+		return transactionTemplate.execute(status -> {
+			status.setRollbackOnly();
+			return action.get();
+		});
+	}
+
+	/**
+	 * @param firstId 先頭のid
+	 * @param count 件数
+	 * @param firstName first_nameに入れる値
+	 * @return idが連番の{@link JDBCEntity}のリスト
+	 */
+	public static List<JDBCEntity> entities(int firstId, int count, String firstName) {
+		List<JDBCEntity> list = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			list.add(new JDBCEntity(firstId + i, firstName, "太郎" + (i % 100), 20240101 + (i % 28)));
+		}
+		return list;
+	}
+
+	/**
+	 * @param firstId 先頭のid
+	 * @param count 件数
+	 * @param firstName first_nameに入れる値
+	 * @return idが連番の{@link JPAEntity}のリスト
+	 */
+	public static List<JPAEntity> jpaEntities(int firstId, int count, String firstName) {
+		List<JPAEntity> list = new ArrayList<>(count);
+		for (JDBCEntity entity : entities(firstId, count, firstName)) {
+			list.add(new JPAEntity(entity.getId(), entity.getFirst_name(), entity.getLast_name(),
+					entity.getBirth_day()));
+		}
+		return list;
+	}
+
+	/**
+	 * @param firstId 先頭のid
+	 * @param count 件数
+	 * @param firstName FIRST_NAMEに入れる値
+	 * @return idが連番の{@link DataJDBCEntity}のリスト
+	 */
+	public static List<DataJDBCEntity> dataJdbcEntities(int firstId, int count, String firstName) {
+		List<DataJDBCEntity> list = new ArrayList<>(count);
+		for (JDBCEntity entity : entities(firstId, count, firstName)) {
+			list.add(new DataJDBCEntity(entity.getId(), entity.getFirst_name(), entity.getLast_name(),
+					entity.getBirth_day()));
+		}
+		return list;
+	}
+}
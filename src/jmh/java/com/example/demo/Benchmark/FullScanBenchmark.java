@@ -0,0 +1,62 @@
+package com.example.demo.Benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.example.demo.Entity.DataJDBCEntity;
+import com.example.demo.Entity.JDBCEntity;
+import com.example.demo.Entity.JPAEntity;
+
+/**
+ * @author Takumi
+ * <pre>
+ * テーブルの全件取得を5つのデータアクセス方法で比較する
+ * 対象は{@link DataAccessStackState#TABLE_ROWS}件＋data.sqlのデータ
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FullScanBenchmark {
+
+	@Benchmark
+	public List<JDBCEntity> scanJdbcTemplate(DataAccessStackState state) {
+		return state.jdbcTempDao.getAllJDBCEntity();
+	}
+
+	@Benchmark
+	public List<Map<String, Object>> scanJdbcTemplateMap(DataAccessStackState state) {
+		return state.jdbcTempDao.findAll();
+	}
+
+	@Benchmark
+	public void scanJdbcTemplateStream(DataAccessStackState state, Blackhole blackhole) {
+		state.jdbcTempDao.forEachJDBCEntityRow(blackhole::consume);
+	}
+
+	@Benchmark
+	public List<JDBCEntity> scanNamedJdbcTemplate(DataAccessStackState state) {
+		return state.namedJdbcDao.getAllJDBCEntity();
+	}
+
+	@Benchmark
+	public List<JPAEntity> scanJpa(DataAccessStackState state) {
+		return state.jpaRepository.findAll();
+	}
+
+	@Benchmark
+	public Iterable<DataJDBCEntity> scanDataJdbc(DataAccessStackState state) {
+		return state.dataJdbcRepository.findAll();
+	}
+
+	@Benchmark
+	public List<JDBCEntity> scanMyBatis(DataAccessStackState state) {
+		return state.mapper.findAll();
+	}
+}
@@ -0,0 +1,172 @@
+package com.example.demo.Benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.demo.Entity.DataJDBCEntity;
+import com.example.demo.Entity.JDBCEntity;
+import com.example.demo.Entity.JPAEntity;
+
+/**
+ * @author Takumi
+ * <pre>
+ * 1件の取得・挿入・更新・削除を5つのデータアクセス方法で比較する
+ * 取得対象のidは呼び出しごとに追加データの中でずらしていく
+ * 書き込み系はロールバックするトランザクション内で実行する
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SingleRowBenchmark {
+
+	private int cursor;
+
+	private int nextId() {
+		cursor = (cursor + 1) % DataAccessStackState.TABLE_ROWS;
+		return DataAccessStackState.FIRST_ID + cursor;
+	}
+
+	// ---- 1件取得 ----
+
+	@Benchmark
+	public JDBCEntity getJdbcTemplate(DataAccessStackState state) {
+		return state.jdbcTempDao.getJDBCEntityById(nextId());
+	}
+
+	@Benchmark
+	public JDBCEntity getNamedJdbcTemplate(DataAccessStackState state) {
+		return state.namedJdbcDao.getJDBCEntityById(nextId());
+	}
+
+	@Benchmark
+	public JPAEntity getJpa(DataAccessStackState state) {
+		return state.jpaRepository.findById(nextId()).orElseThrow();
+	}
+
+	@Benchmark
+	public DataJDBCEntity getDataJdbc(DataAccessStackState state) {
+		return state.dataJdbcRepository.findById(nextId()).orElseThrow();
+	}
+
+	@Benchmark
+	public JDBCEntity getMyBatis(DataAccessStackState state) {
+		return state.mapper.findById(nextId());
+	}
+
+	// ---- 1件挿入 ----
+
+	@Benchmark
+	public int insertJdbcTemplate(DataAccessStackState state) {
+		return state.rollback(() -> state.jdbcTempDao.insert(Map.of(
+				JDBCEntity.ID, String.valueOf(DataAccessStackState.NEW_ID),
+				JDBCEntity.FIRST_NAME, "挿入",
+				JDBCEntity.LAST_NAME, "太郎",
+				JDBCEntity.BIRTHDAY, "20240101")));
+	}
+
+	@Benchmark
+	public int insertNamedJdbcTemplate(DataAccessStackState state) {
+		return state.rollback(() -> state.namedJdbcDao.insert(Map.of(
+				JDBCEntity.ID, String.valueOf(DataAccessStackState.NEW_ID),
+				JDBCEntity.FIRST_NAME, "挿入",
+				JDBCEntity.LAST_NAME, "太郎",
+				JDBCEntity.BIRTHDAY, "20240101")));
+	}
+
+	@Benchmark
+	public JPAEntity insertJpa(DataAccessStackState state) {
+		return state.rollback(() -> state.jpaRepository.saveAndFlush(
+				new JPAEntity(DataAccessStackState.NEW_ID, "挿入", "太郎", 20240101)));
+	}
+
+	@Benchmark
+	public DataJDBCEntity insertDataJdbc(DataAccessStackState state) {
+		return state.rollback(() -> state.jdbcAggregateTemplate.insert(
+				new DataJDBCEntity(DataAccessStackState.NEW_ID, "挿入", "太郎", 20240101)));
+	}
+
+	@Benchmark
+	public int insertMyBatis(DataAccessStackState state) {
+		return state.rollback(() -> state.mapper.insert(
+				new JDBCEntity(DataAccessStackState.NEW_ID, "挿入", "太郎", 20240101)));
+	}
+
+	// ---- 1件更新 ----
+
+	@Benchmark
+	public int updateJdbcTemplate(DataAccessStackState state) {
+		int id = nextId();
+		return state.rollback(() -> state.jdbcTempDao.updateById(id, Map.of(JDBCEntity.FIRST_NAME, "更新")));
+	}
+
+	@Benchmark
+	public int updateNamedJdbcTemplate(DataAccessStackState state) {
+		int id = nextId();
+		return state.rollback(() -> state.namedJdbcDao.updateById(id, Map.of(JDBCEntity.FIRST_NAME, "更新")));
+	}
+
+	@Benchmark
+	public JPAEntity updateJpa(DataAccessStackState state) {
+		int id = nextId();
+		return state.rollback(() -> state.jpaRepository.saveAndFlush(new JPAEntity(id, "更新", "太郎", 20240101)));
+	}
+
+	@Benchmark
+	public DataJDBCEntity updateDataJdbc(DataAccessStackState state) {
+		int id = nextId();
+		return state.rollback(() -> state.dataJdbcRepository.save(new DataJDBCEntity(id, "更新", "太郎", 20240101)));
+	}
+
+	@Benchmark
+	public int updateMyBatis(DataAccessStackState state) {
+		int id = nextId();
+		return state.rollback(() -> state.mapper.update(new JDBCEntity(id, "更新", "太郎", 20240101)));
+	}
+
+	// ---- 1件削除 ----
+
+	@Benchmark
+	public int deleteJdbcTemplate(DataAccessStackState state) {
+		int id = nextId();
+		return state.rollback(() -> state.jdbcTempDao.deleteById(id));
+	}
+
+	@Benchmark
+	public int deleteNamedJdbcTemplate(DataAccessStackState state) {
+		int id = nextId();
+		return state.rollback(() -> state.namedJdbcDao.deleteById(id));
+	}
+
+	@Benchmark
+	public int deleteJpa(DataAccessStackState state) {
+		int id = nextId();
+		return state.rollback(() -> {
+			state.jpaRepository.deleteById(id);
+			state.jpaRepository.flush();
+			return 1;
+		});
+	}
+
+	@Benchmark
+	public int deleteDataJdbc(DataAccessStackState state) {
+		int id = nextId();
+		return state.rollback(() -> {
+			state.dataJdbcRepository.deleteById(id);
+			return 1;
+		});
+	}
+
+	@Benchmark
+	public int deleteMyBatis(DataAccessStackState state) {
+		int id = nextId();
+		return state.rollback(() -> state.mapper.deleteById(id));
+	}
+}
@@ -0,0 +1,109 @@
+package com.example.demo.Dao.Statement;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.demo.Entity.JDBCEntity;
+
+/**
+ * @author Takumi
+ * <pre>
+ * SQL文の組み立てコストの比較
+ * legacy～ : 変更前のDAOと同じく、呼び出しのたびにArrayListに詰めてString.joinする
+ * catalog～ : {@link JDBCEntitySql}の定数と{@link StatementCache}を使用する
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StatementCatalogBenchmark {
+
+	private Map<String, String> updateDataMap;
+
+	private final StatementCache<List<String>> updateStatementCache = new StatementCache<>();
+
+	@Setup
+	public void setup() {
+		updateDataMap = new LinkedHashMap<>();
+		updateDataMap.put(JDBCEntity.FIRST_NAME, "更新した");
+		updateDataMap.put(JDBCEntity.LAST_NAME, "太郎くん");
+	}
+
+	@Benchmark
+	public String legacySelectById() {
+		List<String> sqlList = new ArrayList<String>();
+
+		sqlList.add("SELECT");
+		sqlList.add("*");
+		sqlList.add("FROM");
+		sqlList.add(JDBCEntity.TEST);
+		sqlList.add("WHERE");
+		sqlList.add(JDBCEntity.ID + " = ?");
+
+		return String.join(" ", sqlList);
+	}
+
+	@Benchmark
+	public String catalogSelectById() {
+		return JDBCEntitySql.SELECT_BY_ID;
+	}
+
+	@Benchmark
+	public String legacyUpdateById() {
+		List<String> setList = new ArrayList<String>();
+		for (var entry : updateDataMap.entrySet()) {
+			setList.add(entry.getKey() + " = ?");
+		}
+
+		List<String> sqlList = new ArrayList<String>();
+
+		sqlList.add("UPDATE");
+		sqlList.add(JDBCEntity.TEST);
+		sqlList.add("SET");
+		sqlList.add(String.join(", ", setList));
+		sqlList.add("WHERE");
+		sqlList.add(JDBCEntity.ID + " = ?");
+
+		return String.join(" ", sqlList);
+	}
+
+	@Benchmark
+	public String catalogUpdateById() {
+		return updateStatementCache.get(List.copyOf(updateDataMap.keySet()), JDBCEntitySql::updateById);
+	}
+
+	@Benchmark
+	public String legacyBatchUpdate() {
+		List<String> batchUpdateSetList = new ArrayList<>();
+		for (String columnName : JDBCEntity.GetSetQueryList_forBatchUpdate()) {
+			batchUpdateSetList.add(columnName + " = ?");
+		}
+
+		List<String> sqlList = new ArrayList<String>();
+
+		sqlList.add("UPDATE");
+		sqlList.add(JDBCEntity.TEST);
+		sqlList.add("SET");
+		sqlList.add(String.join(", ", batchUpdateSetList));
+		sqlList.add("WHERE");
+		sqlList.add(JDBCEntity.ID + " = ?");
+
+		return String.join(" ", sqlList);
+	}
+
+	@Benchmark
+	public String catalogBatchUpdate() {
+		return JDBCEntitySql.BATCH_UPDATE;
+	}
+}
@@ -0,0 +1,48 @@
+package com.example.demo.Dao.Async;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * @author Takumi
+ * <pre>
+ * DAOの非同期実行の設定
+ * dao-async.max-concurrency 同時に実行する上限（デフォルト0：接続プールの最大数に合わせる）
+ * 接続プールの最大数が取得できない場合は{@link #DEFAULT_MAX_CONCURRENCY}
+ * </pre>
+ */
+@Configuration
+public class AsyncDaoConfig {
+
+	/** 接続プールの最大数が取得できない場合の同時実行数（HikariCPのデフォルトと同じ） */
+	public static final int DEFAULT_MAX_CONCURRENCY = 10;
+
+	@Bean
+	public AsyncDaoExecutor asyncDaoExecutor(DataSource dataSource,
+			@Value("${dao-async.max-concurrency:0}") int maxConcurrency) {
+		return new AsyncDaoExecutor(maxConcurrency > 0 ? maxConcurrency : poolSize(dataSource));
+	}
+
+	/**
+	 * @param dataSource
+	 * @return 接続プールの最大数
+	 */
+	private static int poolSize(DataSource dataSource) {
+		try {
+			if (dataSource.isWrapperFor(HikariDataSource.class)) {
+				return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+			}
+		} catch (SQLException e) {
+			System.err.println(e.getMessage() + "\r\n"
+					+ e.getStackTrace());
+		}
+		return DEFAULT_MAX_CONCURRENCY;
+	}
+}
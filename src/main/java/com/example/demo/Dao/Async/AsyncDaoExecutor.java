@@ -0,0 +1,189 @@
+package com.example.demo.Dao.Async;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import lombok.Getter;
+
+/**
+ * @author Takumi
+ * <pre>
+ * DAOの処理を非同期で実行する
+ * Java 21以降は仮想スレッドで実行し、同時に実行する数はセマフォで接続プールの最大数までに制限する
+ * （接続の空きを待つのはセマフォで、接続プールの待ち行列には並ばない。仮想スレッドのためセマフォで待ってもOSのスレッドは使わない）
+ * Java 17の場合は最大数と同じ数のスレッドプールで実行する
+ * {@link CursorPublisher}の読み込み・キャンセルの処理は、Java 17の場合はこのスレッドプールとは別のスレッドで実行する
+ * （実行枠を待つ処理でスレッドプールが埋まっても、開いているカーソルを閉じて実行枠を返せるようにするため）
+ *
+ * ※仮想スレッドのうちJDBCの処理中はOSのスレッドを占有する（synchronizedによるピン留め）ため、
+ * 最大数はCPUのコア数を大きく超えないようにすること
+ * ※呼び出し元のトランザクションには参加しない
+ * </pre>
+ */
+public class AsyncDaoExecutor implements DisposableBean {
+
+	/** 同時に実行する上限 */
+	@Getter
+	private final int maxConcurrency;
+
+	/** 仮想スレッドで実行する場合true */
+	@Getter
+	private final boolean virtualThreads;
+
+	private final Semaphore permits;
+
+	private final ExecutorService executor;
+
+	/** {@link CursorPublisher}の読み込みを行うスレッド（実行枠を待つ処理で埋まらないよう、数の上限はない） */
+	private final ExecutorService cursorExecutor;
+
+	/**
+	 * @param maxConcurrency 同時に実行する上限
+	 */
+	public AsyncDaoExecutor(int maxConcurrency) {
+		if (maxConcurrency <= 0) {
+			throw new IllegalArgumentException("maxConcurrencyは1以上を指定してください。:" + maxConcurrency);
+		}
+		this.maxConcurrency = maxConcurrency;
+		this.permits = new Semaphore(maxConcurrency, true);
+		ExecutorService virtualThreadExecutor = newVirtualThreadExecutor();
+		this.virtualThreads = virtualThreadExecutor != null;
+		this.executor = virtualThreads ? virtualThreadExecutor
+				: Executors.newFixedThreadPool(maxConcurrency, new DaoThreadFactory("dao-async-"));
+		//カーソルを開いているスレッドの数は実行枠で制限されるため、上限のないスレッドプールにする
+		this.cursorExecutor = virtualThreads ? virtualThreadExecutor
+				: Executors.newCachedThreadPool(new DaoThreadFactory("dao-cursor-"));
+	}
+
+	/**
+	 * @param <T> 戻り値の型
+	 * @param task 実行する処理
+	 * @return 処理の結果（例外が発生した場合はその例外で完了する）
+	 */
+	public <T> CompletableFuture<T> supply(Supplier<T> task) {
+		return CompletableFuture.supplyAsync(() -> {
+			acquire();
+			try {
+				return task.get();
+			} finally {
+				permits.release();
+			}
+		}, executor);
+	}
+
+	/**
+	 * @param task 実行する処理
+	 * @return 処理の完了（例外が発生した場合はその例外で完了する）
+	 */
+	public CompletableFuture<Void> run(Runnable task) {
+		return supply(() -> {
+			task.run();
+			return null;
+		});
+	}
+
+	/**
+	 * <pre>
+	 * カーソルから要求された件数だけ読み進める{@link CursorPublisher}を作成する
+	 * カーソルを開いている間は実行枠を1つ使用する
+	 * </pre>
+	 * @param <T> 行の型
+	 * @param cursorOpener カーソルを開く処理（購読するたびに呼ばれる）
+	 * @return 行を渡すPublisher
+	 */
+	public <T> CursorPublisher<T> publish(Supplier<? extends Stream<T>> cursorOpener) {
+		return new CursorPublisher<>(cursorOpener, cursorExecutor, permits);
+	}
+
+	/**
+	 * @return 空いている実行枠の数
+	 */
+	public int getAvailablePermits() {
+		return permits.availablePermits();
+	}
+
+	/**
+	 * @return 実行枠の空きを待っている数（おおよその値）
+	 */
+	public int getQueueLength() {
+		return permits.getQueueLength();
+	}
+
+	/**
+	 * <pre>
+	 * 実行中の処理の終了を待ってから終了する
+	 * </pre>
+	 */
+	@Override
+	public void destroy() throws InterruptedException {
+		shutdown(cursorExecutor);
+		if (cursorExecutor != executor) {
+			shutdown(executor);
+		}
+	}
+
+	private static void shutdown(ExecutorService executorService) throws InterruptedException {
+		executorService.shutdown();
+		if (!executorService.awaitTermination(30, TimeUnit.SECONDS)) {
+			executorService.shutdownNow();
+		}
+	}
+
+	private void acquire() {
+		try {
+			permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CompletionException(e);
+		}
+	}
+
+	/**
+	 * <pre>
+	 * Java 17でもコンパイルできるように、Executors#newVirtualThreadPerTaskExecutor()はリフレクションで呼び出す
+	 * </pre>
+	 * @return 仮想スレッドで実行するExecutorService（Java 21未満の場合null）
+	 */
+	private static ExecutorService newVirtualThreadExecutor() {
+		try {
+			Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) factory.invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * <pre>
+	 * Java 17の場合のスレッド（アプリケーションの終了を妨げないようにデーモンスレッドにする）
+	 * </pre>
+	 */
+	private static final class DaoThreadFactory implements ThreadFactory {
+
+		private final String namePrefix;
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		DaoThreadFactory(String namePrefix) {
+			this.namePrefix = namePrefix;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, namePrefix + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
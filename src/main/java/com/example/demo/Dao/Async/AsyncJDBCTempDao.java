@@ -0,0 +1,298 @@
+package com.example.demo.Dao.Async;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.Dao.JDBCTempDao;
+import com.example.demo.Dao.Batch.BulkInsertMode;
+import com.example.demo.Dao.Batch.UpsertResult;
+import com.example.demo.Dao.Binding.JDBCEntityValues;
+import com.example.demo.Dao.Query.JDBCEntityFilter;
+import com.example.demo.Dao.Query.JDBCEntityLookupResult;
+import com.example.demo.Dao.Query.JDBCEntityPage;
+import com.example.demo.Dao.Statement.ForwardOnlyStatementCreator;
+import com.example.demo.Entity.JDBCEntity;
+import com.example.demo.Entity.JDBCEntityRow;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link JDBCTempDao}の処理を{@link AsyncDaoExecutor}で非同期に実行し、{@link CompletableFuture}で返すクラス
+ * 独立した複数の取得を同時に行う場合などに使用する
+ * 例外は{@link CompletableFuture}の例外として返す（{@link JDBCTempDao}と同じDataAccessException）
+ * {@code Stream}を返すメソッドは接続を開いたまま呼び出し元で読むことになるため対象外で、
+ * 代わりに要求された件数だけ読み進める{@link Flow.Publisher}を返すpublish系のメソッドを使用する
+ * ※呼び出し元のトランザクションには参加しない
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class AsyncJDBCTempDao {
+
+	private final JDBCTempDao dao;
+
+	private final AsyncDaoExecutor executor;
+
+	/**
+	 * @see JDBCTempDao#findAll()
+	 */
+	public CompletableFuture<List<Map<String, Object>>> findAll() {
+		return executor.supply(dao::findAll);
+	}
+
+	/**
+	 * @see JDBCTempDao#findById(int)
+	 */
+	public CompletableFuture<Map<String, Object>> findById(int id) {
+		return executor.supply(() -> dao.findById(id));
+	}
+
+	/**
+	 * @see JDBCTempDao#updateById(int, Map)
+	 */
+	public CompletableFuture<Integer> updateById(int id, Map<String, String> updateDataMap) {
+		return executor.supply(() -> dao.updateById(id, updateDataMap));
+	}
+
+	/**
+	 * @see JDBCTempDao#insert(Map)
+	 */
+	public CompletableFuture<Integer> insert(Map<String, String> insertDataMap) {
+		return executor.supply(() -> dao.insert(insertDataMap));
+	}
+
+	/**
+	 * @see JDBCTempDao#updateById(int, JDBCEntityValues)
+	 */
+	public CompletableFuture<Integer> updateById(int id, JDBCEntityValues values) {
+		return executor.supply(() -> dao.updateById(id, values));
+	}
+
+	/**
+	 * @see JDBCTempDao#insert(JDBCEntityValues)
+	 */
+	public CompletableFuture<Integer> insert(JDBCEntityValues values) {
+		return executor.supply(() -> dao.insert(values));
+	}
+
+	/**
+	 * @see JDBCTempDao#deleteById(int)
+	 */
+	public CompletableFuture<Integer> deleteById(int id) {
+		return executor.supply(() -> dao.deleteById(id));
+	}
+
+	/**
+	 * @see JDBCTempDao#deleteByIds(Collection)
+	 */
+	public CompletableFuture<Integer> deleteByIds(Collection<Integer> ids) {
+		return executor.supply(() -> dao.deleteByIds(ids));
+	}
+
+	/**
+	 * @see JDBCTempDao#deleteByIdRange(int, int, int)
+	 */
+	public CompletableFuture<Integer> deleteByIdRange(int fromId, int toId, int chunkSize) {
+		return executor.supply(() -> dao.deleteByIdRange(fromId, toId, chunkSize));
+	}
+
+	/**
+	 * @see JDBCTempDao#deleteByFilter(JDBCEntityFilter, int)
+	 */
+	public CompletableFuture<Integer> deleteByFilter(JDBCEntityFilter filter, int chunkSize) {
+		return executor.supply(() -> dao.deleteByFilter(filter, chunkSize));
+	}
+
+	/**
+	 * @see JDBCTempDao#batchUpdate(List)
+	 */
+	public CompletableFuture<Integer> batchUpdate(List<JDBCEntity> updateList) {
+		return executor.supply(() -> dao.batchUpdate(updateList));
+	}
+
+	/**
+	 * @see JDBCTempDao#batchUpdateChanged(List)
+	 */
+	public CompletableFuture<Integer> batchUpdateChanged(List<JDBCEntity> updateList) {
+		return executor.supply(() -> dao.batchUpdateChanged(updateList));
+	}
+
+	/**
+	 * @see JDBCTempDao#batchUpdateById(Map)
+	 */
+	public CompletableFuture<Integer> batchUpdateById(Map<Integer, JDBCEntityValues> updateMap) {
+		return executor.supply(() -> dao.batchUpdateById(updateMap));
+	}
+
+	/**
+	 * @see JDBCTempDao#batchInsert(List)
+	 */
+	public CompletableFuture<Integer> batchInsert(List<JDBCEntity> insertList) {
+		return executor.supply(() -> dao.batchInsert(insertList));
+	}
+
+	/**
+	 * @see JDBCTempDao#batchInsert(List, int, BulkInsertMode)
+	 */
+	public CompletableFuture<Integer> batchInsert(List<JDBCEntity> insertList, int chunkSize, BulkInsertMode mode) {
+		return executor.supply(() -> dao.batchInsert(insertList, chunkSize, mode));
+	}
+
+	/**
+	 * @see JDBCTempDao#insertFromCsv(String)
+	 */
+	public CompletableFuture<Integer> insertFromCsv(String csvFilePath) {
+		return executor.supply(() -> dao.insertFromCsv(csvFilePath));
+	}
+
+	/**
+	 * @see JDBCTempDao#batchDelete(List)
+	 */
+	public CompletableFuture<Integer> batchDelete(List<JDBCEntity> deleteList) {
+		return executor.supply(() -> dao.batchDelete(deleteList));
+	}
+
+	/**
+	 * @see JDBCTempDao#batchUpsert(List)
+	 */
+	public CompletableFuture<UpsertResult> batchUpsert(List<JDBCEntity> upsertList) {
+		return executor.supply(() -> dao.batchUpsert(upsertList));
+	}
+
+	/**
+	 * @see JDBCTempDao#batchUpsert(List, int)
+	 */
+	public CompletableFuture<UpsertResult> batchUpsert(List<JDBCEntity> upsertList, int chunkSize) {
+		return executor.supply(() -> dao.batchUpsert(upsertList, chunkSize));
+	}
+
+	/**
+	 * @see JDBCTempDao#getAllJDBCEntity()
+	 */
+	public CompletableFuture<List<JDBCEntity>> getAllJDBCEntity() {
+		return executor.supply(dao::getAllJDBCEntity);
+	}
+
+	/**
+	 * @see JDBCTempDao#forEachJDBCEntityRow(Consumer)
+	 */
+	public CompletableFuture<Void> forEachJDBCEntityRow(Consumer<? super JDBCEntityRow> rowConsumer) {
+		return executor.run(() -> dao.forEachJDBCEntityRow(rowConsumer));
+	}
+
+	/**
+	 * @see JDBCTempDao#forEachJDBCEntityRow(int, Consumer)
+	 */
+	public CompletableFuture<Void> forEachJDBCEntityRow(int fetchSize, Consumer<? super JDBCEntityRow> rowConsumer) {
+		return executor.run(() -> dao.forEachJDBCEntityRow(fetchSize, rowConsumer));
+	}
+
+	/**
+	 * @see JDBCTempDao#forEachJDBCEntity(int, Consumer)
+	 */
+	public CompletableFuture<Void> forEachJDBCEntity(int fetchSize, Consumer<? super JDBCEntity> entityConsumer) {
+		return executor.run(() -> dao.forEachJDBCEntity(fetchSize, entityConsumer));
+	}
+
+	/**
+	 * <pre>
+	 * テーブルのすべてのデータをid順に、購読者が要求した件数だけカーソルから読み進めて渡す
+	 * フェッチサイズは{@link ForwardOnlyStatementCreator#DEFAULT_FETCH_SIZE}
+	 * </pre>
+	 * @return テーブル内の全データのPublisher
+	 * @see CursorPublisher
+	 */
+	public Flow.Publisher<JDBCEntity> publishAllJDBCEntity() {
+		return publishAllJDBCEntity(ForwardOnlyStatementCreator.DEFAULT_FETCH_SIZE);
+	}
+
+	/**
+	 * <pre>
+	 * テーブルのすべてのデータを、購読者が要求した件数だけカーソルから読み進めて渡す
+	 * 購読者の処理がDBより遅くても、全件をメモリに載せずに最初の行から処理できる
+	 * </pre>
+	 * @param fetchSize 1度にドライバーが取得する行数
+	 * @return テーブル内の全データのPublisher
+	 * @see JDBCTempDao#streamAllJDBCEntity(int)
+	 */
+	public Flow.Publisher<JDBCEntity> publishAllJDBCEntity(int fetchSize) {
+		return executor.publish(() -> dao.streamAllJDBCEntity(fetchSize));
+	}
+
+	/**
+	 * <pre>
+	 * 条件に一致するデータをid順に、購読者が要求した件数だけカーソルから読み進めて渡す
+	 * </pre>
+	 * @param filter 検索条件（条件なしの場合はnull）
+	 * @param fetchSize 1度にドライバーが取得する行数
+	 * @return 条件に一致するデータのPublisher
+	 * @see JDBCTempDao#streamJDBCEntities(JDBCEntityFilter, int)
+	 */
+	public Flow.Publisher<JDBCEntity> publishJDBCEntities(JDBCEntityFilter filter, int fetchSize) {
+		return executor.publish(() -> dao.streamJDBCEntities(filter, fetchSize));
+	}
+
+	/**
+	 * @see JDBCTempDao#getJDBCEntityById(int)
+	 */
+	public CompletableFuture<JDBCEntity> getJDBCEntityById(int id) {
+		return executor.supply(() -> dao.getJDBCEntityById(id));
+	}
+
+	/**
+	 * @see JDBCTempDao#getJDBCEntitiesByIds(Collection)
+	 */
+	public CompletableFuture<JDBCEntityLookupResult> getJDBCEntitiesByIds(Collection<Integer> ids) {
+		return executor.supply(() -> dao.getJDBCEntitiesByIds(ids));
+	}
+
+	/**
+	 * @see JDBCTempDao#getJDBCEntitiesByBirthDay(int, int)
+	 */
+	public CompletableFuture<List<JDBCEntity>> getJDBCEntitiesByBirthDay(int from, int to) {
+		return executor.supply(() -> dao.getJDBCEntitiesByBirthDay(from, to));
+	}
+
+	/**
+	 * @see JDBCTempDao#getJDBCEntitiesByLastName(String)
+	 */
+	public CompletableFuture<List<JDBCEntity>> getJDBCEntitiesByLastName(String lastName) {
+		return executor.supply(() -> dao.getJDBCEntitiesByLastName(lastName));
+	}
+
+	/**
+	 * @see JDBCTempDao#findPage(String, int, JDBCEntityFilter)
+	 */
+	public CompletableFuture<JDBCEntityPage> findPage(String pageToken, int pageSize, JDBCEntityFilter filter) {
+		return executor.supply(() -> dao.findPage(pageToken, pageSize, filter));
+	}
+
+	/**
+	 * @see JDBCTempDao#findPageAfter(int, int, JDBCEntityFilter)
+	 */
+	public CompletableFuture<JDBCEntityPage> findPageAfter(int afterId, int pageSize, JDBCEntityFilter filter) {
+		return executor.supply(() -> dao.findPageAfter(afterId, pageSize, filter));
+	}
+
+	/**
+	 * @see JDBCTempDao#executeCreate(String, Map, List)
+	 */
+	public CompletableFuture<Void> executeCreate(String tableName, Map<String, String> column_columnInfo, List<String> primaryKeyList) {
+		return executor.run(() -> dao.executeCreate(tableName, column_columnInfo, primaryKeyList));
+	}
+
+	/**
+	 * @see JDBCTempDao#executeDrop(String)
+	 */
+	public CompletableFuture<Void> executeDrop(String tableName) {
+		return executor.run(() -> dao.executeDrop(tableName));
+	}
+}
@@ -0,0 +1,187 @@
+package com.example.demo.Dao.Async;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * @author Takumi
+ * <pre>
+ * カーソル（DBの接続を開いたままの{@link Stream}）から、購読者が要求した件数だけ行を読み進めて渡す{@link Flow.Publisher}
+ * 購読するたびに新しくカーソルを開く（最初の要求があった時点で開く）
+ * カーソルは最後まで読んだ場合・例外が発生した場合・キャンセルされた場合に閉じ、接続を解放する
+ *
+ * 行の読み込みと購読者への通知は{@link AsyncDaoExecutor}のカーソル用のスレッドで行い、同時に複数のスレッドから通知することはない
+ * カーソルを開いている間は{@link AsyncDaoExecutor}の実行枠を1つ使用する（接続を1つ使用するため）
+ * ※最後まで読まずに放置すると接続が解放されないため、不要になったら必ずキャンセルすること
+ * </pre>
+ * @param <T> 行の型
+ */
+public class CursorPublisher<T> implements Flow.Publisher<T> {
+
+	private final Supplier<? extends Stream<T>> cursorOpener;
+
+	private final Executor executor;
+
+	private final Semaphore permits;
+
+	/**
+	 * @param cursorOpener カーソルを開く処理（DAOのstream系のメソッド）
+	 * @param executor 読み込みを行うスレッド
+	 * @param permits 同時に開くカーソル（接続）の数を制限するセマフォ
+	 */
+	CursorPublisher(Supplier<? extends Stream<T>> cursorOpener, Executor executor, Semaphore permits) {
+		this.cursorOpener = cursorOpener;
+		this.executor = executor;
+		this.permits = permits;
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super T> subscriber) {
+		Objects.requireNonNull(subscriber, "subscriber");
+		CursorSubscription subscription = new CursorSubscription(subscriber);
+		subscriber.onSubscribe(subscription);
+	}
+
+	/**
+	 * <pre>
+	 * 1人の購読者に対するカーソルの状態
+	 * request・cancelは未処理の数（wip）を増やし、0から増やしたスレッドだけが読み込み処理を実行予約する
+	 * 読み込み処理は未処理がなくなるまで繰り返すため、通知が同時に行われることはない
+	 * </pre>
+	 */
+	private final class CursorSubscription implements Flow.Subscription {
+
+		private final Flow.Subscriber<? super T> subscriber;
+
+		/** 要求された件数のうち、まだ渡していない件数 */
+		private final AtomicLong demand = new AtomicLong();
+
+		private final AtomicInteger wip = new AtomicInteger();
+
+		private volatile boolean cancelled;
+
+		/** 不正な要求があった場合の例外 */
+		private volatile IllegalArgumentException invalidRequest;
+
+		// 以下は読み込み処理のスレッドでのみ使用する（wipで前後関係が保証される）
+		private Stream<T> cursor;
+
+		private Iterator<T> rows;
+
+		private boolean done;
+
+		CursorSubscription(Flow.Subscriber<? super T> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				invalidRequest = new IllegalArgumentException("requestは1以上を指定してください。:" + n);
+			} else {
+				demand.getAndAccumulate(n, (current, add) -> {
+					long sum = current + add;
+					return sum < 0 ? Long.MAX_VALUE : sum;
+				});
+			}
+			schedule();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			schedule();
+		}
+
+		private void schedule() {
+			if (wip.getAndIncrement() == 0) {
+				executor.execute(this::drain);
+			}
+		}
+
+		private void drain() {
+			int missed = 1;
+			do {
+				if (!done) {
+					emit();
+				}
+				missed = wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		private void emit() {
+			if (cancelled) {
+				finish();
+				return;
+			}
+			if (invalidRequest != null) {
+				finish();
+				subscriber.onError(invalidRequest);
+				return;
+			}
+			try {
+				long requested = demand.get();
+				long emitted = 0;
+				while (requested != 0) {
+					if (rows == null) {
+						open();
+					}
+					while (emitted != requested) {
+						if (cancelled) {
+							finish();
+							return;
+						}
+						if (!rows.hasNext()) {
+							finish();
+							subscriber.onComplete();
+							return;
+						}
+						subscriber.onNext(rows.next());
+						emitted++;
+					}
+					//onNextの中で追加の要求があった場合は続けて渡す
+					requested = demand.addAndGet(-emitted);
+					emitted = 0;
+				}
+			} catch (RuntimeException e) {
+				finish();
+				subscriber.onError(e);
+			}
+		}
+
+		private void open() {
+			permits.acquireUninterruptibly();
+			try {
+				cursor = cursorOpener.get();
+				rows = cursor.iterator();
+			} catch (RuntimeException e) {
+				permits.release();
+				throw e;
+			}
+		}
+
+		/**
+		 * <pre>
+		 * カーソルを閉じて接続と実行枠を解放する（以降は何も通知しない）
+		 * </pre>
+		 */
+		private void finish() {
+			done = true;
+			if (cursor != null) {
+				try {
+					cursor.close();
+				} finally {
+					cursor = null;
+					permits.release();
+				}
+			}
+		}
+	}
+}
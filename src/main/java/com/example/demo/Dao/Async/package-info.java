@@ -0,0 +1,6 @@
+/**
+ * @author Takumi
+ * DAOの処理を非同期（{@code CompletableFuture}）で実行するパッケージ
+ *
+ */
+package com.example.demo.Dao.Async;
@@ -0,0 +1,71 @@
+package com.example.demo.Dao.Batch;
+
+import java.util.List;
+
+import com.example.demo.Dao.JDBCTempDao;
+import com.example.demo.Dao.NamedJDBCDao;
+import com.example.demo.Entity.JDBCEntity;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link ParallelBatchWriter}で実行する一括処理の種類
+ * {@link JDBCTempDao}・{@link NamedJDBCDao}の同じ名前のメソッドを呼ぶ
+ * </pre>
+ */
+public enum BatchOperation {
+
+	/** {@link JDBCTempDao#batchInsert(List)} */
+	INSERT,
+
+	/** {@link JDBCTempDao#batchUpdate(List)} */
+	UPDATE,
+
+	/** {@link JDBCTempDao#batchDelete(List)} */
+	DELETE,
+
+	/** {@link JDBCTempDao#batchUpsert(List)} */
+	UPSERT;
+
+	/**
+	 * <pre>
+	 * 引数のデータに対して一括処理を実行する
+	 * </pre>
+	 * @param dao 使用するDAO
+	 * @param list 対象データ
+	 * @return 処理件数
+	 */
+	int execute(JDBCTempDao dao, List<JDBCEntity> list) {
+		switch (this) {
+		case INSERT:
+			return dao.batchInsert(list);
+		case UPDATE:
+			return dao.batchUpdate(list);
+		case UPSERT:
+			return dao.batchUpsert(list).getTotalCount();
+		default:
+			return dao.batchDelete(list);
+		}
+	}
+
+	/**
+	 * <pre>
+	 * 引数のデータに対して一括処理を実行する
+	 * </pre>
+	 * @param dao 使用するDAO
+	 * @param list 対象データ
+	 * @return 処理件数
+	 */
+	int execute(NamedJDBCDao dao, List<JDBCEntity> list) {
+		switch (this) {
+		case INSERT:
+			return dao.batchInsert(list);
+		case UPDATE:
+			return dao.batchUpdate(list);
+		case UPSERT:
+			return dao.batchUpsert(list).getTotalCount();
+		default:
+			return dao.batchDelete(list);
+		}
+	}
+}
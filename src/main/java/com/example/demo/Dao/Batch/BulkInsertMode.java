@@ -0,0 +1,29 @@
+package com.example.demo.Dao.Batch;
+
+/**
+ * @author Takumi
+ * <pre>
+ * チャンク分割した一括挿入の方式
+ * </pre>
+ */
+public enum BulkInsertMode {
+
+	/**
+	 * <pre>
+	 * 1行ずつのINSERT ... VALUES (?, ?, ?, ?)をチャンク単位でJDBCのバッチとして送る
+	 * </pre>
+	 */
+	BATCH,
+
+	/**
+	 * <pre>
+	 * INSERT ... VALUES (...), (...), ... の複数行INSERT文をチャンクごとに1文で送る
+	 * パラメータ数が（カラム数 × チャンクサイズ）になるため、チャンクサイズの上限は
+	 * {@link com.example.demo.Dao.Statement.JDBCEntitySql#MAX_MULTI_ROW_INSERT_SIZE JDBCEntitySql.MAX_MULTI_ROW_INSERT_SIZE}にする（超えた場合は上限の行数で送る）
+	 * </pre>
+	 */
+	MULTI_ROW;
+
+	/** デフォルトのチャンクサイズ（1チャンクの行数） */
+	public static final int DEFAULT_CHUNK_SIZE = 500;
+}
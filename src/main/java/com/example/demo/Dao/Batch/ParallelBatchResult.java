@@ -0,0 +1,81 @@
+package com.example.demo.Dao.Batch;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import lombok.Getter;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link ParallelBatchWriter}の処理結果
+ * パーティションごとの結果を保持し、一部のパーティションだけが失敗した場合も
+ * どのidの範囲が失敗したかを確認できる
+ * </pre>
+ */
+@Getter
+public class ParallelBatchResult {
+
+	private final BatchOperation operation;
+
+	/** パーティションごとの結果（パーティションの番号順） */
+	private final List<PartitionResult> partitionResults;
+
+	/** パーティションごとにトランザクションを分けたか */
+	private final boolean transactionPerPartition;
+
+	public ParallelBatchResult(BatchOperation operation, List<PartitionResult> partitionResults,
+			boolean transactionPerPartition) {
+		this.operation = operation;
+		this.partitionResults = List.copyOf(partitionResults);
+		this.transactionPerPartition = transactionPerPartition;
+	}
+
+	/**
+	 * @return 成功したパーティションの処理件数の合計
+	 */
+	public int getTotalCount() {
+		int total = 0;
+		for (PartitionResult result : partitionResults) {
+			total += result.getCount();
+		}
+		return total;
+	}
+
+	/**
+	 * @return 1つでも失敗したパーティションがあればtrue
+	 */
+	public boolean hasFailures() {
+		return partitionResults.stream().anyMatch(PartitionResult::isFailed);
+	}
+
+	/**
+	 * @return 割り込まれて結果を待たなかったパーティションがあればtrue
+	 */
+	public boolean hasUnknown() {
+		return partitionResults.stream().anyMatch(PartitionResult::isUnknown);
+	}
+
+	/**
+	 * <pre>
+	 * 割り込まれて結果を待たなかったパーティションの結果
+	 * キャンセルしたが、キャンセルが間に合わず反映されている可能性がある
+	 * </pre>
+	 * @return 反映されたかどうか不明なパーティションの結果
+	 */
+	public List<PartitionResult> getUnknown() {
+		return partitionResults.stream().filter(PartitionResult::isUnknown).collect(Collectors.toList());
+	}
+
+	/**
+	 * <pre>
+	 * 失敗したパーティションの結果
+	 * {@link #isTransactionPerPartition()}がtrueなら失敗したパーティションはロールバック済み、
+	 * falseならJDBCのバッチの途中までが反映されている可能性がある
+	 * </pre>
+	 * @return 失敗したパーティションの結果
+	 */
+	public List<PartitionResult> getFailures() {
+		return partitionResults.stream().filter(PartitionResult::isFailed).collect(Collectors.toList());
+	}
+}
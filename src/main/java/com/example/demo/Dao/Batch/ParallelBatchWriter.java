@@ -0,0 +1,236 @@
+package com.example.demo.Dao.Batch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.Dao.JDBCTempDao;
+import com.example.demo.Dao.NamedJDBCDao;
+import com.example.demo.Entity.JDBCEntity;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link JDBCTempDao}・{@link NamedJDBCDao}の一括処理を複数の接続で並列に実行するクラス
+ * {@link #write(BatchOperation, List)}は{@link JDBCTempDao}、{@link #writeNamed(BatchOperation, List)}は{@link NamedJDBCDao}を使用する
+ * 引数のリストをidで並べ替えてidが重ならないパーティションに分け、
+ * パーティションごとに別スレッド（＝コネクションプールの別の接続）で同時に書き込む
+ * スレッド数は上限付きのスレッドプールで制限する（parallel-batch.threads、デフォルト4）
+ * コネクションプールの最大接続数より大きくしないこと
+ * ※呼び出し元のトランザクションには参加しない
+ * </pre>
+ */
+@Component
+public class ParallelBatchWriter {
+
+	/** デフォルトのパーティション数 */
+	public static final int DEFAULT_PARTITION_COUNT = 4;
+
+	private final JDBCTempDao dao;
+
+	private final NamedJDBCDao namedDao;
+
+	private final TransactionTemplate partitionTransaction;
+
+	private final ExecutorService executor;
+
+	public ParallelBatchWriter(JDBCTempDao dao, NamedJDBCDao namedDao, PlatformTransactionManager transactionManager,
+			@Value("${parallel-batch.threads:4}") int threads) {
+		if (threads <= 0) {
+			throw new IllegalArgumentException("parallel-batch.threadsは1以上を指定してください。");
+		}
+		this.dao = dao;
+		this.namedDao = namedDao;
+		this.partitionTransaction = new TransactionTemplate(transactionManager);
+		this.partitionTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		AtomicInteger threadNo = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				runnable -> {
+					Thread thread = new Thread(runnable, "parallel-batch-" + threadNo.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+	}
+
+	/**
+	 * <pre>
+	 * {@link #DEFAULT_PARTITION_COUNT}個のパーティションに分け、パーティションごとのトランザクションで実行する
+	 * </pre>
+	 * @param operation 一括処理の種類
+	 * @param list 対象データ
+	 * @return パーティションごとの処理結果
+	 */
+	public ParallelBatchResult write(BatchOperation operation, List<JDBCEntity> list) {
+		return write(operation, list, DEFAULT_PARTITION_COUNT, true);
+	}
+
+	/**
+	 * <pre>
+	 * 引数のリストをidが重ならないパーティションに分け、並列に一括処理を実行する
+	 * 全パーティションの処理が終わるまで待ち、失敗したパーティションがあっても例外は投げずに結果に含める
+	 * 待っている間に割り込まれた場合は、終わっていないパーティションをキャンセルして結果不明（{@link PartitionResult#isUnknown()}）とし、
+	 * 割り込みフラグを立て直して戻る
+	 * transactionPerPartitionがtrueならパーティションごとに新しいトランザクションで実行し、
+	 * 失敗したパーティションだけがロールバックされる
+	 * falseならトランザクションを使用せず、JDBCのバッチの途中までが反映される可能性がある
+	 * </pre>
+	 * @param operation 一括処理の種類
+	 * @param list 対象データ
+	 * @param partitionCount パーティション数（データ件数より多い場合はデータ件数まで減らす）
+	 * @param transactionPerPartition パーティションごとにトランザクションを分けるか
+	 * @return パーティションごとの処理結果
+	 */
+	public ParallelBatchResult write(BatchOperation operation, List<JDBCEntity> list, int partitionCount,
+			boolean transactionPerPartition) {
+		return write(operation, partition -> operation.execute(dao, partition), list, partitionCount,
+				transactionPerPartition);
+	}
+
+	/**
+	 * <pre>
+	 * {@link NamedJDBCDao}を使用して、{@link #DEFAULT_PARTITION_COUNT}個のパーティションに分け、
+	 * パーティションごとのトランザクションで実行する
+	 * </pre>
+	 * @param operation 一括処理の種類
+	 * @param list 対象データ
+	 * @return パーティションごとの処理結果
+	 */
+	public ParallelBatchResult writeNamed(BatchOperation operation, List<JDBCEntity> list) {
+		return writeNamed(operation, list, DEFAULT_PARTITION_COUNT, true);
+	}
+
+	/**
+	 * <pre>
+	 * {@link NamedJDBCDao}を使用して、{@link #write(BatchOperation, List, int, boolean)}と同じように並列に実行する
+	 * </pre>
+	 * @param operation 一括処理の種類
+	 * @param list 対象データ
+	 * @param partitionCount パーティション数（データ件数より多い場合はデータ件数まで減らす）
+	 * @param transactionPerPartition パーティションごとにトランザクションを分けるか
+	 * @return パーティションごとの処理結果
+	 */
+	public ParallelBatchResult writeNamed(BatchOperation operation, List<JDBCEntity> list, int partitionCount,
+			boolean transactionPerPartition) {
+		return write(operation, partition -> operation.execute(namedDao, partition), list, partitionCount,
+				transactionPerPartition);
+	}
+
+	/**
+	 * @param target 1パーティション分の一括処理を実行し、処理件数を返す
+	 */
+	private ParallelBatchResult write(BatchOperation operation, ToIntFunction<List<JDBCEntity>> target,
+			List<JDBCEntity> list, int partitionCount, boolean transactionPerPartition) {
+		if (partitionCount <= 0) {
+			throw new IllegalArgumentException("partitionCountは1以上を指定してください。");
+		}
+
+		List<List<JDBCEntity>> partitions = partitionById(list, partitionCount);
+
+		List<Future<Integer>> futures = new ArrayList<>(partitions.size());
+		for (List<JDBCEntity> partition : partitions) {
+			futures.add(executor.submit(() -> transactionPerPartition
+					? partitionTransaction.execute(status -> target.applyAsInt(partition))
+					: target.applyAsInt(partition)));
+		}
+
+		List<PartitionResult> results = new ArrayList<>(partitions.size());
+		boolean interrupted = false;
+		for (int i = 0; i < partitions.size(); i++) {
+			Future<Integer> future = futures.get(i);
+			if (!interrupted) {
+				try {
+					future.get();
+				} catch (ExecutionException | CancellationException e) {
+					//結果はresultOfで取得する
+				} catch (InterruptedException e) {
+					//待つのをやめ、まだ終わっていないパーティションはキャンセルして結果不明とする
+					interrupted = true;
+					for (int j = i; j < futures.size(); j++) {
+						futures.get(j).cancel(true);
+					}
+				}
+			}
+			results.add(resultOf(i, partitions.get(i), future));
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+
+		return new ParallelBatchResult(operation, results, transactionPerPartition);
+	}
+
+	/**
+	 * <pre>
+	 * 終了した（またはキャンセルした）パーティションの結果を作成する
+	 * キャンセルした場合は、処理が反映されたかどうか分からないため結果不明とする
+	 * </pre>
+	 */
+	private static PartitionResult resultOf(int index, List<JDBCEntity> partition, Future<Integer> future) {
+		int firstId = partition.get(0).getId();
+		int lastId = partition.get(partition.size() - 1).getId();
+		if (!future.isDone() || future.isCancelled()) {
+			return new PartitionResult(index, firstId, lastId, partition.size(), 0, null, false);
+		}
+		try {
+			Integer count = future.get();
+			return new PartitionResult(index, firstId, lastId, partition.size(), count == null ? 0 : count, null, true);
+		} catch (ExecutionException e) {
+			return new PartitionResult(index, firstId, lastId, partition.size(), 0, e.getCause(), true);
+		} catch (InterruptedException e) {
+			//終了済みのためここには来ない
+			Thread.currentThread().interrupt();
+			return new PartitionResult(index, firstId, lastId, partition.size(), 0, null, false);
+		}
+	}
+
+	/**
+	 * <pre>
+	 * idで並べ替え、idが重ならないようにほぼ同じ件数のパーティションに分ける
+	 * 同じidのデータは必ず同じパーティションに入れる
+	 * </pre>
+	 * @param list 対象データ
+	 * @param partitionCount パーティション数の上限
+	 * @return パーティションのリスト（空のパーティションは含まない）
+	 */
+	static List<List<JDBCEntity>> partitionById(List<JDBCEntity> list, int partitionCount) {
+		List<JDBCEntity> sorted = new ArrayList<>(list);
+		sorted.sort(Comparator.comparingInt(JDBCEntity::getId));
+
+		int count = Math.min(partitionCount, sorted.size());
+		List<List<JDBCEntity>> partitions = new ArrayList<>(count);
+		int from = 0;
+		for (int i = 0; i < count && from < sorted.size(); i++) {
+			int to = (i == count - 1) ? sorted.size() : Math.max(from + 1, (int) ((long) sorted.size() * (i + 1) / count));
+			//同じidが次のパーティションにまたがらないように境界をずらす
+			while (to < sorted.size() && sorted.get(to).getId() == sorted.get(to - 1).getId()) {
+				to++;
+			}
+			partitions.add(sorted.subList(from, to));
+			from = to;
+		}
+		return partitions;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,54 @@
+package com.example.demo.Dao.Batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link ParallelBatchWriter}の1パーティション分の処理結果
+ * </pre>
+ */
+@Getter
+@AllArgsConstructor
+public class PartitionResult {
+
+	/** パーティションの番号（0始まり） */
+	private final int partitionIndex;
+
+	/** パーティション内の最小のid */
+	private final int firstId;
+
+	/** パーティション内の最大のid */
+	private final int lastId;
+
+	/** パーティションのデータ件数 */
+	private final int size;
+
+	/** 処理件数（失敗した場合・結果が不明な場合は0） */
+	private final int count;
+
+	/** 失敗した場合の例外（成功した場合・結果が不明な場合はnull） */
+	private final Throwable error;
+
+	/**
+	 * 処理の終了を待って結果を確認した場合true
+	 * 待っている間に割り込まれ、終わっていない処理をキャンセルした場合はfalse
+	 * （キャンセルが間に合わずコミットされている可能性があるため、成功・失敗のどちらとも扱わない）
+	 */
+	private final boolean awaited;
+
+	/**
+	 * @return 失敗したパーティションならtrue
+	 */
+	public boolean isFailed() {
+		return error != null;
+	}
+
+	/**
+	 * @return 結果を待たなかったため、反映されたかどうか不明なパーティションならtrue
+	 */
+	public boolean isUnknown() {
+		return !awaited;
+	}
+}
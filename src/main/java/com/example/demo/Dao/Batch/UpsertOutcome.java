@@ -0,0 +1,16 @@
+package com.example.demo.Dao.Batch;
+
+/**
+ * @author Takumi
+ * <pre>
+ * 一括アップサート（MERGE）で1行ごとに行われた処理
+ * </pre>
+ */
+public enum UpsertOutcome {
+
+	/** 存在しなかったため挿入した */
+	INSERTED,
+
+	/** 存在したため更新した */
+	UPDATED;
+}
@@ -0,0 +1,58 @@
+package com.example.demo.Dao.Batch;
+
+import java.util.Collections;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * @author Takumi
+ * <pre>
+ * 一括アップサート（MERGE）の処理結果
+ * 1行ごとの結果は引数で渡したリストと同じ順番で保持する
+ * 挿入か更新かはチャンクごとにMERGEの直前で存在確認をして判定しているため、
+ * 同時に別の処理が同じidを挿入・削除した場合は実際と異なる可能性がある（データ自体は正しく反映される）
+ * </pre>
+ */
+@Getter
+public class UpsertResult {
+
+	/** 1行ごとの結果（引数のリストと同じ順番） */
+	private final List<UpsertOutcome> outcomes;
+
+	/** 挿入した件数 */
+	private final int insertedCount;
+
+	/** 更新した件数 */
+	private final int updatedCount;
+
+	/**
+	 * @param outcomes 1行ごとの結果
+	 */
+	public UpsertResult(List<UpsertOutcome> outcomes) {
+		this.outcomes = Collections.unmodifiableList(outcomes);
+		int inserted = 0;
+		for (UpsertOutcome outcome : outcomes) {
+			if (outcome == UpsertOutcome.INSERTED) {
+				inserted++;
+			}
+		}
+		this.insertedCount = inserted;
+		this.updatedCount = outcomes.size() - inserted;
+	}
+
+	/**
+	 * @param index 引数のリストの何番目か
+	 * @return その行の結果
+	 */
+	public UpsertOutcome getOutcome(int index) {
+		return outcomes.get(index);
+	}
+
+	/**
+	 * @return 処理件数（挿入 + 更新）
+	 */
+	public int getTotalCount() {
+		return outcomes.size();
+	}
+}
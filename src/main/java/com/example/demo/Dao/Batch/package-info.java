@@ -0,0 +1,6 @@
+/**
+ * @author Takumi
+ * 一括処理（バッチ・バルク処理）で使用するパッケージ
+ *
+ */
+package com.example.demo.Dao.Batch;
@@ -0,0 +1,129 @@
+package com.example.demo.Dao.Binding;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+
+import com.example.demo.Entity.JDBCEntity;
+
+import io.micrometer.common.util.StringUtils;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link JDBCEntity}を1行ずつ?にセットする際の手順（何番目の?にどのゲッターの値を入れるか）
+ * カラム名と?の番号の対応づけは作成時に1度だけ行い、行ごとには{@code Map}の作成や文字列の比較をしない
+ * 固定のSQL文に対応するものは定数として保持しているため、バッチのたびに作成する必要はない
+ * スレッドセーフ（状態を持たない）
+ * </pre>
+ */
+public final class JDBCEntityBindingPlan {
+
+	/** {@link com.example.demo.Dao.Statement.JDBCEntitySql#BATCH_INSERT}用 */
+	public static final JDBCEntityBindingPlan BATCH_INSERT = new JDBCEntityBindingPlan(
+			JDBCEntity.GetSetQueryList_forBatchUpdate(), true, false);
+
+	/** {@link com.example.demo.Dao.Statement.JDBCEntitySql#BATCH_UPDATE}用（最後の?がWHERE句のid） */
+	public static final JDBCEntityBindingPlan BATCH_UPDATE = new JDBCEntityBindingPlan(
+			JDBCEntity.GetSetQueryList_forBatchUpdate(), true, true);
+
+	/** {@link com.example.demo.Dao.Statement.JDBCEntitySql#BATCH_UPSERT}用（挿入にもなるため全カラムをそのままセットする） */
+	public static final JDBCEntityBindingPlan BATCH_UPSERT = new JDBCEntityBindingPlan(
+			JDBCEntity.GetSetQueryList_forBatchUpdate(), false, false);
+
+	/** {@link com.example.demo.Dao.Statement.JDBCEntitySql#DELETE_BY_ID}用 */
+	public static final JDBCEntityBindingPlan DELETE_BY_ID = new JDBCEntityBindingPlan(
+			List.of(JDBCEntity.ID), false, false);
+
+	/** ?の順番に並べたカラム */
+	private final JDBCEntityColumn[] columns;
+
+	/** trueなら値が0・空白のカラムは?にセットしない（従来のバッチ処理と同じ動き） */
+	private final boolean skipUnset;
+
+	/** trueなら最後にWHERE句のidをセットする */
+	private final boolean whereId;
+
+	/**
+	 * @param columnList ?の順番に並べたカラム名のリスト
+	 * @param skipUnset 値が0・空白のカラムを?にセットしないか
+	 * @param whereId 最後にWHERE句のidをセットするか
+	 */
+	public JDBCEntityBindingPlan(List<String> columnList, boolean skipUnset, boolean whereId) {
+		this.columns = new JDBCEntityColumn[columnList.size()];
+		for (int i = 0; i < columns.length; i++) {
+			columns[i] = JDBCEntityColumn.of(columnList.get(i));
+		}
+		this.skipUnset = skipUnset;
+		this.whereId = whereId;
+	}
+
+	/**
+	 * <pre>
+	 * 1行分の値をゲッターから直接?にセットする
+	 * </pre>
+	 * @param ps
+	 * @param data セットしたいデータ
+	 * @throws SQLException
+	 */
+	public void bind(PreparedStatement ps, JDBCEntity data) throws SQLException {
+		int index = 1;
+		for (JDBCEntityColumn column : columns) {
+			switch (column) {
+			case ID:
+				bindInt(ps, index, data.getId());
+				break;
+			case BIRTHDAY:
+				bindInt(ps, index, data.getBirth_day());
+				break;
+			case FIRST_NAME:
+				bindString(ps, index, data.getFirst_name());
+				break;
+			case LAST_NAME:
+				bindString(ps, index, data.getLast_name());
+				break;
+			}
+			index++;
+		}
+		if (whereId) {
+			bindInt(ps, index, data.getId());
+		}
+	}
+
+	/**
+	 * <pre>
+	 * リストの各行をこの手順でセットする{@link BatchPreparedStatementSetter}を作成する
+	 * </pre>
+	 * @param dataList バッチで送るデータ
+	 * @return
+	 */
+	public BatchPreparedStatementSetter batchSetter(List<JDBCEntity> dataList) {
+		return new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				bind(ps, dataList.get(i));
+			}
+
+			@Override
+			public int getBatchSize() {
+				return dataList.size();
+			}
+		};
+	}
+
+	private void bindInt(PreparedStatement ps, int index, int value) throws SQLException {
+		if (skipUnset && value == 0) {
+			return;
+		}
+		ps.setInt(index, value);
+	}
+
+	private void bindString(PreparedStatement ps, int index, String value) throws SQLException {
+		if (skipUnset && StringUtils.isBlank(value)) {
+			return;
+		}
+		ps.setString(index, value);
+	}
+}
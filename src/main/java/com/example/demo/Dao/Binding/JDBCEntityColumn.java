@@ -0,0 +1,81 @@
+package com.example.demo.Dao.Binding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.demo.Entity.JDBCEntity;
+
+import lombok.Getter;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link JDBCEntity#TEST TEST}テーブルのカラムと型
+ * 並び順は{@link JDBCEntity#GetSetQueryList_forBatchUpdate()}と同じにしている
+ * 型付きでバインドする際は、この並び順で?に値をセットする
+ * </pre>
+ */
+@Getter
+public enum JDBCEntityColumn {
+
+	ID(JDBCEntity.ID, true),
+	FIRST_NAME(JDBCEntity.FIRST_NAME, false),
+	LAST_NAME(JDBCEntity.LAST_NAME, false),
+	BIRTHDAY(JDBCEntity.BIRTHDAY, true);
+
+	/** 全カラム（{@link #values()}は呼ぶたびに配列をコピーするため保持しておく） */
+	static final JDBCEntityColumn[] ALL = values();
+
+	/** カラム名 */
+	private final String columnName;
+
+	/** int型のカラムならtrue、String型のカラムならfalse */
+	private final boolean intColumn;
+
+	private JDBCEntityColumn(String columnName, boolean intColumn) {
+		this.columnName = columnName;
+		this.intColumn = intColumn;
+	}
+
+	/**
+	 * @return カラムの組み合わせをビットで表す際の、このカラムのビット
+	 */
+	public int bit() {
+		return 1 << ordinal();
+	}
+
+	/**
+	 * <pre>
+	 * カラム名から対応するカラムを取得する
+	 * </pre>
+	 * @param columnName カラム名（大文字小文字は区別しない）
+	 * @return 対応するカラム
+	 * @throws IllegalArgumentException 存在しないカラム名の場合
+	 */
+	public static JDBCEntityColumn of(String columnName) {
+		for (JDBCEntityColumn column : ALL) {
+			if (column.columnName.equalsIgnoreCase(columnName)) {
+				return column;
+			}
+		}
+		throw new IllegalArgumentException("存在しないカラムです。:" + columnName);
+	}
+
+	/**
+	 * <pre>
+	 * ビットで表したカラムの組み合わせから、カラム名のリストを作成する
+	 * SQL文の組み立て用
+	 * </pre>
+	 * @param columnMask {@link #bit()}を足し合わせたもの
+	 * @return カラム名のリスト（このenumの並び順）
+	 */
+	public static List<String> columnNames(int columnMask) {
+		List<String> columnNameList = new ArrayList<>(Integer.bitCount(columnMask));
+		for (JDBCEntityColumn column : ALL) {
+			if ((columnMask & column.bit()) != 0) {
+				columnNameList.add(column.columnName);
+			}
+		}
+		return columnNameList;
+	}
+}
@@ -0,0 +1,239 @@
+package com.example.demo.Dao.Binding;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import com.example.demo.Entity.JDBCEntity;
+
+import io.micrometer.common.util.StringUtils;
+
+/**
+ * @author Takumi
+ * <pre>
+ * 更新・挿入したい値をカラムごとに型付きで保持するクラス
+ * {@code Map<String, String>}の代わりに使用し、int型のカラムは文字列を経由せずにそのままバインドする
+ * 値をセットしたカラムの組み合わせは{@link #getColumnMask()}で表し、SQL文のキャッシュのkeyにする
+ * ?の並び順はセットした順番ではなく、{@link JDBCEntityColumn}の並び順
+ * スレッドセーフではないため、1つのインスタンスを複数のスレッドで共有しないこと
+ * </pre>
+ */
+public final class JDBCEntityValues {
+
+	/** int型のカラムの値（添字は{@link JDBCEntityColumn#ordinal()}） */
+	private final int[] intValues = new int[JDBCEntityColumn.ALL.length];
+
+	/** String型のカラムの値（添字は{@link JDBCEntityColumn#ordinal()}） */
+	private final String[] stringValues = new String[JDBCEntityColumn.ALL.length];
+
+	/** 値をセットしたカラムの組み合わせ */
+	private int columnMask;
+
+	/**
+	 * @return 値が何もセットされていないインスタンス
+	 */
+	public static JDBCEntityValues create() {
+		return new JDBCEntityValues();
+	}
+
+	/**
+	 * <pre>
+	 * エンティティの全カラムの値をセットしたインスタンスを作成する
+	 * </pre>
+	 * @param entity
+	 * @return 全カラムの値をセットしたインスタンス
+	 */
+	public static JDBCEntityValues of(JDBCEntity entity) {
+		return create()
+				.id(entity.getId())
+				.firstName(entity.getFirst_name())
+				.lastName(entity.getLast_name())
+				.birthDay(entity.getBirth_day());
+	}
+
+	/**
+	 * <pre>
+	 * 変更前と変更後のデータを比べ、値が変わったカラムだけをセットしたインスタンスを作成する
+	 * idはWHERE句に使用するため比べない
+	 * {@link JDBCEntityBindingPlan#BATCH_UPDATE}と同じく、変更後の値が0・空白のカラムは指定されていないものとして扱う
+	 * </pre>
+	 * @param before 変更前のデータ
+	 * @param after 変更後のデータ
+	 * @return 値が変わったカラムだけをセットしたインスタンス（変わったカラムがなければ空）
+	 */
+	public static JDBCEntityValues changes(JDBCEntity before, JDBCEntity after) {
+		JDBCEntityValues values = create();
+		if (!StringUtils.isBlank(after.getFirst_name()) && !after.getFirst_name().equals(before.getFirst_name())) {
+			values.firstName(after.getFirst_name());
+		}
+		if (!StringUtils.isBlank(after.getLast_name()) && !after.getLast_name().equals(before.getLast_name())) {
+			values.lastName(after.getLast_name());
+		}
+		if (after.getBirth_day() != 0 && after.getBirth_day() != before.getBirth_day()) {
+			values.birthDay(after.getBirth_day());
+		}
+		return values;
+	}
+
+	public JDBCEntityValues id(int id) {
+		return set(JDBCEntityColumn.ID, id);
+	}
+
+	public JDBCEntityValues firstName(String firstName) {
+		return set(JDBCEntityColumn.FIRST_NAME, firstName);
+	}
+
+	public JDBCEntityValues lastName(String lastName) {
+		return set(JDBCEntityColumn.LAST_NAME, lastName);
+	}
+
+	public JDBCEntityValues birthDay(int birthDay) {
+		return set(JDBCEntityColumn.BIRTHDAY, birthDay);
+	}
+
+	/**
+	 * <pre>
+	 * int型のカラムに値をセットする
+	 * 同じカラムに2回セットした場合は後の値で上書きする
+	 * </pre>
+	 * @param column int型のカラム
+	 * @param value セットしたい値
+	 * @return このインスタンス
+	 * @throws IllegalArgumentException String型のカラムを指定した場合
+	 */
+	public JDBCEntityValues set(JDBCEntityColumn column, int value) {
+		if (!column.isIntColumn()) {
+			throw new IllegalArgumentException(column.getColumnName() + "はint型のカラムではありません。");
+		}
+		intValues[column.ordinal()] = value;
+		columnMask |= column.bit();
+		return this;
+	}
+
+	/**
+	 * <pre>
+	 * String型のカラムに値をセットする
+	 * 同じカラムに2回セットした場合は後の値で上書きする
+	 * nullをセットした場合はNULLで更新・挿入する
+	 * </pre>
+	 * @param column String型のカラム
+	 * @param value セットしたい値
+	 * @return このインスタンス
+	 * @throws IllegalArgumentException int型のカラムを指定した場合
+	 */
+	public JDBCEntityValues set(JDBCEntityColumn column, String value) {
+		if (column.isIntColumn()) {
+			throw new IllegalArgumentException(column.getColumnName() + "はString型のカラムではありません。");
+		}
+		stringValues[column.ordinal()] = value;
+		columnMask |= column.bit();
+		return this;
+	}
+
+	/**
+	 * <pre>
+	 * 引数のインスタンスにセットされている値を、このインスタンスに上書きしてセットする
+	 * 引数のインスタンスにセットされていないカラムは変更しない
+	 * </pre>
+	 * @param other 後からセットされた値
+	 * @return このインスタンス
+	 */
+	public JDBCEntityValues merge(JDBCEntityValues other) {
+		for (JDBCEntityColumn column : JDBCEntityColumn.ALL) {
+			if (!other.contains(column)) {
+				continue;
+			}
+			if (column.isIntColumn()) {
+				intValues[column.ordinal()] = other.intValues[column.ordinal()];
+			} else {
+				stringValues[column.ordinal()] = other.stringValues[column.ordinal()];
+			}
+		}
+		columnMask |= other.columnMask;
+		return this;
+	}
+
+	/**
+	 * @return 同じ値をセットした別のインスタンス
+	 */
+	public JDBCEntityValues copy() {
+		return create().merge(this);
+	}
+
+	/**
+	 * @param column
+	 * @return 値がセットされていればtrue
+	 */
+	public boolean contains(JDBCEntityColumn column) {
+		return (columnMask & column.bit()) != 0;
+	}
+
+	/**
+	 * @param column int型のカラム
+	 * @return セットされている値（セットされていなければ0）
+	 */
+	public int getInt(JDBCEntityColumn column) {
+		return intValues[column.ordinal()];
+	}
+
+	/**
+	 * @param column String型のカラム
+	 * @return セットされている値（セットされていなければnull）
+	 */
+	public String getString(JDBCEntityColumn column) {
+		return stringValues[column.ordinal()];
+	}
+
+	/**
+	 * @return 値をセットしたカラムの組み合わせ（{@link JDBCEntityColumn#bit()}を足し合わせたもの）
+	 */
+	public int getColumnMask() {
+		return columnMask;
+	}
+
+	/**
+	 * @return 値をセットしたカラムの数（=バインドする?の数）
+	 */
+	public int size() {
+		return Integer.bitCount(columnMask);
+	}
+
+	/**
+	 * @return 何もセットされていなければtrue
+	 */
+	public boolean isEmpty() {
+		return columnMask == 0;
+	}
+
+	/**
+	 * @return 値をセットしたカラム名のリスト（?の並び順）
+	 */
+	public List<String> columnNames() {
+		return JDBCEntityColumn.columnNames(columnMask);
+	}
+
+	/**
+	 * <pre>
+	 * セットされている値を{@link JDBCEntityColumn}の並び順で?にセットする
+	 * int型のカラムは{@link PreparedStatement#setInt(int, int)}でそのままセットする
+	 * </pre>
+	 * @param ps
+	 * @param startIndex 最初にセットする?の番号（1始まり）
+	 * @return 次にセットする?の番号（WHERE句の値などをセットする際に使用）
+	 * @throws SQLException
+	 */
+	public int bind(PreparedStatement ps, int startIndex) throws SQLException {
+		int index = startIndex;
+		for (JDBCEntityColumn column : JDBCEntityColumn.ALL) {
+			if ((columnMask & column.bit()) == 0) {
+				continue;
+			}
+			if (column.isIntColumn()) {
+				ps.setInt(index++, intValues[column.ordinal()]);
+			} else {
+				ps.setString(index++, stringValues[column.ordinal()]);
+			}
+		}
+		return index;
+	}
+}
@@ -0,0 +1,6 @@
+/**
+ * @author Takumi
+ * PreparedStatementへの値のセット（型付きのバインド）で使用するパッケージ
+ *
+ */
+package com.example.demo.Dao.Binding;
@@ -0,0 +1,26 @@
+package com.example.demo.Dao.Cache;
+
+import java.util.Collection;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link EntityCacheManager}でキャッシュを削除した（テーブルのデータを変更した）ことを受け取る
+ * トランザクション中の場合は、削除した時点とトランザクション終了時の2回呼ばれる
+ * （コミット前に呼ばれた時点では、他の接続からはまだ変更前のデータが見えるため）
+ * 削除した処理のスレッドから呼ばれるため、重い処理は行わないこと
+ * </pre>
+ */
+public interface CacheInvalidationListener {
+
+	/**
+	 * @param tableName テーブル名
+	 * @param keys 削除したデータの主キー
+	 */
+	void onInvalidate(String tableName, Collection<?> keys);
+
+	/**
+	 * @param tableName 全体を削除したテーブル名
+	 */
+	void onInvalidateAll(String tableName);
+}
@@ -0,0 +1,44 @@
+package com.example.demo.Dao.Cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link IdCache}の統計情報（取得時点のスナップショット）
+ * </pre>
+ */
+@Getter
+@AllArgsConstructor
+public class CacheStatistics {
+
+	/** キャッシュ名 */
+	private final String name;
+
+	/** 現在の件数 */
+	private final int size;
+
+	/** キャッシュから取得できた回数 */
+	private final long hitCount;
+
+	/** キャッシュになく、DBから取得した回数 */
+	private final long missCount;
+
+	/** キャッシュに追加した回数 */
+	private final long putCount;
+
+	/** 件数の上限・有効期限切れで削除した回数 */
+	private final long evictionCount;
+
+	/** データの更新によって削除した回数 */
+	private final long invalidationCount;
+
+	/**
+	 * @return ヒット率（一度も取得していない場合は0）
+	 */
+	public double getHitRate() {
+		long requestCount = hitCount + missCount;
+		return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+	}
+}
@@ -0,0 +1,31 @@
+package com.example.demo.Dao.Cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author Takumi
+ * <pre>
+ * 主キーでの取得結果のキャッシュの設定
+ * entity-cache.enabled（デフォルトfalse）
+ * このアプリのDAO・リポジトリ以外（SQLの直接実行・別のインスタンス）での更新はキャッシュから削除されないため、
+ * 有効にすると有効期限の間は更新前の値を返すことがある（全ての更新がこのアプリを経由する場合に有効にする）
+ * entity-cache.max-size キャッシュ1つあたりの上限件数（デフォルト1000）
+ * entity-cache.ttl-seconds 有効期限の秒数（デフォルト300）
+ * </pre>
+ */
+@Configuration
+@EnableCaching
+public class EntityCacheConfig {
+
+	@Bean
+	public EntityCacheManager cacheManager(@Value("${entity-cache.enabled:false}") boolean enabled,
+			@Value("${entity-cache.max-size:1000}") int maxSize,
+			@Value("${entity-cache.ttl-seconds:300}") long ttlSeconds) {
+		return new EntityCacheManager(enabled, maxSize, Duration.ofSeconds(ttlSeconds));
+	}
+}
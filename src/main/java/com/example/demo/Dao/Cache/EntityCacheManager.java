@@ -0,0 +1,348 @@
+package com.example.demo.Dao.Cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.UnaryOperator;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.Entity.DataJDBCEntity;
+import com.example.demo.Entity.JDBCEntity;
+import com.example.demo.Entity.JPAEntity;
+
+/**
+ * @author Takumi
+ * <pre>
+ * 主キーでの取得結果のキャッシュ（{@link IdCache}）をまとめて管理するクラス
+ * {@link EntityCacheNames}のキャッシュを持ち、{@link CacheManager}として@Cacheableなどからも使用する
+ *
+ * 削除は同じテーブルのグループ全体に対して行う
+ * トランザクション中に削除した場合は、その場で削除したうえで
+ * トランザクション終了時（コミット・ロールバックどちらでも）にもう一度削除する
+ * また、そのトランザクションで削除したkeyはトランザクション終了まで追加しない
+ * （コミット前の値を他のスレッドに見せないため）
+ * 削除したことは{@link CacheInvalidationListener}にも通知する（タイミングは削除と同じ）
+ * </pre>
+ */
+public class EntityCacheManager implements CacheManager {
+
+	/** keyをこの件数より多く削除したトランザクションは、終了時にグループ全体を削除する */
+	private final int maxSize;
+
+	private final boolean enabled;
+
+	/** key:キャッシュ名 */
+	private final Map<String, IdCache<Object>> regions = new LinkedHashMap<>();
+
+	/** key:キャッシュ名 value:テーブル名 */
+	private final Map<String, String> regionTables = new HashMap<>();
+
+	/** key:テーブル名 value:そのテーブルのキャッシュ */
+	private final Map<String, List<IdCache<Object>>> tableRegions = new HashMap<>();
+
+	/** key:キャッシュ名 */
+	private final Map<String, Cache> adapters = new LinkedHashMap<>();
+
+	private final List<CacheInvalidationListener> invalidationListeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * @param enabled falseの場合は取得・追加をせず、常にDBから取得する
+	 * @param maxSize キャッシュ1つあたりの上限件数
+	 * @param ttl 有効期限
+	 */
+	public EntityCacheManager(boolean enabled, int maxSize, Duration ttl) {
+		this.enabled = enabled;
+		this.maxSize = maxSize;
+		addRegion(EntityCacheNames.JDBC_ENTITY, JDBCEntity.TEST, maxSize, ttl, UnaryOperator.identity());
+		addRegion(EntityCacheNames.JDBC_ROW, JDBCEntity.TEST, maxSize, ttl, UnaryOperator.identity());
+		addRegion(EntityCacheNames.JPA_ENTITY, JDBCEntity.TEST, maxSize, ttl, EntityCacheManager::copyJPAEntity);
+		addRegion(EntityCacheNames.DATA_JDBC_ENTITY, "TEST", maxSize, ttl, EntityCacheManager::copyDataJDBCEntity);
+	}
+
+	/**
+	 * @param copier @Cacheableで追加・取得する値を複製する処理（{@link IdCacheAdapter}で使用する）
+	 */
+	private void addRegion(String name, String tableName, int maxSize, Duration ttl, UnaryOperator<Object> copier) {
+		IdCache<Object> region = new IdCache<>(name, maxSize, ttl);
+		regions.put(name, region);
+		regionTables.put(name, tableName);
+		tableRegions.computeIfAbsent(tableName, key -> new ArrayList<>()).add(region);
+		adapters.put(name, new IdCacheAdapter(this, region, copier));
+	}
+
+	/**
+	 * <pre>
+	 * 永続化コンテキストが管理しているエンティティをそのまま共有しないよう、デタッチした複製を作成する
+	 * </pre>
+	 */
+	private static Object copyJPAEntity(Object value) {
+		JPAEntity entity = (JPAEntity) value;
+		return new JPAEntity(entity.getId(), entity.getFirst_name(), entity.getLast_name(), entity.getBirth_day());
+	}
+
+	/**
+	 * <pre>
+	 * 取得したスレッドの間で同じインスタンスを共有しないよう、複製を作成する
+	 * </pre>
+	 */
+	private static Object copyDataJDBCEntity(Object value) {
+		DataJDBCEntity entity = (DataJDBCEntity) value;
+		return new DataJDBCEntity(entity.getId(), entity.getFirstName(), entity.getLastName(), entity.getBirthDay());
+	}
+
+	@Override
+	public Cache getCache(String name) {
+		return adapters.get(name);
+	}
+
+	@Override
+	public Collection<String> getCacheNames() {
+		return Collections.unmodifiableSet(adapters.keySet());
+	}
+
+	/**
+	 * @return falseの場合はキャッシュを使用しない
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @param regionName キャッシュ名
+	 * @param key 主キー
+	 * @return 保持しているデータ（ない場合・無効の場合はnull）
+	 */
+	@SuppressWarnings("unchecked")
+	public <V> V get(String regionName, Object key) {
+		if (!enabled) {
+			return null;
+		}
+		return (V) region(regionName).get(key);
+	}
+
+	/**
+	 * @param regionName キャッシュ名
+	 * @return {@link IdCache#loadToken()}
+	 */
+	public long loadToken(String regionName) {
+		return region(regionName).loadToken();
+	}
+
+	/**
+	 * <pre>
+	 * DBから取得したデータを追加する
+	 * 現在のトランザクションで削除したkeyの場合は追加しない
+	 * </pre>
+	 * @param regionName キャッシュ名
+	 * @param key 主キー
+	 * @param value 追加したいデータ
+	 * @param token 取得前の{@link #loadToken(String)}の戻り値
+	 */
+	public void put(String regionName, Object key, Object value, long token) {
+		if (!enabled) {
+			return;
+		}
+		PendingInvalidation pending = pendingInvalidation(false);
+		if (pending != null && pending.contains(regionTables.get(regionName), key)) {
+			return;
+		}
+		region(regionName).put(key, value, token);
+	}
+
+	/**
+	 * <pre>
+	 * 同じテーブルのグループ全体からkeyのデータを削除する
+	 * </pre>
+	 * @param regionName キャッシュ名
+	 * @param key 削除したいデータの主キー
+	 */
+	public void evict(String regionName, Object key) {
+		evictAll(regionName, List.of(key));
+	}
+
+	/**
+	 * <pre>
+	 * 同じテーブルのグループ全体から複数のkeyのデータを削除する
+	 * </pre>
+	 * @param regionName キャッシュ名
+	 * @param keys 削除したいデータの主キー
+	 */
+	public void evictAll(String regionName, Collection<?> keys) {
+		String tableName = regionTables.get(regionName);
+		List<IdCache<Object>> group = tableRegions.get(tableName);
+		for (Object key : keys) {
+			for (IdCache<Object> region : group) {
+				region.evict(key);
+			}
+		}
+		notifyInvalidate(tableName, keys);
+		PendingInvalidation pending = pendingInvalidation(true);
+		if (pending != null) {
+			pending.addAll(tableName, keys);
+		}
+	}
+
+	/**
+	 * <pre>
+	 * 同じテーブルのグループ全体を削除する
+	 * </pre>
+	 * @param regionName キャッシュ名
+	 */
+	public void clear(String regionName) {
+		String tableName = regionTables.get(regionName);
+		clearTable(tableName);
+		notifyInvalidateAll(tableName);
+		PendingInvalidation pending = pendingInvalidation(true);
+		if (pending != null) {
+			pending.markCleared(tableName);
+		}
+	}
+
+	/**
+	 * @param listener キャッシュを削除したことを受け取る
+	 */
+	public void addInvalidationListener(CacheInvalidationListener listener) {
+		invalidationListeners.add(listener);
+	}
+
+	/**
+	 * @param listener {@link #addInvalidationListener(CacheInvalidationListener)}で追加したもの
+	 */
+	public void removeInvalidationListener(CacheInvalidationListener listener) {
+		invalidationListeners.remove(listener);
+	}
+
+	/**
+	 * @return 全キャッシュの統計情報
+	 */
+	public List<CacheStatistics> getStatistics() {
+		List<CacheStatistics> statisticsList = new ArrayList<>(regions.size());
+		for (IdCache<Object> region : regions.values()) {
+			statisticsList.add(region.getStatistics());
+		}
+		return statisticsList;
+	}
+
+	/**
+	 * @param regionName キャッシュ名
+	 * @return 統計情報
+	 */
+	public CacheStatistics getStatistics(String regionName) {
+		return region(regionName).getStatistics();
+	}
+
+	private IdCache<Object> region(String regionName) {
+		IdCache<Object> region = regions.get(regionName);
+		if (region == null) {
+			throw new IllegalArgumentException("存在しないキャッシュです。:" + regionName);
+		}
+		return region;
+	}
+
+	private void clearTable(String tableName) {
+		for (IdCache<Object> region : tableRegions.get(tableName)) {
+			region.clear();
+		}
+	}
+
+	private void notifyInvalidate(String tableName, Collection<?> keys) {
+		for (CacheInvalidationListener listener : invalidationListeners) {
+			listener.onInvalidate(tableName, keys);
+		}
+	}
+
+	private void notifyInvalidateAll(String tableName) {
+		for (CacheInvalidationListener listener : invalidationListeners) {
+			listener.onInvalidateAll(tableName);
+		}
+	}
+
+	/**
+	 * <pre>
+	 * 現在のトランザクションで削除したkeyを取得する
+	 * トランザクションの同期が有効でない場合はnull
+	 * </pre>
+	 * @param create trueならない場合に作成してトランザクションに登録する
+	 * @return
+	 */
+	private PendingInvalidation pendingInvalidation(boolean create) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+		PendingInvalidation pending = (PendingInvalidation) TransactionSynchronizationManager.getResource(this);
+		if (pending == null && create) {
+			pending = new PendingInvalidation();
+			TransactionSynchronizationManager.bindResource(this, pending);
+			TransactionSynchronizationManager.registerSynchronization(pending);
+		}
+		return pending;
+	}
+
+	/**
+	 * <pre>
+	 * トランザクション中に削除したkeyを保持し、トランザクション終了時にもう一度削除する
+	 * </pre>
+	 */
+	private final class PendingInvalidation implements TransactionSynchronization {
+
+		/** key:テーブル名 value:削除したkey */
+		private final Map<String, Set<Object>> tableKeys = new HashMap<>();
+
+		/** 全体を削除するテーブル */
+		private final Set<String> clearedTables = new HashSet<>();
+
+		private void addAll(String tableName, Collection<?> keys) {
+			if (clearedTables.contains(tableName)) {
+				return;
+			}
+			Set<Object> keySet = tableKeys.computeIfAbsent(tableName, key -> new HashSet<>());
+			keySet.addAll(keys);
+			//件数が多い場合はkeyを持たずにテーブル全体を削除する
+			if (keySet.size() > maxSize) {
+				markCleared(tableName);
+			}
+		}
+
+		private void markCleared(String tableName) {
+			clearedTables.add(tableName);
+			tableKeys.remove(tableName);
+		}
+
+		private boolean contains(String tableName, Object key) {
+			if (clearedTables.contains(tableName)) {
+				return true;
+			}
+			Set<Object> keySet = tableKeys.get(tableName);
+			return keySet != null && keySet.contains(key);
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(EntityCacheManager.this);
+			for (String tableName : clearedTables) {
+				clearTable(tableName);
+				notifyInvalidateAll(tableName);
+			}
+			for (Map.Entry<String, Set<Object>> entry : tableKeys.entrySet()) {
+				for (IdCache<Object> region : tableRegions.get(entry.getKey())) {
+					for (Object key : entry.getValue()) {
+						region.evict(key);
+					}
+				}
+				notifyInvalidate(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+}
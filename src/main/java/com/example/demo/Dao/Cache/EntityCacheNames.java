@@ -0,0 +1,32 @@
+package com.example.demo.Dao.Cache;
+
+import com.example.demo.Entity.DataJDBCEntity;
+import com.example.demo.Entity.JDBCEntity;
+import com.example.demo.Entity.JPAEntity;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link EntityCacheManager}が持つキャッシュ名
+ * 同じテーブルのキャッシュはグループになっており、どれか1つで削除すると
+ * 同じグループの全てのキャッシュから削除される
+ * （どの方法で更新しても、他の方法で取得したキャッシュが古いまま残らないようにするため）
+ * </pre>
+ */
+public final class EntityCacheNames {
+
+	/** {@link JDBCEntity}（test_tableグループ） */
+	public static final String JDBC_ENTITY = "jdbcEntity";
+
+	/** test_tableの1行（key:カラム名 value:値）（test_tableグループ） */
+	public static final String JDBC_ROW = "jdbcRow";
+
+	/** {@link JPAEntity}（test_tableグループ） */
+	public static final String JPA_ENTITY = "jpaEntity";
+
+	/** {@link DataJDBCEntity}（TESTグループ） */
+	public static final String DATA_JDBC_ENTITY = "dataJdbcEntity";
+
+	private EntityCacheNames() {
+	}
+}
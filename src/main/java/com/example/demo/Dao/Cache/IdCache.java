@@ -0,0 +1,188 @@
+package com.example.demo.Dao.Cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author Takumi
+ * <pre>
+ * 主キーをkeyにしてデータを保持するキャッシュ
+ * 件数には上限があり、超えた場合は最も使われていないものから削除する（LRU）
+ * 有効期限を過ぎたものは取得時に削除する
+ *
+ * DBから取得している間にデータが更新された場合に古い値を入れないよう、
+ * 取得前に{@link #loadToken()}を取っておき、{@link #put(Object, Object, long)}に渡す
+ * 取得中に{@link #evict(Object)}・{@link #clear()}が呼ばれていた場合は追加しない
+ * </pre>
+ * @param <V> 保持するデータ
+ */
+public class IdCache<V> {
+
+	private final String name;
+
+	private final long ttlNanos;
+
+	private final Map<Object, Entry<V>> cache;
+
+	/** evict・clearのたびに増やす番号 */
+	private long invalidationSequence;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder putCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+	private final LongAdder invalidationCount = new LongAdder();
+
+	/**
+	 * @param name キャッシュ名
+	 * @param maxSize 保持する上限件数
+	 * @param ttl 有効期限
+	 */
+	public IdCache(String name, int maxSize, Duration ttl) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSizeは1以上を指定してください。");
+		}
+		if (ttl.isNegative() || ttl.isZero()) {
+			throw new IllegalArgumentException("ttlは0より大きい値を指定してください。");
+		}
+		this.name = name;
+		this.ttlNanos = ttl.toNanos();
+		this.cache = new LinkedHashMap<Object, Entry<V>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, Entry<V>> eldest) {
+				if (size() > maxSize) {
+					evictionCount.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * @return キャッシュ名
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @param key 主キー
+	 * @return 保持しているデータ（ない場合・有効期限切れの場合はnull）
+	 */
+	public V get(Object key) {
+		Entry<V> entry;
+		synchronized (cache) {
+			entry = cache.get(key);
+			if (entry != null && entry.expiresAt - System.nanoTime() <= 0) {
+				cache.remove(key);
+				evictionCount.increment();
+				entry = null;
+			}
+		}
+		if (entry == null) {
+			missCount.increment();
+			return null;
+		}
+		hitCount.increment();
+		return entry.value;
+	}
+
+	/**
+	 * <pre>
+	 * DBから取得する前に呼び、{@link #put(Object, Object, long)}に渡す
+	 * </pre>
+	 * @return 現在の無効化の番号
+	 */
+	public long loadToken() {
+		synchronized (cache) {
+			return invalidationSequence;
+		}
+	}
+
+	/**
+	 * <pre>
+	 * DBから取得したデータを追加する
+	 * tokenを取ってから無効化されていた場合は追加しない
+	 * </pre>
+	 * @param key 主キー
+	 * @param value 追加したいデータ（nullの場合は追加しない）
+	 * @param token {@link #loadToken()}の戻り値
+	 * @return 追加した場合true
+	 */
+	public boolean put(Object key, V value, long token) {
+		if (value == null) {
+			return false;
+		}
+		synchronized (cache) {
+			if (invalidationSequence != token) {
+				return false;
+			}
+			cache.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+		}
+		putCount.increment();
+		return true;
+	}
+
+	/**
+	 * @param key 削除したいデータの主キー
+	 */
+	public void evict(Object key) {
+		synchronized (cache) {
+			invalidationSequence++;
+			cache.remove(key);
+		}
+		invalidationCount.increment();
+	}
+
+	/**
+	 * <pre>
+	 * 全件削除する
+	 * </pre>
+	 */
+	public void clear() {
+		synchronized (cache) {
+			invalidationSequence++;
+			cache.clear();
+		}
+		invalidationCount.increment();
+	}
+
+	/**
+	 * @return 現在の件数（有効期限切れのものを含む）
+	 */
+	public int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/**
+	 * @return 統計情報
+	 */
+	public CacheStatistics getStatistics() {
+		return new CacheStatistics(name, size(), hitCount.sum(), missCount.sum(), putCount.sum(),
+				evictionCount.sum(), invalidationCount.sum());
+	}
+
+	private static final class Entry<V> {
+
+		private final V value;
+
+		/** 有効期限（{@link System#nanoTime()}基準） */
+		private final long expiresAt;
+
+		private Entry(V value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package com.example.demo.Dao.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.function.UnaryOperator;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link IdCache}を@Cacheable・@CacheEvictから使用するための{@link Cache}
+ * 削除・追加は{@link EntityCacheManager}を経由し、同じテーブルのグループ全体の削除と
+ * トランザクション終了時の削除を行う
+ * nullは保持しない（取得できなかったidは毎回DBから取得する）
+ * 追加する値と取得した値はcopierで複製する（エンティティのインスタンスを呼び出し元やスレッドの間で共有しないため）
+ * </pre>
+ */
+class IdCacheAdapter implements Cache {
+
+	private final EntityCacheManager cacheManager;
+
+	private final IdCache<Object> region;
+
+	private final UnaryOperator<Object> copier;
+
+	/** 取得できなかった時点の{@link IdCache#loadToken()}（@Cacheableはget→メソッド実行→putの順で呼ぶため） */
+	private final ThreadLocal<Long> loadToken = new ThreadLocal<>();
+
+	IdCacheAdapter(EntityCacheManager cacheManager, IdCache<Object> region, UnaryOperator<Object> copier) {
+		this.cacheManager = cacheManager;
+		this.region = region;
+		this.copier = copier;
+	}
+
+	@Override
+	public String getName() {
+		return region.getName();
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return region;
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		long token = region.loadToken();
+		Object value = cacheManager.get(region.getName(), key);
+		if (value == null) {
+			loadToken.set(token);
+			return null;
+		}
+		return new SimpleValueWrapper(copier.apply(value));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		if (wrapper == null) {
+			return null;
+		}
+		Object value = wrapper.get();
+		if (type != null && !type.isInstance(value)) {
+			throw new IllegalStateException("キャッシュの値の型が違います。:" + value.getClass().getName());
+		}
+		return (T) value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		ValueWrapper wrapper = get(key);
+		if (wrapper != null) {
+			return (T) wrapper.get();
+		}
+		long token = takeLoadToken();
+		T value;
+		try {
+			value = valueLoader.call();
+		} catch (Exception e) {
+			throw new ValueRetrievalException(key, valueLoader, e);
+		}
+		if (value != null) {
+			cacheManager.put(region.getName(), key, copier.apply(value), token);
+		}
+		return value;
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		long token = takeLoadToken();
+		if (value != null) {
+			cacheManager.put(region.getName(), key, copier.apply(value), token);
+		}
+	}
+
+	@Override
+	public void evict(Object key) {
+		cacheManager.evict(region.getName(), key);
+	}
+
+	@Override
+	public void clear() {
+		cacheManager.clear(region.getName());
+	}
+
+	/**
+	 * @return 直前のgetで取得できなかった時点のtoken（ない場合は現在のtoken）
+	 */
+	private long takeLoadToken() {
+		Long token = loadToken.get();
+		loadToken.remove();
+		return token == null ? region.loadToken() : token;
+	}
+}
@@ -0,0 +1,193 @@
+package com.example.demo.Dao.Cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import com.example.demo.Dao.Binding.JDBCEntityColumn;
+import com.example.demo.Dao.Binding.JDBCEntityValues;
+import com.example.demo.Entity.JDBCEntity;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link com.example.demo.Dao.JDBCTempDao JDBCTempDao}・{@link com.example.demo.Dao.NamedJDBCDao NamedJDBCDao}
+ * で共有する{@link JDBCEntity#TEST TEST}テーブルのキャッシュ
+ * idでの取得はキャッシュになければDBから取得して追加し、
+ * 更新・挿入・削除をしたidはキャッシュから削除する（同じテーブルのJPAなどのキャッシュからも削除される）
+ * {@link JDBCEntity}は変更できないためそのまま返し、{@code Map}は呼び出し元で変更されてもいいようにコピーを返す
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class JDBCEntityCache {
+
+	private final EntityCacheManager cacheManager;
+
+	/**
+	 * <pre>
+	 * キャッシュにあればそれを返し、なければloaderで取得して追加する
+	 * </pre>
+	 * @param id 取得したいデータのid
+	 * @param loader DBから取得する処理
+	 * @return 取得したデータ
+	 */
+	public JDBCEntity getEntity(int id, IntFunction<JDBCEntity> loader) {
+		JDBCEntity cached = cacheManager.get(EntityCacheNames.JDBC_ENTITY, id);
+		if (cached != null) {
+			return cached;
+		}
+		long token = cacheManager.loadToken(EntityCacheNames.JDBC_ENTITY);
+		JDBCEntity data = loader.apply(id);
+		cacheManager.put(EntityCacheNames.JDBC_ENTITY, id, data, token);
+		return data;
+	}
+
+	/**
+	 * <pre>
+	 * 複数のidのデータを取得する
+	 * キャッシュにあるものはキャッシュから取得し、残りのidだけをまとめてloaderで取得して追加する
+	 * </pre>
+	 * @param ids 取得したいデータのid
+	 * @param loader キャッシュになかったid（重複なし）のデータをDBから取得する処理
+	 * @return 取得できたデータ（key:id）
+	 */
+	public Map<Integer, JDBCEntity> getEntities(Collection<Integer> ids,
+			Function<List<Integer>, List<JDBCEntity>> loader) {
+		Set<Integer> distinctIds = new LinkedHashSet<>(ids);
+		Map<Integer, JDBCEntity> result = new HashMap<>(distinctIds.size() * 4 / 3 + 1);
+		List<Integer> loadIds = new ArrayList<>();
+		for (Integer id : distinctIds) {
+			JDBCEntity cached = cacheManager.get(EntityCacheNames.JDBC_ENTITY, id);
+			if (cached == null) {
+				loadIds.add(id);
+			} else {
+				result.put(id, cached);
+			}
+		}
+		if (loadIds.isEmpty()) {
+			return result;
+		}
+
+		long token = cacheManager.loadToken(EntityCacheNames.JDBC_ENTITY);
+		for (JDBCEntity data : loader.apply(loadIds)) {
+			result.put(data.getId(), data);
+			cacheManager.put(EntityCacheNames.JDBC_ENTITY, data.getId(), data, token);
+		}
+		return result;
+	}
+
+	/**
+	 * <pre>
+	 * キャッシュにあればそのコピーを返し、なければloaderで取得して追加する
+	 * 空の{@code Map}（データが存在しない）は追加しない
+	 * </pre>
+	 * @param id 取得したいデータのid
+	 * @param loader DBから取得する処理
+	 * @return 取得したデータ（key:カラム名 value:値）
+	 */
+	public Map<String, Object> getRow(int id, IntFunction<Map<String, Object>> loader) {
+		Map<String, Object> cached = cacheManager.get(EntityCacheNames.JDBC_ROW, id);
+		if (cached != null) {
+			return copy(cached);
+		}
+		long token = cacheManager.loadToken(EntityCacheNames.JDBC_ROW);
+		Map<String, Object> data = loader.apply(id);
+		if (!CollectionUtils.isEmpty(data)) {
+			cacheManager.put(EntityCacheNames.JDBC_ROW, id, copy(data), token);
+		}
+		return data;
+	}
+
+	/**
+	 * @param id 更新・挿入・削除したデータのid
+	 */
+	public void invalidate(int id) {
+		cacheManager.evict(EntityCacheNames.JDBC_ENTITY, id);
+	}
+
+	/**
+	 * <pre>
+	 * 更新・挿入したデータにidが含まれていれば、そのidのキャッシュを削除する
+	 * （idを変更する更新の場合、変更後のidのキャッシュも古くなるため）
+	 * </pre>
+	 * @param dataMap key:カラム名 value:値
+	 */
+	public void invalidateIdIn(Map<String, String> dataMap) {
+		String id = dataMap.get(JDBCEntity.ID);
+		if (id != null) {
+			invalidate(Integer.parseInt(id.strip()));
+		}
+	}
+
+	/**
+	 * <pre>
+	 * 更新・挿入したデータにidが含まれていれば、そのidのキャッシュを削除する
+	 * </pre>
+	 * @param values 更新・挿入したデータ
+	 */
+	public void invalidateIdIn(JDBCEntityValues values) {
+		if (values.contains(JDBCEntityColumn.ID)) {
+			invalidate(values.getInt(JDBCEntityColumn.ID));
+		}
+	}
+
+	/**
+	 * @param ids 更新・挿入・削除したデータのid
+	 */
+	public void invalidateIds(Collection<Integer> ids) {
+		cacheManager.evictAll(EntityCacheNames.JDBC_ENTITY, ids);
+	}
+
+	/**
+	 * @param dataList 更新・挿入・削除したデータ
+	 */
+	public void invalidate(List<JDBCEntity> dataList) {
+		List<Integer> ids = new ArrayList<>(dataList.size());
+		for (JDBCEntity data : dataList) {
+			ids.add(data.getId());
+		}
+		invalidateIds(ids);
+	}
+
+	/**
+	 * <pre>
+	 * テーブル全体のキャッシュを削除する
+	 * </pre>
+	 */
+	public void invalidateAll() {
+		cacheManager.clear(EntityCacheNames.JDBC_ENTITY);
+	}
+
+	/**
+	 * @return {@link JDBCEntity}のキャッシュの統計情報
+	 */
+	public CacheStatistics getEntityStatistics() {
+		return cacheManager.getStatistics(EntityCacheNames.JDBC_ENTITY);
+	}
+
+	/**
+	 * @return 1行（{@code Map}）のキャッシュの統計情報
+	 */
+	public CacheStatistics getRowStatistics() {
+		return cacheManager.getStatistics(EntityCacheNames.JDBC_ROW);
+	}
+
+	private static Map<String, Object> copy(Map<String, Object> row) {
+		Map<String, Object> copy = new LinkedCaseInsensitiveMap<>(row.size());
+		copy.putAll(row);
+		return copy;
+	}
+}
@@ -0,0 +1,6 @@
+/**
+ * @author Takumi
+ * 主キーでの取得結果をキャッシュするパッケージ
+ *
+ */
+package com.example.demo.Dao.Cache;
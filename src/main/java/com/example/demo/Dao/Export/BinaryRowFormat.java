@@ -0,0 +1,73 @@
+package com.example.demo.Dao.Export;
+
+import java.sql.Types;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link ExportFormat#BINARY}の形式
+ * 数値はビッグエンディアンで、{@link java.io.DataInputStream}でそのまま読める
+ *
+ * ヘッダー
+ *   int  {@link #MAGIC}
+ *   int  カラム数
+ *   カラムごとに
+ *     int  カラム名のバイト数、カラム名（UTF-8）
+ *     byte 値の種類（{@link #INT}・{@link #LONG}・{@link #DOUBLE}・{@link #BOOLEAN}・{@link #STRING}）
+ * 行ごとに
+ *   byte {@link #ROW}
+ *   カラムごとに
+ *     byte NULLなら{@link #NULL}、それ以外は{@link #NOT_NULL}
+ *     NULLでなければ値（int・long・double・byte（0か1）・int バイト数とUTF-8のバイト列）
+ * 最後
+ *   byte {@link #END}
+ * </pre>
+ */
+public final class BinaryRowFormat {
+
+	/** ファイルの先頭（"TBL1"） */
+	public static final int MAGIC = 0x54424C31;
+
+	/** 行の始まり */
+	public static final byte ROW = 1;
+
+	/** ファイルの終わり */
+	public static final byte END = 0;
+
+	public static final byte NULL = 0;
+	public static final byte NOT_NULL = 1;
+
+	/** 値の種類 */
+	public static final byte INT = 1;
+	public static final byte LONG = 2;
+	public static final byte DOUBLE = 3;
+	public static final byte BOOLEAN = 4;
+	public static final byte STRING = 5;
+
+	private BinaryRowFormat() {
+	}
+
+	/**
+	 * @param jdbcType {@link Types}の値
+	 * @return 値の種類（数値・真偽値以外は{@link #STRING}）
+	 */
+	public static byte valueType(int jdbcType) {
+		switch (jdbcType) {
+		case Types.TINYINT:
+		case Types.SMALLINT:
+		case Types.INTEGER:
+			return INT;
+		case Types.BIGINT:
+			return LONG;
+		case Types.REAL:
+		case Types.FLOAT:
+		case Types.DOUBLE:
+			return DOUBLE;
+		case Types.BIT:
+		case Types.BOOLEAN:
+			return BOOLEAN;
+		default:
+			return STRING;
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package com.example.demo.Dao.Export;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link BinaryRowFormat}の形式で書き込む
+ * 数値は文字列にせずそのまま書き込むため、CSVより小さく速い
+ * </pre>
+ */
+final class BinaryRowWriter implements RowWriter {
+
+	private final ExportOutput output;
+
+	/** カラムごとの値の種類 */
+	private byte[] valueTypes;
+
+	BinaryRowWriter(ExportOutput output) {
+		this.output = output;
+	}
+
+	@Override
+	public void writeHeader(ResultSetMetaData metaData) throws SQLException, IOException {
+		int columnCount = metaData.getColumnCount();
+		valueTypes = new byte[columnCount];
+		output.putInt(BinaryRowFormat.MAGIC);
+		output.putInt(columnCount);
+		for (int i = 0; i < columnCount; i++) {
+			valueTypes[i] = BinaryRowFormat.valueType(metaData.getColumnType(i + 1));
+			output.putSized(metaData.getColumnLabel(i + 1));
+			output.put(valueTypes[i]);
+		}
+	}
+
+	@Override
+	public void writeRow(ResultSet rs) throws SQLException, IOException {
+		output.put(BinaryRowFormat.ROW);
+		for (int i = 0; i < valueTypes.length; i++) {
+			int columnIndex = i + 1;
+			switch (valueTypes[i]) {
+			case BinaryRowFormat.INT:
+				int intValue = rs.getInt(columnIndex);
+				if (writeNull(rs)) {
+					output.putInt(intValue);
+				}
+				break;
+			case BinaryRowFormat.LONG:
+				long longValue = rs.getLong(columnIndex);
+				if (writeNull(rs)) {
+					output.putLong(longValue);
+				}
+				break;
+			case BinaryRowFormat.DOUBLE:
+				double doubleValue = rs.getDouble(columnIndex);
+				if (writeNull(rs)) {
+					output.putDouble(doubleValue);
+				}
+				break;
+			case BinaryRowFormat.BOOLEAN:
+				boolean booleanValue = rs.getBoolean(columnIndex);
+				if (writeNull(rs)) {
+					output.put(booleanValue ? (byte) 1 : (byte) 0);
+				}
+				break;
+			default:
+				String stringValue = rs.getString(columnIndex);
+				if (writeNull(rs)) {
+					output.putSized(stringValue);
+				}
+				break;
+			}
+		}
+	}
+
+	@Override
+	public void writeFooter() throws IOException {
+		output.put(BinaryRowFormat.END);
+	}
+
+	/**
+	 * <pre>
+	 * 直前に取得した値がNULLかを書き込む
+	 * </pre>
+	 * @return NULLでない（値を書き込む）場合true
+	 */
+	private boolean writeNull(ResultSet rs) throws SQLException, IOException {
+		boolean notNull = !rs.wasNull();
+		output.put(notNull ? BinaryRowFormat.NOT_NULL : BinaryRowFormat.NULL);
+		return notNull;
+	}
+}
@@ -0,0 +1,78 @@
+package com.example.demo.Dao.Export;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * @author Takumi
+ * <pre>
+ * CSV（RFC 4180、UTF-8、改行はCRLF）で書き込む
+ * 1行目はカラム名で、値は{@link ResultSet#getString(int)}で取得した文字列をそのまま書き込む（NULLは空）
+ * ,・"・改行を含む値は"で囲み、"は""にする
+ * </pre>
+ */
+final class CsvRowWriter implements RowWriter {
+
+	private static final byte COMMA = ',';
+	private static final byte[] NEWLINE = { '\r', '\n' };
+
+	private final ExportOutput output;
+
+	private int columnCount;
+
+	CsvRowWriter(ExportOutput output) {
+		this.output = output;
+	}
+
+	@Override
+	public void writeHeader(ResultSetMetaData metaData) throws SQLException, IOException {
+		columnCount = metaData.getColumnCount();
+		for (int i = 1; i <= columnCount; i++) {
+			if (i > 1) {
+				output.put(COMMA);
+			}
+			writeValue(metaData.getColumnLabel(i));
+		}
+		output.put(NEWLINE);
+	}
+
+	@Override
+	public void writeRow(ResultSet rs) throws SQLException, IOException {
+		for (int i = 1; i <= columnCount; i++) {
+			if (i > 1) {
+				output.put(COMMA);
+			}
+			String value = rs.getString(i);
+			if (value != null) {
+				writeValue(value);
+			}
+		}
+		output.put(NEWLINE);
+	}
+
+	@Override
+	public void writeFooter() {
+	}
+
+	private void writeValue(String value) throws IOException {
+		if (!needsQuote(value)) {
+			output.put(value);
+			return;
+		}
+		output.put((byte) '"');
+		output.put(value.replace("\"", "\"\""));
+		output.put((byte) '"');
+	}
+
+	private static boolean needsQuote(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,37 @@
+package com.example.demo.Dao.Export;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link TableExporter}で書き出すファイルの形式
+ * </pre>
+ */
+public enum ExportFormat {
+
+	/**
+	 * <pre>
+	 * CSV（1行目はカラム名）
+	 * test_tableを書き出したものは{@link com.example.demo.Dao.Load.CsvBulkLoader}で読み込める
+	 * </pre>
+	 */
+	CSV {
+		@Override
+		RowWriter newWriter(ExportOutput output) {
+			return new CsvRowWriter(output);
+		}
+	},
+
+	/**
+	 * <pre>
+	 * {@link BinaryRowFormat}の形式
+	 * </pre>
+	 */
+	BINARY {
+		@Override
+		RowWriter newWriter(ExportOutput output) {
+			return new BinaryRowWriter(output);
+		}
+	};
+
+	abstract RowWriter newWriter(ExportOutput output);
+}
@@ -0,0 +1,145 @@
+package com.example.demo.Dao.Export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * @author Takumi
+ * <pre>
+ * 書き出し先のファイル
+ * バッファ（{@link ByteBuffer}）に貯めて、いっぱいになったら{@link FileChannel}にまとめて書き込む
+ * gzipで圧縮する場合は、バッファの内容を圧縮してから{@link FileChannel}に書き込む
+ * 数値はビッグエンディアン（{@link java.io.DataInputStream}で読める形式）で書き込む
+ * </pre>
+ */
+final class ExportOutput implements Closeable {
+
+	private final FileChannel channel;
+
+	/** gzipで圧縮する場合のみ */
+	private final OutputStream gzip;
+
+	private final ByteBuffer buffer;
+
+	/** 書き込んだバイト数（圧縮前） */
+	private long bytesWritten;
+
+	/**
+	 * @param file 書き出し先のファイル（既に存在する場合は上書きする）
+	 * @param gzip gzipで圧縮する場合true
+	 * @param bufferSize バッファのサイズ
+	 * @throws IOException
+	 */
+	ExportOutput(Path file, boolean gzip, int bufferSize) throws IOException {
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+		try {
+			this.gzip = gzip ? new GZIPOutputStream(Channels.newOutputStream(channel), bufferSize) : null;
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+		this.buffer = ByteBuffer.allocate(bufferSize);
+	}
+
+	void put(byte value) throws IOException {
+		ensure(Byte.BYTES);
+		buffer.put(value);
+	}
+
+	void putInt(int value) throws IOException {
+		ensure(Integer.BYTES);
+		buffer.putInt(value);
+	}
+
+	void putLong(long value) throws IOException {
+		ensure(Long.BYTES);
+		buffer.putLong(value);
+	}
+
+	void putDouble(double value) throws IOException {
+		ensure(Double.BYTES);
+		buffer.putDouble(value);
+	}
+
+	void put(byte[] bytes) throws IOException {
+		if (bytes.length > buffer.capacity()) {
+			flush();
+			write(ByteBuffer.wrap(bytes));
+			return;
+		}
+		ensure(bytes.length);
+		buffer.put(bytes);
+	}
+
+	/**
+	 * <pre>
+	 * 文字列をUTF-8で書き込む
+	 * </pre>
+	 */
+	void put(String value) throws IOException {
+		put(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * <pre>
+	 * 文字列をバイト数（int）とUTF-8のバイト列で書き込む
+	 * </pre>
+	 */
+	void putSized(String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		putInt(bytes.length);
+		put(bytes);
+	}
+
+	/**
+	 * @return 書き込んだバイト数（圧縮前）
+	 */
+	long getBytesWritten() {
+		return bytesWritten + buffer.position();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			flush();
+			if (gzip != null) {
+				gzip.close();
+			}
+		} finally {
+			channel.close();
+		}
+	}
+
+	private void ensure(int length) throws IOException {
+		if (buffer.remaining() < length) {
+			flush();
+		}
+	}
+
+	private void flush() throws IOException {
+		buffer.flip();
+		write(buffer);
+		buffer.clear();
+	}
+
+	private void write(ByteBuffer source) throws IOException {
+		bytesWritten += source.remaining();
+		if (gzip != null) {
+			gzip.write(source.array(), source.arrayOffset() + source.position(), source.remaining());
+			source.position(source.limit());
+			return;
+		}
+		while (source.hasRemaining()) {
+			channel.write(source);
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package com.example.demo.Dao.Export;
+
+import java.util.concurrent.TimeUnit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link TableExporter}で書き出した結果
+ * </pre>
+ */
+@Getter
+@AllArgsConstructor
+public class ExportResult {
+
+	/** 書き出した行数 */
+	private final long rowCount;
+
+	/** 書き出したバイト数（圧縮前） */
+	private final long bytesWritten;
+
+	/** ファイルのバイト数（圧縮後） */
+	private final long fileBytes;
+
+	/** 処理時間（ナノ秒） */
+	private final long elapsedNanos;
+
+	/**
+	 * @return 処理時間（ミリ秒）
+	 */
+	public long getElapsedMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+	}
+
+	/**
+	 * @return 1秒あたりの書き出し行数
+	 */
+	public double getRowsPerSecond() {
+		return elapsedNanos == 0 ? 0 : rowCount * 1_000_000_000.0 / elapsedNanos;
+	}
+}
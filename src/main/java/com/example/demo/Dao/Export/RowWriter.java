@@ -0,0 +1,36 @@
+package com.example.demo.Dao.Export;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * @author Takumi
+ * <pre>
+ * 結果セットの行を{@link ExportOutput}に書き込む
+ * {@link ExportFormat}ごとに実装する
+ * </pre>
+ */
+interface RowWriter {
+
+	/**
+	 * <pre>
+	 * 行を書き込む前に1度だけ呼ばれる
+	 * </pre>
+	 * @param metaData 結果セットのカラム情報
+	 */
+	void writeHeader(ResultSetMetaData metaData) throws SQLException, IOException;
+
+	/**
+	 * @param rs 現在の行を指している結果セット
+	 */
+	void writeRow(ResultSet rs) throws SQLException, IOException;
+
+	/**
+	 * <pre>
+	 * 全ての行を書き込んだ後に1度だけ呼ばれる
+	 * </pre>
+	 */
+	void writeFooter() throws IOException;
+}
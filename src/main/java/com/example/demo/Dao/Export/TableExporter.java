@@ -0,0 +1,97 @@
+package com.example.demo.Dao.Export;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.Dao.JDBCTempDao;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author Takumi
+ * <pre>
+ * テーブルの全件をファイルに書き出す
+ * {@link JDBCTempDao#queryTable(String, int, org.springframework.jdbc.core.ResultSetExtractor)}の
+ * 前方向のみのカーソルで読み進めた行を、そのままバッファに書き込む
+ * （{@link JDBCTempDao#findAll()}のように全件をListにしないため、テーブルの大きさによらずメモリ使用量は一定）
+ *
+ * 途中で失敗した場合は、書き出し途中のファイルを削除する
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class TableExporter {
+
+	/** デフォルトのフェッチサイズ */
+	public static final int DEFAULT_FETCH_SIZE = 10000;
+
+	/** 書き込みのバッファのサイズ */
+	public static final int BUFFER_SIZE = 256 * 1024;
+
+	private final JDBCTempDao dao;
+
+	/**
+	 * @param tableName テーブル名（英数字と_のみ）
+	 * @param file 書き出し先のファイル（既に存在する場合は上書きする）
+	 * @param format ファイルの形式
+	 * @param gzip gzipで圧縮する場合true
+	 * @return 書き出した結果
+	 * @throws IOException
+	 * @throws DataAccessException
+	 */
+	public ExportResult export(String tableName, Path file, ExportFormat format, boolean gzip)
+			throws IOException, DataAccessException {
+		return export(tableName, file, format, gzip, DEFAULT_FETCH_SIZE);
+	}
+
+	/**
+	 * @param tableName テーブル名（英数字と_のみ）
+	 * @param file 書き出し先のファイル（既に存在する場合は上書きする）
+	 * @param format ファイルの形式
+	 * @param gzip gzipで圧縮する場合true
+	 * @param fetchSize 1度にドライバーが取得する行数
+	 * @return 書き出した結果
+	 * @throws IOException
+	 * @throws DataAccessException
+	 */
+	public ExportResult export(String tableName, Path file, ExportFormat format, boolean gzip, int fetchSize)
+			throws IOException, DataAccessException {
+		long startNanos = System.nanoTime();
+		boolean completed = false;
+		ExportOutput output = new ExportOutput(file, gzip, BUFFER_SIZE);
+		try {
+			long rowCount;
+			try (output) {
+				RowWriter writer = format.newWriter(output);
+				rowCount = dao.queryTable(tableName, fetchSize, rs -> {
+					try {
+						writer.writeHeader(rs.getMetaData());
+						long count = 0;
+						while (rs.next()) {
+							writer.writeRow(rs);
+							count++;
+						}
+						writer.writeFooter();
+						return count;
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+			completed = true;
+			return new ExportResult(rowCount, output.getBytesWritten(), Files.size(file),
+					System.nanoTime() - startNanos);
+		} finally {
+			if (!completed) {
+				Files.deleteIfExists(file);
+			}
+		}
+	}
+}
@@ -0,0 +1,6 @@
+/**
+ * @author Takumi
+ * テーブルの全件をファイルに書き出すパッケージ
+ *
+ */
+package com.example.demo.Dao.Export;
@@ -0,0 +1,477 @@
+package com.example.demo.Dao.Index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.Dao.Cache.CacheInvalidationListener;
+import com.example.demo.Dao.RowMapper.JDBCEntityRowCallbackHandler;
+import com.example.demo.Dao.Statement.ForwardOnlyStatementCreator;
+import com.example.demo.Dao.Statement.JDBCEntitySql;
+import com.example.demo.Entity.JDBCEntity;
+import com.example.demo.Entity.JDBCEntityRow;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link JDBCEntity#TEST TEST}テーブルのbirth_day・last_nameのインデックス（アプリケーション内に保持する）
+ * birth_dayは（上位32bitにbirth_day、下位32bitにid）の値を昇順に並べたlong[]で、範囲の検索は二分探索で行う
+ * last_nameはlast_nameからidへのハッシュで、一致する値の検索を行う
+ * birth_dayがNULLの行は（SQLの範囲条件に一致しないため）birth_dayのインデックスには登録しない
+ *
+ * インデックスから求めるのは条件に一致する可能性のあるidで、DAOは取得した行を条件で絞り込んでから返す
+ *
+ * DAOの更新・挿入・削除はキャッシュを削除するため、それを{@link CacheInvalidationListener}で受け取って同期する
+ * ・トランザクション外で変更されたid、終了したトランザクションで変更されたidは、次の検索の前にDBから読み直して反映する
+ * ・トランザクション中に変更されたidは、終了するまで常に検索結果に含める（コミット前の値はそのトランザクションからしか見えないため）
+ *   birth_dayの検索では、そのidをDBから読み直して範囲内のものだけを含める（NULLは{@link JDBCEntity}では0になり、DAOの確認では区別できないため）
+ * ・テーブル全体が変更された場合は、次の検索の前に全件を読み直す（トランザクション中は検索にインデックスを使用しない）
+ * 無効の場合・インデックスを使用できない場合、検索はnullを返し、DAOはSQLで検索する
+ * </pre>
+ */
+public class JDBCEntitySecondaryIndex implements CacheInvalidationListener {
+
+	private final JdbcTemplate jdbcTemp;
+
+	private final int fetchSize;
+
+	private volatile boolean enabled;
+
+	/** 全件を読み込み済みの場合true（テーブル全体が変更された場合はfalseに戻す） */
+	private volatile boolean built;
+
+	/** テーブル全体を変更したトランザクションがある場合true */
+	private volatile boolean pendingAll;
+
+	/** DBから読み直して反映するid */
+	private final Set<Integer> dirtyIds = ConcurrentHashMap.newKeySet();
+
+	/** 実行中のトランザクションで変更されたid */
+	private final Set<Integer> pendingIds = ConcurrentHashMap.newKeySet();
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// 以下はlockで保護する
+	/** （上位32bitにbirth_day、下位32bitにid）の昇順 */
+	private long[] birthDayKeys = new long[0];
+
+	/** key:last_name value:id */
+	private Map<String, Set<Integer>> lastNameIds = new HashMap<>();
+
+	/** key:id value:インデックスに登録している値（変更前の値をインデックスから外すため） */
+	private Map<Integer, IndexedRow> indexedRows = new HashMap<>();
+
+	/**
+	 * @param jdbcTemp 読み込みに使用する
+	 * @param enabled インデックスを使用する場合true
+	 * @param fetchSize 全件を読み込む際のフェッチサイズ
+	 */
+	public JDBCEntitySecondaryIndex(JdbcTemplate jdbcTemp, boolean enabled, int fetchSize) {
+		if (fetchSize <= 0) {
+			throw new IllegalArgumentException("fetchSizeは1以上を指定してください。:" + fetchSize);
+		}
+		this.jdbcTemp = jdbcTemp;
+		this.enabled = enabled;
+		this.fetchSize = fetchSize;
+	}
+
+	/**
+	 * @return インデックスを使用する場合true
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * <pre>
+	 * 有効にした場合は、次の検索の前に全件を読み込む
+	 * 無効にした場合は、保持しているインデックスを破棄する
+	 * </pre>
+	 * @param enabled インデックスを使用する場合true
+	 */
+	public synchronized void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+		built = false;
+		if (!enabled) {
+			replace(new long[0], new HashMap<>(), new HashMap<>());
+		}
+	}
+
+	/**
+	 * @param from birth_dayの下限（含む）
+	 * @param to birth_dayの上限（含む）
+	 * @return 条件に一致する可能性のあるid（昇順、インデックスを使用できない場合null）
+	 */
+	public int[] findIdsByBirthDay(int from, int to) {
+		if (!prepare()) {
+			return null;
+		}
+		int[] ids;
+		lock.readLock().lock();
+		try {
+			if (from > to) {
+				ids = new int[0];
+			} else {
+				int start = firstIndexNotBelow(key(from, 0));
+				int end = firstIndexAbove(((long) to << 32) | 0xFFFFFFFFL);
+				ids = new int[end - start];
+				for (int i = start; i < end; i++) {
+					ids[i - start] = (int) birthDayKeys[i];
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		if (pendingIds.isEmpty()) {
+			Arrays.sort(ids);
+			return ids;
+		}
+		int[] pending = selectByIds(new ArrayList<>(pendingIds)).entrySet().stream()
+				.filter(entry -> {
+					Integer birthDay = entry.getValue().birthDay;
+					return birthDay != null && birthDay >= from && birthDay <= to;
+				})
+				.mapToInt(Map.Entry::getKey)
+				.toArray();
+		return concat(ids, pending);
+	}
+
+	/**
+	 * @param lastName last_name
+	 * @return 条件に一致する可能性のあるid（昇順、インデックスを使用できない場合null）
+	 */
+	public int[] findIdsByLastName(String lastName) {
+		if (!prepare()) {
+			return null;
+		}
+		int[] ids;
+		lock.readLock().lock();
+		try {
+			Set<Integer> idSet = lastNameIds.get(lastName);
+			ids = idSet == null ? new int[0] : idSet.stream().mapToInt(Integer::intValue).toArray();
+		} finally {
+			lock.readLock().unlock();
+		}
+		return withPending(ids);
+	}
+
+	/**
+	 * @return インデックスに登録している行数
+	 */
+	public int getIndexedCount() {
+		lock.readLock().lock();
+		try {
+			return indexedRows.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public void onInvalidate(String tableName, Collection<?> keys) {
+		if (!JDBCEntity.TEST.equalsIgnoreCase(tableName)) {
+			return;
+		}
+		boolean inTransaction = TransactionSynchronizationManager.isSynchronizationActive();
+		for (Object key : keys) {
+			if (!(key instanceof Number)) {
+				built = false;
+				continue;
+			}
+			Integer id = ((Number) key).intValue();
+			if (inTransaction) {
+				pendingIds.add(id);
+			} else {
+				//トランザクション終了時（またはトランザクション外）の通知
+				pendingIds.remove(id);
+			}
+			dirtyIds.add(id);
+		}
+	}
+
+	@Override
+	public void onInvalidateAll(String tableName) {
+		if (!JDBCEntity.TEST.equalsIgnoreCase(tableName)) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			pendingAll = true;
+		} else {
+			//キーごとの終了時の通知の代わりに呼ばれる場合があるため、トランザクション中のidもまとめて読み直す
+			pendingAll = false;
+			pendingIds.clear();
+		}
+		built = false;
+	}
+
+	/**
+	 * <pre>
+	 * 検索の前に、読み込んでいなければ全件を読み込み、変更されたidがあれば反映する
+	 * </pre>
+	 * @return インデックスを使用できる場合true
+	 */
+	private boolean prepare() {
+		if (!enabled || pendingAll) {
+			return false;
+		}
+		if (!built || !dirtyIds.isEmpty()) {
+			synchronized (this) {
+				if (!enabled) {
+					return false;
+				}
+				if (!built) {
+					rebuild();
+				} else if (!dirtyIds.isEmpty()) {
+					applyDirty();
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * <pre>
+	 * 全件を前方向のみのカーソルで読み込んで作成し直す
+	 * 読み込み中にテーブル全体が変更された場合は、次の検索の前にもう一度読み込む
+	 * </pre>
+	 */
+	private void rebuild() {
+		built = true;
+		dirtyIds.clear();
+		try {
+			LongBuffer keys = new LongBuffer();
+			Map<String, Set<Integer>> names = new HashMap<>();
+			Map<Integer, IndexedRow> rows = new HashMap<>();
+			jdbcTemp.query(new ForwardOnlyStatementCreator(JDBCEntitySql.SELECT_ALL, fetchSize),
+					new JDBCEntityRowCallbackHandler(row -> {
+						IndexedRow indexed = IndexedRow.of(row);
+						if (indexed.birthDay != null) {
+							keys.add(key(indexed.birthDay, row.getId()));
+						}
+						names.computeIfAbsent(row.getLast_name(), name -> new HashSet<>()).add(row.getId());
+						rows.put(row.getId(), indexed);
+					}));
+			long[] sortedKeys = keys.toArray();
+			Arrays.sort(sortedKeys);
+			replace(sortedKeys, names, rows);
+		} catch (RuntimeException e) {
+			built = false;
+			throw e;
+		}
+	}
+
+	/**
+	 * <pre>
+	 * 変更されたidの行をDBから読み直し、変更前の値をインデックスから外して変更後の値を登録する
+	 * birth_dayの配列は、外すものと登録するものをそれぞれ並べ替えてから1回の走査で作り直す
+	 * </pre>
+	 */
+	private void applyDirty() {
+		List<Integer> ids = new ArrayList<>(dirtyIds);
+		dirtyIds.removeAll(ids);
+		Map<Integer, IndexedRow> current;
+		try {
+			current = selectByIds(ids);
+		} catch (RuntimeException e) {
+			dirtyIds.addAll(ids);
+			throw e;
+		}
+
+		lock.writeLock().lock();
+		try {
+			LongBuffer removeKeys = new LongBuffer();
+			LongBuffer addKeys = new LongBuffer();
+			for (Integer id : ids) {
+				IndexedRow old = indexedRows.remove(id);
+				if (old != null) {
+					if (old.birthDay != null) {
+						removeKeys.add(key(old.birthDay, id));
+					}
+					Set<Integer> idSet = lastNameIds.get(old.lastName);
+					idSet.remove(id);
+					if (idSet.isEmpty()) {
+						lastNameIds.remove(old.lastName);
+					}
+				}
+				IndexedRow data = current.get(id);
+				if (data != null) {
+					indexedRows.put(id, data);
+					if (data.birthDay != null) {
+						addKeys.add(key(data.birthDay, id));
+					}
+					lastNameIds.computeIfAbsent(data.lastName, name -> new HashSet<>()).add(id);
+				}
+			}
+			birthDayKeys = merge(birthDayKeys, removeKeys.toArray(), addKeys.toArray());
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * <pre>
+	 * IN句で取得する（?の数は{@link JDBCEntitySql#paddedInList(List)}で丸める）
+	 * キャッシュを使用せずにDBから取得する
+	 * </pre>
+	 */
+	private Map<Integer, IndexedRow> selectByIds(List<Integer> ids) {
+		Map<Integer, IndexedRow> result = new HashMap<>();
+		for (List<Integer> chunk : JDBCEntitySql.inListChunks(ids)) {
+			List<Integer> paddedIds = JDBCEntitySql.paddedInList(chunk);
+			jdbcTemp.query(JDBCEntitySql.selectByIds(paddedIds.size()),
+					new JDBCEntityRowCallbackHandler(row -> result.put(row.getId(), IndexedRow.of(row))), paddedIds.toArray());
+		}
+		return result;
+	}
+
+	private void replace(long[] keys, Map<String, Set<Integer>> names, Map<Integer, IndexedRow> rows) {
+		lock.writeLock().lock();
+		try {
+			birthDayKeys = keys;
+			lastNameIds = names;
+			indexedRows = rows;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * @return 実行中のトランザクションで変更されたidを加えたもの（昇順・重複なし）
+	 */
+	private int[] withPending(int[] ids) {
+		if (pendingIds.isEmpty()) {
+			Arrays.sort(ids);
+			return ids;
+		}
+		return concat(ids, pendingIds.stream().mapToInt(Integer::intValue).toArray());
+	}
+
+	/**
+	 * @return 2つを合わせたもの（昇順・重複なし）
+	 */
+	private static int[] concat(int[] ids, int[] pending) {
+		int[] all = Arrays.copyOf(ids, ids.length + pending.length);
+		System.arraycopy(pending, 0, all, ids.length, pending.length);
+		return Arrays.stream(all).sorted().distinct().toArray();
+	}
+
+	/**
+	 * @return target以上になる最初の位置
+	 */
+	private int firstIndexNotBelow(long target) {
+		int low = 0;
+		int high = birthDayKeys.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (birthDayKeys[mid] < target) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * @return targetより大きくなる最初の位置
+	 */
+	private int firstIndexAbove(long target) {
+		int low = 0;
+		int high = birthDayKeys.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (birthDayKeys[mid] <= target) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private static long key(int birthDay, int id) {
+		return ((long) birthDay << 32) | (id & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * @param keys 昇順の配列
+	 * @param removes 外すもの（昇順、全てkeysに含まれる）
+	 * @param adds 登録するもの（昇順）
+	 * @return 外して登録した昇順の配列
+	 */
+	private static long[] merge(long[] keys, long[] removes, long[] adds) {
+		Arrays.sort(removes);
+		Arrays.sort(adds);
+		long[] merged = new long[keys.length - removes.length + adds.length];
+		int keyIndex = 0;
+		int removeIndex = 0;
+		int addIndex = 0;
+		int size = 0;
+		while (keyIndex < keys.length || addIndex < adds.length) {
+			if (keyIndex < keys.length && removeIndex < removes.length && keys[keyIndex] == removes[removeIndex]) {
+				keyIndex++;
+				removeIndex++;
+			} else if (addIndex == adds.length || (keyIndex < keys.length && keys[keyIndex] <= adds[addIndex])) {
+				merged[size++] = keys[keyIndex++];
+			} else {
+				merged[size++] = adds[addIndex++];
+			}
+		}
+		return merged;
+	}
+
+	/**
+	 * <pre>
+	 * インデックスに登録している1行分の値
+	 * </pre>
+	 */
+	private static final class IndexedRow {
+
+		/** NULLの場合null */
+		private final Integer birthDay;
+
+		private final String lastName;
+
+		IndexedRow(Integer birthDay, String lastName) {
+			this.birthDay = birthDay;
+			this.lastName = lastName;
+		}
+
+		static IndexedRow of(JDBCEntityRow row) {
+			return new IndexedRow(row.isBirth_dayNull() ? null : row.getBirth_day(), row.getLast_name());
+		}
+	}
+
+	/**
+	 * <pre>
+	 * 伸ばせるlongの配列（Longの配列を作らないため）
+	 * </pre>
+	 */
+	private static final class LongBuffer {
+
+		private long[] values = new long[16];
+
+		private int size;
+
+		void add(long value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		long[] toArray() {
+			return Arrays.copyOf(values, size);
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package com.example.demo.Dao.Index;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.demo.Dao.Cache.EntityCacheManager;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link JDBCEntitySecondaryIndex}の設定
+ * テーブル全体の値をメモリに保持するため、デフォルトは無効
+ * secondary-index.enabled（デフォルトfalse）
+ * secondary-index.fetch-size 全件を読み込む際のフェッチサイズ（デフォルト10000）
+ * </pre>
+ */
+@Configuration
+public class SecondaryIndexConfig {
+
+	@Bean
+	public JDBCEntitySecondaryIndex jdbcEntitySecondaryIndex(JdbcTemplate jdbcTemp, EntityCacheManager cacheManager,
+			@Value("${secondary-index.enabled:false}") boolean enabled,
+			@Value("${secondary-index.fetch-size:10000}") int fetchSize) {
+		JDBCEntitySecondaryIndex index = new JDBCEntitySecondaryIndex(jdbcTemp, enabled, fetchSize);
+		cacheManager.addInvalidationListener(index);
+		return index;
+	}
+}
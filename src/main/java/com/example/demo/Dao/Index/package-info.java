@@ -0,0 +1,6 @@
+/**
+ * @author Takumi
+ * 主キー以外のカラムのインデックスをアプリケーション内に保持するパッケージ
+ *
+ */
+package com.example.demo.Dao.Index;
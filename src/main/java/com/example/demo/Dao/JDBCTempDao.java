@@ -3,20 +3,49 @@ package com.example.demo.Dao;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
+import com.example.demo.Dao.Batch.BulkInsertMode;
+import com.example.demo.Dao.Batch.UpsertOutcome;
+import com.example.demo.Dao.Batch.UpsertResult;
+import com.example.demo.Dao.Binding.JDBCEntityBindingPlan;
+import com.example.demo.Dao.Binding.JDBCEntityColumn;
+import com.example.demo.Dao.Binding.JDBCEntityValues;
+import com.example.demo.Dao.Cache.JDBCEntityCache;
+import com.example.demo.Dao.Index.JDBCEntitySecondaryIndex;
+import com.example.demo.Dao.Query.JDBCEntityFilter;
+import com.example.demo.Dao.Query.JDBCEntityLookupResult;
+import com.example.demo.Dao.Query.JDBCEntityPage;
+import com.example.demo.Dao.Query.PageToken;
+import com.example.demo.Dao.RowMapper.JDBCEntityRowCallbackHandler;
 import com.example.demo.Dao.RowMapper.JDBCEntityRowMapper;
+import com.example.demo.Dao.Statement.ForwardOnlyStatementCreator;
+import com.example.demo.Dao.Statement.JDBCEntitySql;
+import com.example.demo.Dao.Statement.StatementCache;
 import com.example.demo.Entity.JDBCEntity;
+import com.example.demo.Entity.JDBCEntityRow;
 
 import io.micrometer.common.util.StringUtils;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +63,48 @@ public class JDBCTempDao {
 
 	private final JdbcTemplate jdbcTemp;
 
+	/** idでの取得結果のキャッシュ（{@link NamedJDBCDao}と共有） */
+	private final JDBCEntityCache entityCache;
+
+	/** birth_day・last_nameのインデックス（無効な場合はSQLで検索する） */
+	private final JDBCEntitySecondaryIndex secondaryIndex;
+
+	/** updateByIdのUPDATE文のキャッシュ（key:更新するカラムの並び） */
+	private final StatementCache<List<String>> updateStatementCache = new StatementCache<>();
+
+	/** insertのINSERT文のキャッシュ（key:挿入するカラムの並び） */
+	private final StatementCache<List<String>> insertStatementCache = new StatementCache<>();
+
+	/** 型付きupdateByIdのUPDATE文のキャッシュ（key:{@link JDBCEntityValues#getColumnMask()}） */
+	private final StatementCache<Integer> typedUpdateStatementCache = new StatementCache<>();
+
+	/** 型付きinsertのINSERT文のキャッシュ（key:{@link JDBCEntityValues#getColumnMask()}） */
+	private final StatementCache<Integer> typedInsertStatementCache = new StatementCache<>();
+
+	/** 複数のidで取得するSELECT文のキャッシュ（key:IN句の?の数） */
+	private final StatementCache<Integer> selectByIdsStatementCache = new StatementCache<>();
+
+	/** 複数のidで取得してロックするSELECT文のキャッシュ（key:IN句の?の数） */
+	private final StatementCache<Integer> selectByIdsForUpdateStatementCache = new StatementCache<>();
+
+	/** キーセット方式のページングのSELECT文のキャッシュ（key:{@link JDBCEntityFilter#getConditionMask()}） */
+	private final StatementCache<Integer> seekPageStatementCache = new StatementCache<>();
+
+	/** 条件での全件取得のSELECT文のキャッシュ（key:{@link JDBCEntityFilter#getConditionMask()}） */
+	private final StatementCache<Integer> scanStatementCache = new StatementCache<>();
+
+	/** 存在するidを取得するSELECT文のキャッシュ（key:IN句の?の数） */
+	private final StatementCache<Integer> selectIdsByIdsStatementCache = new StatementCache<>();
+
+	/** 複数行INSERT文のキャッシュ（key:行数） */
+	private final StatementCache<Integer> multiRowInsertStatementCache = new StatementCache<>();
+
+	/** 複数のidで削除するDELETE文のキャッシュ（key:IN句の?の数） */
+	private final StatementCache<Integer> deleteByIdsStatementCache = new StatementCache<>();
+
+	/** チャンクごとに削除するidを取得するSELECT文のキャッシュ（key:{@link JDBCEntityFilter#getConditionMask()}） */
+	private final StatementCache<Integer> seekIdsStatementCache = new StatementCache<>();
+
 	/**
 	 * <pre>
 	 * {@link JDBCEntity#TEST TEST}テーブルのデータを全てを
@@ -45,16 +116,7 @@ public class JDBCTempDao {
 	 */
 	public List<Map<String, Object>> findAll() throws DataAccessException {
 		try {
-			List<String> sqlList = new ArrayList<String>();
-
-			sqlList.add("SELECT");
-			sqlList.add("*");
-			sqlList.add("FROM");
-			sqlList.add(JDBCEntity.TEST);
-
-			String sql = String.join(" ", sqlList);
-
-			return jdbcTemp.queryForList(sql);
+			return jdbcTemp.queryForList(JDBCEntitySql.SELECT_ALL);
 		} catch (DataAccessException e) {
 			System.err.println(e.getMessage() + "\r\n"
 					+ e.getStackTrace());
@@ -73,18 +135,7 @@ public class JDBCTempDao {
 	 */
 	public Map<String, Object> findById(int id) throws DataAccessException {
 		try {
-			List<String> sqlList = new ArrayList<String>();
-
-			sqlList.add("SELECT");
-			sqlList.add("*");
-			sqlList.add("FROM");
-			sqlList.add(JDBCEntity.TEST);
-			sqlList.add("WHERE");
-			sqlList.add(JDBCEntity.ID + " = ?");
-
-			String sql = String.join(" ", sqlList);
-
-			return jdbcTemp.queryForMap(sql, id);
+			return entityCache.getRow(id, key -> jdbcTemp.queryForMap(JDBCEntitySql.SELECT_BY_ID, key));
 		} catch (DataAccessException e) {
 			System.err.println(e.getMessage() + "\r\n"
 					+ e.getStackTrace());
@@ -110,18 +161,13 @@ public class JDBCTempDao {
 			otherMap.put(JDBCEntity.ID, idInte.toString());
 			PreparedStatementSetter pss = GetPreparedStatementSetter(updateDataMap, otherMap);
 
-			List<String> sqlList = new ArrayList<String>();
-			
-			sqlList.add("UPDATE");
-			sqlList.add(JDBCEntity.TEST);
-			sqlList.add("SET");
-			sqlList.add(updateSet(updateDataMap));
-			sqlList.add("WHERE");
-			sqlList.add(JDBCEntity.ID + " = ?");
-			
-			String sql = String.join(" ", sqlList);
+			//?の順番はMapの順番と対応させるため、カラムの並び順をkeyにしてキャッシュする
+			String sql = updateStatementCache.get(List.copyOf(updateDataMap.keySet()), JDBCEntitySql::updateById);
 
-			return jdbcTemp.update(sql, pss);
+			int updateCount = jdbcTemp.update(sql, pss);
+			entityCache.invalidate(id);
+			entityCache.invalidateIdIn(updateDataMap);
+			return updateCount;
 		} catch (DataAccessException e) {
 			System.err.println(e.getMessage() + "\r\n"
 					+ e.getStackTrace());
@@ -142,15 +188,69 @@ public class JDBCTempDao {
 		try {
 			PreparedStatementSetter pss = GetPreparedStatementSetter(insertDataMap, null);
 
-			List<String> sqlList = new ArrayList<String>();
-			
-			sqlList.add("INSERT INTO");
-			sqlList.add(JDBCEntity.TEST);
-			sqlList.add(insertSet(insertDataMap));
-			
-			String sql = String.join(" ", sqlList);
+			String sql = insertStatementCache.get(List.copyOf(insertDataMap.keySet()), JDBCEntitySql::insert);
+
+			int insertCount = jdbcTemp.update(sql, pss);
+			entityCache.invalidateIdIn(insertDataMap);
+			return insertCount;
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n"
+					+ e.getStackTrace());
+			throw e;
+		}
+	}
+
+	/**
+	 * <pre>
+	 * 更新したいデータのidをWHERE句に渡すことで、1つのデータを更新する（型付き）
+	 * 値は文字列を経由せずにそのまま?にセットする
+	 * {@link JdbcTemplate#update(String, PreparedStatementSetter)}使用
+	 * </pre>
+	 * @param id 更新したいデータのid（プライマリキー）
+	 * @param values 更新したいデータ
+	 * @return データを更新した件数
+	 * @throws DataAccessException
+	 */
+	public int updateById(int id, JDBCEntityValues values) throws DataAccessException {
+		if (values.isEmpty()) {
+			throw new IllegalArgumentException("更新したいカラムが指定されていません。");
+		}
+		try {
+			String sql = typedUpdateStatementCache.get(values.getColumnMask(),
+					columnMask -> JDBCEntitySql.updateById(JDBCEntityColumn.columnNames(columnMask)));
+
+			int updateCount = jdbcTemp.update(sql, ps -> ps.setInt(values.bind(ps, 1), id));
+			entityCache.invalidate(id);
+			entityCache.invalidateIdIn(values);
+			return updateCount;
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n"
+					+ e.getStackTrace());
+			throw e;
+		}
+	}
+
+	/**
+	 * <pre>
+	 * データのインサートに使用（型付き）
+	 * 値は文字列を経由せずにそのまま?にセットする
+	 * {@link JdbcTemplate#update(String, PreparedStatementSetter)}使用
+	 * </pre>
+	 * @param values インサートしたいデータ
+	 * @return インサートされた数（基本１）
+	 * @throws DataAccessException
+	 */
+	public int insert(JDBCEntityValues values) throws DataAccessException {
+		if (values.isEmpty()) {
+			throw new IllegalArgumentException("挿入したいカラムが指定されていません。");
+		}
+		try {
+			String sql = typedInsertStatementCache.get(values.getColumnMask(),
+					columnMask -> JDBCEntitySql.insert(JDBCEntityColumn.columnNames(columnMask)));
 
-			return jdbcTemp.update(sql, pss);
+			int insertCount = jdbcTemp.update(sql, ps -> values.bind(ps, 1));
+			entityCache.invalidateIdIn(values);
+			return insertCount;
 		} catch (DataAccessException e) {
 			System.err.println(e.getMessage() + "\r\n"
 					+ e.getStackTrace());
@@ -169,16 +269,9 @@ public class JDBCTempDao {
 	 */
 	public int deleteById(int id) throws DataAccessException {
 		try {
-			List<String> sqlList = new ArrayList<String>();
-
-			sqlList.add("DELETE");
-			sqlList.add(JDBCEntity.TEST);
-			sqlList.add("WHERE");
-			sqlList.add(JDBCEntity.ID + " = ?");
-
-			String sql = String.join(" ", sqlList);
-
-			return jdbcTemp.update(sql, id);
+			int deleteCount = jdbcTemp.update(JDBCEntitySql.DELETE_BY_ID, id);
+			entityCache.invalidate(id);
+			return deleteCount;
 		} catch (DataAccessException e) {
 			System.err.println(e.getMessage() + "\r\n"
 					+ e.getStackTrace());
@@ -199,29 +292,11 @@ public class JDBCTempDao {
 	 */
 	public int batchUpdate(List<JDBCEntity> updateList) throws DataAccessException {
 		try {
-			//WHERE句のid = ?の部分に値を入れるためにotherMapを作成する。
-			List<Map<String, String>> otherMapList = new ArrayList<>();
-			for (JDBCEntity updateData : updateList) {
-				Map<String, String> otherMap = new LinkedHashMap<>();
-				var id = Integer.valueOf(updateData.getId());
-				otherMap.put(JDBCEntity.ID, id.toString());
-				otherMapList.add(otherMap);
-			}
-
-			BatchPreparedStatementSetter batchPs = GetBatchPreparedStatementSetter(updateList, otherMapList);
-
-			List<String> sqlList = new ArrayList<String>();
-
-			sqlList.add("UPDATE");
-			sqlList.add(JDBCEntity.TEST);
-			sqlList.add("SET");
-			sqlList.add(batchUpdateSet());
-			sqlList.add("WHERE");
-			sqlList.add(JDBCEntity.ID + " = ?");
-
-			String sql = String.join(" ", sqlList);
+			//WHERE句のid = ?もゲッターから直接セットする
+			BatchPreparedStatementSetter batchPs = JDBCEntityBindingPlan.BATCH_UPDATE.batchSetter(updateList);
 
-			int[] batchUpdate = jdbcTemp.batchUpdate(sql, batchPs);
+			int[] batchUpdate = jdbcTemp.batchUpdate(JDBCEntitySql.BATCH_UPDATE, batchPs);
+			entityCache.invalidate(updateList);
 			int returnCount = 0;
 			for (int count : batchUpdate) {
 				returnCount += count;
@@ -234,6 +309,116 @@ public class JDBCTempDao {
 		}
 	}
 	
+	/**
+	 * <pre>
+	 * データの一括アップデート（変更されたカラムのみ）
+	 * 現在のデータと比べて値が変わったカラムだけを更新する
+	 * 現在のデータはキャッシュを使わず、SELECT ... FOR UPDATEでロックしてDBから取得する
+	 * （比べてから更新するまでの間に他から更新された値が、変わっていないとみなしたカラムに残らないようにするため）
+	 * 取得と更新は1つのトランザクションで行う（トランザクション外で呼んだ場合はこのメソッドで開始し、終了時にコミットする）
+	 * {@link #batchUpdate(List)}のように全カラムとidをSETし直さないため、変わっていないカラムやプライマリキーのインデックスは更新されない
+	 * 変わったカラムの組み合わせごとに1つのUPDATE文にまとめる（{@link #batchUpdateById(Map)}）
+	 * 値が0・空白のフィールドは{@link #batchUpdate(List)}と同じく更新しない
+	 * 存在しないid、変わったカラムがないデータはUPDATE文を送らない
+	 * </pre>
+	 * @param updateList 更新したいデータのリスト（同じidが複数ある場合は後のデータを優先する）
+	 * @return 更新した数
+	 * @throws DataAccessException
+	 */
+	@Transactional
+	public int batchUpdateChanged(List<JDBCEntity> updateList) throws DataAccessException {
+		Map<Integer, JDBCEntity> afterMap = new LinkedHashMap<>();
+		for (JDBCEntity data : updateList) {
+			afterMap.put(data.getId(), data);
+		}
+		Map<Integer, JDBCEntity> current = new HashMap<>();
+		try {
+			for (JDBCEntity data : selectByIds(new ArrayList<>(afterMap.keySet()), true)) {
+				current.put(data.getId(), data);
+			}
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+
+		Map<Integer, JDBCEntityValues> updateMap = new LinkedHashMap<>();
+		for (JDBCEntity data : afterMap.values()) {
+			JDBCEntity before = current.get(data.getId());
+			if (before == null) {
+				continue;
+			}
+			JDBCEntityValues changes = JDBCEntityValues.changes(before, data);
+			if (!changes.isEmpty()) {
+				updateMap.put(data.getId(), changes);
+			}
+		}
+		if (updateMap.isEmpty()) {
+			return 0;
+		}
+		return batchUpdateById(updateMap);
+	}
+
+	/**
+	 * <pre>
+	 * idごとに更新したいカラムだけを一括アップデートする（型付き）
+	 * 更新するカラムの組み合わせ（{@link JDBCEntityValues#getColumnMask()}）ごとにまとめ、
+	 * 組み合わせごとに1つのUPDATE文をJDBCのバッチで送る
+	 * {@link JdbcTemplate#batchUpdate(String, BatchPreparedStatementSetter)}使用
+	 * </pre>
+	 * @param updateMap 更新したいデータ（key:更新したいデータのid）
+	 * @return 更新した数
+	 * @throws DataAccessException
+	 */
+	public int batchUpdateById(Map<Integer, JDBCEntityValues> updateMap) throws DataAccessException {
+		Map<Integer, List<Map.Entry<Integer, JDBCEntityValues>>> groups = new LinkedHashMap<>();
+		for (Map.Entry<Integer, JDBCEntityValues> entry : updateMap.entrySet()) {
+			if (entry.getValue().isEmpty()) {
+				throw new IllegalArgumentException("更新したいカラムが指定されていません。(id:" + entry.getKey() + ")");
+			}
+			groups.computeIfAbsent(entry.getValue().getColumnMask(), key -> new ArrayList<>()).add(entry);
+		}
+		try {
+			int returnCount = 0;
+			for (Map.Entry<Integer, List<Map.Entry<Integer, JDBCEntityValues>>> group : groups.entrySet()) {
+				String sql = typedUpdateStatementCache.get(group.getKey(),
+						columnMask -> JDBCEntitySql.updateById(JDBCEntityColumn.columnNames(columnMask)));
+				List<Map.Entry<Integer, JDBCEntityValues>> rows = group.getValue();
+
+				int[] batchUpdate;
+				try {
+					batchUpdate = jdbcTemp.batchUpdate(sql, new BatchPreparedStatementSetter() {
+						@Override
+						public void setValues(PreparedStatement ps, int i) throws SQLException {
+							Map.Entry<Integer, JDBCEntityValues> row = rows.get(i);
+							ps.setInt(row.getValue().bind(ps, 1), row.getKey());
+						}
+
+						@Override
+						public int getBatchSize() {
+							return rows.size();
+						}
+					});
+				} finally {
+					//組み合わせごとにコミットされる場合があるため、後の組み合わせが失敗しても更新済みのidが古いまま残らないようにする
+					List<Integer> groupIds = new ArrayList<>(rows.size());
+					for (Map.Entry<Integer, JDBCEntityValues> row : rows) {
+						groupIds.add(row.getKey());
+						entityCache.invalidateIdIn(row.getValue());
+					}
+					entityCache.invalidateIds(groupIds);
+				}
+				for (int count : batchUpdate) {
+					returnCount += count;
+				}
+			}
+
+			return returnCount;
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+	}
+
 	/**
 	 * <pre>
 	 * データの一括インサート
@@ -245,17 +430,10 @@ public class JDBCTempDao {
 	 */
 	public int batchInsert(List<JDBCEntity> insertList) throws DataAccessException {
 		try {
-			BatchPreparedStatementSetter batchPs = GetBatchPreparedStatementSetter(insertList, null);
-
-			List<String> sqlList = new ArrayList<String>();
-
-			sqlList.add("INSERT INTO");
-			sqlList.add(JDBCEntity.TEST);
-			sqlList.add(batchInsertSet());
+			BatchPreparedStatementSetter batchPs = JDBCEntityBindingPlan.BATCH_INSERT.batchSetter(insertList);
 
-			String sql = String.join(" ", sqlList);
-
-			int[] batchUpdate = jdbcTemp.batchUpdate(sql, batchPs);
+			int[] batchUpdate = jdbcTemp.batchUpdate(JDBCEntitySql.BATCH_INSERT, batchPs);
+			entityCache.invalidate(insertList);
 			int returnCount = 0;
 			for (int count : batchUpdate) {
 				returnCount += count;
@@ -270,38 +448,112 @@ public class JDBCTempDao {
 
 	/**
 	 * <pre>
-	 * データの一括削除
-	 * {@link JdbcTemplate#batchUpdate(String, BatchPreparedStatementSetter)}使用
+	 * データの一括挿入（チャンク分割）
+	 * 引数のリストをchunkSize件ずつに分けて挿入する
+	 * {@link BulkInsertMode#BATCH}なら1行ずつのINSERT文をチャンクごとにJDBCのバッチで送り、
+	 * {@link BulkInsertMode#MULTI_ROW}ならチャンクごとにINSERT ... VALUES (...), (...), ...の1文で送る
+	 * （chunkSizeの上限は{@link JDBCEntitySql#MAX_MULTI_ROW_INSERT_SIZE}で、最後の端数のチャンクは
+	 * {@link JDBCEntitySql#multiRowInsertSize(int, int)}の行数ずつの文に分けて送る）
+	 * トランザクション内で呼んだ場合はそのトランザクションに含まれ、
+	 * トランザクション外で呼んだ場合はチャンクごと（複数行INSERT文ごと）にコミットされる
 	 * </pre>
-	 * @param deleteList
-	 * @return
+	 * @param insertList 挿入したいデータのリスト
+	 * @param chunkSize 1チャンクの行数
+	 * @param mode 挿入方式
+	 * @return 挿入数
 	 * @throws DataAccessException
 	 */
-	public int batchDelete(List<JDBCEntity> deleteList) throws DataAccessException {
+	public int batchInsert(List<JDBCEntity> insertList, int chunkSize, BulkInsertMode mode) throws DataAccessException {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunkSizeは1以上を指定してください。");
+		}
 		try {
-			List<Map<String, String>> whereMapList = new ArrayList<>();
-			Map<String, Integer> sortMap = new LinkedHashMap<String, Integer>();
-			sortMap.put(JDBCEntity.ID, 1);
-			for (JDBCEntity updateData : deleteList) {
-				Map<String, String> otherMap = new LinkedHashMap<>();
-				var id = Integer.valueOf(updateData.getId());
-				otherMap.put(JDBCEntity.ID, id.toString());
-				whereMapList.add(otherMap);
+			int returnCount = 0;
+			if (mode == BulkInsertMode.MULTI_ROW) {
+				//SQL文の種類（キャッシュのkey）とパラメータ数が増えすぎないよう、行数を制限する
+				int rowCount = Math.min(chunkSize, JDBCEntitySql.MAX_MULTI_ROW_INSERT_SIZE);
+				for (int from = 0; from < insertList.size();) {
+					int size = JDBCEntitySql.multiRowInsertSize(insertList.size() - from, rowCount);
+					returnCount += multiRowInsert(insertList.subList(from, from + size));
+					from += size;
+				}
+			} else {
+				for (int from = 0; from < insertList.size(); from += chunkSize) {
+					returnCount += batchInsert(insertList.subList(from, Math.min(from + chunkSize, insertList.size())));
+				}
 			}
 
-			BatchPreparedStatementSetter batchPs = GetBatchPreparedStatementSetter_forDelete(whereMapList, sortMap);
+			return returnCount;
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+	}
 
-			List<String> sqlList = new ArrayList<String>();
-			sqlList.add("DELETE");
-			sqlList.add(JDBCEntity.TEST);
-			sqlList.add("WHERE");
-			sqlList.add(JDBCEntity.ID + " = ?");
-			String sql = String.join(" ", sqlList);
+	/**
+	 * <pre>
+	 * CSVファイルからの一括挿入
+	 * H2のCSVREADを使用してDB側でファイルを読み込み、INSERT ... SELECTの1文で挿入する
+	 * （アプリケーション側で行を組み立てないため最も速いが、DBから読めるファイルである必要がある）
+	 * CSVの1行目はカラム名にすること
+	 * {@link JdbcTemplate#update(String)}使用
+	 * </pre>
+	 * @param csvFilePath CSVファイルのパス（DBのサーバから見たパス）
+	 * @return 挿入数
+	 * @throws DataAccessException
+	 */
+	public int insertFromCsv(String csvFilePath) throws DataAccessException {
+		try {
+			int insertCount = jdbcTemp.update(JDBCEntitySql.insertFromCsvRead(csvFilePath));
+			entityCache.invalidateAll();
+			return insertCount;
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+	}
 
-			int[] batchUpdate = jdbcTemp.batchUpdate(sql, batchPs);
+	/**
+	 * <pre>
+	 * データの一括削除
+	 * idを{@link JDBCEntitySql#MAX_IN_LIST_SIZE}件ずつのIN句にまとめて削除する（{@link #deleteByIds(Collection)}）
+	 * </pre>
+	 * @param deleteList 削除したいデータのリスト（セットする値はidのみでOK）
+	 * @return 削除数
+	 * @throws DataAccessException
+	 */
+	public int batchDelete(List<JDBCEntity> deleteList) throws DataAccessException {
+		List<Integer> ids = new ArrayList<>(deleteList.size());
+		for (JDBCEntity data : deleteList) {
+			ids.add(data.getId());
+		}
+		return deleteByIds(ids);
+	}
+
+	/**
+	 * <pre>
+	 * 複数のidのデータをまとめて削除する
+	 * idは{@link JDBCEntitySql#MAX_IN_LIST_SIZE}件ずつのIN句に分けて削除する
+	 * {@link JdbcTemplate#update(String, Object...)}使用
+	 * </pre>
+	 * @param ids 削除したいデータのid（重複は除く）
+	 * @return 削除数
+	 * @throws DataAccessException
+	 */
+	public int deleteByIds(Collection<Integer> ids) throws DataAccessException {
+		List<Integer> idList = new ArrayList<>(new LinkedHashSet<>(ids));
+		try {
 			int returnCount = 0;
-			for (int count : batchUpdate) {
-				returnCount += count;
+			for (List<Integer> chunk : JDBCEntitySql.inListChunks(idList)) {
+				List<Integer> paddedIds = JDBCEntitySql.paddedInList(chunk);
+				String sql = deleteByIdsStatementCache.get(paddedIds.size(), JDBCEntitySql::deleteByIds);
+
+				try {
+					returnCount += jdbcTemp.update(sql, paddedIds.toArray());
+				} finally {
+					//チャンクごとにコミットされる場合があるため、後のチャンクが失敗しても削除済みのidが残らないようにする
+					entityCache.invalidateIds(chunk);
+				}
 			}
 
 			return returnCount;
@@ -311,6 +563,107 @@ public class JDBCTempDao {
 		}
 	}
 
+	/**
+	 * <pre>
+	 * idが範囲内のデータを、id順にchunkSize件ずつ削除する
+	 * </pre>
+	 * @param fromId idの下限（含む）
+	 * @param toId idの上限（含む）
+	 * @param chunkSize 1度に削除する行数
+	 * @return 削除数
+	 * @throws DataAccessException
+	 * @see #deleteByFilter(JDBCEntityFilter, int)
+	 */
+	public int deleteByIdRange(int fromId, int toId, int chunkSize) throws DataAccessException {
+		return deleteInChunks(fromId, toId, JDBCEntityFilter.create(), chunkSize);
+	}
+
+	/**
+	 * <pre>
+	 * 条件に一致するデータを、id順にchunkSize件ずつ削除する
+	 * チャンクごとに、削除するidをキーセット方式で取得してからIN句で削除するため、
+	 * 1つのDELETE文がロックする行はchunkSize件まで
+	 * トランザクション内で呼んだ場合はそのトランザクションに含まれ、
+	 * トランザクション外で呼んだ場合はチャンクごとにコミットされる
+	 * </pre>
+	 * @param filter 削除条件（条件なしの場合はnull＝全件）
+	 * @param chunkSize 1度に削除する行数
+	 * @return 削除数
+	 * @throws DataAccessException
+	 */
+	public int deleteByFilter(JDBCEntityFilter filter, int chunkSize) throws DataAccessException {
+		return deleteInChunks(Integer.MIN_VALUE, Integer.MAX_VALUE,
+				filter == null ? JDBCEntityFilter.create() : filter, chunkSize);
+	}
+
+	/**
+	 * <pre>
+	 * データの一括アップサート（存在するidは更新、存在しないidは挿入）
+	 * {@link BulkInsertMode#DEFAULT_CHUNK_SIZE}件ずつのチャンクに分けて実行する
+	 * </pre>
+	 * @param upsertList 挿入・更新したいデータのリスト
+	 * @return 1行ごとに挿入・更新のどちらだったか
+	 * @throws DataAccessException
+	 */
+	public UpsertResult batchUpsert(List<JDBCEntity> upsertList) throws DataAccessException {
+		return batchUpsert(upsertList, BulkInsertMode.DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * <pre>
+	 * データの一括アップサート（存在するidは更新、存在しないidは挿入）
+	 * H2のMERGE INTO ... KEY(id)をchunkSize件ずつJDBCのバッチで送る
+	 * MERGEの更新件数からは挿入・更新を区別できないため、チャンクごとに1回だけ存在するidを取得して判定する
+	 * 同じidが複数ある場合は、2件目以降を更新とする
+	 * {@link JdbcTemplate#batchUpdate(String, BatchPreparedStatementSetter)}使用
+	 * </pre>
+	 * @param upsertList 挿入・更新したいデータのリスト
+	 * @param chunkSize 1チャンクの行数
+	 * @return 1行ごとに挿入・更新のどちらだったか
+	 * @throws DataAccessException
+	 */
+	public UpsertResult batchUpsert(List<JDBCEntity> upsertList, int chunkSize) throws DataAccessException {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunkSizeは1以上を指定してください。");
+		}
+		try {
+			UpsertOutcome[] outcomes = new UpsertOutcome[upsertList.size()];
+			Set<Integer> seenIds = new HashSet<>();
+			for (int from = 0; from < upsertList.size(); from += chunkSize) {
+				List<JDBCEntity> chunk = upsertList.subList(from, Math.min(from + chunkSize, upsertList.size()));
+
+				//このチャンクで初めて出てきたidのうち、既に存在するもの
+				Set<Integer> newIds = new LinkedHashSet<>();
+				for (JDBCEntity data : chunk) {
+					if (!seenIds.contains(data.getId())) {
+						newIds.add(data.getId());
+					}
+				}
+				Set<Integer> existingIds = selectExistingIds(new ArrayList<>(newIds));
+
+				for (int i = 0; i < chunk.size(); i++) {
+					int id = chunk.get(i).getId();
+					boolean firstTime = seenIds.add(id);
+					outcomes[from + i] = existingIds.contains(id) || !firstTime
+							? UpsertOutcome.UPDATED
+							: UpsertOutcome.INSERTED;
+				}
+
+				try {
+					jdbcTemp.batchUpdate(JDBCEntitySql.BATCH_UPSERT, JDBCEntityBindingPlan.BATCH_UPSERT.batchSetter(chunk));
+				} finally {
+					//チャンクごと（自動コミットの場合は行ごと）にコミットされる場合があるため、途中で失敗しても更新済みのidが古いまま残らないようにする
+					entityCache.invalidate(chunk);
+				}
+			}
+
+			return new UpsertResult(Arrays.asList(outcomes));
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+	}
+
 	/**
 	 * <pre>
 	 * テーブルのすべてのデータを取得する
@@ -324,16 +677,221 @@ public class JDBCTempDao {
 	 */
 	public List<JDBCEntity> getAllJDBCEntity() throws DataAccessException {
 		try {
-			List<String> sqlList = new ArrayList<String>();
+			return jdbcTemp.query(JDBCEntitySql.SELECT_ALL, new JDBCEntityRowMapper());
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+	}
 
-			sqlList.add("SELECT");
-			sqlList.add("*");
-			sqlList.add("FROM");
-			sqlList.add(JDBCEntity.TEST);
+	/**
+	 * <pre>
+	 * テーブルのすべてのデータを1行ずつコールバックに渡す
+	 * 渡される{@link JDBCEntityRow}は全行で同じインスタンスを使い回すため、
+	 * 行を保持したい場合は{@link JDBCEntityRow#toEntity()}でコピーすること
+	 * フェッチサイズは{@link ForwardOnlyStatementCreator#DEFAULT_FETCH_SIZE}
+	 * </pre>
+	 * @param rowConsumer 1行ごとに呼ばれるコールバック
+	 * @throws DataAccessException
+	 */
+	public void forEachJDBCEntityRow(Consumer<? super JDBCEntityRow> rowConsumer) throws DataAccessException {
+		forEachJDBCEntityRow(ForwardOnlyStatementCreator.DEFAULT_FETCH_SIZE, rowConsumer);
+	}
 
-			String sql = String.join(" ", sqlList);
+	/**
+	 * <pre>
+	 * テーブルのすべてのデータを前方向のみのカーソルで1行ずつコールバックに渡す
+	 * 全件をリストに詰めないため、テーブルの件数が増えてもメモリ使用量は変わらない
+	 * {@link JdbcTemplate#query(org.springframework.jdbc.core.PreparedStatementCreator, org.springframework.jdbc.core.RowCallbackHandler)}使用
+	 * </pre>
+	 * @param fetchSize 1度にドライバーが取得する行数
+	 * @param rowConsumer 1行ごとに呼ばれるコールバック（{@link JDBCEntityRow}は使い回し）
+	 * @throws DataAccessException
+	 */
+	public void forEachJDBCEntityRow(int fetchSize, Consumer<? super JDBCEntityRow> rowConsumer) throws DataAccessException {
+		try {
+			jdbcTemp.query(new ForwardOnlyStatementCreator(JDBCEntitySql.SELECT_ALL, fetchSize),
+					new JDBCEntityRowCallbackHandler(rowConsumer));
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+	}
+
+	/**
+	 * <pre>
+	 * テーブルのすべてのデータを前方向のみのカーソルで1行ずつコールバックに渡す
+	 * {@link #forEachJDBCEntityRow(int, Consumer)}と違い、行ごとに{@link JDBCEntity}を作成して渡す
+	 * </pre>
+	 * @param fetchSize 1度にドライバーが取得する行数
+	 * @param entityConsumer 1行ごとに呼ばれるコールバック
+	 * @throws DataAccessException
+	 */
+	public void forEachJDBCEntity(int fetchSize, Consumer<? super JDBCEntity> entityConsumer) throws DataAccessException {
+		forEachJDBCEntityRow(fetchSize, row -> entityConsumer.accept(row.toEntity()));
+	}
 
-			return jdbcTemp.query(sql, new JDBCEntityRowMapper());
+	/**
+	 * <pre>
+	 * テーブルのすべてのデータを{@code Stream<JDBCEntity>}で取得する
+	 * フェッチサイズは{@link ForwardOnlyStatementCreator#DEFAULT_FETCH_SIZE}
+	 * </pre>
+	 * @return テーブル内の全データのストリーム（必ずcloseすること）
+	 * @throws DataAccessException
+	 * @see #streamAllJDBCEntity(int)
+	 */
+	public Stream<JDBCEntity> streamAllJDBCEntity() throws DataAccessException {
+		return streamAllJDBCEntity(ForwardOnlyStatementCreator.DEFAULT_FETCH_SIZE);
+	}
+
+	/**
+	 * <pre>
+	 * テーブルのすべてのデータを前方向のみのカーソルで読み進める{@code Stream<JDBCEntity>}で取得する
+	 * 行は読み進めた分だけ取得されるため、全件をメモリに載せない
+	 * 接続やカーソルは{@link Stream#close()}で解放されるため、try-with-resourcesで使用すること
+	 * {@link JdbcTemplate#queryForStream(org.springframework.jdbc.core.PreparedStatementCreator, org.springframework.jdbc.core.RowMapper)}使用
+	 * </pre>
+	 * @param fetchSize 1度にドライバーが取得する行数
+	 * @return テーブル内の全データのストリーム（必ずcloseすること）
+	 * @throws DataAccessException
+	 */
+	public Stream<JDBCEntity> streamAllJDBCEntity(int fetchSize) throws DataAccessException {
+		try {
+			return jdbcTemp.queryForStream(new ForwardOnlyStatementCreator(JDBCEntitySql.SELECT_ALL, fetchSize),
+					new JDBCEntityRowMapper());
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+	}
+
+	/**
+	 * <pre>
+	 * {@link #findAll()}のストリーム版
+	 * key:カラム名 value:その値 の{@code Map<String, Object>}を1行ずつ読み進める
+	 * 接続やカーソルは{@link Stream#close()}で解放されるため、try-with-resourcesで使用すること
+	 * </pre>
+	 * @param fetchSize 1度にドライバーが取得する行数
+	 * @return テーブル内の全データのストリーム（必ずcloseすること）
+	 * @throws DataAccessException
+	 */
+	public Stream<Map<String, Object>> streamAll(int fetchSize) throws DataAccessException {
+		try {
+			return jdbcTemp.queryForStream(new ForwardOnlyStatementCreator(JDBCEntitySql.SELECT_ALL, fetchSize),
+					new ColumnMapRowMapper());
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+	}
+
+	/**
+	 * <pre>
+	 * 任意のテーブル（{@link #executeCreate(String, Map, List)}で作成したテーブルなど）の全件を
+	 * 前方向のみのカーソルで読み進め、{@link ResultSetExtractor}に渡す
+	 * 行は読み進めた分だけ取得されるため、全件をメモリに載せない（ファイルへの書き出しなどで使用）
+	 * {@link JdbcTemplate#query(org.springframework.jdbc.core.PreparedStatementCreator, ResultSetExtractor)}使用
+	 * </pre>
+	 * @param <T> 結果の型
+	 * @param tableName テーブル名（英数字と_のみ）
+	 * @param fetchSize 1度にドライバーが取得する行数
+	 * @param extractor 結果セットを読み進める処理
+	 * @return extractorの結果
+	 * @throws DataAccessException
+	 */
+	public <T> T queryTable(String tableName, int fetchSize, ResultSetExtractor<T> extractor) throws DataAccessException {
+		try {
+			return jdbcTemp.query(new ForwardOnlyStatementCreator(JDBCEntitySql.selectAll(tableName), fetchSize),
+					extractor);
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+	}
+
+	/**
+	 * <pre>
+	 * 条件に一致するデータを前方向のみのカーソルでid順に読み進める{@code Stream<JDBCEntity>}で取得する
+	 * 行は読み進めた分だけ取得されるため、全件をメモリに載せない
+	 * 接続やカーソルは{@link Stream#close()}で解放されるため、try-with-resourcesで使用すること
+	 * {@link JdbcTemplate#queryForStream(org.springframework.jdbc.core.PreparedStatementCreator, org.springframework.jdbc.core.RowMapper)}使用
+	 * </pre>
+	 * @param filter 検索条件（条件なしの場合はnull）
+	 * @param fetchSize 1度にドライバーが取得する行数
+	 * @return 条件に一致するデータのストリーム（必ずcloseすること）
+	 * @throws DataAccessException
+	 */
+	public Stream<JDBCEntity> streamJDBCEntities(JDBCEntityFilter filter, int fetchSize) throws DataAccessException {
+		JDBCEntityFilter condition = filter == null ? JDBCEntityFilter.create() : filter;
+		try {
+			String sql = scanStatementCache.get(condition.getConditionMask(), JDBCEntitySql::selectByFilter);
+			return jdbcTemp.queryForStream(
+					new ForwardOnlyStatementCreator(sql, fetchSize, condition.getConditionValues()),
+					new JDBCEntityRowMapper());
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+	}
+
+	/**
+	 * <pre>
+	 * birth_dayが範囲内のデータをid順に取得する
+	 * {@link JDBCEntitySecondaryIndex}が有効な場合は、インデックスで絞り込んだidをキャッシュ経由で取得する
+	 * 無効な場合は{@link #streamJDBCEntities(JDBCEntityFilter, int)}と同じSELECT文で取得する
+	 * </pre>
+	 * @param from birth_dayの下限（含む）
+	 * @param to birth_dayの上限（含む）
+	 * @return 条件に一致するデータ（id順）
+	 * @throws DataAccessException
+	 */
+	public List<JDBCEntity> getJDBCEntitiesByBirthDay(int from, int to) throws DataAccessException {
+		return findByIndex(JDBCEntityFilter.create().birthDayBetween(from, to),
+				() -> secondaryIndex.findIdsByBirthDay(from, to));
+	}
+
+	/**
+	 * <pre>
+	 * last_nameが一致するデータをid順に取得する
+	 * {@link JDBCEntitySecondaryIndex}が有効な場合は、インデックスで絞り込んだidをキャッシュ経由で取得する
+	 * 無効な場合は{@link #streamJDBCEntities(JDBCEntityFilter, int)}と同じSELECT文で取得する
+	 * </pre>
+	 * @param lastName 取得したいデータのlast_name
+	 * @return 条件に一致するデータ（id順）
+	 * @throws DataAccessException
+	 */
+	public List<JDBCEntity> getJDBCEntitiesByLastName(String lastName) throws DataAccessException {
+		return findByIndex(JDBCEntityFilter.create().lastName(lastName),
+				() -> secondaryIndex.findIdsByLastName(lastName));
+	}
+
+	/**
+	 * <pre>
+	 * インデックスの候補のidを取得し、条件を満たす行だけを返す
+	 * （トランザクション中に変更された行は候補に含まれるため、取得した値で条件を確認し直す）
+	 * </pre>
+	 */
+	private List<JDBCEntity> findByIndex(JDBCEntityFilter filter, Supplier<int[]> candidates)
+			throws DataAccessException {
+		try {
+			int[] ids = candidates.get();
+			if (ids == null) {
+				String sql = scanStatementCache.get(filter.getConditionMask(), JDBCEntitySql::selectByFilter);
+				return jdbcTemp.query(sql, new JDBCEntityRowMapper(), filter.getConditionValues());
+			}
+			List<JDBCEntity> result = new ArrayList<>();
+			if (ids.length == 0) {
+				return result;
+			}
+			List<Integer> idList = Arrays.stream(ids).boxed().toList();
+			Map<Integer, JDBCEntity> found = getJDBCEntitiesByIds(idList).getFound();
+			for (int id : ids) {
+				JDBCEntity data = found.get(id);
+				if (data != null && filter.matches(data)) {
+					result.add(data);
+				}
+			}
+			return result;
 		} catch (DataAccessException e) {
 			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
 			throw e;
@@ -352,19 +910,89 @@ public class JDBCTempDao {
 	 */
 	public JDBCEntity getJDBCEntityById(int id) throws DataAccessException {
 		try {
-			List<String> sqlList = new ArrayList<String>();
+			return entityCache.getEntity(id, key -> {
+				List<JDBCEntity> data = jdbcTemp.query(JDBCEntitySql.SELECT_BY_ID, new JDBCEntityRowMapper(), key);
+				return data.get(0);
+			});
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+	}
+
+	/**
+	 * <pre>
+	 * 複数のidのデータをまとめて取得する
+	 * idは{@link JDBCEntitySql#MAX_IN_LIST_SIZE}件ずつのIN句に分けて取得し、
+	 * キャッシュにあるidはDBから取得しない
+	 * {@link JdbcTemplate#query(String, org.springframework.jdbc.core.RowMapper, Object...)}使用
+	 * </pre>
+	 * @param ids 取得したいデータのid（重複は除く）
+	 * @return 取得できたデータ（key:id）と存在しなかったid
+	 * @throws DataAccessException
+	 */
+	public JDBCEntityLookupResult getJDBCEntitiesByIds(Collection<Integer> ids) throws DataAccessException {
+		try {
+			Map<Integer, JDBCEntity> loaded = entityCache.getEntities(ids, this::selectByIds);
+			return JDBCEntityLookupResult.of(ids, loaded);
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+	}
 
-			sqlList.add("SELECT");
-			sqlList.add("*");
-			sqlList.add("FROM");
-			sqlList.add(JDBCEntity.TEST);
-			sqlList.add("WHERE");
-			sqlList.add(JDBCEntity.ID + " = ?");
+	/**
+	 * <pre>
+	 * キーセット方式のページングでid順にpageSize件ずつ取得する
+	 * 前のページの最後のidより大きいidをWHERE句で指定するため、OFFSETと違い後ろのページでも遅くならない
+	 * 1ページ目はpageTokenにnullを渡し、2ページ目以降は前のページの{@link JDBCEntityPage#getNextToken()}を渡す
+	 * </pre>
+	 * @param pageToken 前のページのトークン（1ページ目はnull）
+	 * @param pageSize 1ページの件数
+	 * @param filter 検索条件（条件なしの場合はnull）
+	 * @return 1ページ分のデータと次のページのトークン
+	 * @throws DataAccessException
+	 */
+	public JDBCEntityPage findPage(String pageToken, int pageSize, JDBCEntityFilter filter) throws DataAccessException {
+		JDBCEntityFilter condition = filter == null ? JDBCEntityFilter.create() : filter;
+		int afterId = pageToken == null ? Integer.MIN_VALUE : PageToken.decode(pageToken, condition);
+		return findPageAfter(afterId, pageSize, condition);
+	}
 
-			String sql = String.join(" ", sqlList);
+	/**
+	 * <pre>
+	 * キーセット方式のページングで、指定したidより後ろのデータをid順にpageSize件取得する
+	 * {@link JdbcTemplate#query(String, PreparedStatementSetter, org.springframework.jdbc.core.RowMapper)}使用
+	 * </pre>
+	 * @param afterId このidより大きいidのデータを取得する
+	 * @param pageSize 1ページの件数
+	 * @param filter 検索条件（条件なしの場合はnull）
+	 * @return 1ページ分のデータと次のページのトークン
+	 * @throws DataAccessException
+	 */
+	public JDBCEntityPage findPageAfter(int afterId, int pageSize, JDBCEntityFilter filter) throws DataAccessException {
+		JDBCEntityPage.checkPageSize(pageSize);
+		JDBCEntityFilter condition = filter == null ? JDBCEntityFilter.create() : filter;
+		try {
+			String sql = seekPageStatementCache.get(condition.getConditionMask(), JDBCEntitySql::seekPage);
+
+			//次のページがあるか判定するために1件多く取得する
+			List<JDBCEntity> rows = jdbcTemp.query(sql, ps -> {
+				int index = 1;
+				ps.setInt(index++, afterId);
+				if (condition.getBirthDayFrom() != null) {
+					ps.setInt(index++, condition.getBirthDayFrom());
+				}
+				if (condition.getBirthDayTo() != null) {
+					ps.setInt(index++, condition.getBirthDayTo());
+				}
+				if (condition.getLastName() != null) {
+					ps.setString(index++, condition.getLastName());
+				}
+				ps.setInt(index, pageSize + 1);
+			}, new JDBCEntityRowMapper());
 
-			List<JDBCEntity> data = jdbcTemp.query(sql, new JDBCEntityRowMapper(), id);
-			return data.get(0);
+			return JDBCEntityPage.of(rows, pageSize, condition);
 		} catch (DataAccessException e) {
 			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
 			throw e;
@@ -430,129 +1058,15 @@ public class JDBCTempDao {
 			sqlList.add(tableName);
 			
 			jdbcTemp.execute(String.join(" ", sqlList));
+			if (JDBCEntity.TEST.equalsIgnoreCase(tableName.strip())) {
+				entityCache.invalidateAll();
+			}
 		} catch (DataAccessException e) {
 			System.err.println(e.getMessage() + "r\n" + e.getStackTrace());
 			throw e;
 		}
 	}
 
-	/**
-	 * <pre>
-	 * カラム名 = ? の形を作る
-	 * </pre>
-	 * @param map key:カラム名 value:その値
-	 * @return カラム名 = ? が詰められたリスト
-	 */
-	private List<String> joinEqual(Map<String, String> map) {
-		List<String> list = new ArrayList<String>();
-
-		for (var entry : map.entrySet()) {
-			list.add(entry.getKey() + " = ?");
-		}
-
-		return list;
-	}
-
-	/**
-	 * <pre>
-	 * リストにつめた文字列をカンマでつなぐ
-	 * アップデートなどで使用
-	 * </pre>
-	 * @param list カラム名 = ? が詰められたリスト
-	 * @return カラム名 = ?, カラム名 = ?, ....
-	 */
-	private String joinComma(List<String> list) {
-		return String.join(", ", list);
-	}
-
-	/**
-	 * <pre>
-	 * UPDATEのSET句を作成する
-	 * </pre>
-	 * @param map
-	 * @return
-	 */
-	private String updateSet(Map<String, String> map) {
-		return joinComma(joinEqual(map));
-	}
-	
-	/**
-	 * <pre>
-	 * () VALUES ()
-	 * の部分を作成する
-	 * </pre>
-	 * @param column_valueMap key:カラム名 value:インサートしたい値
-	 * @return () VALUES ()
-	 */
-	private String insertSet(Map<String, String> column_valueMap) {
-		//挿入する場所を確実に指定するためにあえて配列にする
-		String[] columnArray = new String[column_valueMap.size()];
-		String[] valueArray = new String[column_valueMap.size()];
-		
-		//マップの数分ループし、keyのみの配列と、マップの数分の?のみの配列を作成する
-		int index = 0;
-		for(var column_value : column_valueMap.entrySet()) {
-			columnArray[index] = column_value.getKey();
-			valueArray[index] = "?";
-			index++;
-		}
-		
-		List<String> insertSqlList = new ArrayList<>();
-		
-		insertSqlList.add("(");
-		insertSqlList.add(String.join(", ", columnArray)); //作成した配列を, で繋ぐ
-		insertSqlList.add(") VALUES (");
-		insertSqlList.add(String.join(", ", valueArray)); //作成した配列を, で繋ぐ
-		insertSqlList.add(")");
-		
-		return String.join(" ", insertSqlList);
-	}
-
-	/**
-	 * <pre>
-	 * updateのset句を作成する
-	 * 主にバッチ処理で使用
-	 * </pre>
-	 * @return カラム名 = ?, カラム名 = ?, ........
-	 */
-	private String batchUpdateSet() {
-		List<String> batchUpdateSetList = new ArrayList<>();
-
-		for (String columnName : JDBCEntity.GetSetQueryList_forBatchUpdate()) {
-			batchUpdateSetList.add(columnName + " = ?");
-		}
-
-		return String.join(", ", batchUpdateSetList);
-	}
-	
-	/**
-	 * <pre>
-	 * インサートようのクエリを作成
-	 * バッチ処理で使用
-	 * </pre>
-	 * @return (....) VALUES (.....)
-	 */
-	private String batchInsertSet() {
-		List<String> batchInsertColumnSetList = new ArrayList<>();
-		List<String> batchInsertValueSetList = new ArrayList<>();
-
-		for (String columnName : JDBCEntity.GetSetQueryList_forBatchUpdate()) {
-			batchInsertColumnSetList.add(columnName);
-			batchInsertValueSetList.add("?");
-		}
-		
-		List<String> sql = new ArrayList<>();
-		sql.add("(");
-		sql.add(String.join(", ", batchInsertColumnSetList));
-		sql.add(") VALUES (");
-		sql.add(String.join(", ", batchInsertValueSetList));
-		sql.add(")");
-
-		return String.join(" ", sql);
-	}
-
-
-
 	/**
 	 * <pre>
 	 * ?の何番目になんの値を入れるかをセットする
@@ -585,51 +1099,6 @@ public class JDBCTempDao {
 		}
 	}
 
-	/**
-	 * <pre>
-	 * 何番目の?になんの値をセットする指定するメソッド
-	 * batch系で使用
-	 * </pre>
-	 * @param ps
-	 * @param data インサートしたいデータ
-	 * @param column_sortNoMap key:カラム名 value:?の何番目にそのデータを入れるか
-	 */
-	private void SetPreparedStatement_forBatchUpdate(PreparedStatement ps, JDBCEntity data,
-			Map<String, Integer> column_sortNoMap) {
-		try {
-			for (String columnName : JDBCEntity.GetSetQueryList_forBatchUpdate()) {
-				if (columnName.equals(JDBCEntity.ID)) {
-					if (data.getId() != 0) {
-						ps.setInt(column_sortNoMap.get(JDBCEntity.ID), data.getId());
-					}
-					continue;
-				}
-				if (columnName.equals(JDBCEntity.BIRTHDAY)) {
-					if (data.getBirth_day() != 0) {
-						ps.setInt(column_sortNoMap.get(JDBCEntity.BIRTHDAY), data.getBirth_day());
-					}
-					continue;
-				}
-				if (columnName.equals(JDBCEntity.FIRST_NAME)) {
-					if (StringUtils.isNotBlank(data.getFirst_name())) {
-						ps.setString(column_sortNoMap.get(JDBCEntity.FIRST_NAME), data.getFirst_name());
-					}
-					continue;
-				}
-				if (columnName.equals(JDBCEntity.LAST_NAME)) {
-					if (StringUtils.isNotBlank(data.getLast_name())) {
-						ps.setString(column_sortNoMap.get(JDBCEntity.LAST_NAME), data.getLast_name());
-					}
-					continue;
-				}
-			}
-		} catch (NumberFormatException e) {
-			System.out.println(e.getMessage() + "\r\n" + e.getStackTrace());
-		} catch (SQLException e) {
-			System.out.println(e.getMessage() + "\r\n" + e.getStackTrace());
-		}
-	}
-
 	/**
 	 * <pre>
 	 * 追加で?に値をセットする際に使用（where句の値のセットなど）
@@ -711,25 +1180,6 @@ public class JDBCTempDao {
 		return returnMap;
 	}
 
-	/**
-	 * <pre>
-	 * カラム名と?との対応づけを確実にするために、奈良み順を指定しているメソッドを使用して
-	 * key:カラム名 value:何番目の?に値を入れるか
-	 * の{@code Map}を作成する
-	 * 並び順は{@link JDBCEntity#GetSetQueryList_forBatchUpdate()}で取得
-	 * </pre>
-	 * @return
-	 */
-	private Map<String, Integer> GetColumn_sortNoMap_forBatchUpdate() {
-		Map<String, Integer> returnMap = new LinkedHashMap<>();
-		Integer index = 1;
-		for (String columnName : JDBCEntity.GetSetQueryList_forBatchUpdate()) {
-			returnMap.put(columnName, index);
-			index++;
-		}
-		return returnMap;
-	}
-
 	/**
 	 * <pre>
 	 * SQLインジェクション対策
@@ -757,61 +1207,113 @@ public class JDBCTempDao {
 
 	/**
 	 * <pre>
-	 * バッチアップデートなどで使用
-	 * 引数に渡されたデータが入ったリストを元に、?の何番目に何を入れるかをセットする
+	 * 複数行INSERT文でチャンク1つ分を挿入する
+	 * ?には{@link JDBCEntity#GetSetQueryList_forBatchUpdate()}の順番で値をセットする
 	 * </pre>
-	 * @param updateList
-	 * @param otherList where句などに使う値を格納する
-	 * @return
+	 * @param chunk 挿入したいデータ
+	 * @return 挿入数
 	 */
-	private BatchPreparedStatementSetter GetBatchPreparedStatementSetter(List<JDBCEntity> updateList,
-			List<Map<String, String>> otherMapList) {
-		return new BatchPreparedStatementSetter() {
-			@Override
-			public void setValues(PreparedStatement ps, int i) throws SQLException {
-				Map<String, Integer> sortMap = GetColumn_sortNoMap_forBatchUpdate();
-				SetPreparedStatement_forBatchUpdate(ps, updateList.get(i), sortMap);
-				if (otherMapList != null) {
-					if (otherMapList.size() != 0) {
-						if (otherMapList.size() == updateList.size()) {
-							setPreparedStatementOther(ps, otherMapList.get(i), sortMap.size());
-						} else {
-							throw new SQLException("otherMapListが正しく設定されていません。");
-						}
-					}
-				}
+	private int multiRowInsert(List<JDBCEntity> chunk) {
+		String sql = multiRowInsertStatementCache.get(chunk.size(), JDBCEntitySql::multiRowInsert);
+
+		int insertCount = jdbcTemp.update(sql, ps -> {
+			int index = 1;
+			for (JDBCEntity data : chunk) {
+				ps.setInt(index++, data.getId());
+				ps.setString(index++, data.getFirst_name());
+				ps.setString(index++, data.getLast_name());
+				ps.setInt(index++, data.getBirth_day());
 			}
+		});
+		entityCache.invalidate(chunk);
+		return insertCount;
+	}
 
-			@Override
-			public int getBatchSize() {
-				// バッチのサイズを返す
-				return updateList.size();
-			}
-		};
+	/**
+	 * <pre>
+	 * IN句を使用して複数のidのデータを取得する
+	 * ?の数は{@link JDBCEntitySql#paddedInList(List)}で丸める
+	 * </pre>
+	 * @param ids 取得したいデータのid（重複なし）
+	 * @return 取得できたデータ
+	 */
+	private List<JDBCEntity> selectByIds(List<Integer> ids) {
+		return selectByIds(ids, false);
+	}
+
+	/**
+	 * @param ids 取得したいデータのid（重複なし）
+	 * @param forUpdate trueの場合は取得した行をロックする（トランザクション内で呼ぶこと）
+	 * @return 取得できたデータ
+	 */
+	private List<JDBCEntity> selectByIds(List<Integer> ids, boolean forUpdate) {
+		StatementCache<Integer> statementCache = forUpdate ? selectByIdsForUpdateStatementCache : selectByIdsStatementCache;
+		Function<Integer, String> sqlBuilder = forUpdate ? JDBCEntitySql::selectByIdsForUpdate : JDBCEntitySql::selectByIds;
+		List<JDBCEntity> dataList = new ArrayList<>(ids.size());
+		for (List<Integer> chunk : JDBCEntitySql.inListChunks(ids)) {
+			List<Integer> paddedIds = JDBCEntitySql.paddedInList(chunk);
+			String sql = statementCache.get(paddedIds.size(), sqlBuilder);
+
+			dataList.addAll(jdbcTemp.query(sql, new JDBCEntityRowMapper(), paddedIds.toArray()));
+		}
+		return dataList;
 	}
 
 	/**
 	 * <pre>
-	 * 一括削除で使用
-	 * where句の何番目の?になんの値を入れるかを設定する
+	 * idの範囲と条件に一致するidをchunkSize件ずつ取得し、取得したidを削除することを繰り返す
 	 * </pre>
-	 * @param whereMapList key:カラム名 value:where句に入れる値
-	 * @param sortMap key:カラム名 value:?の何番目に入れるかの数
-	 * @return
 	 */
-	private BatchPreparedStatementSetter GetBatchPreparedStatementSetter_forDelete(
-			List<Map<String, String>> whereMapList, Map<String, Integer> sortMap) {
-		return new BatchPreparedStatementSetter() {
-			@Override
-			public void setValues(PreparedStatement ps, int i) throws SQLException {
-				SetPreparedStatement(ps, whereMapList.get(i), sortMap);
-			}
+	private int deleteInChunks(int fromId, int toId, JDBCEntityFilter filter, int chunkSize) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunkSizeは1以上を指定してください。");
+		}
+		try {
+			String sql = seekIdsStatementCache.get(filter.getConditionMask(), JDBCEntitySql::seekIds);
+			Object[] conditionValues = filter.getConditionValues();
+			Object[] args = new Object[conditionValues.length + 3];
+			System.arraycopy(conditionValues, 0, args, 2, conditionValues.length);
+			args[1] = toId;
+			args[args.length - 1] = chunkSize;
 
-			@Override
-			public int getBatchSize() {
-				return whereMapList.size();
+			int returnCount = 0;
+			int from = fromId;
+			while (from <= toId) {
+				args[0] = from;
+				List<Integer> ids = jdbcTemp.queryForList(sql, Integer.class, args);
+				if (ids.isEmpty()) {
+					break;
+				}
+				returnCount += deleteByIds(ids);
+
+				int lastId = ids.get(ids.size() - 1);
+				if (ids.size() < chunkSize || lastId == Integer.MAX_VALUE) {
+					break;
+				}
+				from = lastId + 1;
 			}
-		};
+			return returnCount;
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
 	}
 
+	/**
+	 * <pre>
+	 * 引数のidのうち、テーブルに存在するidを取得する
+	 * </pre>
+	 * @param ids 確認したいid（重複なし）
+	 * @return 存在するid
+	 */
+	private Set<Integer> selectExistingIds(List<Integer> ids) {
+		Set<Integer> existingIds = new HashSet<>();
+		for (List<Integer> chunk : JDBCEntitySql.inListChunks(ids)) {
+			List<Integer> paddedIds = JDBCEntitySql.paddedInList(chunk);
+			String sql = selectIdsByIdsStatementCache.get(paddedIds.size(), JDBCEntitySql::selectIdsByIds);
+
+			existingIds.addAll(jdbcTemp.queryForList(sql, Integer.class, paddedIds.toArray()));
+		}
+		return existingIds;
+	}
 }
@@ -0,0 +1,122 @@
+package com.example.demo.Dao.Load;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.Dao.JDBCTempDao;
+import com.example.demo.Dao.Batch.BulkInsertMode;
+import com.example.demo.Entity.JDBCEntity;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author Takumi
+ * <pre>
+ * CSVファイルを{@link JDBCEntity#TEST TEST}テーブルに一括で読み込む
+ *
+ * {@link #load(Path, boolean, int, BulkInsertMode, CsvLoadListener)}は{@link JDBCEntityCsvReader}で読み込んだ行を
+ * チャンクごとに{@link JDBCTempDao#batchInsert(List, int, BulkInsertMode)}で挿入する
+ * （ファイル全体をメモリに読み込まないため、大きなファイルでも1チャンク分のメモリしか使用しない）
+ * {@link #loadWithCsvRead(Path, CsvLoadListener)}はH2のCSVREADでDB側にファイルを読ませる（最も速い）
+ *
+ * トランザクション内で呼んだ場合はそのトランザクションに含まれる
+ * トランザクション外で呼んだ場合はチャンクごとにコミットされるため、途中で失敗した場合はそれまでのチャンクが挿入済みになる
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class CsvBulkLoader {
+
+	private final JDBCTempDao dao;
+
+	/**
+	 * <pre>
+	 * 1行目がカラム名のCSVファイルを、デフォルトのチャンクサイズで1行ずつのINSERT文のバッチとして挿入する
+	 * </pre>
+	 * @param csvFile CSVファイル（UTF-8）
+	 * @return 読み込みの結果
+	 * @throws IOException
+	 * @throws DataAccessException
+	 */
+	public CsvLoadProgress load(Path csvFile) throws IOException, DataAccessException {
+		return load(csvFile, true, BulkInsertMode.DEFAULT_CHUNK_SIZE, BulkInsertMode.BATCH, null);
+	}
+
+	/**
+	 * @param csvFile CSVファイル（UTF-8）
+	 * @param header 1行目がカラム名の場合true
+	 * @param chunkSize 1チャンクの行数
+	 * @param mode 挿入方式
+	 * @param listener 進捗を受け取る（不要な場合null）
+	 * @return 読み込みの結果
+	 * @throws IOException
+	 * @throws IllegalArgumentException CSVの形式が正しくない場合
+	 * @throws DataAccessException
+	 */
+	public CsvLoadProgress load(Path csvFile, boolean header, int chunkSize, BulkInsertMode mode,
+			CsvLoadListener listener) throws IOException, DataAccessException {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunkSizeは1以上を指定してください。");
+		}
+		long startNanos = System.nanoTime();
+		try (JDBCEntityCsvReader reader = new JDBCEntityCsvReader(csvFile, header)) {
+			List<JDBCEntity> chunk = new ArrayList<>(chunkSize);
+			long rowCount = 0;
+			JDBCEntity entity;
+			while ((entity = reader.next()) != null) {
+				chunk.add(entity);
+				if (chunk.size() == chunkSize) {
+					rowCount += dao.batchInsert(chunk, chunkSize, mode);
+					chunk.clear();
+					notify(listener, new CsvLoadProgress(rowCount, reader.getBytesRead(), reader.getTotalBytes(),
+							System.nanoTime() - startNanos, false));
+				}
+			}
+			if (!chunk.isEmpty()) {
+				rowCount += dao.batchInsert(chunk, chunkSize, mode);
+			}
+
+			CsvLoadProgress result = new CsvLoadProgress(rowCount, reader.getBytesRead(), reader.getTotalBytes(),
+					System.nanoTime() - startNanos, true);
+			notify(listener, result);
+			return result;
+		}
+	}
+
+	/**
+	 * <pre>
+	 * H2のCSVREADを使用し、INSERT ... SELECTの1文で挿入する
+	 * 1文で完了するため、進捗は完了時のみ通知する
+	 * ※DBがファイルを読むため、DBから見えるパスである必要がある（組み込みのH2以外では使用できない）
+	 * ※1行目はカラム名にすること
+	 * </pre>
+	 * @param csvFile CSVファイル（UTF-8）
+	 * @param listener 進捗を受け取る（不要な場合null）
+	 * @return 読み込みの結果
+	 * @throws IOException
+	 * @throws DataAccessException
+	 */
+	public CsvLoadProgress loadWithCsvRead(Path csvFile, CsvLoadListener listener)
+			throws IOException, DataAccessException {
+		long totalBytes = Files.size(csvFile);
+		long startNanos = System.nanoTime();
+		int rowCount = dao.insertFromCsv(csvFile.toAbsolutePath().toString());
+
+		CsvLoadProgress result = new CsvLoadProgress(rowCount, totalBytes, totalBytes,
+				System.nanoTime() - startNanos, true);
+		notify(listener, result);
+		return result;
+	}
+
+	private static void notify(CsvLoadListener listener, CsvLoadProgress progress) {
+		if (listener != null) {
+			listener.onProgress(progress);
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.example.demo.Dao.Load;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link CsvBulkLoader}の進捗を受け取る
+ * 読み込みを行うスレッドから呼ばれるため、重い処理は行わないこと
+ * </pre>
+ */
+@FunctionalInterface
+public interface CsvLoadListener {
+
+	/**
+	 * <pre>
+	 * チャンクを1つ挿入するたびに呼ばれる（最後は{@link CsvLoadProgress#isCompleted()}がtrue）
+	 * </pre>
+	 * @param progress 進捗
+	 */
+	void onProgress(CsvLoadProgress progress);
+}
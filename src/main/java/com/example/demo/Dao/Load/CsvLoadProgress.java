@@ -0,0 +1,62 @@
+package com.example.demo.Dao.Load;
+
+import java.util.concurrent.TimeUnit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * @author Takumi
+ * <pre>
+ * CSVファイルの読み込みの進捗
+ * 読み込み完了後は結果として返す
+ * </pre>
+ */
+@Getter
+@AllArgsConstructor
+public class CsvLoadProgress {
+
+	/** 挿入した行数 */
+	private final long rowCount;
+
+	/** 読み込んだバイト数 */
+	private final long bytesRead;
+
+	/** ファイルのバイト数 */
+	private final long totalBytes;
+
+	/** 読み込み開始からの経過時間（ナノ秒） */
+	private final long elapsedNanos;
+
+	/** 読み込みが完了した場合true */
+	private final boolean completed;
+
+	/**
+	 * @return 読み込み開始からの経過時間（ミリ秒）
+	 */
+	public long getElapsedMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+	}
+
+	/**
+	 * @return 1秒あたりの挿入行数
+	 */
+	public double getRowsPerSecond() {
+		return elapsedNanos == 0 ? 0 : rowCount * 1_000_000_000.0 / elapsedNanos;
+	}
+
+	/**
+	 * @return 読み込んだ割合（%）
+	 */
+	public double getPercent() {
+		return totalBytes == 0 ? 100 : bytesRead * 100.0 / totalBytes;
+	}
+
+	/**
+	 * @return ログ出力用の文字列
+	 */
+	public String format() {
+		return String.format("%,d rows (%.1f%%) %,d ms %,.0f rows/sec%s",
+				rowCount, getPercent(), getElapsedMillis(), getRowsPerSecond(), completed ? " completed" : "");
+	}
+}
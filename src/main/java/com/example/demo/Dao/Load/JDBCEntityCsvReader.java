@@ -0,0 +1,434 @@
+package com.example.demo.Dao.Load;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import com.example.demo.Dao.Binding.JDBCEntityColumn;
+import com.example.demo.Entity.JDBCEntity;
+
+/**
+ * @author Takumi
+ * <pre>
+ * CSVファイル（UTF-8）を1行ずつ{@link JDBCEntity}に変換して読み込む
+ * ファイルは{@link FileChannel#map}でメモリにマップし、一定のサイズ（ウィンドウ）ずつ読み進める
+ * （ウィンドウの境目にかかった行は、その行の先頭から次のウィンドウをマップし直して読む）
+ *
+ * int型のカラムはバイト列から直接数値に変換し、文字列を作成しない
+ * String型のカラムのみ1回だけバイト列をコピーして文字列にする
+ *
+ * 形式はRFC 4180に準拠する（"で囲んだ値には,・改行・""（"のエスケープ）を含められる）
+ * 空行は読み飛ばす。先頭のBOMは無視する
+ * 1行目をカラム名とする場合、カラムの並び順は自由で、カラム名以外の列は読み飛ばす
+ * 1行目からデータの場合、カラムの並び順は{@link JDBCEntityColumn}と同じにすること
+ * </pre>
+ */
+public class JDBCEntityCsvReader implements Closeable {
+
+	/** デフォルトのウィンドウのサイズ（1行がこれを超えるファイルは読めない） */
+	public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+	private static final byte QUOTE = '"';
+	private static final byte COMMA = ',';
+	private static final byte CR = '\r';
+	private static final byte LF = '\n';
+
+	/** {@link #parseRecord()}の結果 */
+	private static final int RECORD = 0;
+	private static final int BLANK = 1;
+	private static final int NEED_MORE = 2;
+	private static final int END = 3;
+
+	private final FileChannel channel;
+
+	/** ファイルのバイト数 */
+	private final long totalBytes;
+
+	private final int windowSize;
+
+	/** CSVの列ごとのカラム（読み飛ばす列はnull） */
+	private final JDBCEntityColumn[] columns;
+
+	private MappedByteBuffer window;
+
+	/** ウィンドウの先頭のファイル上の位置 */
+	private long windowStart;
+
+	/** ウィンドウ内の読み込み位置 */
+	private int position;
+
+	/** 読み込んだレコード数（カラム名の行を含む。空行は含まない） */
+	private long recordNumber;
+
+	// 1レコード分の列の位置（"で囲んだ値はエスケープを外してscratchにコピーし、scratch上の位置を持つ）
+	private int fieldCount;
+	private int[] fieldFrom = new int[8];
+	private int[] fieldTo = new int[8];
+	private boolean[] fieldQuoted = new boolean[8];
+	private byte[] scratch = new byte[1024];
+	private int scratchLength;
+
+	/**
+	 * @param csvFile CSVファイル
+	 * @param header 1行目がカラム名の場合true
+	 * @throws IOException
+	 */
+	public JDBCEntityCsvReader(Path csvFile, boolean header) throws IOException {
+		this(csvFile, header, DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * @param csvFile CSVファイル
+	 * @param header 1行目がカラム名の場合true
+	 * @param windowSize 一度にマップするバイト数
+	 * @throws IOException
+	 */
+	JDBCEntityCsvReader(Path csvFile, boolean header, int windowSize) throws IOException {
+		if (windowSize <= 0) {
+			throw new IllegalArgumentException("windowSizeは1以上を指定してください。:" + windowSize);
+		}
+		this.channel = FileChannel.open(csvFile, StandardOpenOption.READ);
+		try {
+			this.totalBytes = channel.size();
+			this.windowSize = windowSize;
+			map(0);
+			skipBom();
+			this.columns = header ? readHeader() : JDBCEntityColumn.values();
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * @return 次の行（最後まで読んだ場合null）
+	 * @throws IOException
+	 * @throws IllegalArgumentException CSVの形式が正しくない場合
+	 */
+	public JDBCEntity next() throws IOException {
+		while (true) {
+			switch (nextRecord()) {
+			case RECORD:
+				JDBCEntity entity = toEntity();
+				recordNumber++;
+				return entity;
+			case BLANK:
+				continue;
+			default:
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * @return 読み込んだバイト数
+	 */
+	public long getBytesRead() {
+		return windowStart + position;
+	}
+
+	/**
+	 * @return ファイルのバイト数
+	 */
+	public long getTotalBytes() {
+		return totalBytes;
+	}
+
+	@Override
+	public void close() throws IOException {
+		window = null;
+		channel.close();
+	}
+
+	/**
+	 * <pre>
+	 * 次のレコードまで読み進める（ウィンドウの境目にかかった場合はマップし直す）
+	 * </pre>
+	 * @return {@link #RECORD}・{@link #BLANK}・{@link #END}のいずれか
+	 * @throws IOException
+	 */
+	private int nextRecord() throws IOException {
+		while (true) {
+			int result = parseRecord();
+			if (result != NEED_MORE) {
+				return result;
+			}
+			if (position == 0) {
+				throw error("1行が" + windowSize + "バイトを超えています。");
+			}
+			map(windowStart + position);
+		}
+	}
+
+	/**
+	 * <pre>
+	 * 現在の位置から1レコード分の列の位置を読み取る
+	 * 最後まで読み取れた場合のみ読み込み位置を進める
+	 * </pre>
+	 * @return {@link #RECORD}・{@link #BLANK}・{@link #NEED_MORE}・{@link #END}のいずれか
+	 */
+	private int parseRecord() {
+		int limit = window.limit();
+		boolean lastWindow = windowStart + limit == totalBytes;
+		int pos = position;
+		fieldCount = 0;
+		scratchLength = 0;
+
+		if (pos == limit) {
+			return lastWindow ? END : NEED_MORE;
+		}
+		byte first = window.get(pos);
+		if (first == CR || first == LF) {
+			pos = skipNewline(pos, limit, lastWindow);
+			if (pos < 0) {
+				return NEED_MORE;
+			}
+			position = pos;
+			return BLANK;
+		}
+
+		while (true) {
+			if (pos < limit && window.get(pos) == QUOTE) {
+				int from = scratchLength;
+				pos++;
+				while (true) {
+					if (pos == limit) {
+						if (lastWindow) {
+							throw error("\"が閉じられていません。");
+						}
+						return NEED_MORE;
+					}
+					byte b = window.get(pos++);
+					if (b == QUOTE) {
+						if (pos == limit && !lastWindow) {
+							return NEED_MORE;
+						}
+						if (pos < limit && window.get(pos) == QUOTE) {
+							//""は"1文字
+							pos++;
+						} else {
+							break;
+						}
+					}
+					appendScratch(b);
+				}
+				addField(from, scratchLength, true);
+			} else {
+				int from = pos;
+				while (pos < limit) {
+					byte b = window.get(pos);
+					if (b == COMMA || b == CR || b == LF) {
+						break;
+					}
+					pos++;
+				}
+				if (pos == limit && !lastWindow) {
+					return NEED_MORE;
+				}
+				addField(from, pos, false);
+			}
+
+			if (pos == limit) {
+				//ファイルの最後の行（改行なし）
+				position = pos;
+				return RECORD;
+			}
+			byte delimiter = window.get(pos);
+			if (delimiter == COMMA) {
+				pos++;
+			} else if (delimiter == CR || delimiter == LF) {
+				pos = skipNewline(pos, limit, lastWindow);
+				if (pos < 0) {
+					return NEED_MORE;
+				}
+				position = pos;
+				return RECORD;
+			} else {
+				throw error("\"で囲んだ値の後に区切り文字がありません。");
+			}
+		}
+	}
+
+	/**
+	 * @return 改行の次の位置（CRの直後でウィンドウが終わり、LFか判断できない場合-1）
+	 */
+	private int skipNewline(int pos, int limit, boolean lastWindow) {
+		if (window.get(pos++) == CR) {
+			if (pos == limit) {
+				return lastWindow ? pos : -1;
+			}
+			if (window.get(pos) == LF) {
+				pos++;
+			}
+		}
+		return pos;
+	}
+
+	/**
+	 * <pre>
+	 * 1行目のカラム名からCSVの列ごとのカラムを決める
+	 * </pre>
+	 * @return CSVの列ごとのカラム（読み飛ばす列はnull）
+	 * @throws IOException
+	 */
+	private JDBCEntityColumn[] readHeader() throws IOException {
+		int result;
+		do {
+			result = nextRecord();
+		} while (result == BLANK);
+		if (result == END) {
+			throw error("カラム名の行がありません。");
+		}
+
+		JDBCEntityColumn[] headerColumns = new JDBCEntityColumn[fieldCount];
+		Set<JDBCEntityColumn> found = EnumSet.noneOf(JDBCEntityColumn.class);
+		for (int i = 0; i < fieldCount; i++) {
+			String columnName = stringField(i).strip();
+			for (JDBCEntityColumn column : JDBCEntityColumn.values()) {
+				if (column.getColumnName().equalsIgnoreCase(columnName)) {
+					if (!found.add(column)) {
+						throw error("カラム名が重複しています。:" + columnName);
+					}
+					headerColumns[i] = column;
+				}
+			}
+		}
+		List<String> missing = new ArrayList<>();
+		for (JDBCEntityColumn column : JDBCEntityColumn.values()) {
+			if (!found.contains(column)) {
+				missing.add(column.getColumnName());
+			}
+		}
+		if (!missing.isEmpty()) {
+			throw error("カラム名が足りません。:" + missing);
+		}
+		recordNumber++;
+		return headerColumns;
+	}
+
+	private JDBCEntity toEntity() {
+		if (fieldCount != columns.length) {
+			throw error("列の数が" + columns.length + "ではありません。:" + fieldCount);
+		}
+		int id = 0;
+		String firstName = null;
+		String lastName = null;
+		int birthDay = 0;
+		for (int i = 0; i < fieldCount; i++) {
+			if (columns[i] == null) {
+				continue;
+			}
+			switch (columns[i]) {
+			case ID:
+				id = intField(i);
+				break;
+			case FIRST_NAME:
+				firstName = stringField(i);
+				break;
+			case LAST_NAME:
+				lastName = stringField(i);
+				break;
+			case BIRTHDAY:
+				birthDay = intField(i);
+				break;
+			}
+		}
+		return new JDBCEntity(id, firstName, lastName, birthDay);
+	}
+
+	private String stringField(int index) {
+		int length = fieldTo[index] - fieldFrom[index];
+		if (fieldQuoted[index]) {
+			return new String(scratch, fieldFrom[index], length, StandardCharsets.UTF_8);
+		}
+		//"で囲んでいるものの後ろにコピーする
+		ensureScratch(scratchLength + length);
+		window.get(fieldFrom[index], scratch, scratchLength, length);
+		return new String(scratch, scratchLength, length, StandardCharsets.UTF_8);
+	}
+
+	private int intField(int index) {
+		ByteBuffer source = fieldQuoted[index] ? ByteBuffer.wrap(scratch) : window;
+		int from = fieldFrom[index];
+		int to = fieldTo[index];
+		//前後の空白は無視する
+		while (from < to && source.get(from) == ' ') {
+			from++;
+		}
+		while (to > from && source.get(to - 1) == ' ') {
+			to--;
+		}
+		boolean negative = from < to && source.get(from) == '-';
+		if (negative || (from < to && source.get(from) == '+')) {
+			from++;
+		}
+		if (from == to || to - from > 10) {
+			throw error("数値ではありません。(" + (index + 1) + "列目)");
+		}
+		long value = 0;
+		for (int i = from; i < to; i++) {
+			int digit = source.get(i) - '0';
+			if (digit < 0 || digit > 9) {
+				throw error("数値ではありません。(" + (index + 1) + "列目)");
+			}
+			value = value * 10 + digit;
+		}
+		value = negative ? -value : value;
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			throw error("int型の範囲外です。(" + (index + 1) + "列目)");
+		}
+		return (int) value;
+	}
+
+	private void addField(int from, int to, boolean quoted) {
+		if (fieldCount == fieldFrom.length) {
+			int newLength = fieldCount * 2;
+			fieldFrom = Arrays.copyOf(fieldFrom, newLength);
+			fieldTo = Arrays.copyOf(fieldTo, newLength);
+			fieldQuoted = Arrays.copyOf(fieldQuoted, newLength);
+		}
+		fieldFrom[fieldCount] = from;
+		fieldTo[fieldCount] = to;
+		fieldQuoted[fieldCount] = quoted;
+		fieldCount++;
+	}
+
+	private void appendScratch(byte b) {
+		ensureScratch(scratchLength + 1);
+		scratch[scratchLength++] = b;
+	}
+
+	private void ensureScratch(int capacity) {
+		if (capacity > scratch.length) {
+			scratch = Arrays.copyOf(scratch, Math.max(capacity, scratch.length * 2));
+		}
+	}
+
+	private void skipBom() {
+		if (window.limit() >= 3 && window.get(0) == (byte) 0xEF && window.get(1) == (byte) 0xBB
+				&& window.get(2) == (byte) 0xBF) {
+			position = 3;
+		}
+	}
+
+	private void map(long start) throws IOException {
+		long size = Math.min(windowSize, totalBytes - start);
+		window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+		windowStart = start;
+		position = 0;
+	}
+
+	private IllegalArgumentException error(String message) {
+		return new IllegalArgumentException("CSVの形式が正しくありません。(" + (recordNumber + 1) + "件目):" + message);
+	}
+}
@@ -0,0 +1,6 @@
+/**
+ * @author Takumi
+ * CSVファイルからテーブルへの一括読み込みを行うパッケージ
+ *
+ */
+package com.example.demo.Dao.Load;
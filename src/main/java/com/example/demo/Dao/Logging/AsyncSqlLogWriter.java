@@ -0,0 +1,101 @@
+package com.example.demo.Dao.Logging;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author Takumi
+ * <pre>
+ * SQLのログを別スレッドで出力する
+ * SQLを実行したスレッドはキューに追加するだけで、文字列の作成・ログ出力は待たない
+ * キューが一杯の場合は追加せずに破棄し、件数を{@link #getDroppedCount()}で確認できる
+ * </pre>
+ */
+@Slf4j
+public class AsyncSqlLogWriter implements DisposableBean {
+
+	private final BlockingQueue<SqlLogEntry> queue;
+
+	private final LongAdder droppedCount = new LongAdder();
+
+	private final Thread worker;
+
+	private volatile boolean running = true;
+
+	/**
+	 * @param queueSize キューの上限件数
+	 */
+	public AsyncSqlLogWriter(int queueSize) {
+		this.queue = new ArrayBlockingQueue<>(queueSize);
+		this.worker = new Thread(this::drain, "sql-log-writer");
+		this.worker.setDaemon(true);
+		this.worker.start();
+	}
+
+	/**
+	 * @param entry 出力するログ
+	 * @return キューに追加できた場合true（一杯の場合false）
+	 */
+	public boolean submit(SqlLogEntry entry) {
+		if (queue.offer(entry)) {
+			return true;
+		}
+		droppedCount.increment();
+		return false;
+	}
+
+	/**
+	 * @return キューが一杯で破棄したログの件数
+	 */
+	public long getDroppedCount() {
+		return droppedCount.sum();
+	}
+
+	/**
+	 * @return キューに残っているログの件数
+	 */
+	public int getPendingCount() {
+		return queue.size();
+	}
+
+	/**
+	 * <pre>
+	 * 残っているログを出力してから終了する
+	 * </pre>
+	 */
+	@Override
+	public void destroy() throws InterruptedException {
+		running = false;
+		worker.interrupt();
+		worker.join(TimeUnit.SECONDS.toMillis(5));
+	}
+
+	private void drain() {
+		while (running || !queue.isEmpty()) {
+			SqlLogEntry entry;
+			try {
+				entry = queue.poll(1, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				//終了時は残っているログを出力するまで続ける
+				continue;
+			}
+			if (entry != null) {
+				write(entry);
+			}
+		}
+	}
+
+	private void write(SqlLogEntry entry) {
+		if (entry.getReason() == SqlLogReason.ERROR || entry.getReason() == SqlLogReason.SLOW) {
+			log.warn(entry.format());
+		} else {
+			log.info(entry.format());
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package com.example.demo.Dao.Logging;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * @author Takumi
+ * <pre>
+ * 1回分のSQLの実行結果
+ * バインドした値は保持せず、型だけを保持する（ログなどに値を出力しないため）
+ * バインドの型はステートメントと共有しているため、{@link SqlExecutionListener#afterExecute(SqlExecution)}の中でのみ使用できる
+ * ステートメントの作成時に有効なリスナーがなかった場合、バインドの型は記録されない（{@link #getBindCount()}が0になる）
+ * </pre>
+ */
+@Getter
+public class SqlExecution {
+
+	/** 実行したSQL（不明な場合null） */
+	private final String sql;
+
+	/** 処理時間（ナノ秒） */
+	private final long elapsedNanos;
+
+	/** バッチで実行した件数（バッチでない場合0） */
+	private final int batchSize;
+
+	/** 発生した例外（ない場合null） */
+	private final Throwable error;
+
+	@Getter(AccessLevel.NONE)
+	private final String[] bindTypes;
+
+	/** バインドしたパラメータの数 */
+	private final int bindCount;
+
+	/**
+	 * @param sql 実行したSQL
+	 * @param elapsedNanos 処理時間（ナノ秒）
+	 * @param batchSize バッチで実行した件数
+	 * @param error 発生した例外
+	 * @param bindTypes バインドした値の型（index:パラメータ番号 - 1）
+	 * @param bindCount バインドしたパラメータの数
+	 */
+	public SqlExecution(String sql, long elapsedNanos, int batchSize, Throwable error, String[] bindTypes,
+			int bindCount) {
+		this.sql = sql;
+		this.elapsedNanos = elapsedNanos;
+		this.batchSize = batchSize;
+		this.error = error;
+		this.bindTypes = bindTypes;
+		this.bindCount = bindCount;
+	}
+
+	/**
+	 * <pre>
+	 * バインドした値を伏せた文字列を返す
+	 * 例：[1:Int=?, 2:String=?, 3:null]
+	 * バッチの場合は最後に追加した行のもの
+	 * </pre>
+	 * @return バインドした値の型（値は?にする）
+	 */
+	public String getRedactedBinds() {
+		StringBuilder sb = new StringBuilder(bindCount * 12 + 2).append('[');
+		for (int i = 0; i < bindCount; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			String type = bindTypes[i];
+			sb.append(i + 1).append(':');
+			if (type == null || SqlLoggingDataSource.NULL_BIND.equals(type)) {
+				sb.append(SqlLoggingDataSource.NULL_BIND);
+			} else {
+				sb.append(type).append("=?");
+			}
+		}
+		return sb.append(']').toString();
+	}
+
+	/**
+	 * @return 例外が発生した場合true
+	 */
+	public boolean isFailed() {
+		return error != null;
+	}
+}
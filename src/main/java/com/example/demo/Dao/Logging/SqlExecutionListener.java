@@ -0,0 +1,28 @@
+package com.example.demo.Dao.Logging;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link SqlLoggingDataSource}でSQLを実行するたびに呼び出される処理
+ * Beanとして登録するとDataSourceのラップ時に追加される
+ * 呼び出しはSQLを実行したスレッドで行われるため、重い処理は行わないこと
+ * </pre>
+ */
+public interface SqlExecutionListener {
+
+	/**
+	 * <pre>
+	 * falseの場合、このリスナーのために接続をラップしない
+	 * 接続の取得時に判定するため、変更は次に取得した接続から反映される
+	 * </pre>
+	 * @return 実行結果を受け取る場合true
+	 */
+	default boolean isActive() {
+		return true;
+	}
+
+	/**
+	 * @param execution 実行結果（このメソッドの中でのみ使用できる）
+	 */
+	void afterExecute(SqlExecution execution);
+}
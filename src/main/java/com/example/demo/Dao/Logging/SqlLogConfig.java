@@ -0,0 +1,64 @@
+package com.example.demo.Dao.Logging;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author Takumi
+ * <pre>
+ * SQLのログ出力の設定
+ * DataSourceを{@link SqlLoggingDataSource}でラップする（{@link SqlExecutionListener}のBeanはラップ時に追加する）
+ * sql-log.enabled（デフォルトtrue）
+ * sql-log.sample-rate サンプリングで出力する割合（デフォルト0.0）
+ * sql-log.slow-threshold-ms 遅いSQLとして出力するしきい値のミリ秒（デフォルト200、負の値の場合は使用しない）
+ * sql-log.queue-size 出力待ちのログの上限件数（デフォルト1024）
+ * 実行中の変更は{@link SqlLogSettings}または{@link SqlLogEndpoint}で行う
+ * </pre>
+ */
+@Configuration
+public class SqlLogConfig {
+
+	@Bean
+	public SqlLogSettings sqlLogSettings(@Value("${sql-log.enabled:true}") boolean enabled,
+			@Value("${sql-log.sample-rate:0.0}") double sampleRate,
+			@Value("${sql-log.slow-threshold-ms:200}") long slowThresholdMillis) {
+		return new SqlLogSettings(enabled, sampleRate, slowThresholdMillis);
+	}
+
+	@Bean
+	public AsyncSqlLogWriter asyncSqlLogWriter(@Value("${sql-log.queue-size:1024}") int queueSize) {
+		return new AsyncSqlLogWriter(queueSize);
+	}
+
+	@Bean
+	public SqlLogEndpoint sqlLogEndpoint(SqlLogSettings settings, AsyncSqlLogWriter writer) {
+		return new SqlLogEndpoint(settings, writer);
+	}
+
+	/**
+	 * <pre>
+	 * BeanPostProcessorは他のBeanより先に作成されるため、staticにして設定は使用時に取得する
+	 * </pre>
+	 */
+	@Bean
+	public static BeanPostProcessor sqlLoggingDataSourcePostProcessor(ObjectProvider<SqlLogSettings> settings,
+			ObjectProvider<AsyncSqlLogWriter> writer, ObjectProvider<SqlExecutionListener> listeners) {
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+				if (bean instanceof DataSource dataSource && !(bean instanceof SqlLoggingDataSource)) {
+					return new SqlLoggingDataSource(dataSource, settings.getObject(), writer.getObject(),
+							listeners.orderedStream().toList());
+				}
+				return bean;
+			}
+		};
+	}
+}
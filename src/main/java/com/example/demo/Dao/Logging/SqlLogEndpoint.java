@@ -0,0 +1,66 @@
+package com.example.demo.Dao.Logging;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author Takumi
+ * <pre>
+ * SQLのログ出力の設定を実行中に確認・変更するActuatorのエンドポイント（id:sqllog）
+ * 公開するにはmanagement.endpoints.jmx.exposure.includeなどにsqllogを追加する
+ * </pre>
+ */
+@Endpoint(id = "sqllog")
+@RequiredArgsConstructor
+public class SqlLogEndpoint {
+
+	private final SqlLogSettings settings;
+
+	private final AsyncSqlLogWriter writer;
+
+	/**
+	 * @return 現在の設定と破棄したログの件数
+	 */
+	@ReadOperation
+	public Map<String, Object> settings() {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("enabled", settings.isEnabled());
+		result.put("sampleRate", settings.getSampleRate());
+		result.put("slowThresholdMillis", settings.getSlowThresholdMillis());
+		result.put("statementThresholds", settings.getStatementThresholds());
+		result.put("pendingCount", writer.getPendingCount());
+		result.put("droppedCount", writer.getDroppedCount());
+		return result;
+	}
+
+	/**
+	 * <pre>
+	 * 指定した項目だけ変更する
+	 * </pre>
+	 * @param enabled ログ出力を行う場合true
+	 * @param sampleRate サンプリングで出力する割合（0.0～1.0）
+	 * @param slowThresholdMillis 遅いSQLとして出力するしきい値（ミリ秒、負の値の場合は使用しない）
+	 * @return 変更後の設定
+	 */
+	@WriteOperation
+	public Map<String, Object> update(@Nullable Boolean enabled, @Nullable Double sampleRate,
+			@Nullable Long slowThresholdMillis) {
+		if (sampleRate != null) {
+			settings.setSampleRate(sampleRate);
+		}
+		if (slowThresholdMillis != null) {
+			settings.setSlowThresholdMillis(slowThresholdMillis);
+		}
+		if (enabled != null) {
+			settings.setEnabled(enabled);
+		}
+		return settings();
+	}
+}
@@ -0,0 +1,51 @@
+package com.example.demo.Dao.Logging;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * @author Takumi
+ * <pre>
+ * ログに出力する1回分のSQLの実行結果
+ * 実行したスレッドで作成し、{@link AsyncSqlLogWriter}のスレッドで文字列にする
+ * </pre>
+ */
+@Getter
+@AllArgsConstructor
+public class SqlLogEntry {
+
+	/** 出力した理由 */
+	private final SqlLogReason reason;
+
+	/** 実行したSQL */
+	private final String sql;
+
+	/** 処理時間（ナノ秒） */
+	private final long elapsedNanos;
+
+	/** バッチで実行した件数（バッチでない場合0） */
+	private final int batchSize;
+
+	/** 実行したスレッド名 */
+	private final String threadName;
+
+	/** 発生した例外（ない場合null） */
+	private final Throwable error;
+
+	/**
+	 * @return ログに出力する文字列
+	 */
+	public String format() {
+		StringBuilder sb = new StringBuilder(sql.length() + 64);
+		sb.append('[').append(reason).append("] ")
+				.append(elapsedNanos / 1_000).append("us");
+		if (batchSize > 0) {
+			sb.append(" batch=").append(batchSize);
+		}
+		sb.append(" thread=").append(threadName).append(" sql=").append(sql);
+		if (error != null) {
+			sb.append(" error=").append(error);
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,19 @@
+package com.example.demo.Dao.Logging;
+
+/**
+ * @author Takumi
+ * <pre>
+ * SQLをログに出力した理由
+ * </pre>
+ */
+public enum SqlLogReason {
+
+	/** 処理時間がしきい値以上だった */
+	SLOW,
+
+	/** サンプリングで選ばれた */
+	SAMPLED,
+
+	/** 例外が発生した */
+	ERROR
+}
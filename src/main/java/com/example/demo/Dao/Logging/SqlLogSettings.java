@@ -0,0 +1,124 @@
+package com.example.demo.Dao.Logging;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import lombok.Getter;
+
+/**
+ * @author Takumi
+ * <pre>
+ * SQLのログ出力の設定
+ * 実行中に変更でき、変更後に取得した接続・作成したステートメントから反映される
+ *
+ * 出力するのは次のいずれかに当てはまるSQL
+ * ・処理時間がしきい値以上（SQLごとのしきい値があればそれ、なければ{@link #getSlowThresholdMillis()}）
+ * ・サンプリングで選ばれた（{@link #getSampleRate()}の割合）
+ * ・例外が発生した
+ * 無効の場合やどの条件も設定されていない場合、このクラスの設定のためには接続をラップしない
+ * ただし有効な{@link SqlExecutionListener}（slow-query.enabledの{@link com.example.demo.Dao.SlowQuery.SlowQueryLog SlowQueryLog}など）が
+ * あれば接続はラップされ、execute系の計測とset系でのバインドの型の記録がリフレクション経由で行われる
+ * </pre>
+ */
+@Getter
+public class SqlLogSettings {
+
+	/** しきい値を使用しない */
+	public static final long NO_THRESHOLD = -1;
+
+	/** ログ出力を行う場合true */
+	private volatile boolean enabled;
+
+	/** サンプリングで出力する割合（0.0～1.0） */
+	private volatile double sampleRate;
+
+	/** 遅いSQLとして出力する処理時間のしきい値（ミリ秒、{@link #NO_THRESHOLD}の場合は使用しない） */
+	private volatile long slowThresholdMillis;
+
+	/** key:SQL value:そのSQLのしきい値（ミリ秒） */
+	private final Map<String, Long> statementThresholds = new ConcurrentHashMap<>();
+
+	/**
+	 * @param enabled ログ出力を行う場合true
+	 * @param sampleRate サンプリングで出力する割合（0.0～1.0）
+	 * @param slowThresholdMillis 遅いSQLとして出力する処理時間のしきい値（ミリ秒）
+	 */
+	public SqlLogSettings(boolean enabled, double sampleRate, long slowThresholdMillis) {
+		this.enabled = enabled;
+		setSampleRate(sampleRate);
+		setSlowThresholdMillis(slowThresholdMillis);
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * @param sampleRate サンプリングで出力する割合（0.0～1.0）
+	 * @throws IllegalArgumentException 0.0～1.0でない場合
+	 */
+	public void setSampleRate(double sampleRate) {
+		if (!(sampleRate >= 0.0 && sampleRate <= 1.0)) {
+			throw new IllegalArgumentException("sampleRateは0.0～1.0を指定してください。:" + sampleRate);
+		}
+		this.sampleRate = sampleRate;
+	}
+
+	/**
+	 * @param slowThresholdMillis 遅いSQLとして出力する処理時間のしきい値（ミリ秒、負の値の場合は使用しない）
+	 */
+	public void setSlowThresholdMillis(long slowThresholdMillis) {
+		this.slowThresholdMillis = slowThresholdMillis < 0 ? NO_THRESHOLD : slowThresholdMillis;
+	}
+
+	/**
+	 * <pre>
+	 * SQLごとのしきい値を設定する
+	 * SQLは実行する文字列と完全一致で判定する（{@link com.example.demo.Dao.Statement.JDBCEntitySql JDBCEntitySql}の定数など）
+	 * </pre>
+	 * @param sql 対象のSQL
+	 * @param thresholdMillis しきい値（ミリ秒、負の値の場合は設定を削除する）
+	 */
+	public void setStatementThreshold(String sql, long thresholdMillis) {
+		if (thresholdMillis < 0) {
+			statementThresholds.remove(sql);
+		} else {
+			statementThresholds.put(sql, thresholdMillis);
+		}
+	}
+
+	/**
+	 * @return key:SQL value:そのSQLのしきい値（ミリ秒）
+	 */
+	public Map<String, Long> getStatementThresholds() {
+		return Collections.unmodifiableMap(statementThresholds);
+	}
+
+	/**
+	 * @return 接続をラップして計測する必要がある場合true
+	 */
+	public boolean isActive() {
+		return enabled && (sampleRate > 0.0 || slowThresholdMillis != NO_THRESHOLD || !statementThresholds.isEmpty());
+	}
+
+	/**
+	 * @param sql 実行するSQL（不明な場合null）
+	 * @return そのSQLのしきい値（ナノ秒、使用しない場合{@link Long#MAX_VALUE}）
+	 */
+	public long thresholdNanos(String sql) {
+		Long threshold = sql == null || statementThresholds.isEmpty() ? null : statementThresholds.get(sql);
+		long millis = threshold != null ? threshold : slowThresholdMillis;
+		return millis == NO_THRESHOLD ? Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos(millis);
+	}
+
+	/**
+	 * @return サンプリングで選ばれた場合true
+	 */
+	public boolean sample() {
+		double rate = sampleRate;
+		return rate > 0.0 && (rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate);
+	}
+}
@@ -0,0 +1,300 @@
+package com.example.demo.Dao.Logging;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * @author Takumi
+ * <pre>
+ * 実行したSQLの処理時間を計測し、{@link SqlLogSettings}の条件に当てはまるものを{@link AsyncSqlLogWriter}に渡す{@link DataSource}
+ * 計測結果は{@link SqlExecutionListener}にも渡す
+ * 接続の取得時にログ出力が無効で、有効なリスナーもなければ元の接続をそのまま返す
+ * 有効な場合は接続・ステートメントをプロキシでラップし、execute系のメソッドだけを計測する
+ * （setIntなどの値のセットではバインドした型を記録するだけで、計測もログ出力もしない）
+ * バインドした型はリスナーだけが使用するため、ステートメントの作成時に有効なリスナーがなければ記録しない
+ * unwrapは元の{@link DataSource}に委譲するため、HikariDataSourceなどとして取得することもできる
+ * </pre>
+ */
+public class SqlLoggingDataSource extends DelegatingDataSource {
+
+	/** nullをバインドした場合の型 */
+	public static final String NULL_BIND = "null";
+
+	private final SqlLogSettings settings;
+
+	private final AsyncSqlLogWriter writer;
+
+	private final List<SqlExecutionListener> listeners;
+
+	/**
+	 * @param targetDataSource ラップする{@link DataSource}
+	 * @param settings ログ出力の設定
+	 * @param writer ログの出力先
+	 */
+	public SqlLoggingDataSource(DataSource targetDataSource, SqlLogSettings settings, AsyncSqlLogWriter writer) {
+		this(targetDataSource, settings, writer, List.of());
+	}
+
+	/**
+	 * @param targetDataSource ラップする{@link DataSource}
+	 * @param settings ログ出力の設定
+	 * @param writer ログの出力先
+	 * @param listeners 実行結果を受け取るリスナー
+	 */
+	public SqlLoggingDataSource(DataSource targetDataSource, SqlLogSettings settings, AsyncSqlLogWriter writer,
+			List<SqlExecutionListener> listeners) {
+		super(targetDataSource);
+		this.settings = settings;
+		this.writer = writer;
+		this.listeners = List.copyOf(listeners);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return wrap(obtainTargetDataSource().getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return wrap(obtainTargetDataSource().getConnection(username, password));
+	}
+
+	private Connection wrap(Connection connection) {
+		if (!settings.isActive() && !hasActiveListener()) {
+			return connection;
+		}
+		return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+				new ConnectionHandler(connection));
+	}
+
+	private boolean hasActiveListener() {
+		for (SqlExecutionListener listener : listeners) {
+			if (listener.isActive()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * <pre>
+	 * ステートメントの作成時にステートメントをラップする
+	 * </pre>
+	 */
+	private class ConnectionHandler implements InvocationHandler {
+
+		private final Connection target;
+
+		ConnectionHandler(Connection target) {
+			this.target = target;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			switch (method.getName()) {
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			default:
+				break;
+			}
+
+			Object result = invokeTarget(target, method, args);
+			switch (method.getName()) {
+			case "createStatement":
+				return wrapStatement(Statement.class, (Statement) result, (Connection) proxy, null);
+			case "prepareStatement":
+				return wrapStatement(PreparedStatement.class, (Statement) result, (Connection) proxy, (String) args[0]);
+			case "prepareCall":
+				return wrapStatement(CallableStatement.class, (Statement) result, (Connection) proxy, (String) args[0]);
+			default:
+				return result;
+			}
+		}
+
+		private Object wrapStatement(Class<? extends Statement> type, Statement statement, Connection connection,
+				String sql) {
+			return Proxy.newProxyInstance(SqlLoggingDataSource.class.getClassLoader(), new Class<?>[] { type },
+					new StatementHandler(statement, connection, sql, hasActiveListener()));
+		}
+	}
+
+	/**
+	 * <pre>
+	 * execute系のメソッドの処理時間を計測する
+	 * addBatchの回数を数え、executeBatchのログにバッチの件数として出力する
+	 * set系のメソッドではバインドした型だけを記録する（値は保持しない、作成時に有効なリスナーがない場合は記録しない）
+	 * getConnectionはラップした接続を返す（JdbcTemplateがトランザクションの接続と同じか判定するため）
+	 * </pre>
+	 */
+	private class StatementHandler implements InvocationHandler {
+
+		private final Statement target;
+
+		/** このステートメントを作成したラップ済みの接続 */
+		private final Connection connection;
+
+		/** 作成時に渡されたSQL（Statementの場合は実行時に決まるためnull） */
+		private final String preparedSql;
+
+		/** バインドした型を記録する場合true */
+		private final boolean recordBinds;
+
+		/** StatementのaddBatchで最初に渡されたSQL */
+		private String batchSql;
+
+		private int batchSize;
+
+		/** バインドした型（index:パラメータ番号 - 1） */
+		private String[] bindTypes = new String[8];
+
+		private int bindCount;
+
+		StatementHandler(Statement target, Connection connection, String preparedSql, boolean recordBinds) {
+			this.target = target;
+			this.connection = connection;
+			this.preparedSql = preparedSql;
+			this.recordBinds = recordBinds;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			switch (name) {
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "getConnection":
+				return connection;
+			case "addBatch":
+				batchSize++;
+				if (batchSql == null && args != null && args.length == 1) {
+					batchSql = (String) args[0];
+				}
+				return invokeTarget(target, method, args);
+			case "clearBatch":
+				batchSize = 0;
+				batchSql = null;
+				return invokeTarget(target, method, args);
+			case "clearParameters":
+				bindCount = 0;
+				return invokeTarget(target, method, args);
+			default:
+				break;
+			}
+			if (!name.startsWith("execute")) {
+				if (recordBinds && name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+					recordBind(index, name, args[1]);
+				}
+				return invokeTarget(target, method, args);
+			}
+
+			boolean batch = name.endsWith("Batch");
+			String sql = sql(batch, args);
+			int executedBatchSize = batch ? batchSize : 0;
+			if (batch) {
+				batchSize = 0;
+				batchSql = null;
+			}
+
+			long start = System.nanoTime();
+			Object result;
+			try {
+				result = invokeTarget(target, method, args);
+			} catch (SQLException | RuntimeException e) {
+				executed(sql, System.nanoTime() - start, executedBatchSize, e);
+				throw e;
+			}
+			executed(sql, System.nanoTime() - start, executedBatchSize, null);
+			return result;
+		}
+
+		/**
+		 * <pre>
+		 * setInt(1, ...)ならInt、setNullまたはnullをセットした場合は{@link SqlLoggingDataSource#NULL_BIND}を記録する
+		 * setObjectは値のクラス名を記録する
+		 * </pre>
+		 */
+		private void recordBind(int parameterIndex, String methodName, Object value) {
+			if (parameterIndex < 1) {
+				return;
+			}
+			if (parameterIndex > bindTypes.length) {
+				bindTypes = Arrays.copyOf(bindTypes, Math.max(parameterIndex, bindTypes.length * 2));
+			}
+			String type;
+			if (value == null || "setNull".equals(methodName)) {
+				type = NULL_BIND;
+			} else if ("setObject".equals(methodName)) {
+				type = value.getClass().getSimpleName();
+			} else {
+				type = methodName.substring(3);
+			}
+			bindTypes[parameterIndex - 1] = type;
+			bindCount = Math.max(bindCount, parameterIndex);
+		}
+
+		private void executed(String sql, long elapsedNanos, int executedBatchSize, Throwable error) {
+			if (settings.isEnabled()) {
+				if (error != null) {
+					submit(SqlLogReason.ERROR, sql, elapsedNanos, executedBatchSize, error);
+				} else if (elapsedNanos >= settings.thresholdNanos(sql)) {
+					submit(SqlLogReason.SLOW, sql, elapsedNanos, executedBatchSize, null);
+				} else if (settings.sample()) {
+					submit(SqlLogReason.SAMPLED, sql, elapsedNanos, executedBatchSize, null);
+				}
+			}
+			if (!listeners.isEmpty()) {
+				SqlExecution execution = new SqlExecution(sql, elapsedNanos, executedBatchSize, error, bindTypes,
+						bindCount);
+				for (SqlExecutionListener listener : listeners) {
+					if (listener.isActive()) {
+						listener.afterExecute(execution);
+					}
+				}
+			}
+		}
+
+		private String sql(boolean batch, Object[] args) {
+			if (preparedSql != null) {
+				return preparedSql;
+			}
+			if (batch) {
+				return batchSql;
+			}
+			return args != null && args.length > 0 ? (String) args[0] : null;
+		}
+
+		private void submit(SqlLogReason reason, String sql, long elapsedNanos, int batchSize, Throwable error) {
+			writer.submit(new SqlLogEntry(reason, sql, elapsedNanos, batchSize, Thread.currentThread().getName(), error));
+		}
+	}
+
+	/**
+	 * <pre>
+	 * リフレクションで呼び出した際の{@link InvocationTargetException}を元の例外に戻す
+	 * </pre>
+	 */
+	private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+}
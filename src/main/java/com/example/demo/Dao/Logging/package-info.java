@@ -0,0 +1,6 @@
+/**
+ * @author Takumi
+ * 実行したSQLのログ出力（サンプリング・遅いSQLの検出）で使用するパッケージ
+ *
+ */
+package com.example.demo.Dao.Logging;
@@ -0,0 +1,37 @@
+package com.example.demo.Dao.Metrics;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link DaoMetricsAspect}で記録するメトリクスの名前とタグ
+ * </pre>
+ */
+public final class DaoMetricNames {
+
+	/** 処理時間（タグ：stack, operation, outcome） */
+	public static final String OPERATION = "dao.operation";
+
+	/** 取得・更新した件数（タグ：stack, operation） */
+	public static final String ROWS = "dao.rows";
+
+	/** 一括処理で渡した件数（タグ：stack, operation） */
+	public static final String BATCH_SIZE = "dao.batch.size";
+
+	/** 例外の発生回数（タグ：stack, operation, exception） */
+	public static final String ERRORS = "dao.errors";
+
+	public static final String TAG_STACK = "stack";
+
+	public static final String TAG_OPERATION = "operation";
+
+	public static final String TAG_OUTCOME = "outcome";
+
+	public static final String TAG_EXCEPTION = "exception";
+
+	public static final String OUTCOME_SUCCESS = "success";
+
+	public static final String OUTCOME_ERROR = "error";
+
+	private DaoMetricNames() {
+	}
+}
@@ -0,0 +1,229 @@
+package com.example.demo.Dao.Metrics;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.Dao.Batch.UpsertResult;
+import com.example.demo.Dao.Query.JDBCEntityLookupResult;
+import com.example.demo.Dao.Query.JDBCEntityPage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link com.example.demo.Dao.JDBCTempDao JDBCTempDao}・{@link com.example.demo.Dao.NamedJDBCDao NamedJDBCDao}・
+ * {@link com.example.demo.Repository.JPARepository JPARepository}・{@link com.example.demo.Repository.DataJDBCRepository DataJDBCRepository}
+ * のpublicメソッドの処理時間・件数・例外を{@link MeterRegistry}に記録する
+ * タグのoperationはメソッド名（オーバーロードは同じメトリクスにまとめる）
+ *
+ * 件数は戻り値から求める（int, Collection, Map, Optional, {@link JDBCEntityLookupResult}など）
+ * voidや{@code Stream}を返すメソッドは件数を記録せず、{@code Stream}の処理時間は検索開始までになる
+ * 一括処理で渡した件数は最初のCollectionの引数から求める
+ *
+ * dao-metrics.enabled=falseで無効にできる（デフォルトtrue）
+ * </pre>
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "dao-metrics.enabled", matchIfMissing = true)
+public class DaoMetricsAspect {
+
+	private static final double[] PERCENTILES = { 0.5, 0.95, 0.99 };
+
+	private final MeterRegistry registry;
+
+	/** key:データアクセス方法 value:（key:メソッド value:メトリクス） */
+	private final Map<DaoStack, Map<Method, OperationMeters>> meters = new EnumMap<>(DaoStack.class);
+
+	/**
+	 * @param registry メトリクスの登録先
+	 */
+	public DaoMetricsAspect(MeterRegistry registry) {
+		this.registry = registry;
+		for (DaoStack stack : DaoStack.values()) {
+			meters.put(stack, new ConcurrentHashMap<>());
+		}
+	}
+
+	@Around("execution(public * com.example.demo.Dao.JDBCTempDao.*(..))")
+	public Object aroundJdbcTemplate(ProceedingJoinPoint joinPoint) throws Throwable {
+		return record(DaoStack.JDBC_TEMPLATE, joinPoint);
+	}
+
+	@Around("execution(public * com.example.demo.Dao.NamedJDBCDao.*(..))")
+	public Object aroundNamedJdbcTemplate(ProceedingJoinPoint joinPoint) throws Throwable {
+		return record(DaoStack.NAMED_JDBC_TEMPLATE, joinPoint);
+	}
+
+	@Around("execution(* com.example.demo.Repository.JPARepository+.*(..))")
+	public Object aroundJpa(ProceedingJoinPoint joinPoint) throws Throwable {
+		return record(DaoStack.JPA, joinPoint);
+	}
+
+	@Around("execution(* com.example.demo.Repository.DataJDBCRepository+.*(..))")
+	public Object aroundDataJdbc(ProceedingJoinPoint joinPoint) throws Throwable {
+		return record(DaoStack.DATA_JDBC, joinPoint);
+	}
+
+	/**
+	 * <pre>
+	 * メソッドを実行し、処理時間・件数を記録する
+	 * 例外が発生した場合はoutcome=errorの処理時間と例外の回数を記録してそのまま投げる
+	 * </pre>
+	 * @param stack データアクセス方法
+	 * @param joinPoint
+	 * @return メソッドの戻り値
+	 * @throws Throwable メソッドで発生した例外
+	 */
+	private Object record(DaoStack stack, ProceedingJoinPoint joinPoint) throws Throwable {
+		Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+		OperationMeters operation = meters.get(stack).computeIfAbsent(method,
+				m -> new OperationMeters(registry, stack, m.getName()));
+
+		int batchSize = batchSize(joinPoint.getArgs());
+		if (batchSize >= 0) {
+			operation.batchSize.record(batchSize);
+		}
+
+		long start = System.nanoTime();
+		Object result;
+		try {
+			result = joinPoint.proceed();
+		} catch (Throwable e) {
+			operation.errorTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			operation.errorCounter(registry, e).increment();
+			throw e;
+		}
+		operation.successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+		int rows = rowCount(result);
+		if (rows >= 0) {
+			operation.rows.record(rows);
+		}
+		return result;
+	}
+
+	/**
+	 * @param args メソッドの引数
+	 * @return 最初のCollectionの引数の件数（ない場合-1）
+	 */
+	private static int batchSize(Object[] args) {
+		for (Object arg : args) {
+			if (arg instanceof Collection<?> collection) {
+				return collection.size();
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @param result メソッドの戻り値
+	 * @return 取得・更新した件数（戻り値から求められない場合-1）
+	 */
+	private static int rowCount(Object result) {
+		if (result instanceof Integer count) {
+			return count;
+		}
+		if (result instanceof Collection<?> collection) {
+			return collection.size();
+		}
+		if (result instanceof Map<?, ?> row) {
+			return row.isEmpty() ? 0 : 1;
+		}
+		if (result instanceof Optional<?> optional) {
+			return optional.isPresent() ? 1 : 0;
+		}
+		if (result instanceof JDBCEntityLookupResult lookupResult) {
+			return lookupResult.getFound().size();
+		}
+		if (result instanceof JDBCEntityPage page) {
+			return page.size();
+		}
+		if (result instanceof UpsertResult upsertResult) {
+			return upsertResult.getTotalCount();
+		}
+		return -1;
+	}
+
+	/**
+	 * <pre>
+	 * 1つのメソッドで記録するメトリクス
+	 * 呼び出しのたびに{@link MeterRegistry}から探さないように保持しておく
+	 * </pre>
+	 */
+	private static final class OperationMeters {
+
+		private final DaoStack stack;
+
+		private final String operation;
+
+		private final Timer successTimer;
+
+		private final Timer errorTimer;
+
+		private final DistributionSummary rows;
+
+		private final DistributionSummary batchSize;
+
+		/** key:例外のクラス */
+		private final Map<Class<?>, Counter> errorCounters = new ConcurrentHashMap<>();
+
+		OperationMeters(MeterRegistry registry, DaoStack stack, String operation) {
+			this.stack = stack;
+			this.operation = operation;
+			this.successTimer = timer(registry, DaoMetricNames.OUTCOME_SUCCESS);
+			this.errorTimer = timer(registry, DaoMetricNames.OUTCOME_ERROR);
+			this.rows = summary(registry, DaoMetricNames.ROWS, "rows");
+			this.batchSize = summary(registry, DaoMetricNames.BATCH_SIZE, "items");
+		}
+
+		Counter errorCounter(MeterRegistry registry, Throwable e) {
+			return errorCounters.computeIfAbsent(e.getClass(), type -> Counter.builder(DaoMetricNames.ERRORS)
+					.tag(DaoMetricNames.TAG_STACK, stack.getTagValue())
+					.tag(DaoMetricNames.TAG_OPERATION, operation)
+					.tag(DaoMetricNames.TAG_EXCEPTION, type.getSimpleName())
+					.register(registry));
+		}
+
+		private Timer timer(MeterRegistry registry, String outcome) {
+			return Timer.builder(DaoMetricNames.OPERATION)
+					.tag(DaoMetricNames.TAG_STACK, stack.getTagValue())
+					.tag(DaoMetricNames.TAG_OPERATION, operation)
+					.tag(DaoMetricNames.TAG_OUTCOME, outcome)
+					.publishPercentileHistogram()
+					.publishPercentiles(PERCENTILES)
+					.minimumExpectedValue(Duration.ofNanos(10_000))
+					.maximumExpectedValue(Duration.ofSeconds(30))
+					.register(registry);
+		}
+
+		private DistributionSummary summary(MeterRegistry registry, String name, String baseUnit) {
+			return DistributionSummary.builder(name)
+					.baseUnit(baseUnit)
+					.tag(DaoMetricNames.TAG_STACK, stack.getTagValue())
+					.tag(DaoMetricNames.TAG_OPERATION, operation)
+					.publishPercentileHistogram()
+					.publishPercentiles(PERCENTILES)
+					.minimumExpectedValue(1.0)
+					.maximumExpectedValue(1_000_000.0)
+					.register(registry);
+		}
+	}
+}
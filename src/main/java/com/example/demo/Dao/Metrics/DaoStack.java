@@ -0,0 +1,30 @@
+package com.example.demo.Dao.Metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author Takumi
+ * <pre>
+ * メトリクスのstackタグに設定するデータアクセス方法
+ * </pre>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DaoStack {
+
+	/** {@link com.example.demo.Dao.JDBCTempDao JDBCTempDao} */
+	JDBC_TEMPLATE("jdbcTemplate"),
+
+	/** {@link com.example.demo.Dao.NamedJDBCDao NamedJDBCDao} */
+	NAMED_JDBC_TEMPLATE("namedJdbcTemplate"),
+
+	/** {@link com.example.demo.Repository.JPARepository JPARepository} */
+	JPA("jpa"),
+
+	/** {@link com.example.demo.Repository.DataJDBCRepository DataJDBCRepository} */
+	DATA_JDBC("dataJdbc");
+
+	/** タグの値 */
+	private final String tagValue;
+}
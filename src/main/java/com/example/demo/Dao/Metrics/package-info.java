@@ -0,0 +1,6 @@
+/**
+ * @author Takumi
+ * データアクセスの処理時間・件数などのメトリクスを記録するパッケージ
+ *
+ */
+package com.example.demo.Dao.Metrics;
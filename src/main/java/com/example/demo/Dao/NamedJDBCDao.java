@@ -1,12 +1,21 @@
 package com.example.demo.Dao;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
 import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -15,8 +24,22 @@ import org.springframework.jdbc.core.namedparam.SqlParameterSourceUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.CollectionUtils;
 
+import com.example.demo.Dao.Batch.BulkInsertMode;
+import com.example.demo.Dao.Batch.UpsertOutcome;
+import com.example.demo.Dao.Batch.UpsertResult;
+import com.example.demo.Dao.Cache.JDBCEntityCache;
+import com.example.demo.Dao.Index.JDBCEntitySecondaryIndex;
+import com.example.demo.Dao.Query.JDBCEntityFilter;
+import com.example.demo.Dao.Query.JDBCEntityLookupResult;
+import com.example.demo.Dao.Query.JDBCEntityPage;
+import com.example.demo.Dao.Query.PageToken;
+import com.example.demo.Dao.RowMapper.JDBCEntityRowCallbackHandler;
 import com.example.demo.Dao.RowMapper.JDBCEntityRowMapper;
+import com.example.demo.Dao.Statement.ForwardOnlyStatementCreator;
+import com.example.demo.Dao.Statement.JDBCEntitySql;
+import com.example.demo.Dao.Statement.StatementCache;
 import com.example.demo.Entity.JDBCEntity;
+import com.example.demo.Entity.JDBCEntityRow;
 
 /**
  * @author Takumi
@@ -34,6 +57,32 @@ public class NamedJDBCDao {
 	@Autowired
 	private NamedParameterJdbcTemplate namedJdbc;
 
+	/** idでの取得結果のキャッシュ（{@link JDBCTempDao}と共有） */
+	@Autowired
+	private JDBCEntityCache entityCache;
+
+	/** birth_day・last_nameのインデックス（無効な場合はSQLで検索する） */
+	@Autowired
+	private JDBCEntitySecondaryIndex secondaryIndex;
+
+	/** updateByIdのUPDATE文のキャッシュ（key:更新するカラムの並び） */
+	private final StatementCache<List<String>> updateStatementCache = new StatementCache<>();
+
+	/** insertのINSERT文のキャッシュ（key:挿入するカラムの並び） */
+	private final StatementCache<List<String>> insertStatementCache = new StatementCache<>();
+
+	/** キーセット方式のページングのSELECT文のキャッシュ（key:{@link JDBCEntityFilter#getConditionMask()}） */
+	private final StatementCache<Integer> seekPageStatementCache = new StatementCache<>();
+
+	/** 条件での全件取得のSELECT文のキャッシュ（key:{@link JDBCEntityFilter#getConditionMask()}） */
+	private final StatementCache<Integer> scanStatementCache = new StatementCache<>();
+
+	/** 複数行INSERT文のキャッシュ（key:行数） */
+	private final StatementCache<Integer> multiRowInsertStatementCache = new StatementCache<>();
+
+	/** チャンクごとに削除するidを取得するSELECT文のキャッシュ（key:{@link JDBCEntityFilter#getConditionMask()}） */
+	private final StatementCache<Integer> seekIdsStatementCache = new StatementCache<>();
+
 	/**
 	 * <pre>
 	 * テーブルのデータを{@code List<Map<String, Object>>}ですべて取得。
@@ -45,18 +94,9 @@ public class NamedJDBCDao {
 	 */
 	public List<Map<String, Object>> findAll() throws DataAccessException {
 		try {
-			List<String> sqlList = new ArrayList<String>();
-
-			sqlList.add("SELECT");
-			sqlList.add("*");
-			sqlList.add("FROM");
-			sqlList.add(JDBCEntity.TEST);
-
-			String sql = String.join(" ", sqlList);
-
 			EmptySqlParameterSource empty = new EmptySqlParameterSource();
 
-			return namedJdbc.queryForList(sql, empty);
+			return namedJdbc.queryForList(JDBCEntitySql.SELECT_ALL, empty);
 		} catch (DataAccessException e) {
 			System.err.println(e.getMessage() + "¥r¥n"
 					+ e.getStackTrace());
@@ -77,21 +117,12 @@ public class NamedJDBCDao {
 	 */
 	public Map<String, Object> findById(int id) throws DataAccessException {
 		try {
-			List<String> sqlList = new ArrayList<String>();
-
-			sqlList.add("SELECT");
-			sqlList.add("*");
-			sqlList.add("FROM");
-			sqlList.add(JDBCEntity.TEST);
-			sqlList.add("WHERE");
-			sqlList.add(JDBCEntity.ID + " = :" + JDBCEntity.ID);
-
-			String sql = String.join(" ", sqlList);
+			return entityCache.getRow(id, key -> {
+				MapSqlParameterSource params = new MapSqlParameterSource();
+				params.addValue(JDBCEntity.ID, key);
 
-			MapSqlParameterSource params = new MapSqlParameterSource();
-			params.addValue(JDBCEntity.ID, id);
-
-			return namedJdbc.queryForMap(sql, params);
+				return namedJdbc.queryForMap(JDBCEntitySql.NAMED_SELECT_BY_ID, params);
+			});
 		} catch (DataAccessException e) {
 			System.err.println(e.getMessage() + "¥r¥n"
 					+ e.getStackTrace());
@@ -113,20 +144,18 @@ public class NamedJDBCDao {
 	 */
 	public int updateById(int id, Map<String, String> updateDataMap) throws DataAccessException {
 		try {
-			List<String> sqlList = new ArrayList<String>();
 			MapSqlParameterSource params = new MapSqlParameterSource();
-			params.addValue(getUniqueKey(updateDataMap, JDBCEntity.ID), id);
-
-			sqlList.add("UPDATE");
-			sqlList.add(JDBCEntity.TEST);
-			sqlList.add("SET");
-			sqlList.add(updateSet(updateDataMap, params));
-			sqlList.add("WHERE");
-			sqlList.add(JDBCEntity.ID + " = :" + JDBCEntity.ID);
+			String whereParamName = getUniqueKey(updateDataMap, JDBCEntity.ID);
+			params.addValues(updateDataMap);
+			params.addValue(whereParamName, id);
 
-			String sql = String.join(" ", sqlList);
+			String sql = updateStatementCache.get(List.copyOf(updateDataMap.keySet()),
+					columnList -> JDBCEntitySql.namedUpdateById(columnList, whereParamName));
 
-			return namedJdbc.update(sql, params);
+			int updateCount = namedJdbc.update(sql, params);
+			entityCache.invalidate(id);
+			entityCache.invalidateIdIn(updateDataMap);
+			return updateCount;
 		} catch (DataAccessException e) {
 			System.err.println(e.getMessage() + "¥r¥n"
 					+ e.getStackTrace());
@@ -148,14 +177,13 @@ public class NamedJDBCDao {
 	public int insert(Map<String, String> insertDataMap) throws DataAccessException {
 		try {
 			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValues(insertDataMap);
 
-			List<String> sqlList = new ArrayList<String>();
-			sqlList.add("INSERT INTO");
-			sqlList.add(JDBCEntity.TEST);
-			sqlList.add(insertSet(insertDataMap, params));
-			String sql = String.join(" ", sqlList);
+			String sql = insertStatementCache.get(List.copyOf(insertDataMap.keySet()), JDBCEntitySql::namedInsert);
 
-			return namedJdbc.update(sql, params);
+			int insertCount = namedJdbc.update(sql, params);
+			entityCache.invalidateIdIn(insertDataMap);
+			return insertCount;
 		} catch (DataAccessException e) {
 			System.err.println(e.getMessage() + "\r\n"
 					+ e.getStackTrace());
@@ -174,18 +202,12 @@ public class NamedJDBCDao {
 	 */
 	public int deleteById(int id) throws DataAccessException {
 		try {
-			List<String> sqlList = new ArrayList<String>();
 			MapSqlParameterSource params = new MapSqlParameterSource();
 			params.addValue(JDBCEntity.ID, id);
 
-			sqlList.add("DELETE");
-			sqlList.add(JDBCEntity.TEST);
-			sqlList.add("WHERE");
-			sqlList.add(JDBCEntity.ID + " = :" + JDBCEntity.ID);
-
-			String sql = String.join(" ", sqlList);
-
-			return namedJdbc.update(sql, params);
+			int deleteCount = namedJdbc.update(JDBCEntitySql.NAMED_DELETE_BY_ID, params);
+			entityCache.invalidate(id);
+			return deleteCount;
 		} catch (DataAccessException e) {
 			System.err.println(e.getMessage() + "¥r¥n"
 					+ e.getStackTrace());
@@ -207,18 +229,8 @@ public class NamedJDBCDao {
 	public int batchUpdate(List<JDBCEntity> updateList) throws DataAccessException {
 		SqlParameterSource[] params = SqlParameterSourceUtils.createBatch(updateList);
 
-		List<String> sqlList = new ArrayList<String>();
-
-		sqlList.add("UPDATE");
-		sqlList.add(JDBCEntity.TEST);
-		sqlList.add("SET");
-		sqlList.add(batchUpdateSet());
-		sqlList.add("WHERE");
-		sqlList.add(JDBCEntity.ID + " = :" + JDBCEntity.ID);
-		
-		String sql = String.join(" ", sqlList);
-		
-		int[] batchUpdate = namedJdbc.batchUpdate(sql, params);
+		int[] batchUpdate = namedJdbc.batchUpdate(JDBCEntitySql.NAMED_BATCH_UPDATE, params);
+		entityCache.invalidate(updateList);
 		int returnCount = 0;
 		for(int count : batchUpdate) {
 			returnCount += count;
@@ -241,15 +253,8 @@ public class NamedJDBCDao {
 		try {
 			SqlParameterSource[] params = SqlParameterSourceUtils.createBatch(insertList);
 
-			List<String> sqlList = new ArrayList<String>();
-
-			sqlList.add("INSERT INTO");
-			sqlList.add(JDBCEntity.TEST);
-			sqlList.add(batchInsertSet());
-
-			String sql = String.join(" ", sqlList);
-
-			int[] batchUpdate = namedJdbc.batchUpdate(sql, params);
+			int[] batchUpdate = namedJdbc.batchUpdate(JDBCEntitySql.NAMED_BATCH_INSERT, params);
+			entityCache.invalidate(insertList);
 			int returnCount = 0;
 			for (int count : batchUpdate) {
 				returnCount += count;
@@ -261,36 +266,200 @@ public class NamedJDBCDao {
 			throw e;
 		}
 	}
+
+	/**
+	 * <pre>
+	 * データの一括挿入（チャンク分割）
+	 * 引数のリストをchunkSize件ずつに分けて挿入する
+	 * {@link BulkInsertMode#BATCH}なら1行ずつのINSERT文をチャンクごとにJDBCのバッチで送り、
+	 * {@link BulkInsertMode#MULTI_ROW}ならチャンクごとにINSERT ... VALUES (...), (...), ...の1文で送る
+	 * （chunkSizeの上限は{@link JDBCEntitySql#MAX_MULTI_ROW_INSERT_SIZE}で、最後の端数のチャンクは
+	 * {@link JDBCEntitySql#multiRowInsertSize(int, int)}の行数ずつの文に分けて送る）
+	 * トランザクション内で呼んだ場合はそのトランザクションに含まれ、
+	 * トランザクション外で呼んだ場合はチャンクごと（複数行INSERT文ごと）にコミットされる
+	 * </pre>
+	 * @param insertList 挿入したいデータのリスト
+	 * @param chunkSize 1チャンクの行数
+	 * @param mode 挿入方式
+	 * @return 挿入数
+	 * @throws DataAccessException
+	 */
+	public int batchInsert(List<JDBCEntity> insertList, int chunkSize, BulkInsertMode mode) throws DataAccessException {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunkSizeは1以上を指定してください。");
+		}
+		try {
+			int returnCount = 0;
+			if (mode == BulkInsertMode.MULTI_ROW) {
+				//SQL文の種類（キャッシュのkey）とパラメータ数が増えすぎないよう、行数を制限する
+				int rowCount = Math.min(chunkSize, JDBCEntitySql.MAX_MULTI_ROW_INSERT_SIZE);
+				for (int from = 0; from < insertList.size();) {
+					int size = JDBCEntitySql.multiRowInsertSize(insertList.size() - from, rowCount);
+					returnCount += multiRowInsert(insertList.subList(from, from + size));
+					from += size;
+				}
+			} else {
+				for (int from = 0; from < insertList.size(); from += chunkSize) {
+					returnCount += batchInsert(insertList.subList(from, Math.min(from + chunkSize, insertList.size())));
+				}
+			}
+
+			return returnCount;
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+	}
 	
 	/**
 	 * <pre>
 	 * データの一括削除
 	 * 引数に削除したいデータの{@code List<JDBCEntity>}を渡すことでデータを一括削除する
 	 * この引数にセットする値はid（プライマリキー）のみでOK
-	 * {@link NamedParameterJdbcTemplate#batchUpdate(String, SqlParameterSource[])}使用
+	 * idを{@link JDBCEntitySql#MAX_IN_LIST_SIZE}件ずつのIN句にまとめて削除する（{@link #deleteByIds(Collection)}）
 	 * </pre>
 	 * @param deleteList 削除したいデータのリスト（セットする値はidにみでOK）
 	 * @return 削除数
 	 */
 	public int batchDelete(List<JDBCEntity> deleteList) {
-		SqlParameterSource[] params = SqlParameterSourceUtils.createBatch(deleteList);
+		List<Integer> ids = new ArrayList<>(deleteList.size());
+		for (JDBCEntity data : deleteList) {
+			ids.add(data.getId());
+		}
+		return deleteByIds(ids);
+	}
 
-		List<String> sqlList = new ArrayList<String>();
+	/**
+	 * <pre>
+	 * 複数のidのデータをまとめて削除する
+	 * idは{@link JDBCEntitySql#MAX_IN_LIST_SIZE}件ずつのIN句に分けて削除する
+	 * {@link NamedParameterJdbcTemplate#update(String, SqlParameterSource)}使用
+	 * </pre>
+	 * @param ids 削除したいデータのid（重複は除く）
+	 * @return 削除数
+	 * @throws DataAccessException
+	 */
+	public int deleteByIds(Collection<Integer> ids) throws DataAccessException {
+		List<Integer> idList = new ArrayList<>(new LinkedHashSet<>(ids));
+		try {
+			int returnCount = 0;
+			for (List<Integer> chunk : JDBCEntitySql.inListChunks(idList)) {
+				MapSqlParameterSource params = new MapSqlParameterSource();
+				params.addValue("ids", JDBCEntitySql.paddedInList(chunk));
+				try {
+					returnCount += namedJdbc.update(JDBCEntitySql.NAMED_DELETE_BY_IDS, params);
+				} finally {
+					//チャンクごとにコミットされる場合があるため、後のチャンクが失敗しても削除済みのidが残らないようにする
+					entityCache.invalidateIds(chunk);
+				}
+			}
 
-		sqlList.add("DELETE");
-		sqlList.add(JDBCEntity.TEST);
-		sqlList.add("WHERE");
-		sqlList.add(JDBCEntity.ID + " = :" + JDBCEntity.ID);
-		
-		String sql = String.join(" ", sqlList);
-		
-		int[] batchUpdate = namedJdbc.batchUpdate(sql, params);
-		int returnCount = 0;
-		for(int count : batchUpdate) {
-			returnCount += count;
+			return returnCount;
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+	}
+
+	/**
+	 * <pre>
+	 * idが範囲内のデータを、id順にchunkSize件ずつ削除する
+	 * </pre>
+	 * @param fromId idの下限（含む）
+	 * @param toId idの上限（含む）
+	 * @param chunkSize 1度に削除する行数
+	 * @return 削除数
+	 * @throws DataAccessException
+	 * @see #deleteByFilter(JDBCEntityFilter, int)
+	 */
+	public int deleteByIdRange(int fromId, int toId, int chunkSize) throws DataAccessException {
+		return deleteInChunks(fromId, toId, JDBCEntityFilter.create(), chunkSize);
+	}
+
+	/**
+	 * <pre>
+	 * 条件に一致するデータを、id順にchunkSize件ずつ削除する
+	 * チャンクごとに、削除するidをキーセット方式で取得してからIN句で削除するため、
+	 * 1つのDELETE文がロックする行はchunkSize件まで
+	 * トランザクション内で呼んだ場合はそのトランザクションに含まれ、
+	 * トランザクション外で呼んだ場合はチャンクごとにコミットされる
+	 * </pre>
+	 * @param filter 削除条件（条件なしの場合はnull＝全件）
+	 * @param chunkSize 1度に削除する行数
+	 * @return 削除数
+	 * @throws DataAccessException
+	 */
+	public int deleteByFilter(JDBCEntityFilter filter, int chunkSize) throws DataAccessException {
+		return deleteInChunks(Integer.MIN_VALUE, Integer.MAX_VALUE,
+				filter == null ? JDBCEntityFilter.create() : filter, chunkSize);
+	}
+
+	/**
+	 * <pre>
+	 * データの一括アップサート（存在するidは更新、存在しないidは挿入）
+	 * {@link BulkInsertMode#DEFAULT_CHUNK_SIZE}件ずつのチャンクに分けて実行する
+	 * </pre>
+	 * @param upsertList 挿入・更新したいデータのリスト
+	 * @return 1行ごとに挿入・更新のどちらだったか
+	 * @throws DataAccessException
+	 */
+	public UpsertResult batchUpsert(List<JDBCEntity> upsertList) throws DataAccessException {
+		return batchUpsert(upsertList, BulkInsertMode.DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * <pre>
+	 * データの一括アップサート（存在するidは更新、存在しないidは挿入）
+	 * H2のMERGE INTO ... KEY(id)をchunkSize件ずつJDBCのバッチで送る
+	 * MERGEの更新件数からは挿入・更新を区別できないため、チャンクごとに1回だけ存在するidを取得して判定する
+	 * 同じidが複数ある場合は、2件目以降を更新とする
+	 * {@link NamedParameterJdbcTemplate#batchUpdate(String, SqlParameterSource[])}使用
+	 * </pre>
+	 * @param upsertList 挿入・更新したいデータのリスト
+	 * @param chunkSize 1チャンクの行数
+	 * @return 1行ごとに挿入・更新のどちらだったか
+	 * @throws DataAccessException
+	 */
+	public UpsertResult batchUpsert(List<JDBCEntity> upsertList, int chunkSize) throws DataAccessException {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunkSizeは1以上を指定してください。");
+		}
+		try {
+			UpsertOutcome[] outcomes = new UpsertOutcome[upsertList.size()];
+			Set<Integer> seenIds = new HashSet<>();
+			for (int from = 0; from < upsertList.size(); from += chunkSize) {
+				List<JDBCEntity> chunk = upsertList.subList(from, Math.min(from + chunkSize, upsertList.size()));
+
+				//このチャンクで初めて出てきたidのうち、既に存在するもの
+				Set<Integer> newIds = new LinkedHashSet<>();
+				for (JDBCEntity data : chunk) {
+					if (!seenIds.contains(data.getId())) {
+						newIds.add(data.getId());
+					}
+				}
+				Set<Integer> existingIds = selectExistingIds(new ArrayList<>(newIds));
+
+				for (int i = 0; i < chunk.size(); i++) {
+					int id = chunk.get(i).getId();
+					boolean firstTime = seenIds.add(id);
+					outcomes[from + i] = existingIds.contains(id) || !firstTime
+							? UpsertOutcome.UPDATED
+							: UpsertOutcome.INSERTED;
+				}
+
+				try {
+					namedJdbc.batchUpdate(JDBCEntitySql.NAMED_BATCH_UPSERT, SqlParameterSourceUtils.createBatch(chunk));
+				} finally {
+					//チャンクごと（自動コミットの場合は行ごと）にコミットされる場合があるため、途中で失敗しても更新済みのidが古いまま残らないようにする
+					entityCache.invalidate(chunk);
+				}
+			}
+
+			return new UpsertResult(Arrays.asList(outcomes));
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
 		}
-		
-		return returnCount;
 	}
 	
 	/**
@@ -303,16 +472,197 @@ public class NamedJDBCDao {
 	 */
 	public List<JDBCEntity> getAllJDBCEntity() throws DataAccessException {
 		try {
-			List<String> sqlList = new ArrayList<String>();
+			return namedJdbc.query(JDBCEntitySql.SELECT_ALL, new JDBCEntityRowMapper());
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+	}
+
+	/**
+	 * <pre>
+	 * テーブルのすべてのデータを1行ずつコールバックに渡す
+	 * 渡される{@link JDBCEntityRow}は全行で同じインスタンスを使い回すため、
+	 * 行を保持したい場合は{@link JDBCEntityRow#toEntity()}でコピーすること
+	 * フェッチサイズは{@link ForwardOnlyStatementCreator#DEFAULT_FETCH_SIZE}
+	 * </pre>
+	 * @param rowConsumer 1行ごとに呼ばれるコールバック
+	 * @throws DataAccessException
+	 */
+	public void forEachJDBCEntityRow(Consumer<? super JDBCEntityRow> rowConsumer) throws DataAccessException {
+		forEachJDBCEntityRow(ForwardOnlyStatementCreator.DEFAULT_FETCH_SIZE, rowConsumer);
+	}
+
+	/**
+	 * <pre>
+	 * テーブルのすべてのデータを前方向のみのカーソルで1行ずつコールバックに渡す
+	 * 全件をリストに詰めないため、テーブルの件数が増えてもメモリ使用量は変わらない
+	 * {@link NamedParameterJdbcTemplate#getJdbcTemplate()}の{@link org.springframework.jdbc.core.JdbcTemplate#query(org.springframework.jdbc.core.PreparedStatementCreator, org.springframework.jdbc.core.RowCallbackHandler)}使用
+	 * </pre>
+	 * @param fetchSize 1度にドライバーが取得する行数
+	 * @param rowConsumer 1行ごとに呼ばれるコールバック（{@link JDBCEntityRow}は使い回し）
+	 * @throws DataAccessException
+	 */
+	public void forEachJDBCEntityRow(int fetchSize, Consumer<? super JDBCEntityRow> rowConsumer) throws DataAccessException {
+		try {
+			namedJdbc.getJdbcTemplate().query(new ForwardOnlyStatementCreator(JDBCEntitySql.SELECT_ALL, fetchSize),
+					new JDBCEntityRowCallbackHandler(rowConsumer));
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+	}
+
+	/**
+	 * <pre>
+	 * テーブルのすべてのデータを前方向のみのカーソルで1行ずつコールバックに渡す
+	 * {@link #forEachJDBCEntityRow(int, Consumer)}と違い、行ごとに{@link JDBCEntity}を作成して渡す
+	 * </pre>
+	 * @param fetchSize 1度にドライバーが取得する行数
+	 * @param entityConsumer 1行ごとに呼ばれるコールバック
+	 * @throws DataAccessException
+	 */
+	public void forEachJDBCEntity(int fetchSize, Consumer<? super JDBCEntity> entityConsumer) throws DataAccessException {
+		forEachJDBCEntityRow(fetchSize, row -> entityConsumer.accept(row.toEntity()));
+	}
+
+	/**
+	 * <pre>
+	 * テーブルのすべてのデータを{@code Stream<JDBCEntity>}で取得する
+	 * フェッチサイズは{@link ForwardOnlyStatementCreator#DEFAULT_FETCH_SIZE}
+	 * </pre>
+	 * @return テーブル内の全データのストリーム（必ずcloseすること）
+	 * @throws DataAccessException
+	 * @see #streamAllJDBCEntity(int)
+	 */
+	public Stream<JDBCEntity> streamAllJDBCEntity() throws DataAccessException {
+		return streamAllJDBCEntity(ForwardOnlyStatementCreator.DEFAULT_FETCH_SIZE);
+	}
+
+	/**
+	 * <pre>
+	 * テーブルのすべてのデータを前方向のみのカーソルで読み進める{@code Stream<JDBCEntity>}で取得する
+	 * 行は読み進めた分だけ取得されるため、全件をメモリに載せない
+	 * 接続やカーソルは{@link Stream#close()}で解放されるため、try-with-resourcesで使用すること
+	 * {@link NamedParameterJdbcTemplate#getJdbcTemplate()}の{@link org.springframework.jdbc.core.JdbcTemplate#queryForStream(org.springframework.jdbc.core.PreparedStatementCreator, org.springframework.jdbc.core.RowMapper)}使用
+	 * </pre>
+	 * @param fetchSize 1度にドライバーが取得する行数
+	 * @return テーブル内の全データのストリーム（必ずcloseすること）
+	 * @throws DataAccessException
+	 */
+	public Stream<JDBCEntity> streamAllJDBCEntity(int fetchSize) throws DataAccessException {
+		try {
+			return namedJdbc.getJdbcTemplate().queryForStream(new ForwardOnlyStatementCreator(JDBCEntitySql.SELECT_ALL, fetchSize),
+					new JDBCEntityRowMapper());
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+	}
 
-			sqlList.add("SELECT");
-			sqlList.add("*");
-			sqlList.add("FROM");
-			sqlList.add(JDBCEntity.TEST);
+	/**
+	 * <pre>
+	 * {@link #findAll()}のストリーム版
+	 * key:カラム名 value:その値 の{@code Map<String, Object>}を1行ずつ読み進める
+	 * 接続やカーソルは{@link Stream#close()}で解放されるため、try-with-resourcesで使用すること
+	 * </pre>
+	 * @param fetchSize 1度にドライバーが取得する行数
+	 * @return テーブル内の全データのストリーム（必ずcloseすること）
+	 * @throws DataAccessException
+	 */
+	public Stream<Map<String, Object>> streamAll(int fetchSize) throws DataAccessException {
+		try {
+			return namedJdbc.getJdbcTemplate().queryForStream(new ForwardOnlyStatementCreator(JDBCEntitySql.SELECT_ALL, fetchSize),
+					new ColumnMapRowMapper());
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+	}
 
-			String sql = String.join(" ", sqlList);
+	/**
+	 * <pre>
+	 * 条件に一致するデータを前方向のみのカーソルでid順に読み進める{@code Stream<JDBCEntity>}で取得する
+	 * 行は読み進めた分だけ取得されるため、全件をメモリに載せない
+	 * 接続やカーソルは{@link Stream#close()}で解放されるため、try-with-resourcesで使用すること
+	 * {@link NamedParameterJdbcTemplate#getJdbcTemplate()}の{@link org.springframework.jdbc.core.JdbcTemplate#queryForStream(org.springframework.jdbc.core.PreparedStatementCreator, org.springframework.jdbc.core.RowMapper)}使用
+	 * </pre>
+	 * @param filter 検索条件（条件なしの場合はnull）
+	 * @param fetchSize 1度にドライバーが取得する行数
+	 * @return 条件に一致するデータのストリーム（必ずcloseすること）
+	 * @throws DataAccessException
+	 */
+	public Stream<JDBCEntity> streamJDBCEntities(JDBCEntityFilter filter, int fetchSize) throws DataAccessException {
+		JDBCEntityFilter condition = filter == null ? JDBCEntityFilter.create() : filter;
+		try {
+			String sql = scanStatementCache.get(condition.getConditionMask(), JDBCEntitySql::selectByFilter);
+			return namedJdbc.getJdbcTemplate().queryForStream(
+					new ForwardOnlyStatementCreator(sql, fetchSize, condition.getConditionValues()),
+					new JDBCEntityRowMapper());
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+	}
 
-			return namedJdbc.query(sql, new JDBCEntityRowMapper());
+	/**
+	 * <pre>
+	 * birth_dayが範囲内のデータをid順に取得する
+	 * {@link JDBCEntitySecondaryIndex}が有効な場合は、インデックスで絞り込んだidをキャッシュ経由で取得する
+	 * 無効な場合は{@link #streamJDBCEntities(JDBCEntityFilter, int)}と同じSELECT文で取得する
+	 * </pre>
+	 * @param from birth_dayの下限（含む）
+	 * @param to birth_dayの上限（含む）
+	 * @return 条件に一致するデータ（id順）
+	 * @throws DataAccessException
+	 */
+	public List<JDBCEntity> getJDBCEntitiesByBirthDay(int from, int to) throws DataAccessException {
+		return findByIndex(JDBCEntityFilter.create().birthDayBetween(from, to),
+				() -> secondaryIndex.findIdsByBirthDay(from, to));
+	}
+
+	/**
+	 * <pre>
+	 * last_nameが一致するデータをid順に取得する
+	 * {@link JDBCEntitySecondaryIndex}が有効な場合は、インデックスで絞り込んだidをキャッシュ経由で取得する
+	 * 無効な場合は{@link #streamJDBCEntities(JDBCEntityFilter, int)}と同じSELECT文で取得する
+	 * </pre>
+	 * @param lastName 取得したいデータのlast_name
+	 * @return 条件に一致するデータ（id順）
+	 * @throws DataAccessException
+	 */
+	public List<JDBCEntity> getJDBCEntitiesByLastName(String lastName) throws DataAccessException {
+		return findByIndex(JDBCEntityFilter.create().lastName(lastName),
+				() -> secondaryIndex.findIdsByLastName(lastName));
+	}
+
+	/**
+	 * <pre>
+	 * インデックスの候補のidを取得し、条件を満たす行だけを返す
+	 * （トランザクション中に変更された行は候補に含まれるため、取得した値で条件を確認し直す）
+	 * </pre>
+	 */
+	private List<JDBCEntity> findByIndex(JDBCEntityFilter filter, Supplier<int[]> candidates)
+			throws DataAccessException {
+		try {
+			int[] ids = candidates.get();
+			if (ids == null) {
+				String sql = scanStatementCache.get(filter.getConditionMask(), JDBCEntitySql::selectByFilter);
+				return namedJdbc.getJdbcTemplate().query(sql, new JDBCEntityRowMapper(), filter.getConditionValues());
+			}
+			List<JDBCEntity> result = new ArrayList<>();
+			if (ids.length == 0) {
+				return result;
+			}
+			List<Integer> idList = Arrays.stream(ids).boxed().toList();
+			Map<Integer, JDBCEntity> found = getJDBCEntitiesByIds(idList).getFound();
+			for (int id : ids) {
+				JDBCEntity data = found.get(id);
+				if (data != null && filter.matches(data)) {
+					result.add(data);
+				}
+			}
+			return result;
 		} catch (DataAccessException e) {
 			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
 			throw e;
@@ -331,22 +681,85 @@ public class NamedJDBCDao {
 	 */
 	public JDBCEntity getJDBCEntityById(int id) throws DataAccessException {
 		try {
-			MapSqlParameterSource params = new MapSqlParameterSource();
-			params.addValue(JDBCEntity.ID, id);
-			
-			List<String> sqlList = new ArrayList<String>();
+			return entityCache.getEntity(id, key -> {
+				MapSqlParameterSource params = new MapSqlParameterSource();
+				params.addValue(JDBCEntity.ID, key);
+
+				List<JDBCEntity> data = namedJdbc.query(JDBCEntitySql.NAMED_SELECT_BY_ID, params, new JDBCEntityRowMapper());
+				return data.get(0);
+			});
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+	}
+
+	/**
+	 * <pre>
+	 * 複数のidのデータをまとめて取得する
+	 * idは{@link JDBCEntitySql#MAX_IN_LIST_SIZE}件ずつのIN句に分けて取得し、
+	 * キャッシュにあるidはDBから取得しない
+	 * {@link NamedParameterJdbcTemplate#query(String, SqlParameterSource, org.springframework.jdbc.core.RowMapper)}使用
+	 * </pre>
+	 * @param ids 取得したいデータのid（重複は除く）
+	 * @return 取得できたデータ（key:id）と存在しなかったid
+	 * @throws DataAccessException
+	 */
+	public JDBCEntityLookupResult getJDBCEntitiesByIds(Collection<Integer> ids) throws DataAccessException {
+		try {
+			Map<Integer, JDBCEntity> loaded = entityCache.getEntities(ids, this::selectByIds);
+			return JDBCEntityLookupResult.of(ids, loaded);
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
+	}
 
-			sqlList.add("SELECT");
-			sqlList.add("*");
-			sqlList.add("FROM");
-			sqlList.add(JDBCEntity.TEST);
-			sqlList.add("WHERE");
-			sqlList.add(JDBCEntity.ID + " = :" + JDBCEntity.ID);
+	/**
+	 * <pre>
+	 * キーセット方式のページングでid順にpageSize件ずつ取得する
+	 * 前のページの最後のidより大きいidをWHERE句で指定するため、OFFSETと違い後ろのページでも遅くならない
+	 * 1ページ目はpageTokenにnullを渡し、2ページ目以降は前のページの{@link JDBCEntityPage#getNextToken()}を渡す
+	 * </pre>
+	 * @param pageToken 前のページのトークン（1ページ目はnull）
+	 * @param pageSize 1ページの件数
+	 * @param filter 検索条件（条件なしの場合はnull）
+	 * @return 1ページ分のデータと次のページのトークン
+	 * @throws DataAccessException
+	 */
+	public JDBCEntityPage findPage(String pageToken, int pageSize, JDBCEntityFilter filter) throws DataAccessException {
+		JDBCEntityFilter condition = filter == null ? JDBCEntityFilter.create() : filter;
+		int afterId = pageToken == null ? Integer.MIN_VALUE : PageToken.decode(pageToken, condition);
+		return findPageAfter(afterId, pageSize, condition);
+	}
 
-			String sql = String.join(" ", sqlList);
+	/**
+	 * <pre>
+	 * キーセット方式のページングで、指定したidより後ろのデータをid順にpageSize件取得する
+	 * {@link NamedParameterJdbcTemplate#query(String, SqlParameterSource, org.springframework.jdbc.core.RowMapper)}使用
+	 * </pre>
+	 * @param afterId このidより大きいidのデータを取得する
+	 * @param pageSize 1ページの件数
+	 * @param filter 検索条件（条件なしの場合はnull）
+	 * @return 1ページ分のデータと次のページのトークン
+	 * @throws DataAccessException
+	 */
+	public JDBCEntityPage findPageAfter(int afterId, int pageSize, JDBCEntityFilter filter) throws DataAccessException {
+		JDBCEntityPage.checkPageSize(pageSize);
+		JDBCEntityFilter condition = filter == null ? JDBCEntityFilter.create() : filter;
+		try {
+			String sql = seekPageStatementCache.get(condition.getConditionMask(), JDBCEntitySql::namedSeekPage);
 
-			List<JDBCEntity> data = namedJdbc.query(sql, params, new JDBCEntityRowMapper());
-			return data.get(0);
+			//次のページがあるか判定するために1件多く取得する
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue(JDBCEntitySql.PARAM_AFTER_ID, afterId);
+			params.addValue(JDBCEntitySql.PARAM_BIRTHDAY_FROM, condition.getBirthDayFrom());
+			params.addValue(JDBCEntitySql.PARAM_BIRTHDAY_TO, condition.getBirthDayTo());
+			params.addValue(JDBCEntitySql.PARAM_LAST_NAME, condition.getLastName());
+			params.addValue(JDBCEntitySql.PARAM_LIMIT, pageSize + 1);
+
+			List<JDBCEntity> rows = namedJdbc.query(sql, params, new JDBCEntityRowMapper());
+			return JDBCEntityPage.of(rows, pageSize, condition);
 		} catch (DataAccessException e) {
 			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
 			throw e;
@@ -412,6 +825,9 @@ public class NamedJDBCDao {
 			sqlList.add(":tableName");
 			
 			namedJdbc.getJdbcOperations().execute(String.join(" ", sqlList));
+			if (JDBCEntity.TEST.equalsIgnoreCase(tableName.strip())) {
+				entityCache.invalidateAll();
+			}
 		} catch (DataAccessException e) {
 			System.err.println(e.getMessage() + "r\n" + e.getStackTrace());
 			throw e;
@@ -420,140 +836,122 @@ public class NamedJDBCDao {
 
 	/**
 	 * <pre>
-	 * カラム名とその値のMapをイコールでつなぐ
+	 * パラメーターの被りが生じないために採番をつける 
 	 * </pre>
 	 * @param map
-	 * @return カラム名 = 値, カラム名 = 値, ....
+	 * @param key
+	 * @return
 	 */
-	private List<String> joinEqual(Map<String, String> map) {
-		List<String> list = new ArrayList<String>();
+	private String getUniqueKey(Map<String, String> map, String key) {
+		String uniqueKey = key;
 
-		for (var entry : map.entrySet()) {
-			list.add(entry.getKey() + " = " + entry.getValue());
+		int index = 0;
+		while (map.containsKey(uniqueKey)) {
+			uniqueKey = key + index;
+			index++;
 		}
 
-		return list;
-	}
-
-	/**
-	 * <pre> 
-	 * リストにつめた文字列をカンマでつなぐ
-	 * </pre>
-	 * @param list
-	 * @return 値, 値, 値, ...
-	 */
-	private String joinComma(List<String> list) {
-		return String.join(", ", list);
+		return uniqueKey;
 	}
 
 	/**
 	 * <pre>
-	 * UPDATEのSET句を作成する
-	 * {@code Map<String, Object>}key:カラム名 value:更新したい値
-	 * を key:カラム名 value: :カラム名
-	 * に変更する
+	 * 複数行INSERT文でチャンク1つ分を挿入する
+	 * パラメータ名は{@link JDBCEntitySql#multiRowParamName(String, int)}
 	 * </pre>
-	 * @param map key:カラム名 value:更新したい値
-	 * @return カラム名 = :カラム名, カラム名 = :カラム名, ....
+	 * @param chunk 挿入したいデータ
+	 * @return 挿入数
 	 */
-	private String updateSet(Map<String, String> map, MapSqlParameterSource params) {
-		for (var entry : map.entrySet()) {
-			params.addValue(entry.getKey(), entry.getValue());
-			map.replace(entry.getKey(), ":" + entry.getKey());
+	private int multiRowInsert(List<JDBCEntity> chunk) {
+		String sql = multiRowInsertStatementCache.get(chunk.size(), JDBCEntitySql::namedMultiRowInsert);
+
+		MapSqlParameterSource params = new MapSqlParameterSource();
+		for (int i = 0; i < chunk.size(); i++) {
+			JDBCEntity data = chunk.get(i);
+			params.addValue(JDBCEntitySql.multiRowParamName(JDBCEntity.ID, i), data.getId());
+			params.addValue(JDBCEntitySql.multiRowParamName(JDBCEntity.FIRST_NAME, i), data.getFirst_name());
+			params.addValue(JDBCEntitySql.multiRowParamName(JDBCEntity.LAST_NAME, i), data.getLast_name());
+			params.addValue(JDBCEntitySql.multiRowParamName(JDBCEntity.BIRTHDAY, i), data.getBirth_day());
 		}
 
-		return joinComma(joinEqual(map));
+		int insertCount = namedJdbc.update(sql, params);
+		entityCache.invalidate(chunk);
+		return insertCount;
 	}
-	
+
 	/**
 	 * <pre>
-	 * インサート文の(...) VALUES (...)を作成する
+	 * IN句を使用して複数のidのデータを取得する
+	 * :idsに渡す件数は{@link JDBCEntitySql#paddedInList(List)}で丸める
 	 * </pre>
-	 * @param column_valueMap keu:カラム名 value:値
-	 * @return （カラム名, カラム名, ...) VALUES (:カラム名, :カラム名, :カラム名, ...)
+	 * @param ids 取得したいデータのid（重複なし）
+	 * @return 取得できたデータ
 	 */
-	private String insertSet(Map<String, String> column_valueMap, MapSqlParameterSource params) {
-		String[] columnArray = new String[column_valueMap.size()];
-		String[] valueArray = new String[column_valueMap.size()];
-		
-		int index = 0;
-		for(var column_value : column_valueMap.entrySet()) {
-			columnArray[index] = column_value.getKey();
-			valueArray[index] = ":" + column_value.getKey();
-			params.addValue(column_value.getKey(), column_value.getValue());
-			index++;
+	private List<JDBCEntity> selectByIds(List<Integer> ids) {
+		List<JDBCEntity> dataList = new ArrayList<>(ids.size());
+		for (List<Integer> chunk : JDBCEntitySql.inListChunks(ids)) {
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue("ids", JDBCEntitySql.paddedInList(chunk));
+			dataList.addAll(namedJdbc.query(JDBCEntitySql.NAMED_SELECT_BY_IDS, params, new JDBCEntityRowMapper()));
 		}
-		
-		List<String> insertSqlList = new ArrayList<>();
-		insertSqlList.add("(");
-		insertSqlList.add(String.join(", ", columnArray));
-		insertSqlList.add(") VALUES (");
-		insertSqlList.add(String.join(", ", valueArray));
-		insertSqlList.add(")");
-		
-		return String.join(" ", insertSqlList);
+		return dataList;
 	}
 
 	/**
 	 * <pre>
-	 * パラメーターの被りが生じないために採番をつける 
+	 * idの範囲と条件に一致するidをchunkSize件ずつ取得し、取得したidを削除することを繰り返す
 	 * </pre>
-	 * @param map
-	 * @param key
-	 * @return
 	 */
-	private String getUniqueKey(Map<String, String> map, String key) {
-		String uniqueKey = key;
-
-		int index = 0;
-		while (map.containsKey(key)) {
-			uniqueKey = key + index;
-			index++;
+	private int deleteInChunks(int fromId, int toId, JDBCEntityFilter filter, int chunkSize) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunkSizeは1以上を指定してください。");
 		}
+		try {
+			String sql = seekIdsStatementCache.get(filter.getConditionMask(), JDBCEntitySql::namedSeekIds);
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue(JDBCEntitySql.PARAM_TO_ID, toId);
+			params.addValue(JDBCEntitySql.PARAM_BIRTHDAY_FROM, filter.getBirthDayFrom());
+			params.addValue(JDBCEntitySql.PARAM_BIRTHDAY_TO, filter.getBirthDayTo());
+			params.addValue(JDBCEntitySql.PARAM_LAST_NAME, filter.getLastName());
+			params.addValue(JDBCEntitySql.PARAM_LIMIT, chunkSize);
 
-		return uniqueKey;
+			int returnCount = 0;
+			int from = fromId;
+			while (from <= toId) {
+				params.addValue(JDBCEntitySql.PARAM_FROM_ID, from);
+				List<Integer> ids = namedJdbc.queryForList(sql, params, Integer.class);
+				if (ids.isEmpty()) {
+					break;
+				}
+				returnCount += deleteByIds(ids);
+
+				int lastId = ids.get(ids.size() - 1);
+				if (ids.size() < chunkSize || lastId == Integer.MAX_VALUE) {
+					break;
+				}
+				from = lastId + 1;
+			}
+			return returnCount;
+		} catch (DataAccessException e) {
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+			throw e;
+		}
 	}
 
 	/**
 	 * <pre>
-	 * updateのset句を作成する
-	 * {@link JDBCEntity}のフィールドを使用
-	 * </pre>
-	 * @return id = :id, birth_day = :birth_day, first_name = :first_name, last_name = :last_name
-	 */
-	private String batchUpdateSet() {
-		List<String> batchUpdateSetList = new ArrayList<>();
-		
-		batchUpdateSetList.add(JDBCEntity.ID + " = :" + JDBCEntity.ID);
-		batchUpdateSetList.add(JDBCEntity.BIRTHDAY + " = :" + JDBCEntity.BIRTHDAY);
-		batchUpdateSetList.add(JDBCEntity.FIRST_NAME + " = :" + JDBCEntity.FIRST_NAME);
-		batchUpdateSetList.add(JDBCEntity.LAST_NAME + " = :" + JDBCEntity.LAST_NAME);
-		
-		return String.join(", ", batchUpdateSetList);
-	}
-	
-	/**
-	 * <pre>
-	 * バッチインサート用の(...) VALUES (...)を作成
+	 * 引数のidのうち、テーブルに存在するidを取得する
 	 * </pre>
-	 * @return (カラム名, カラム名, ... ) VALUES (:カラム名, :カラム名, ...)
+	 * @param ids 確認したいid（重複なし）
+	 * @return 存在するid
 	 */
-	private String batchInsertSet() {
-		List<String> batchInsertColumnSetList = new ArrayList<>();
-		List<String> batchInsertValueSetList = new ArrayList<>();
-
-		for (String columnName : JDBCEntity.GetSetQueryList_forBatchUpdate()) {
-			batchInsertColumnSetList.add(columnName);
-			batchInsertValueSetList.add(":" + columnName);
+	private Set<Integer> selectExistingIds(List<Integer> ids) {
+		Set<Integer> existingIds = new HashSet<>();
+		for (List<Integer> chunk : JDBCEntitySql.inListChunks(ids)) {
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue("ids", JDBCEntitySql.paddedInList(chunk));
+			existingIds.addAll(namedJdbc.queryForList(JDBCEntitySql.NAMED_SELECT_IDS_BY_IDS, params, Integer.class));
 		}
-		
-		List<String> sql = new ArrayList<>();
-		sql.add("(");
-		sql.add(String.join(", ", batchInsertColumnSetList));
-		sql.add(") VALUES (");
-		sql.add(String.join(", ", batchInsertValueSetList));
-		sql.add(")");
-
-		return String.join(" ", sql);
+		return existingIds;
 	}
 }
@@ -0,0 +1,137 @@
+package com.example.demo.Dao.Query;
+
+import java.util.Objects;
+
+import com.example.demo.Entity.JDBCEntity;
+
+import lombok.Getter;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link JDBCEntity#TEST TEST}テーブルを検索する際の条件
+ * 指定しなかった条件（null）は使用しない
+ * 指定した条件の組み合わせは{@link #getConditionMask()}で表し、SQL文のキャッシュのkeyにする
+ * </pre>
+ */
+@Getter
+public final class JDBCEntityFilter {
+
+	/** birth_day >= ? */
+	public static final int BIRTHDAY_FROM = 1;
+
+	/** birth_day <= ? */
+	public static final int BIRTHDAY_TO = 1 << 1;
+
+	/** last_name = ? */
+	public static final int LAST_NAME = 1 << 2;
+
+	/** 誕生日の下限（この値を含む） */
+	private Integer birthDayFrom;
+
+	/** 誕生日の上限（この値を含む） */
+	private Integer birthDayTo;
+
+	/** 姓（完全一致） */
+	private String lastName;
+
+	/**
+	 * @return 条件なし
+	 */
+	public static JDBCEntityFilter create() {
+		return new JDBCEntityFilter();
+	}
+
+	public JDBCEntityFilter birthDayFrom(Integer birthDayFrom) {
+		this.birthDayFrom = birthDayFrom;
+		return this;
+	}
+
+	public JDBCEntityFilter birthDayTo(Integer birthDayTo) {
+		this.birthDayTo = birthDayTo;
+		return this;
+	}
+
+	/**
+	 * @param from 誕生日の下限（この値を含む）
+	 * @param to 誕生日の上限（この値を含む）
+	 * @return このインスタンス
+	 */
+	public JDBCEntityFilter birthDayBetween(Integer from, Integer to) {
+		return birthDayFrom(from).birthDayTo(to);
+	}
+
+	public JDBCEntityFilter lastName(String lastName) {
+		this.lastName = lastName;
+		return this;
+	}
+
+	/**
+	 * @return 指定した条件の組み合わせ（{@link #BIRTHDAY_FROM}などを足し合わせたもの）
+	 */
+	public int getConditionMask() {
+		int mask = 0;
+		if (birthDayFrom != null) {
+			mask |= BIRTHDAY_FROM;
+		}
+		if (birthDayTo != null) {
+			mask |= BIRTHDAY_TO;
+		}
+		if (lastName != null) {
+			mask |= LAST_NAME;
+		}
+		return mask;
+	}
+
+	/**
+	 * @return 指定した条件の値（birthDayFrom, birthDayTo, lastNameの順、指定していないものは除く）
+	 */
+	public Object[] getConditionValues() {
+		Object[] values = new Object[Integer.bitCount(getConditionMask())];
+		int index = 0;
+		if (birthDayFrom != null) {
+			values[index++] = birthDayFrom;
+		}
+		if (birthDayTo != null) {
+			values[index++] = birthDayTo;
+		}
+		if (lastName != null) {
+			values[index++] = lastName;
+		}
+		return values;
+	}
+
+	/**
+	 * <pre>
+	 * SQLのWHERE句と同じ判定をJavaで行う（インデックスで絞り込んだ行の確認などで使用）
+	 * {@link JDBCEntity}ではNULLのbirth_dayが0になるため、birth_dayの条件を指定した場合は
+	 * NULLの行を渡さないこと（SQLではNULLの行はbirth_dayの条件に一致しない）
+	 * </pre>
+	 * @param data 判定したいデータ
+	 * @return 指定した条件を全て満たす場合true
+	 */
+	public boolean matches(JDBCEntity data) {
+		return (birthDayFrom == null || data.getBirth_day() >= birthDayFrom)
+				&& (birthDayTo == null || data.getBirth_day() <= birthDayTo)
+				&& (lastName == null || lastName.equals(data.getLast_name()));
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof JDBCEntityFilter)) {
+			return false;
+		}
+		JDBCEntityFilter other = (JDBCEntityFilter) obj;
+		return Objects.equals(birthDayFrom, other.birthDayFrom)
+				&& Objects.equals(birthDayTo, other.birthDayTo)
+				&& Objects.equals(lastName, other.lastName);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(birthDayFrom, birthDayTo, lastName);
+	}
+}
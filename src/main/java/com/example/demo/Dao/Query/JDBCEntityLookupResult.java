@@ -0,0 +1,82 @@
+package com.example.demo.Dao.Query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.demo.Entity.JDBCEntity;
+
+import lombok.Getter;
+
+/**
+ * @author Takumi
+ * <pre>
+ * 複数のidでの一括取得の結果
+ * 取得できたデータ（key:id）と、存在しなかったidを保持する
+ * どちらも引数で渡したidの順番（重複は除く）
+ * </pre>
+ */
+@Getter
+public class JDBCEntityLookupResult {
+
+	/** 取得できたデータ（key:id） */
+	private final Map<Integer, JDBCEntity> found;
+
+	/** 存在しなかったid */
+	private final List<Integer> missingIds;
+
+	private JDBCEntityLookupResult(Map<Integer, JDBCEntity> found, List<Integer> missingIds) {
+		this.found = Collections.unmodifiableMap(found);
+		this.missingIds = Collections.unmodifiableList(missingIds);
+	}
+
+	/**
+	 * <pre>
+	 * 渡したidの順番に並べ替え、存在しなかったidを求めて結果を作成する
+	 * </pre>
+	 * @param ids 取得したかったid
+	 * @param loaded 取得できたデータ（key:id）
+	 * @return
+	 */
+	public static JDBCEntityLookupResult of(Collection<Integer> ids, Map<Integer, JDBCEntity> loaded) {
+		Set<Integer> distinctIds = new LinkedHashSet<>(ids);
+		Map<Integer, JDBCEntity> found = new LinkedHashMap<>(distinctIds.size() * 4 / 3 + 1);
+		List<Integer> missingIds = new ArrayList<>();
+		for (Integer id : distinctIds) {
+			JDBCEntity data = loaded.get(id);
+			if (data == null) {
+				missingIds.add(id);
+			} else {
+				found.put(id, data);
+			}
+		}
+		return new JDBCEntityLookupResult(found, missingIds);
+	}
+
+	/**
+	 * @param id
+	 * @return 取得できたデータ（存在しなかった場合null）
+	 */
+	public JDBCEntity get(int id) {
+		return found.get(id);
+	}
+
+	/**
+	 * @return 取得できたデータ（渡したidの順番）
+	 */
+	public List<JDBCEntity> getFoundList() {
+		return new ArrayList<>(found.values());
+	}
+
+	/**
+	 * @return 全てのidのデータが存在した場合true
+	 */
+	public boolean isAllFound() {
+		return missingIds.isEmpty();
+	}
+}
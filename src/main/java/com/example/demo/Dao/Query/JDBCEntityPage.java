@@ -0,0 +1,79 @@
+package com.example.demo.Dao.Query;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.example.demo.Entity.JDBCEntity;
+
+import lombok.Getter;
+
+/**
+ * @author Takumi
+ * <pre>
+ * キーセット方式のページングで取得した1ページ分のデータ
+ * 次のページがある場合は{@link #getNextToken()}を次の取得時に渡す
+ * </pre>
+ */
+@Getter
+public class JDBCEntityPage {
+
+	/** 1ページの最大件数 */
+	public static final int MAX_PAGE_SIZE = 10000;
+
+	/** このページのデータ（id順） */
+	private final List<JDBCEntity> content;
+
+	/** 次のページを取得するためのトークン（最後のページの場合null） */
+	private final String nextToken;
+
+	/**
+	 * @param content このページのデータ
+	 * @param nextToken 次のページを取得するためのトークン
+	 */
+	public JDBCEntityPage(List<JDBCEntity> content, String nextToken) {
+		this.content = Collections.unmodifiableList(content);
+		this.nextToken = nextToken;
+	}
+
+	/**
+	 * <pre>
+	 * pageSize + 1件まで取得した結果からページを作成する
+	 * pageSizeより多く取得できていれば次のページがあるため、最後のidでトークンを作成する
+	 * </pre>
+	 * @param rows 取得したデータ（id順、pageSize + 1件まで）
+	 * @param pageSize 1ページの件数
+	 * @param filter 検索条件
+	 * @return
+	 */
+	public static JDBCEntityPage of(List<JDBCEntity> rows, int pageSize, JDBCEntityFilter filter) {
+		if (rows.size() <= pageSize) {
+			return new JDBCEntityPage(rows, null);
+		}
+		List<JDBCEntity> content = rows.subList(0, pageSize);
+		return new JDBCEntityPage(content, PageToken.encode(content.get(pageSize - 1).getId(), filter));
+	}
+
+	/**
+	 * @param pageSize 1ページの件数
+	 * @throws IllegalArgumentException 1～{@link #MAX_PAGE_SIZE}でない場合
+	 */
+	public static void checkPageSize(int pageSize) {
+		if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+			throw new IllegalArgumentException("pageSizeは1～" + MAX_PAGE_SIZE + "を指定してください。");
+		}
+	}
+
+	/**
+	 * @return 次のページがある場合true
+	 */
+	public boolean hasNext() {
+		return nextToken != null;
+	}
+
+	/**
+	 * @return このページの件数
+	 */
+	public int size() {
+		return content.size();
+	}
+}
@@ -0,0 +1,58 @@
+package com.example.demo.Dao.Query;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * @author Takumi
+ * <pre>
+ * キーセット方式のページングで次のページを取得するためのトークン
+ * 前のページの最後のidと検索条件のハッシュ値を文字列にしたもの
+ * 別の検索条件で使用された場合はエラーにする（条件を変えて途中から読むと結果がずれるため）
+ * </pre>
+ */
+public final class PageToken {
+
+	private static final String VERSION = "1";
+
+	private static final String SEPARATOR = ":";
+
+	private PageToken() {
+	}
+
+	/**
+	 * @param lastId 前のページの最後のid
+	 * @param filter 検索条件
+	 * @return トークン
+	 */
+	public static String encode(int lastId, JDBCEntityFilter filter) {
+		String raw = String.join(SEPARATOR, VERSION, Integer.toString(lastId), Integer.toHexString(filter.hashCode()));
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+	}
+
+	/**
+	 * @param token {@link #encode(int, JDBCEntityFilter)}で作成したトークン
+	 * @param filter 検索条件（トークン作成時と同じもの）
+	 * @return 前のページの最後のid
+	 * @throws IllegalArgumentException トークンが不正な場合、検索条件が違う場合
+	 */
+	public static int decode(String token, JDBCEntityFilter filter) {
+		String[] parts;
+		try {
+			parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII).split(SEPARATOR);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("ページトークンが不正です。:" + token, e);
+		}
+		if (parts.length != 3 || !VERSION.equals(parts[0])) {
+			throw new IllegalArgumentException("ページトークンが不正です。:" + token);
+		}
+		if (!Integer.toHexString(filter.hashCode()).equals(parts[2])) {
+			throw new IllegalArgumentException("ページトークンと検索条件が一致しません。");
+		}
+		try {
+			return Integer.parseInt(parts[1]);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("ページトークンが不正です。:" + token, e);
+		}
+	}
+}
@@ -0,0 +1,6 @@
+/**
+ * @author Takumi
+ * 複数件の検索（条件・ページング・一括取得）の結果で使用するパッケージ
+ *
+ */
+package com.example.demo.Dao.Query;
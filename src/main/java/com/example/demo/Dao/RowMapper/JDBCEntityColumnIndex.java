@@ -0,0 +1,69 @@
+package com.example.demo.Dao.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import com.example.demo.Entity.JDBCEntity;
+
+import lombok.Getter;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link JDBCEntity}の各カラムが{@link ResultSet}の何番目の列かを保持するクラス
+ * {@link ResultSetMetaData}から1つの{@link ResultSet}につき1度だけ解決し、
+ * 以降は列番号で値を取得することで、行ごとのカラム名検索をなくす
+ * </pre>
+ */
+@Getter
+public final class JDBCEntityColumnIndex {
+
+	private final int id;
+	private final int first_name;
+	private final int last_name;
+	private final int birth_day;
+
+	private JDBCEntityColumnIndex(int id, int first_name, int last_name, int birth_day) {
+		this.id = id;
+		this.first_name = first_name;
+		this.last_name = last_name;
+		this.birth_day = birth_day;
+	}
+
+	/**
+	 * <pre>
+	 * 引数の{@link ResultSet}のメタデータから列番号を解決する
+	 * </pre>
+	 * @param rs 列番号を解決したい{@link ResultSet}
+	 * @return 解決した列番号
+	 * @throws SQLException 対応するカラムが存在しない場合
+	 */
+	public static JDBCEntityColumnIndex of(ResultSet rs) throws SQLException {
+		ResultSetMetaData metaData = rs.getMetaData();
+		int id = 0;
+		int firstName = 0;
+		int lastName = 0;
+		int birthDay = 0;
+
+		for (int i = 1; i <= metaData.getColumnCount(); i++) {
+			String label = metaData.getColumnLabel(i);
+			if (id == 0 && JDBCEntity.ID.equalsIgnoreCase(label)) {
+				id = i;
+			} else if (firstName == 0 && JDBCEntity.FIRST_NAME.equalsIgnoreCase(label)) {
+				firstName = i;
+			} else if (lastName == 0 && JDBCEntity.LAST_NAME.equalsIgnoreCase(label)) {
+				lastName = i;
+			} else if (birthDay == 0 && JDBCEntity.BIRTHDAY.equalsIgnoreCase(label)) {
+				birthDay = i;
+			}
+		}
+
+		//メタデータで見つからない場合はドライバーの検索に任せる（存在しなければSQLException）
+		return new JDBCEntityColumnIndex(
+				id != 0 ? id : rs.findColumn(JDBCEntity.ID),
+				firstName != 0 ? firstName : rs.findColumn(JDBCEntity.FIRST_NAME),
+				lastName != 0 ? lastName : rs.findColumn(JDBCEntity.LAST_NAME),
+				birthDay != 0 ? birthDay : rs.findColumn(JDBCEntity.BIRTHDAY));
+	}
+}
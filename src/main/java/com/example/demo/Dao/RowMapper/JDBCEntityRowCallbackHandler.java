@@ -0,0 +1,45 @@
+package com.example.demo.Dao.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.example.demo.Entity.JDBCEntityRow;
+
+/**
+ * @author Takumi
+ * <pre>
+ * 1行ずつ{@link JDBCEntityRow}にセットしてコールバックに渡すクラス
+ * {@link JDBCEntityRow}は全行で同じインスタンスを使い回すため、行ごとのオブジェクト生成がない
+ * コールバックの外で行を保持したい場合は{@link JDBCEntityRow#toEntity()}でコピーすること
+ * </pre>
+ */
+public class JDBCEntityRowCallbackHandler implements RowCallbackHandler {
+
+	private final JDBCEntityRow row = new JDBCEntityRow();
+
+	private final Consumer<? super JDBCEntityRow> rowConsumer;
+
+	/** 列番号の解決に使用 */
+	private final JDBCEntityRowMapper rowMapper = new JDBCEntityRowMapper();
+
+	/**
+	 * @param rowConsumer 1行ごとに呼ばれるコールバック
+	 */
+	public JDBCEntityRowCallbackHandler(Consumer<? super JDBCEntityRow> rowConsumer) {
+		this.rowConsumer = rowConsumer;
+	}
+
+	@Override
+	public void processRow(ResultSet rs) throws SQLException {
+		JDBCEntityColumnIndex index = rowMapper.resolve(rs);
+		row.setId(rs.getInt(index.getId()));
+		row.setFirst_name(rs.getString(index.getFirst_name()));
+		row.setLast_name(rs.getString(index.getLast_name()));
+		row.setBirth_day(rs.getInt(index.getBirth_day()));
+		row.setBirth_dayNull(rs.wasNull());
+		rowConsumer.accept(row);
+	}
+}
@@ -12,24 +12,50 @@ import com.example.demo.Entity.JDBCEntity;
  * <pre>
  * {@link JDBCEntity}のフィールドとマッピングをするためのクラス
  * {@link #mapRow(ResultSet, int)}で対応するカラムと値を設定する（{@code override}使用
+ * 列番号は{@link ResultSet}ごとに{@link JDBCEntityColumnIndex}で1度だけ解決する
+ * 解決結果を保持するため、スレッド間で共有せずクエリごとにインスタンスを作成すること
  * </pre>
  */
 public class JDBCEntityRowMapper implements RowMapper<JDBCEntity> {
 
+	/** 列番号を解決した{@link ResultSet} */
+	private ResultSet resolvedResultSet;
+
+	/** 解決した列番号 */
+	private JDBCEntityColumnIndex columnIndex;
+
 	/**
 	 * <pre>
-	 *　引数にテーブルのカラム名を渡し、型を合わせることで
+	 *　解決済みの列番号を使用して値を取得し、型を合わせることで
 	 *　マッピングされる
 	 * </pre>
 	 */
 	@Override
 	public JDBCEntity mapRow(ResultSet rs, int rowNum) throws SQLException {
+		JDBCEntityColumnIndex index = resolve(rs);
 		return new JDBCEntity(
-				rs.getInt(JDBCEntity.ID),
-				rs.getString(JDBCEntity.FIRST_NAME),
-				rs.getString(JDBCEntity.LAST_NAME),
-				rs.getInt(JDBCEntity.BIRTHDAY)
+				rs.getInt(index.getId()),
+				rs.getString(index.getFirst_name()),
+				rs.getString(index.getLast_name()),
+				rs.getInt(index.getBirth_day())
 				);
 	}
 
+	/**
+	 * <pre>
+	 * 引数の{@link ResultSet}の列番号を取得する
+	 * 前回と同じ{@link ResultSet}なら解決済みのものを返す
+	 * </pre>
+	 * @param rs
+	 * @return 列番号
+	 * @throws SQLException
+	 */
+	JDBCEntityColumnIndex resolve(ResultSet rs) throws SQLException {
+		if (rs != resolvedResultSet) {
+			columnIndex = JDBCEntityColumnIndex.of(rs);
+			resolvedResultSet = rs;
+		}
+		return columnIndex;
+	}
+
 }
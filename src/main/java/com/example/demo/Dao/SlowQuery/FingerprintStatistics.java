@@ -0,0 +1,50 @@
+package com.example.demo.Dao.SlowQuery;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * @author Takumi
+ * <pre>
+ * フィンガープリントごとの処理時間の集計結果（取得時点のもの）
+ * パーセンタイルは{@link LatencyHistogram}のバケットの上限値
+ * </pre>
+ */
+@Getter
+@AllArgsConstructor
+public class FingerprintStatistics {
+
+	/** フィンガープリント */
+	private final String fingerprint;
+
+	/** 実行回数 */
+	private final long count;
+
+	/** 例外が発生した回数 */
+	private final long errorCount;
+
+	/** 処理時間の合計（ミリ秒） */
+	private final double totalMillis;
+
+	/** 処理時間の最大（ミリ秒） */
+	private final double maxMillis;
+
+	/** 処理時間の50パーセンタイル（ミリ秒） */
+	private final double p50Millis;
+
+	/** 処理時間の95パーセンタイル（ミリ秒） */
+	private final double p95Millis;
+
+	/** 処理時間の99パーセンタイル（ミリ秒） */
+	private final double p99Millis;
+
+	/** バケットごとの回数（{@link LatencyHistogram#getBucketCounts()}） */
+	private final long[] bucketCounts;
+
+	/**
+	 * @return 処理時間の平均（ミリ秒、実行されていない場合0）
+	 */
+	public double getMeanMillis() {
+		return count == 0 ? 0 : totalMillis / count;
+	}
+}
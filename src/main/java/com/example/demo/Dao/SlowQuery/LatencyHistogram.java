@@ -0,0 +1,118 @@
+package com.example.demo.Dao.SlowQuery;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author Takumi
+ * <pre>
+ * 処理時間のヒストグラム
+ * バケットはマイクロ秒の2倍刻み（バケットiは2^(i-1)～2^iマイクロ秒未満、バケット0は1マイクロ秒未満）
+ * パーセンタイルはバケットの上限値で返すため、最大2倍の誤差がある
+ * 複数のスレッドから同時に記録できる
+ * </pre>
+ */
+public class LatencyHistogram {
+
+	/** バケットの数（最後のバケットは約4.5分以上） */
+	public static final int BUCKETS = 29;
+
+	private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKETS);
+
+	private final LongAdder count = new LongAdder();
+
+	private final LongAdder totalNanos = new LongAdder();
+
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	/**
+	 * @param nanos 処理時間（ナノ秒）
+	 */
+	public void record(long nanos) {
+		bucketCounts.incrementAndGet(bucketIndex(nanos));
+		count.increment();
+		totalNanos.add(nanos);
+		long max = maxNanos.get();
+		while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+			max = maxNanos.get();
+		}
+	}
+
+	/**
+	 * @return 記録した回数
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * @return 処理時間の合計（ナノ秒）
+	 */
+	public long getTotalNanos() {
+		return totalNanos.sum();
+	}
+
+	/**
+	 * @return 処理時間の最大（ナノ秒）
+	 */
+	public long getMaxNanos() {
+		return maxNanos.get();
+	}
+
+	/**
+	 * @return バケットごとの回数（index:バケット）
+	 */
+	public long[] getBucketCounts() {
+		long[] counts = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] = bucketCounts.get(i);
+		}
+		return counts;
+	}
+
+	/**
+	 * @param percentile 0.0～1.0
+	 * @return パーセンタイルの処理時間（ナノ秒、バケットの上限値。記録がない場合0）
+	 */
+	public long percentileNanos(double percentile) {
+		long[] counts = getBucketCounts();
+		long total = 0;
+		for (long c : counts) {
+			total += c;
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile * total));
+		long cumulative = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			cumulative += counts[i];
+			if (cumulative >= rank) {
+				return Math.min(upperBoundNanos(i), getMaxNanos());
+			}
+		}
+		return getMaxNanos();
+	}
+
+	/**
+	 * @param nanos 処理時間（ナノ秒）
+	 * @return 記録するバケット
+	 */
+	static int bucketIndex(long nanos) {
+		long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+		if (micros <= 0) {
+			return 0;
+		}
+		return Math.min(Long.SIZE - Long.numberOfLeadingZeros(micros), BUCKETS - 1);
+	}
+
+	/**
+	 * @param bucket バケット
+	 * @return バケットの上限値（ナノ秒）
+	 */
+	static long upperBoundNanos(int bucket) {
+		return TimeUnit.MICROSECONDS.toNanos(1L << bucket);
+	}
+}
@@ -0,0 +1,42 @@
+package com.example.demo.Dao.SlowQuery;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * @author Takumi
+ * <pre>
+ * しきい値以上の時間がかかったSQLの記録
+ * SQLのリテラルとバインドした値は?に置き換え、値は保持しない
+ * </pre>
+ */
+@Getter
+@AllArgsConstructor
+public class SlowQuery {
+
+	/** 実行が終了した日時 */
+	private final Instant executedAt;
+
+	/** フィンガープリント */
+	private final String fingerprint;
+
+	/** リテラルを?にしたSQL */
+	private final String sql;
+
+	/** バインドした値の型（例：[1:Int=?, 2:String=?]） */
+	private final String binds;
+
+	/** 処理時間（ミリ秒） */
+	private final double elapsedMillis;
+
+	/** バッチで実行した件数（バッチでない場合0） */
+	private final int batchSize;
+
+	/** 実行したスレッド名 */
+	private final String threadName;
+
+	/** 発生した例外のクラス名（ない場合null） */
+	private final String error;
+}
@@ -0,0 +1,37 @@
+package com.example.demo.Dao.SlowQuery;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author Takumi
+ * <pre>
+ * 遅いSQLの検出の設定
+ * {@link SlowQueryLog}は{@link com.example.demo.Dao.Logging.SqlExecutionListener SqlExecutionListener}として
+ * DataSourceのラップ時に追加される（JdbcTemplate・NamedParameterJdbcTemplateを含む全てのデータアクセスが対象）
+ * slow-query.enabled（デフォルトfalse）
+ * 有効にすると全ての接続・ステートメントがプロキシでラップされ、setIntなどの呼び出しごとにリフレクションと
+ * バインドの型の記録が加わるため、調査する時だけ有効にする（{@link SlowQueryLog#setEnabled(boolean)}でも切り替えられ、
+ * 次に取得した接続から反映される）
+ * slow-query.threshold-ms 遅いSQLとして記録するしきい値のミリ秒（デフォルト100）
+ * slow-query.capacity 遅いSQLを保持する件数（デフォルト100）
+ * slow-query.max-fingerprints フィンガープリントの種類の上限（デフォルト500）
+ * </pre>
+ */
+@Configuration
+public class SlowQueryConfig {
+
+	@Bean
+	public SlowQueryLog slowQueryLog(@Value("${slow-query.enabled:false}") boolean enabled,
+			@Value("${slow-query.threshold-ms:100}") long thresholdMillis,
+			@Value("${slow-query.capacity:100}") int capacity,
+			@Value("${slow-query.max-fingerprints:500}") int maxFingerprints) {
+		return new SlowQueryLog(enabled, thresholdMillis, capacity, maxFingerprints);
+	}
+
+	@Bean
+	public SlowQueryEndpoint slowQueryEndpoint(SlowQueryLog slowQueryLog) {
+		return new SlowQueryEndpoint(slowQueryLog);
+	}
+}
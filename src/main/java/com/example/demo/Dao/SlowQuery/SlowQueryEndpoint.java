@@ -0,0 +1,68 @@
+package com.example.demo.Dao.SlowQuery;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author Takumi
+ * <pre>
+ * フィンガープリントごとの集計結果と遅いSQLを確認するActuatorのエンドポイント（id:slowqueries）
+ * 公開するにはmanagement.endpoints.jmx.exposure.includeなどにslowqueriesを追加する
+ * </pre>
+ */
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+	private final SlowQueryLog slowQueryLog;
+
+	/**
+	 * @return 設定・フィンガープリントごとの集計結果・遅いSQL
+	 */
+	@ReadOperation
+	public Map<String, Object> slowQueries() {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("enabled", slowQueryLog.isEnabled());
+		result.put("thresholdMillis", slowQueryLog.getThresholdMillis());
+		result.put("statistics", slowQueryLog.getStatistics());
+		result.put("slowQueries", slowQueryLog.getSlowQueries());
+		return result;
+	}
+
+	/**
+	 * <pre>
+	 * 指定した項目だけ変更する
+	 * </pre>
+	 * @param enabled 集計を行う場合true
+	 * @param thresholdMillis 遅いSQLとして記録するしきい値（ミリ秒）
+	 * @return 変更後の状態
+	 */
+	@WriteOperation
+	public Map<String, Object> update(@Nullable Boolean enabled, @Nullable Long thresholdMillis) {
+		if (thresholdMillis != null) {
+			slowQueryLog.setThresholdMillis(thresholdMillis);
+		}
+		if (enabled != null) {
+			slowQueryLog.setEnabled(enabled);
+		}
+		return slowQueries();
+	}
+
+	/**
+	 * <pre>
+	 * 集計結果と遅いSQLを削除する
+	 * </pre>
+	 */
+	@DeleteOperation
+	public void reset() {
+		slowQueryLog.reset();
+	}
+}
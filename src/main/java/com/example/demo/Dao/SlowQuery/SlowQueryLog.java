@@ -0,0 +1,238 @@
+package com.example.demo.Dao.SlowQuery;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.example.demo.Dao.Logging.SqlExecution;
+import com.example.demo.Dao.Logging.SqlExecutionListener;
+
+import lombok.Getter;
+
+/**
+ * @author Takumi
+ * <pre>
+ * 実行したSQLを{@link SqlFingerprint}で分類し、フィンガープリントごとに処理時間のヒストグラムを作成する
+ * しきい値以上の時間がかかったSQLは、リテラル・バインドした値を伏せて直近{@code capacity}件を保持する
+ *
+ * SQLからフィンガープリントへの変換結果はキャッシュする（上限を超えた場合は毎回変換する）
+ * フィンガープリントの種類が上限を超えた場合、新しいものは{@link #OTHER_FINGERPRINT}にまとめる
+ * </pre>
+ */
+public class SlowQueryLog implements SqlExecutionListener {
+
+	/** フィンガープリントの種類が上限を超えた場合にまとめる先 */
+	public static final String OTHER_FINGERPRINT = "(other)";
+
+	/** SQLが不明な場合（SQLなしでexecuteBatchした場合など） */
+	public static final String UNKNOWN_FINGERPRINT = "(unknown)";
+
+	@Getter
+	private volatile boolean enabled;
+
+	private volatile long thresholdNanos;
+
+	private final int maxFingerprints;
+
+	/** key:SQL value:フィンガープリント */
+	private final Map<String, String> fingerprintCache = new ConcurrentHashMap<>();
+
+	/** key:フィンガープリント */
+	private final Map<String, FingerprintStats> stats = new ConcurrentHashMap<>();
+
+	private final AtomicReferenceArray<SlowQuery> slowQueries;
+
+	private final AtomicLong slowQueryCount = new AtomicLong();
+
+	/**
+	 * @param enabled 集計を行う場合true
+	 * @param thresholdMillis 遅いSQLとして記録するしきい値（ミリ秒）
+	 * @param capacity 遅いSQLを保持する件数
+	 * @param maxFingerprints フィンガープリントの種類の上限
+	 */
+	public SlowQueryLog(boolean enabled, long thresholdMillis, int capacity, int maxFingerprints) {
+		if (capacity <= 0 || maxFingerprints <= 0) {
+			throw new IllegalArgumentException("capacity・maxFingerprintsは1以上を指定してください。");
+		}
+		this.enabled = enabled;
+		setThresholdMillis(thresholdMillis);
+		this.slowQueries = new AtomicReferenceArray<>(capacity);
+		this.maxFingerprints = maxFingerprints;
+	}
+
+	/**
+	 * <pre>
+	 * 次に取得した接続から反映される
+	 * </pre>
+	 * @param enabled 集計を行う場合true
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * @param thresholdMillis 遅いSQLとして記録するしきい値（ミリ秒）
+	 */
+	public void setThresholdMillis(long thresholdMillis) {
+		this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, thresholdMillis));
+	}
+
+	/**
+	 * @return 遅いSQLとして記録するしきい値（ミリ秒）
+	 */
+	public long getThresholdMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(thresholdNanos);
+	}
+
+	@Override
+	public boolean isActive() {
+		return enabled;
+	}
+
+	@Override
+	public void afterExecute(SqlExecution execution) {
+		String sql = execution.getSql();
+		String fingerprint = sql == null ? UNKNOWN_FINGERPRINT : fingerprintOf(sql);
+		statsOf(fingerprint).record(execution.getElapsedNanos(), execution.isFailed());
+
+		if (execution.getElapsedNanos() >= thresholdNanos) {
+			capture(fingerprint, execution);
+		}
+	}
+
+	/**
+	 * @return フィンガープリントごとの集計結果（処理時間の合計が大きい順）
+	 */
+	public List<FingerprintStatistics> getStatistics() {
+		List<FingerprintStatistics> result = new ArrayList<>(stats.size());
+		for (FingerprintStats value : stats.values()) {
+			result.add(value.snapshot());
+		}
+		result.sort(Comparator.comparingDouble(FingerprintStatistics::getTotalMillis).reversed());
+		return result;
+	}
+
+	/**
+	 * @param fingerprint フィンガープリント
+	 * @return 集計結果（実行されていない場合null）
+	 */
+	public FingerprintStatistics getStatistics(String fingerprint) {
+		FingerprintStats value = stats.get(fingerprint);
+		return value == null ? null : value.snapshot();
+	}
+
+	/**
+	 * @return 保持している遅いSQL（新しい順）
+	 */
+	public List<SlowQuery> getSlowQueries() {
+		int capacity = slowQueries.length();
+		long last = slowQueryCount.get();
+		List<SlowQuery> result = new ArrayList<>();
+		for (long i = last - 1; i >= Math.max(0, last - capacity); i--) {
+			SlowQuery slowQuery = slowQueries.get((int) (i % capacity));
+			if (slowQuery != null) {
+				result.add(slowQuery);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * <pre>
+	 * 集計結果と保持している遅いSQLを削除する
+	 * </pre>
+	 */
+	public void reset() {
+		stats.clear();
+		for (int i = 0; i < slowQueries.length(); i++) {
+			slowQueries.set(i, null);
+		}
+		slowQueryCount.set(0);
+	}
+
+	/**
+	 * @param sql 実行したSQL
+	 * @return フィンガープリント
+	 */
+	public String fingerprintOf(String sql) {
+		String fingerprint = fingerprintCache.get(sql);
+		if (fingerprint == null) {
+			fingerprint = SqlFingerprint.fingerprint(sql);
+			//リテラルを含むSQLなどで際限なく増えないように上限を設ける
+			if (fingerprintCache.size() < maxFingerprints * 4) {
+				fingerprintCache.putIfAbsent(sql, fingerprint);
+			}
+		}
+		return fingerprint;
+	}
+
+	private FingerprintStats statsOf(String fingerprint) {
+		FingerprintStats value = stats.get(fingerprint);
+		if (value != null) {
+			return value;
+		}
+		String key = stats.size() < maxFingerprints ? fingerprint : OTHER_FINGERPRINT;
+		return stats.computeIfAbsent(key, FingerprintStats::new);
+	}
+
+	private void capture(String fingerprint, SqlExecution execution) {
+		Throwable error = execution.getError();
+		SlowQuery slowQuery = new SlowQuery(Instant.now(), fingerprint,
+				execution.getSql() == null ? null : SqlFingerprint.redact(execution.getSql()),
+				execution.getRedactedBinds(),
+				execution.getElapsedNanos() / 1_000_000.0,
+				execution.getBatchSize(),
+				Thread.currentThread().getName(),
+				error == null ? null : error.getClass().getName());
+		long index = slowQueryCount.getAndIncrement();
+		slowQueries.set((int) (index % slowQueries.length()), slowQuery);
+	}
+
+	/**
+	 * <pre>
+	 * 1つのフィンガープリントの集計
+	 * </pre>
+	 */
+	private static final class FingerprintStats {
+
+		private final String fingerprint;
+
+		private final LatencyHistogram histogram = new LatencyHistogram();
+
+		private final LongAdder errorCount = new LongAdder();
+
+		FingerprintStats(String fingerprint) {
+			this.fingerprint = fingerprint;
+		}
+
+		void record(long nanos, boolean failed) {
+			histogram.record(nanos);
+			if (failed) {
+				errorCount.increment();
+			}
+		}
+
+		FingerprintStatistics snapshot() {
+			return new FingerprintStatistics(fingerprint,
+					histogram.getCount(),
+					errorCount.sum(),
+					toMillis(histogram.getTotalNanos()),
+					toMillis(histogram.getMaxNanos()),
+					toMillis(histogram.percentileNanos(0.5)),
+					toMillis(histogram.percentileNanos(0.95)),
+					toMillis(histogram.percentileNanos(0.99)),
+					histogram.getBucketCounts());
+		}
+
+		private static double toMillis(long nanos) {
+			return nanos / 1_000_000.0;
+		}
+	}
+}
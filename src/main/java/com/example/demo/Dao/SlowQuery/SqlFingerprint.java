@@ -0,0 +1,179 @@
+package com.example.demo.Dao.SlowQuery;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * @author Takumi
+ * <pre>
+ * SQLを同じ種類のSQLで同じ文字列になるように正規化する（フィンガープリント）
+ *
+ * {@link #redact(String)}
+ * ・空白・改行を1つの空白にまとめ、コメントを除く
+ * ・文字列・数値のリテラルを?にする
+ * ・キーワード・識別子を小文字にする（"で囲んだ識別子はそのまま）
+ *
+ * {@link #fingerprint(String)}（{@link #redact(String)}の結果に加えて）
+ * ・IN句の?の並びをin (?+)にまとめる（件数によってSQLが変わるため）
+ * ・VALUES句の同じ形の行の繰り返しを1行 + "+"にまとめる（複数行のINSERT）
+ * ・UPDATE文のSET句の並び順をカラム名順にする（更新するカラムの順番によってSQLが変わるため）
+ * </pre>
+ */
+public final class SqlFingerprint {
+
+	private static final Pattern IN_LIST = Pattern.compile("\\bin \\(\\?(?:, \\?)*\\)");
+
+	private static final Pattern VALUES_ROWS = Pattern.compile("\\bvalues (\\([^()]*\\))(?:, \\1)+");
+
+	private static final String UPDATE = "update ";
+
+	private static final String SET = " set ";
+
+	private static final String WHERE = " where ";
+
+	private SqlFingerprint() {
+	}
+
+	/**
+	 * @param sql 正規化するSQL
+	 * @return フィンガープリント
+	 */
+	public static String fingerprint(String sql) {
+		String redacted = redact(sql);
+		redacted = IN_LIST.matcher(redacted).replaceAll("in (?+)");
+		redacted = VALUES_ROWS.matcher(redacted)
+				.replaceAll(m -> Matcher.quoteReplacement("values " + m.group(1) + "+"));
+		return sortSetClause(redacted);
+	}
+
+	/**
+	 * @param sql 対象のSQL
+	 * @return リテラルを?にし、空白・大文字小文字をそろえたSQL
+	 */
+	public static String redact(String sql) {
+		int length = sql.length();
+		StringBuilder out = new StringBuilder(length);
+		int i = 0;
+		while (i < length) {
+			char c = sql.charAt(i);
+			if (Character.isWhitespace(c)) {
+				i++;
+			} else if (c == '-' && startsWith(sql, i, "--")) {
+				int end = sql.indexOf('\n', i);
+				i = end < 0 ? length : end + 1;
+			} else if (c == '/' && startsWith(sql, i, "/*")) {
+				int end = sql.indexOf("*/", i + 2);
+				i = end < 0 ? length : end + 2;
+			} else if (c == '\'') {
+				i = skipQuoted(sql, i, '\'');
+				appendToken(out, "?");
+			} else if (c == '"') {
+				int end = skipQuoted(sql, i, '"');
+				appendToken(out, sql.substring(i, end));
+				i = end;
+			} else if (Character.isDigit(c)) {
+				int end = i + 1;
+				while (end < length && (Character.isLetterOrDigit(sql.charAt(end)) || sql.charAt(end) == '.')) {
+					end++;
+				}
+				appendToken(out, "?");
+				i = end;
+			} else if (Character.isLetter(c) || c == '_') {
+				int end = i + 1;
+				while (end < length && isIdentifierPart(sql.charAt(end))) {
+					end++;
+				}
+				appendToken(out, sql.substring(i, end).toLowerCase(Locale.ROOT));
+				i = end;
+			} else if (i + 1 < length && isOperator(c, sql.charAt(i + 1))) {
+				appendToken(out, sql.substring(i, i + 2));
+				i += 2;
+			} else {
+				appendToken(out, String.valueOf(c));
+				i++;
+			}
+		}
+		return out.toString();
+	}
+
+	/**
+	 * <pre>
+	 * トークンの間に空白を1つ入れる
+	 * ただし「,」「)」「.」の前と「(」「.」の後には入れない
+	 * </pre>
+	 */
+	private static void appendToken(StringBuilder out, String token) {
+		if (out.length() > 0) {
+			char last = out.charAt(out.length() - 1);
+			boolean noSpace = last == '(' || last == '.'
+					|| token.equals(",") || token.equals(")") || token.equals(".");
+			if (!noSpace) {
+				out.append(' ');
+			}
+		}
+		out.append(token);
+	}
+
+	/**
+	 * @return 閉じる引用符の次のindex（'の中の''はエスケープとして扱う）
+	 */
+	private static int skipQuoted(String sql, int start, char quote) {
+		int i = start + 1;
+		while (i < sql.length()) {
+			if (sql.charAt(i) == quote) {
+				if (i + 1 < sql.length() && sql.charAt(i + 1) == quote) {
+					i += 2;
+					continue;
+				}
+				return i + 1;
+			}
+			i++;
+		}
+		return sql.length();
+	}
+
+	private static boolean startsWith(String sql, int index, String prefix) {
+		return sql.startsWith(prefix, index);
+	}
+
+	private static boolean isIdentifierPart(char c) {
+		return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+	}
+
+	/**
+	 * @return 2文字の演算子（<=, >=, <>, !=, ||）の場合true
+	 */
+	private static boolean isOperator(char first, char second) {
+		return (first == '<' && (second == '=' || second == '>'))
+				|| ((first == '>' || first == '!') && second == '=')
+				|| (first == '|' && second == '|');
+	}
+
+	/**
+	 * <pre>
+	 * UPDATE文のSET句のカラム = ?の並びをカラム名順にする
+	 * SET句に括弧（関数・副問い合わせ）がある場合は並べ替えない
+	 * </pre>
+	 */
+	private static String sortSetClause(String sql) {
+		if (!sql.startsWith(UPDATE)) {
+			return sql;
+		}
+		int setIndex = sql.indexOf(SET);
+		if (setIndex < 0) {
+			return sql;
+		}
+		int from = setIndex + SET.length();
+		int whereIndex = sql.indexOf(WHERE, from);
+		int to = whereIndex < 0 ? sql.length() : whereIndex;
+		String assignments = sql.substring(from, to);
+		if (assignments.indexOf('(') >= 0) {
+			return sql;
+		}
+		String[] parts = assignments.split(", ");
+		Arrays.sort(parts);
+		return sql.substring(0, from) + String.join(", ", parts) + sql.substring(to);
+	}
+}
@@ -0,0 +1,6 @@
+/**
+ * @author Takumi
+ * 遅いSQLの検出（SQLのフィンガープリントごとの集計）で使用するパッケージ
+ *
+ */
+package com.example.demo.Dao.SlowQuery;
@@ -0,0 +1,101 @@
+package com.example.demo.Dao.Snapshot;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link JDBCEntitySnapshot}の列の配列を作成する
+ * 行を追加するたびに配列を伸ばし、最後にid順に並べ替えて（並んでいない場合のみ）切り詰める
+ * </pre>
+ */
+final class ColumnarBuilder {
+
+	private final StringDictionary firstNames;
+
+	private final StringDictionary lastNames;
+
+	private int[] ids;
+	private int[] birthDays;
+	private int[] firstNameCodes;
+	private int[] lastNameCodes;
+	private int size;
+
+	/** idの昇順に追加されている場合true */
+	private boolean sorted = true;
+
+	/**
+	 * @param capacity 最初に確保する行数
+	 * @param firstNames first_nameの辞書
+	 * @param lastNames last_nameの辞書
+	 */
+	ColumnarBuilder(int capacity, StringDictionary firstNames, StringDictionary lastNames) {
+		int initial = Math.max(capacity, 16);
+		this.ids = new int[initial];
+		this.birthDays = new int[initial];
+		this.firstNameCodes = new int[initial];
+		this.lastNameCodes = new int[initial];
+		this.firstNames = firstNames;
+		this.lastNames = lastNames;
+	}
+
+	void add(int id, String firstName, String lastName, int birthDay) {
+		addEncoded(id, firstNames.encode(firstName), lastNames.encode(lastName), birthDay);
+	}
+
+	/**
+	 * <pre>
+	 * 辞書の番号のまま追加する（同じ辞書かその複製で振った番号であること）
+	 * </pre>
+	 */
+	void addEncoded(int id, int firstNameCode, int lastNameCode, int birthDay) {
+		if (size == ids.length) {
+			int newLength = size * 2;
+			ids = Arrays.copyOf(ids, newLength);
+			birthDays = Arrays.copyOf(birthDays, newLength);
+			firstNameCodes = Arrays.copyOf(firstNameCodes, newLength);
+			lastNameCodes = Arrays.copyOf(lastNameCodes, newLength);
+		}
+		if (size > 0 && ids[size - 1] >= id) {
+			sorted = false;
+		}
+		ids[size] = id;
+		birthDays[size] = birthDay;
+		firstNameCodes[size] = firstNameCode;
+		lastNameCodes[size] = lastNameCode;
+		size++;
+	}
+
+	/**
+	 * @param version スナップショットの版
+	 * @return 作成したスナップショット
+	 */
+	JDBCEntitySnapshot build(long version) {
+		if (sorted) {
+			return new JDBCEntitySnapshot(version, Instant.now(), Arrays.copyOf(ids, size),
+					Arrays.copyOf(birthDays, size), Arrays.copyOf(firstNameCodes, size),
+					Arrays.copyOf(lastNameCodes, size), firstNames, lastNames);
+		}
+
+		//上位32bitにid、下位32bitに元の位置を入れて並べ替える（Integerの配列を作らないため）
+		long[] order = new long[size];
+		for (int i = 0; i < size; i++) {
+			order[i] = ((long) ids[i] << 32) | i;
+		}
+		Arrays.sort(order);
+		int[] sortedIds = new int[size];
+		int[] sortedBirthDays = new int[size];
+		int[] sortedFirstNameCodes = new int[size];
+		int[] sortedLastNameCodes = new int[size];
+		for (int i = 0; i < size; i++) {
+			int from = (int) order[i];
+			sortedIds[i] = ids[from];
+			sortedBirthDays[i] = birthDays[from];
+			sortedFirstNameCodes[i] = firstNameCodes[from];
+			sortedLastNameCodes[i] = lastNameCodes[from];
+		}
+		return new JDBCEntitySnapshot(version, Instant.now(), sortedIds, sortedBirthDays, sortedFirstNameCodes,
+				sortedLastNameCodes, firstNames, lastNames);
+	}
+}
@@ -0,0 +1,303 @@
+package com.example.demo.Dao.Snapshot;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import com.example.demo.Dao.Query.JDBCEntityFilter;
+import com.example.demo.Entity.JDBCEntity;
+
+import lombok.Getter;
+
+/**
+ * @author Takumi
+ * <pre>
+ * ある時点の{@link JDBCEntity#TEST TEST}テーブルを列ごとの配列で保持したもの
+ * idとbirth_dayはint[]、first_name・last_nameは{@link StringDictionary}の番号のint[]で持つ
+ * （同じ値が多い名前を1行ずつ文字列で持たないため、{@code List<JDBCEntity>}より小さく、走査も速い）
+ * 行はidの昇順に並んでおり、idからの検索は二分探索で行う
+ *
+ * 作成後は変更しないため、複数のスレッドから同時に使用できる
+ * 最新の状態にする場合は{@link JDBCEntitySnapshotManager#refresh()}で新しいスナップショットを取得する
+ * </pre>
+ */
+public final class JDBCEntitySnapshot {
+
+	/** 条件のない場合の{@link #lastNameCode(JDBCEntityFilter)}の戻り値 */
+	private static final int ANY = -2;
+
+	/** 版（読み込み直すたびに増える） */
+	@Getter
+	private final long version;
+
+	/** 作成した時刻 */
+	@Getter
+	private final Instant loadedAt;
+
+	private final int[] ids;
+	private final int[] birthDays;
+	private final int[] firstNameCodes;
+	private final int[] lastNameCodes;
+	private final StringDictionary firstNames;
+	private final StringDictionary lastNames;
+
+	JDBCEntitySnapshot(long version, Instant loadedAt, int[] ids, int[] birthDays, int[] firstNameCodes,
+			int[] lastNameCodes, StringDictionary firstNames, StringDictionary lastNames) {
+		this.version = version;
+		this.loadedAt = loadedAt;
+		this.ids = ids;
+		this.birthDays = birthDays;
+		this.firstNameCodes = firstNameCodes;
+		this.lastNameCodes = lastNameCodes;
+		this.firstNames = firstNames;
+		this.lastNames = lastNames;
+	}
+
+	/**
+	 * @return 行数
+	 */
+	public int size() {
+		return ids.length;
+	}
+
+	/**
+	 * @param id 検索したいid
+	 * @return 行の位置（存在しない場合-1）
+	 */
+	public int indexOf(int id) {
+		int row = Arrays.binarySearch(ids, id);
+		return row < 0 ? -1 : row;
+	}
+
+	/**
+	 * @param row 行の位置
+	 * @return その行のid
+	 */
+	public int getId(int row) {
+		return ids[row];
+	}
+
+	/**
+	 * @param row 行の位置
+	 * @return その行のbirth_day
+	 */
+	public int getBirthDay(int row) {
+		return birthDays[row];
+	}
+
+	/**
+	 * @param row 行の位置
+	 * @return その行のfirst_name
+	 */
+	public String getFirstName(int row) {
+		return firstNames.decode(firstNameCodes[row]);
+	}
+
+	/**
+	 * @param row 行の位置
+	 * @return その行のlast_name
+	 */
+	public String getLastName(int row) {
+		return lastNames.decode(lastNameCodes[row]);
+	}
+
+	/**
+	 * @param row 行の位置
+	 * @return その行の{@link JDBCEntity}
+	 */
+	public JDBCEntity get(int row) {
+		return new JDBCEntity(ids[row], getFirstName(row), getLastName(row), birthDays[row]);
+	}
+
+	/**
+	 * @return first_nameの異なる値の数（削除された行の値を含む）
+	 */
+	public int getFirstNameCardinality() {
+		return firstNames.size();
+	}
+
+	/**
+	 * @return last_nameの異なる値の数（削除された行の値を含む）
+	 */
+	public int getLastNameCardinality() {
+		return lastNames.size();
+	}
+
+	/**
+	 * <pre>
+	 * 条件に一致する行を求める
+	 * last_nameの条件は辞書の番号に変換してから比較するため、行ごとに文字列の比較は行わない
+	 * </pre>
+	 * @param filter 条件（nullの場合は全行）
+	 * @return 一致する行の位置
+	 */
+	public BitSet filter(JDBCEntityFilter filter) {
+		BitSet rows = new BitSet(ids.length);
+		int lastNameCode = lastNameCode(filter);
+		if (lastNameCode == StringDictionary.NOT_FOUND) {
+			return rows;
+		}
+		int from = birthDayFrom(filter);
+		int to = birthDayTo(filter);
+		for (int row = 0; row < ids.length; row++) {
+			if (matches(row, from, to, lastNameCode)) {
+				rows.set(row);
+			}
+		}
+		return rows;
+	}
+
+	/**
+	 * @param filter 条件（nullの場合は全行）
+	 * @return 条件に一致する行数
+	 */
+	public int count(JDBCEntityFilter filter) {
+		int lastNameCode = lastNameCode(filter);
+		if (lastNameCode == StringDictionary.NOT_FOUND) {
+			return 0;
+		}
+		int from = birthDayFrom(filter);
+		int to = birthDayTo(filter);
+		int count = 0;
+		for (int row = 0; row < ids.length; row++) {
+			if (matches(row, from, to, lastNameCode)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * <pre>
+	 * 条件に一致する行をid順に{@link JDBCEntity}にして渡す
+	 * </pre>
+	 * @param filter 条件（nullの場合は全行）
+	 * @param consumer 1行ごとに呼ばれるコールバック
+	 */
+	public void forEach(JDBCEntityFilter filter, Consumer<? super JDBCEntity> consumer) {
+		BitSet rows = filter(filter);
+		for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+			consumer.accept(get(row));
+		}
+	}
+
+	/**
+	 * @param filter 条件（nullの場合は全行）
+	 * @return first_nameごとの行数（多い順）
+	 */
+	public Map<String, Integer> countByFirstName(JDBCEntityFilter filter) {
+		return countByCode(filter, firstNameCodes, firstNames);
+	}
+
+	/**
+	 * @param filter 条件（nullの場合は全行）
+	 * @return last_nameごとの行数（多い順）
+	 */
+	public Map<String, Integer> countByLastName(JDBCEntityFilter filter) {
+		return countByCode(filter, lastNameCodes, lastNames);
+	}
+
+	/**
+	 * @param filter 条件（nullの場合は全行）
+	 * @return birth_dayごとの行数（birth_dayの昇順）
+	 */
+	public Map<Integer, Integer> countByBirthDay(JDBCEntityFilter filter) {
+		Map<Integer, Integer> result = new TreeMap<>();
+		BitSet rows = filter(filter);
+		for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+			result.merge(birthDays[row], 1, Integer::sum);
+		}
+		return result;
+	}
+
+	/**
+	 * <pre>
+	 * 変更されたidの行を差し替えた新しいスナップショットを作成する
+	 * 両方ともidの昇順のため、1回の走査でまとめる
+	 * このスナップショットの配列・辞書は変更しない
+	 * </pre>
+	 * @param changedIds 変更されたid（昇順・重複なし）
+	 * @param changed 変更後のデータ（key:id。削除されたidは含まない）
+	 * @param newVersion 新しいスナップショットの版
+	 * @return 新しいスナップショット
+	 */
+	JDBCEntitySnapshot withChanges(int[] changedIds, Map<Integer, JDBCEntity> changed, long newVersion) {
+		ColumnarBuilder builder = new ColumnarBuilder(ids.length + changed.size(), firstNames.copy(),
+				lastNames.copy());
+		int row = 0;
+		int index = 0;
+		while (row < ids.length || index < changedIds.length) {
+			if (index == changedIds.length || (row < ids.length && ids[row] < changedIds[index])) {
+				builder.addEncoded(ids[row], firstNameCodes[row], lastNameCodes[row], birthDays[row]);
+				row++;
+				continue;
+			}
+			int id = changedIds[index++];
+			if (row < ids.length && ids[row] == id) {
+				row++;
+			}
+			JDBCEntity data = changed.get(id);
+			if (data != null) {
+				builder.add(data.getId(), data.getFirst_name(), data.getLast_name(), data.getBirth_day());
+			}
+		}
+		return builder.build(newVersion);
+	}
+
+	private boolean matches(int row, int from, int to, int lastNameCode) {
+		int birthDay = birthDays[row];
+		return birthDay >= from && birthDay <= to && (lastNameCode == ANY || lastNameCodes[row] == lastNameCode);
+	}
+
+	private Map<String, Integer> countByCode(JDBCEntityFilter filter, int[] codes, StringDictionary dictionary) {
+		int[] counts = new int[dictionary.size()];
+		int lastNameCode = lastNameCode(filter);
+		if (lastNameCode != StringDictionary.NOT_FOUND) {
+			int from = birthDayFrom(filter);
+			int to = birthDayTo(filter);
+			for (int row = 0; row < ids.length; row++) {
+				if (matches(row, from, to, lastNameCode)) {
+					counts[codes[row]]++;
+				}
+			}
+		}
+
+		List<Integer> usedCodes = new ArrayList<>();
+		for (int code = 0; code < counts.length; code++) {
+			if (counts[code] != 0) {
+				usedCodes.add(code);
+			}
+		}
+		usedCodes.sort(Comparator.comparingInt((Integer code) -> counts[code]).reversed());
+		Map<String, Integer> result = new LinkedHashMap<>();
+		for (Integer code : usedCodes) {
+			result.put(dictionary.decode(code), counts[code]);
+		}
+		return result;
+	}
+
+	/**
+	 * @return last_nameの辞書の番号（条件なしは{@link #ANY}、辞書にない値は{@link StringDictionary#NOT_FOUND}）
+	 */
+	private int lastNameCode(JDBCEntityFilter filter) {
+		if (filter == null || filter.getLastName() == null) {
+			return ANY;
+		}
+		return lastNames.codeOf(filter.getLastName());
+	}
+
+	private static int birthDayFrom(JDBCEntityFilter filter) {
+		return filter == null || filter.getBirthDayFrom() == null ? Integer.MIN_VALUE : filter.getBirthDayFrom();
+	}
+
+	private static int birthDayTo(JDBCEntityFilter filter) {
+		return filter == null || filter.getBirthDayTo() == null ? Integer.MAX_VALUE : filter.getBirthDayTo();
+	}
+}
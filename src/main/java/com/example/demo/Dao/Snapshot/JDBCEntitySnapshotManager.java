@@ -0,0 +1,159 @@
+package com.example.demo.Dao.Snapshot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.dao.DataAccessException;
+
+import com.example.demo.Dao.JDBCTempDao;
+import com.example.demo.Dao.Cache.CacheInvalidationListener;
+import com.example.demo.Entity.JDBCEntity;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link JDBCEntitySnapshot}を保持し、テーブルの変更に合わせて更新する
+ * 変更されたidは{@link com.example.demo.Dao.Cache.EntityCacheManager}のキャッシュの削除から受け取る
+ * （JDBC・NamedJDBC・JPAなど、キャッシュを削除するDAOで変更したものが対象。SQLを直接実行した場合は{@link #reload()}すること）
+ *
+ * {@link #refresh()}は変更されたidの行だけをDAOから取得して差し替える
+ * 変更されたidが多い場合・テーブル全体が変更された場合は全件を読み込み直す
+ * 読み込み中に変更されたidは次の{@link #refresh()}で反映する
+ * </pre>
+ */
+public class JDBCEntitySnapshotManager implements CacheInvalidationListener {
+
+	private final JDBCTempDao dao;
+
+	private final int fetchSize;
+
+	/** 変更されたidの数がスナップショットの行数のこの割合を超えた場合は全件を読み込み直す */
+	private final double fullReloadRatio;
+
+	private final Set<Integer> dirtyIds = ConcurrentHashMap.newKeySet();
+
+	/** テーブル全体が変更された場合true */
+	private volatile boolean allDirty;
+
+	private volatile JDBCEntitySnapshot snapshot;
+
+	/**
+	 * @param dao 読み込みに使用するDAO
+	 * @param fetchSize 全件を読み込む際のフェッチサイズ
+	 * @param fullReloadRatio 変更されたidの数がスナップショットの行数のこの割合を超えた場合は全件を読み込み直す
+	 */
+	public JDBCEntitySnapshotManager(JDBCTempDao dao, int fetchSize, double fullReloadRatio) {
+		if (fetchSize <= 0) {
+			throw new IllegalArgumentException("fetchSizeは1以上を指定してください。:" + fetchSize);
+		}
+		this.dao = dao;
+		this.fetchSize = fetchSize;
+		this.fullReloadRatio = fullReloadRatio;
+	}
+
+	/**
+	 * <pre>
+	 * 保持しているスナップショットを返す（変更が反映されていない場合がある）
+	 * まだ読み込んでいない場合は全件を読み込む
+	 * </pre>
+	 * @return スナップショット
+	 * @throws DataAccessException
+	 */
+	public JDBCEntitySnapshot getSnapshot() throws DataAccessException {
+		JDBCEntitySnapshot current = snapshot;
+		return current != null ? current : reload();
+	}
+
+	/**
+	 * <pre>
+	 * 前回の読み込み以降に変更された行を反映したスナップショットを返す（変更がなければ今のものを返す）
+	 * </pre>
+	 * @return スナップショット
+	 * @throws DataAccessException
+	 */
+	public synchronized JDBCEntitySnapshot refresh() throws DataAccessException {
+		JDBCEntitySnapshot current = snapshot;
+		if (current == null || allDirty || dirtyIds.size() > current.size() * fullReloadRatio) {
+			return reload();
+		}
+		if (dirtyIds.isEmpty()) {
+			return current;
+		}
+
+		//取得する前に外し、取得中に変更されたものは次回に反映する
+		List<Integer> ids = new ArrayList<>(dirtyIds);
+		dirtyIds.removeAll(ids);
+		try {
+			Map<Integer, JDBCEntity> changed = dao.getJDBCEntitiesByIds(ids).getFound();
+			int[] changedIds = ids.stream().mapToInt(Integer::intValue).sorted().toArray();
+			snapshot = current.withChanges(changedIds, changed, current.getVersion() + 1);
+			return snapshot;
+		} catch (RuntimeException e) {
+			dirtyIds.addAll(ids);
+			throw e;
+		}
+	}
+
+	/**
+	 * <pre>
+	 * 全件を読み込み直す（{@link JDBCEntity}を作成せず、1行ずつ列の配列に追加する）
+	 * </pre>
+	 * @return スナップショット
+	 * @throws DataAccessException
+	 */
+	public synchronized JDBCEntitySnapshot reload() throws DataAccessException {
+		JDBCEntitySnapshot current = snapshot;
+		allDirty = false;
+		dirtyIds.clear();
+		try {
+			ColumnarBuilder builder = new ColumnarBuilder(current == null ? 0 : current.size(),
+					new StringDictionary(), new StringDictionary());
+			dao.forEachJDBCEntityRow(fetchSize,
+					row -> builder.add(row.getId(), row.getFirst_name(), row.getLast_name(), row.getBirth_day()));
+			snapshot = builder.build(current == null ? 1 : current.getVersion() + 1);
+			return snapshot;
+		} catch (RuntimeException e) {
+			allDirty = true;
+			throw e;
+		}
+	}
+
+	/**
+	 * @return 保持しているスナップショットに反映されていない変更がある場合true
+	 */
+	public boolean isStale() {
+		return allDirty || !dirtyIds.isEmpty();
+	}
+
+	/**
+	 * @return 反映されていない変更されたidの数
+	 */
+	public int getDirtyCount() {
+		return dirtyIds.size();
+	}
+
+	@Override
+	public void onInvalidate(String tableName, Collection<?> keys) {
+		if (!JDBCEntity.TEST.equalsIgnoreCase(tableName)) {
+			return;
+		}
+		for (Object key : keys) {
+			if (key instanceof Number) {
+				dirtyIds.add(((Number) key).intValue());
+			} else {
+				allDirty = true;
+			}
+		}
+	}
+
+	@Override
+	public void onInvalidateAll(String tableName) {
+		if (JDBCEntity.TEST.equalsIgnoreCase(tableName)) {
+			allDirty = true;
+		}
+	}
+}
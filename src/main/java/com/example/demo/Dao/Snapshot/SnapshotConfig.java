@@ -0,0 +1,29 @@
+package com.example.demo.Dao.Snapshot;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.demo.Dao.JDBCTempDao;
+import com.example.demo.Dao.Cache.EntityCacheManager;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link JDBCEntitySnapshotManager}の設定
+ * snapshot.fetch-size 全件を読み込む際のフェッチサイズ（デフォルト10000）
+ * snapshot.full-reload-ratio 変更されたidの数が行数のこの割合を超えた場合は全件を読み込み直す（デフォルト0.25）
+ * </pre>
+ */
+@Configuration
+public class SnapshotConfig {
+
+	@Bean
+	public JDBCEntitySnapshotManager jdbcEntitySnapshotManager(JDBCTempDao dao, EntityCacheManager cacheManager,
+			@Value("${snapshot.fetch-size:10000}") int fetchSize,
+			@Value("${snapshot.full-reload-ratio:0.25}") double fullReloadRatio) {
+		JDBCEntitySnapshotManager manager = new JDBCEntitySnapshotManager(dao, fetchSize, fullReloadRatio);
+		cacheManager.addInvalidationListener(manager);
+		return manager;
+	}
+}
@@ -0,0 +1,82 @@
+package com.example.demo.Dao.Snapshot;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Takumi
+ * <pre>
+ * 文字列の辞書（同じ文字列に同じ番号を振る）
+ * 同じ値が多いカラムを、文字列の配列ではなく番号（int）の配列で持つために使用する
+ * 番号は追加した順に0から振り、一度振った番号は変わらない
+ * ※{@link JDBCEntitySnapshot}を作成した後は変更しないこと（変更する場合は{@link #copy()}したものに追加する）
+ * </pre>
+ */
+final class StringDictionary {
+
+	/** 辞書にない場合の番号 */
+	static final int NOT_FOUND = -1;
+
+	/** index:番号 */
+	private final List<String> values;
+
+	/** key:文字列 value:番号 */
+	private final Map<String, Integer> codes;
+
+	StringDictionary() {
+		this.values = new ArrayList<>();
+		this.codes = new HashMap<>();
+	}
+
+	private StringDictionary(StringDictionary source) {
+		this.values = new ArrayList<>(source.values);
+		this.codes = new HashMap<>(source.codes);
+	}
+
+	/**
+	 * @param value 文字列（null可）
+	 * @return 番号（辞書になければ追加する）
+	 */
+	int encode(String value) {
+		Integer code = codes.get(value);
+		if (code == null) {
+			code = values.size();
+			values.add(value);
+			codes.put(value, code);
+		}
+		return code;
+	}
+
+	/**
+	 * @param value 文字列
+	 * @return 番号（辞書になければ{@link #NOT_FOUND}）
+	 */
+	int codeOf(String value) {
+		Integer code = codes.get(value);
+		return code == null ? NOT_FOUND : code;
+	}
+
+	/**
+	 * @param code 番号
+	 * @return 文字列
+	 */
+	String decode(int code) {
+		return values.get(code);
+	}
+
+	/**
+	 * @return 異なる文字列の数
+	 */
+	int size() {
+		return values.size();
+	}
+
+	/**
+	 * @return 同じ番号を持つ、追加可能な複製
+	 */
+	StringDictionary copy() {
+		return new StringDictionary(this);
+	}
+}
@@ -0,0 +1,6 @@
+/**
+ * @author Takumi
+ * テーブルを列ごとの配列としてメモリに保持し、集計に使用するパッケージ
+ *
+ */
+package com.example.demo.Dao.Snapshot;
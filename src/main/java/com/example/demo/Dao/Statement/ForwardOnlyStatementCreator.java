@@ -0,0 +1,65 @@
+package com.example.demo.Dao.Statement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.SqlProvider;
+
+/**
+ * @author Takumi
+ * <pre>
+ * 前方向のみ・読み取り専用のカーソルで{@link PreparedStatement}を作成するクラス
+ * フェッチサイズを指定することで、全件をメモリに載せずに少しずつ行を取得する
+ * 大量データのストリーム取得などで使用
+ * </pre>
+ */
+public class ForwardOnlyStatementCreator implements PreparedStatementCreator, SqlProvider {
+
+	/** デフォルトのフェッチサイズ */
+	public static final int DEFAULT_FETCH_SIZE = 1000;
+
+	private final String sql;
+
+	private final int fetchSize;
+
+	private final Object[] args;
+
+	/**
+	 * @param sql 実行するSQL文（?使用）
+	 * @param fetchSize 1度にドライバーが取得する行数
+	 * @param args ?に順番に入れる値
+	 */
+	public ForwardOnlyStatementCreator(String sql, int fetchSize, Object... args) {
+		if (fetchSize <= 0) {
+			throw new IllegalArgumentException("fetchSizeは1以上を指定してください。");
+		}
+		this.sql = sql;
+		this.fetchSize = fetchSize;
+		this.args = args;
+	}
+
+	@Override
+	public PreparedStatement createPreparedStatement(Connection con) throws SQLException {
+		PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+		try {
+			ps.setFetchSize(fetchSize);
+			ps.setFetchDirection(ResultSet.FETCH_FORWARD);
+			if (args != null && args.length != 0) {
+				new ArgumentPreparedStatementSetter(args).setValues(ps);
+			}
+			return ps;
+		} catch (SQLException e) {
+			ps.close();
+			throw e;
+		}
+	}
+
+	@Override
+	public String getSql() {
+		return sql;
+	}
+}
@@ -0,0 +1,496 @@
+package com.example.demo.Dao.Statement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import com.example.demo.Dao.Query.JDBCEntityFilter;
+import com.example.demo.Entity.JDBCEntity;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link JDBCEntity#TEST TEST}テーブル用のSQL文のカタログ
+ * 固定のSQL文はクラスロード時に一度だけ組み立てて定数として保持する
+ * カラムが呼び出し元によって変わるUPDATE/INSERT文は
+ * {@link #updateById(List)}などで組み立て、{@link StatementCache}でキャッシュして使用する
+ * ?を使用するもの（{@link org.springframework.jdbc.core.JdbcTemplate}用）と
+ * :パラメータ名を使用するもの（{@link org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate}用）がある
+ * </pre>
+ */
+public final class JDBCEntitySql {
+
+	/** SELECT * FROM test_table */
+	public static final String SELECT_ALL = join("SELECT", "*", "FROM", JDBCEntity.TEST);
+
+	/** SELECT * FROM test_table WHERE id = ? */
+	public static final String SELECT_BY_ID = join(SELECT_ALL, "WHERE", JDBCEntity.ID + " = ?");
+
+	/** DELETE FROM test_table WHERE id = ? */
+	public static final String DELETE_BY_ID = join("DELETE FROM", JDBCEntity.TEST, "WHERE", JDBCEntity.ID + " = ?");
+
+	/** UPDATE test_table SET id = ?, first_name = ?, ... WHERE id = ? */
+	public static final String BATCH_UPDATE = join("UPDATE", JDBCEntity.TEST, "SET",
+			setClause(JDBCEntity.GetSetQueryList_forBatchUpdate(), false),
+			"WHERE", JDBCEntity.ID + " = ?");
+
+	/** INSERT INTO test_table ( id, first_name, ... ) VALUES ( ?, ?, ... ) */
+	public static final String BATCH_INSERT = join("INSERT INTO", JDBCEntity.TEST,
+			valuesClause(JDBCEntity.GetSetQueryList_forBatchUpdate(), false));
+
+	/** MERGE INTO test_table ( id, first_name, ... ) KEY ( id ) VALUES ( ?, ?, ... ) */
+	public static final String BATCH_UPSERT = join("MERGE INTO", JDBCEntity.TEST,
+			mergeClause(JDBCEntity.GetSetQueryList_forBatchUpdate(), false));
+
+	/** キーセット方式のページングで使用するパラメータ名 */
+	public static final String PARAM_AFTER_ID = "afterId";
+	public static final String PARAM_BIRTHDAY_FROM = "birthDayFrom";
+	public static final String PARAM_BIRTHDAY_TO = "birthDayTo";
+	public static final String PARAM_LAST_NAME = "lastName";
+	public static final String PARAM_LIMIT = "limit";
+	public static final String PARAM_FROM_ID = "fromId";
+	public static final String PARAM_TO_ID = "toId";
+
+	/** テーブル名として使用できる文字列（英字か_で始まる英数字と_。スキーマ名.テーブル名も可） */
+	private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+	/** IN句1つに入れるidの上限数 */
+	public static final int MAX_IN_LIST_SIZE = 512;
+
+	/** 複数行INSERT文1つに入れる行数の上限（パラメータ数は4カラム × 512 = 2048） */
+	public static final int MAX_MULTI_ROW_INSERT_SIZE = 512;
+
+	/** SELECT * FROM test_table WHERE id = :id */
+	public static final String NAMED_SELECT_BY_ID = join(SELECT_ALL, "WHERE", JDBCEntity.ID + " = :" + JDBCEntity.ID);
+
+	/** SELECT * FROM test_table WHERE id IN ( :ids )（:idsには{@code Collection}を渡す） */
+	public static final String NAMED_SELECT_BY_IDS = join(SELECT_ALL, "WHERE", JDBCEntity.ID, "IN ( :ids )");
+
+	/** SELECT id FROM test_table WHERE id IN ( :ids )（:idsには{@code Collection}を渡す） */
+	public static final String NAMED_SELECT_IDS_BY_IDS = join("SELECT", JDBCEntity.ID, "FROM", JDBCEntity.TEST,
+			"WHERE", JDBCEntity.ID, "IN ( :ids )");
+
+	/** MERGE INTO test_table ( id, first_name, ... ) KEY ( id ) VALUES ( :id, :first_name, ... ) */
+	public static final String NAMED_BATCH_UPSERT = join("MERGE INTO", JDBCEntity.TEST,
+			mergeClause(JDBCEntity.GetSetQueryList_forBatchUpdate(), true));
+
+	/** DELETE FROM test_table WHERE id = :id */
+	public static final String NAMED_DELETE_BY_ID = join("DELETE FROM", JDBCEntity.TEST, "WHERE",
+			JDBCEntity.ID + " = :" + JDBCEntity.ID);
+
+	/** DELETE FROM test_table WHERE id IN ( :ids )（:idsには{@code Collection}を渡す） */
+	public static final String NAMED_DELETE_BY_IDS = join("DELETE FROM", JDBCEntity.TEST, "WHERE", JDBCEntity.ID, "IN ( :ids )");
+
+	/** UPDATE test_table SET id = :id, first_name = :first_name, ... WHERE id = :id */
+	public static final String NAMED_BATCH_UPDATE = join("UPDATE", JDBCEntity.TEST, "SET",
+			setClause(JDBCEntity.GetSetQueryList_forBatchUpdate(), true),
+			"WHERE", JDBCEntity.ID + " = :" + JDBCEntity.ID);
+
+	/** INSERT INTO test_table ( id, first_name, ... ) VALUES ( :id, :first_name, ... ) */
+	public static final String NAMED_BATCH_INSERT = join("INSERT INTO", JDBCEntity.TEST,
+			valuesClause(JDBCEntity.GetSetQueryList_forBatchUpdate(), true));
+
+	private JDBCEntitySql() {
+	}
+
+	/**
+	 * <pre>
+	 * 任意のテーブルの全件を取得するSELECT文を作成する
+	 * テーブル名は?にできないため、SQLインジェクション対策としてテーブル名に使用できる文字列か検証する
+	 * </pre>
+	 * @param tableName テーブル名
+	 * @return SELECT * FROM テーブル名
+	 * @throws IllegalArgumentException テーブル名に使用できない文字列の場合
+	 */
+	public static String selectAll(String tableName) {
+		if (tableName == null || !TABLE_NAME.matcher(tableName).matches()) {
+			throw new IllegalArgumentException("テーブル名に使用できない文字列です。:" + tableName);
+		}
+		return join("SELECT", "*", "FROM", tableName);
+	}
+
+	/**
+	 * <pre>
+	 * H2のCSVREADでCSVファイルを読み込んで挿入するINSERT文を作成する
+	 * CSVREADのファイル名は?にできない（SQLの解析時にファイルを開く）ため、'をエスケープしてリテラルにする
+	 * CSVの1行目はカラム名（大文字小文字は区別しない）にすること
+	 * </pre>
+	 * @param csvFilePath CSVファイルのパス
+	 * @return INSERT INTO test_table ( id, first_name, ... ) SELECT CAST(id AS INT), first_name, ... FROM CSVREAD('パス', NULL, 'charset=UTF-8')
+	 */
+	public static String insertFromCsvRead(String csvFilePath) {
+		return join("INSERT INTO", JDBCEntity.TEST,
+				"( " + String.join(", ", JDBCEntity.GetSetQueryList_forBatchUpdate()) + " )",
+				"SELECT", String.join(", ",
+						"CAST(" + JDBCEntity.ID + " AS INT)",
+						JDBCEntity.FIRST_NAME,
+						JDBCEntity.LAST_NAME,
+						"CAST(" + JDBCEntity.BIRTHDAY + " AS INT)"),
+				"FROM CSVREAD('" + csvFilePath.replace("'", "''") + "', NULL, 'charset=UTF-8')");
+	}
+
+	/**
+	 * <pre>
+	 * 複数のidで取得するSELECT文を作成する
+	 * </pre>
+	 * @param size IN句の?の数（{@link #inListSize(int)}で丸めた数を渡す）
+	 * @return SELECT * FROM test_table WHERE id IN ( ?, ?, ... )
+	 */
+	public static String selectByIds(int size) {
+		return join(SELECT_ALL, "WHERE", JDBCEntity.ID, "IN (", String.join(", ", Collections.nCopies(size, "?")), ")");
+	}
+
+	/**
+	 * <pre>
+	 * 複数のidで取得し、取得した行をロックするSELECT文を作成する
+	 * </pre>
+	 * @param size IN句の?の数（{@link #inListSize(int)}で丸めた数を渡す）
+	 * @return SELECT * FROM test_table WHERE id IN ( ?, ?, ... ) FOR UPDATE
+	 */
+	public static String selectByIdsForUpdate(int size) {
+		return join(selectByIds(size), "FOR UPDATE");
+	}
+
+	/**
+	 * <pre>
+	 * 複数のidのうち存在するidを取得するSELECT文を作成する
+	 * </pre>
+	 * @param size IN句の?の数（{@link #inListSize(int)}で丸めた数を渡す）
+	 * @return SELECT id FROM test_table WHERE id IN ( ?, ?, ... )
+	 */
+	public static String selectIdsByIds(int size) {
+		return join("SELECT", JDBCEntity.ID, "FROM", JDBCEntity.TEST, "WHERE", JDBCEntity.ID,
+				"IN (", String.join(", ", Collections.nCopies(size, "?")), ")");
+	}
+
+	/**
+	 * <pre>
+	 * 複数のidで削除するDELETE文を作成する
+	 * </pre>
+	 * @param size IN句の?の数（{@link #inListSize(int)}で丸めた数を渡す）
+	 * @return DELETE FROM test_table WHERE id IN ( ?, ?, ... )
+	 */
+	public static String deleteByIds(int size) {
+		return join("DELETE FROM", JDBCEntity.TEST, "WHERE", JDBCEntity.ID,
+				"IN (", String.join(", ", Collections.nCopies(size, "?")), ")");
+	}
+
+	/**
+	 * <pre>
+	 * IN句の?の数を2の累乗に切り上げる（上限は{@link #MAX_IN_LIST_SIZE}）
+	 * SQL文の種類を少なくし、文のキャッシュが効くようにするため
+	 * 余った?には同じidをもう一度入れる
+	 * </pre>
+	 * @param count IN句に入れたいidの数（1～{@link #MAX_IN_LIST_SIZE}）
+	 * @return IN句の?の数
+	 */
+	public static int inListSize(int count) {
+		if (count <= 0 || count > MAX_IN_LIST_SIZE) {
+			throw new IllegalArgumentException("countは1～" + MAX_IN_LIST_SIZE + "を指定してください。");
+		}
+		int size = Integer.highestOneBit(count);
+		return size == count ? size : Math.min(size << 1, MAX_IN_LIST_SIZE);
+	}
+
+	/**
+	 * @param ids IN句に入れたいid
+	 * @return {@link #MAX_IN_LIST_SIZE}件ずつに分けたid（元のListの部分List）
+	 */
+	public static List<List<Integer>> inListChunks(List<Integer> ids) {
+		List<List<Integer>> chunks = new ArrayList<>((ids.size() + MAX_IN_LIST_SIZE - 1) / MAX_IN_LIST_SIZE);
+		for (int from = 0; from < ids.size(); from += MAX_IN_LIST_SIZE) {
+			chunks.add(ids.subList(from, Math.min(from + MAX_IN_LIST_SIZE, ids.size())));
+		}
+		return chunks;
+	}
+
+	/**
+	 * <pre>
+	 * IN句に渡すidの件数を{@link #inListSize(int)}で丸め、余った分には最後のidを入れる
+	 * 戻り値の件数がIN句の?の数になる
+	 * </pre>
+	 * @param chunk IN句に入れたいid（1～{@link #MAX_IN_LIST_SIZE}件、{@link #inListChunks(List)}で分けたもの）
+	 * @return 件数を丸めたid
+	 */
+	public static List<Integer> paddedInList(List<Integer> chunk) {
+		int size = inListSize(chunk.size());
+		List<Integer> padded = new ArrayList<>(size);
+		padded.addAll(chunk);
+		while (padded.size() < size) {
+			padded.add(chunk.get(chunk.size() - 1));
+		}
+		return padded;
+	}
+
+	/**
+	 * <pre>
+	 * キーセット方式のページング用のSELECT文を作成する
+	 * ?の並び順は 前のページの最後のid、birth_dayの下限、birth_dayの上限、last_name、取得件数
+	 * （指定していない条件の?はない）
+	 * </pre>
+	 * @param conditionMask {@link JDBCEntityFilter#getConditionMask()}
+	 * @return SELECT * FROM test_table WHERE id > ? AND ... ORDER BY id LIMIT ?
+	 */
+	public static String seekPage(int conditionMask) {
+		return seekPage(conditionMask, false);
+	}
+
+	/**
+	 * <pre>
+	 * キーセット方式のページング用のSELECT文を作成する（:パラメータ名使用）
+	 * パラメータ名は{@link #PARAM_AFTER_ID}など
+	 * </pre>
+	 * @param conditionMask {@link JDBCEntityFilter#getConditionMask()}
+	 * @return SELECT * FROM test_table WHERE id > :afterId AND ... ORDER BY id LIMIT :limit
+	 */
+	public static String namedSeekPage(int conditionMask) {
+		return seekPage(conditionMask, true);
+	}
+
+	/**
+	 * <pre>
+	 * idの範囲と条件に一致するidを、id順に決まった件数ずつ取得するSELECT文を作成する（チャンクごとの削除用）
+	 * ?の並び順は idの下限、idの上限、birth_dayの下限、birth_dayの上限、last_name、取得件数
+	 * （指定していない条件の?はない）
+	 * </pre>
+	 * @param conditionMask {@link JDBCEntityFilter#getConditionMask()}
+	 * @return SELECT id FROM test_table WHERE id >= ? AND id <= ? AND ... ORDER BY id LIMIT ?
+	 */
+	public static String seekIds(int conditionMask) {
+		return seekIds(conditionMask, false);
+	}
+
+	/**
+	 * <pre>
+	 * idの範囲と条件に一致するidを、id順に決まった件数ずつ取得するSELECT文を作成する（:パラメータ名使用）
+	 * パラメータ名は{@link #PARAM_FROM_ID}など
+	 * </pre>
+	 * @param conditionMask {@link JDBCEntityFilter#getConditionMask()}
+	 * @return SELECT id FROM test_table WHERE id >= :fromId AND id <= :toId AND ... ORDER BY id LIMIT :limit
+	 */
+	public static String namedSeekIds(int conditionMask) {
+		return seekIds(conditionMask, true);
+	}
+
+	/**
+	 * <pre>
+	 * 条件に一致するデータをid順に全件取得するSELECT文を作成する（カーソルで読み進める用）
+	 * ?の並び順は {@link JDBCEntityFilter#getConditionValues()}の順番
+	 * </pre>
+	 * @param conditionMask {@link JDBCEntityFilter#getConditionMask()}
+	 * @return SELECT * FROM test_table WHERE ... ORDER BY id（条件なしの場合WHERE句なし）
+	 */
+	public static String selectByFilter(int conditionMask) {
+		List<String> whereList = filterConditions(conditionMask, false);
+		if (whereList.isEmpty()) {
+			return join(SELECT_ALL, "ORDER BY", JDBCEntity.ID);
+		}
+		return join(SELECT_ALL, "WHERE", String.join(" AND ", whereList), "ORDER BY", JDBCEntity.ID);
+	}
+
+	/**
+	 * <pre>
+	 * 1件更新用のUPDATE文を作成する
+	 * ?の並び順は引数のカラムの順番、最後の?がWHERE句のid
+	 * </pre>
+	 * @param columnList 更新したいカラム名のリスト
+	 * @return UPDATE test_table SET カラム名 = ?, ... WHERE id = ?
+	 */
+	public static String updateById(List<String> columnList) {
+		return join("UPDATE", JDBCEntity.TEST, "SET", setClause(columnList, false),
+				"WHERE", JDBCEntity.ID + " = ?");
+	}
+
+	/**
+	 * <pre>
+	 * 1件更新用のUPDATE文を作成する（:パラメータ名使用）
+	 * </pre>
+	 * @param columnList 更新したいカラム名のリスト
+	 * @param whereParamName WHERE句のidに使用するパラメータ名（SET句との被り防止用）
+	 * @return UPDATE test_table SET カラム名 = :カラム名, ... WHERE id = :whereParamName
+	 */
+	public static String namedUpdateById(List<String> columnList, String whereParamName) {
+		return join("UPDATE", JDBCEntity.TEST, "SET", setClause(columnList, true),
+				"WHERE", JDBCEntity.ID + " = :" + whereParamName);
+	}
+
+	/**
+	 * <pre>
+	 * 1件挿入用のINSERT文を作成する
+	 * </pre>
+	 * @param columnList 挿入したいカラム名のリスト
+	 * @return INSERT INTO test_table ( カラム名, ... ) VALUES ( ?, ... )
+	 */
+	public static String insert(List<String> columnList) {
+		return join("INSERT INTO", JDBCEntity.TEST, valuesClause(columnList, false));
+	}
+
+	/**
+	 * <pre>
+	 * 1件挿入用のINSERT文を作成する（:パラメータ名使用）
+	 * </pre>
+	 * @param columnList 挿入したいカラム名のリスト
+	 * @return INSERT INTO test_table ( カラム名, ... ) VALUES ( :カラム名, ... )
+	 */
+	public static String namedInsert(List<String> columnList) {
+		return join("INSERT INTO", JDBCEntity.TEST, valuesClause(columnList, true));
+	}
+
+	/**
+	 * <pre>
+	 * 次の複数行INSERT文に入れる行数を決める
+	 * 残りがチャンクの行数に満たない場合（最後のチャンク）は、残りの行数を超えない2の累乗にする
+	 * SQL文の種類を少なくし、文のキャッシュが効くようにするため（残りは次の文で送る）
+	 * </pre>
+	 * @param remaining まだ挿入していない行数（1以上）
+	 * @param chunkSize 1チャンクの行数（1～{@link #MAX_MULTI_ROW_INSERT_SIZE}）
+	 * @return 次の複数行INSERT文に入れる行数
+	 */
+	public static int multiRowInsertSize(int remaining, int chunkSize) {
+		if (remaining <= 0 || chunkSize <= 0 || chunkSize > MAX_MULTI_ROW_INSERT_SIZE) {
+			throw new IllegalArgumentException("remainingは1以上、chunkSizeは1～" + MAX_MULTI_ROW_INSERT_SIZE + "を指定してください。");
+		}
+		return remaining >= chunkSize ? chunkSize : Integer.highestOneBit(remaining);
+	}
+
+	/**
+	 * <pre>
+	 * 複数行を1文で挿入するINSERT文を作成する
+	 * カラムの並びは{@link JDBCEntity#GetSetQueryList_forBatchUpdate()}の順番
+	 * </pre>
+	 * @param rowCount 挿入する行数
+	 * @return INSERT INTO test_table ( id, ... ) VALUES ( ?, ?, ?, ? ), ( ?, ?, ?, ? ), ...
+	 */
+	public static String multiRowInsert(int rowCount) {
+		List<String> columnList = JDBCEntity.GetSetQueryList_forBatchUpdate();
+		String row = "( " + String.join(", ", Collections.nCopies(columnList.size(), "?")) + " )";
+
+		List<String> rowList = new ArrayList<>(rowCount);
+		for (int i = 0; i < rowCount; i++) {
+			rowList.add(row);
+		}
+		return join("INSERT INTO", JDBCEntity.TEST, "(", String.join(", ", columnList), ") VALUES",
+				String.join(", ", rowList));
+	}
+
+	/**
+	 * <pre>
+	 * 複数行を1文で挿入するINSERT文を作成する（:パラメータ名使用）
+	 * パラメータ名は カラム名 + 行番号（0始まり）
+	 * </pre>
+	 * @param rowCount 挿入する行数
+	 * @return INSERT INTO test_table ( id, ... ) VALUES ( :id0, :first_name0, ... ), ( :id1, ... ), ...
+	 */
+	public static String namedMultiRowInsert(int rowCount) {
+		List<String> columnList = JDBCEntity.GetSetQueryList_forBatchUpdate();
+
+		List<String> rowList = new ArrayList<>(rowCount);
+		for (int i = 0; i < rowCount; i++) {
+			List<String> valueList = new ArrayList<>();
+			for (String columnName : columnList) {
+				valueList.add(":" + multiRowParamName(columnName, i));
+			}
+			rowList.add("( " + String.join(", ", valueList) + " )");
+		}
+		return join("INSERT INTO", JDBCEntity.TEST, "(", String.join(", ", columnList), ") VALUES",
+				String.join(", ", rowList));
+	}
+
+	/**
+	 * @param columnName カラム名
+	 * @param rowIndex 行番号（0始まり）
+	 * @return {@link #namedMultiRowInsert(int)}で使用するパラメータ名
+	 */
+	public static String multiRowParamName(String columnName, int rowIndex) {
+		return columnName + rowIndex;
+	}
+
+	/**
+	 * <pre>
+	 * SET句を作成する
+	 * </pre>
+	 * @param columnList カラム名のリスト
+	 * @param named trueなら:カラム名、falseなら?
+	 * @return カラム名 = ?, カラム名 = ?, ...
+	 */
+	private static String setClause(List<String> columnList, boolean named) {
+		List<String> setList = new ArrayList<>();
+		for (String columnName : columnList) {
+			setList.add(columnName + " = " + placeholder(columnName, named));
+		}
+		return String.join(", ", setList);
+	}
+
+	/**
+	 * <pre>
+	 * INSERT文の( ... ) VALUES ( ... )を作成する
+	 * </pre>
+	 * @param columnList カラム名のリスト
+	 * @param named trueなら:カラム名、falseなら?
+	 * @return ( カラム名, ... ) VALUES ( ?, ... )
+	 */
+	private static String valuesClause(List<String> columnList, boolean named) {
+		List<String> valueList = new ArrayList<>();
+		for (String columnName : columnList) {
+			valueList.add(placeholder(columnName, named));
+		}
+		return join("(", String.join(", ", columnList), ") VALUES (", String.join(", ", valueList), ")");
+	}
+
+	/**
+	 * <pre>
+	 * MERGE文の( ... ) KEY ( id ) VALUES ( ... )を作成する（H2のMERGE）
+	 * </pre>
+	 * @param columnList カラム名のリスト
+	 * @param named trueなら:カラム名、falseなら?
+	 * @return ( カラム名, ... ) KEY ( id ) VALUES ( ?, ... )
+	 */
+	private static String mergeClause(List<String> columnList, boolean named) {
+		List<String> valueList = new ArrayList<>();
+		for (String columnName : columnList) {
+			valueList.add(placeholder(columnName, named));
+		}
+		return join("(", String.join(", ", columnList), ") KEY (", JDBCEntity.ID, ") VALUES (",
+				String.join(", ", valueList), ")");
+	}
+
+	private static String seekPage(int conditionMask, boolean named) {
+		List<String> whereList = new ArrayList<>();
+		whereList.add(JDBCEntity.ID + " > " + placeholder(PARAM_AFTER_ID, named));
+		whereList.addAll(filterConditions(conditionMask, named));
+		return join(SELECT_ALL, "WHERE", String.join(" AND ", whereList),
+				"ORDER BY", JDBCEntity.ID, "LIMIT", placeholder(PARAM_LIMIT, named));
+	}
+
+	private static String seekIds(int conditionMask, boolean named) {
+		List<String> whereList = new ArrayList<>();
+		whereList.add(JDBCEntity.ID + " >= " + placeholder(PARAM_FROM_ID, named));
+		whereList.add(JDBCEntity.ID + " <= " + placeholder(PARAM_TO_ID, named));
+		whereList.addAll(filterConditions(conditionMask, named));
+		return join("SELECT", JDBCEntity.ID, "FROM", JDBCEntity.TEST, "WHERE", String.join(" AND ", whereList),
+				"ORDER BY", JDBCEntity.ID, "LIMIT", placeholder(PARAM_LIMIT, named));
+	}
+
+	private static List<String> filterConditions(int conditionMask, boolean named) {
+		List<String> conditionList = new ArrayList<>();
+		if ((conditionMask & JDBCEntityFilter.BIRTHDAY_FROM) != 0) {
+			conditionList.add(JDBCEntity.BIRTHDAY + " >= " + placeholder(PARAM_BIRTHDAY_FROM, named));
+		}
+		if ((conditionMask & JDBCEntityFilter.BIRTHDAY_TO) != 0) {
+			conditionList.add(JDBCEntity.BIRTHDAY + " <= " + placeholder(PARAM_BIRTHDAY_TO, named));
+		}
+		if ((conditionMask & JDBCEntityFilter.LAST_NAME) != 0) {
+			conditionList.add(JDBCEntity.LAST_NAME + " = " + placeholder(PARAM_LAST_NAME, named));
+		}
+		return conditionList;
+	}
+
+	private static String placeholder(String columnName, boolean named) {
+		return named ? ":" + columnName : "?";
+	}
+
+	private static String join(String... parts) {
+		return String.join(" ", parts);
+	}
+}
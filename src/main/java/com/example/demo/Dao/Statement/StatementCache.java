@@ -0,0 +1,75 @@
+package com.example.demo.Dao.Statement;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * @author Takumi
+ * <pre>
+ * 動的に組み立てるSQL文（UPDATE/INSERTの形）をキャッシュするクラス
+ * keyはカラムの組み合わせなど、SQL文の形を一意に決めるもの
+ * 件数には上限があり、超えた場合は最も使われていないものから削除する（LRU）
+ * </pre>
+ * @param <K> SQL文の形を表すkey
+ */
+public class StatementCache<K> {
+
+	/** デフォルトのキャッシュ上限件数 */
+	public static final int DEFAULT_MAX_SIZE = 256;
+
+	private final Map<K, String> cache;
+
+	/**
+	 * {@link #DEFAULT_MAX_SIZE}件まで保持するキャッシュを作成
+	 */
+	public StatementCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * @param maxSize 保持するSQL文の上限件数
+	 */
+	public StatementCache(int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSizeは1以上を指定してください。");
+		}
+		this.cache = new LinkedHashMap<K, String>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, String> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * <pre>
+	 * keyに対応するSQL文を取得する
+	 * キャッシュに無い場合は引数のsqlBuilderで作成し、キャッシュに登録する
+	 * </pre>
+	 * @param key SQL文の形を表すkey
+	 * @param sqlBuilder keyからSQL文を作成する処理
+	 * @return SQL文
+	 */
+	public String get(K key, Function<? super K, String> sqlBuilder) {
+		synchronized (cache) {
+			String sql = cache.get(key);
+			if (sql == null) {
+				sql = sqlBuilder.apply(key);
+				cache.put(key, sql);
+			}
+			return sql;
+		}
+	}
+
+	/**
+	 * @return 現在キャッシュしているSQL文の件数
+	 */
+	public int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+}
@@ -0,0 +1,6 @@
+/**
+ * @author Takumi
+ * SQL文の組み立て・キャッシュをするパッケージ
+ *
+ */
+package com.example.demo.Dao.Statement;
@@ -0,0 +1,296 @@
+package com.example.demo.Dao.WriteBehind;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.Dao.JDBCTempDao;
+import com.example.demo.Dao.Binding.JDBCEntityColumn;
+import com.example.demo.Dao.Binding.JDBCEntityValues;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link JDBCTempDao#updateById(int, JDBCEntityValues)}の更新をためて、まとめて書き込むクラス
+ * 同じidへの更新はカラムごとに後の値で上書きして1件にまとめるため、
+ * 同じidを何度も更新する場合でも書き込むのは1行につき1回になる
+ * ためた更新は{@link JDBCTempDao#batchUpdateById(Map)}でまとめて書き込む
+ *
+ * 書き込むタイミング
+ * ・ためたidの数がwrite-behind.max-pending（デフォルト1000）に達した時（更新を呼んだスレッドで書き込む）
+ * ・write-behind.flush-interval-ms（デフォルト1000）ごと（別スレッドで書き込む）
+ * ・{@link #flush()}を呼んだ時、終了時（呼んだスレッドで書き込み終わるまで待つ）
+ *
+ * write-behind.mode（デフォルト{@link WriteBehindMode#WRITE_THROUGH}）が
+ * {@link WriteBehindMode#WRITE_BEHIND}の場合、書き込むまでの間はDBやDAOの取得結果に更新が反映されない
+ * まとめた書き込みに失敗した場合はidごとに書き込み直し、失敗したidだけを次の書き込みで再度書き込む
+ * write-behind.max-retries（デフォルト3）回続けて失敗したidは、制約違反など何度書き込んでも失敗するものとみなして
+ * 書き込みを諦め、{@link #getParkedUpdates()}で確認できるよう退避する
+ * 書き込みの失敗は、更新をためただけの{@link #updateById(int, JDBCEntityValues)}の呼び出し元には例外として返さない
+ * 書き込みはどのスレッドで行う場合も呼び出し元のトランザクションには参加せず、新しいトランザクションで行う
+ * （ためた更新には他の呼び出し元の更新も含まれるため、呼び出し元がロールバックしても失われないようにする）
+ * ※呼び出し元のトランザクションで更新中の行への書き込みは、そのトランザクションが終わるまで待たされて失敗し、次の書き込みで再度書き込む
+ * </pre>
+ */
+@Component
+public class WriteBehindBuffer {
+
+	private final JDBCTempDao dao;
+
+	private final WriteBehindMode mode;
+
+	private final int maxPending;
+
+	private final int maxRetries;
+
+	private final TransactionTemplate flushTransaction;
+
+	/** 書き込んでいない更新（key:id） */
+	private final Map<Integer, JDBCEntityValues> pending = new ConcurrentHashMap<>();
+
+	/** 書き込みに続けて失敗した回数（key:id） */
+	private final Map<Integer, Integer> failureCounts = new ConcurrentHashMap<>();
+
+	/** 書き込みを諦めた更新（key:id） */
+	private final Map<Integer, JDBCEntityValues> parked = new ConcurrentHashMap<>();
+
+	/** 同じidの更新が順番通りに書き込まれるよう、書き込みは1度に1つだけ行う */
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	private final ScheduledExecutorService scheduler;
+
+	private final LongAdder submittedCount = new LongAdder();
+
+	private final LongAdder writtenCount = new LongAdder();
+
+	private final LongAdder flushCount = new LongAdder();
+
+	private final LongAdder failedFlushCount = new LongAdder();
+
+	public WriteBehindBuffer(JDBCTempDao dao, PlatformTransactionManager transactionManager,
+			@Value("${write-behind.mode:WRITE_THROUGH}") WriteBehindMode mode,
+			@Value("${write-behind.max-pending:1000}") int maxPending,
+			@Value("${write-behind.flush-interval-ms:1000}") long flushIntervalMs,
+			@Value("${write-behind.max-retries:3}") int maxRetries) {
+		if (maxPending <= 0) {
+			throw new IllegalArgumentException("write-behind.max-pendingは1以上を指定してください。");
+		}
+		if (flushIntervalMs <= 0) {
+			throw new IllegalArgumentException("write-behind.flush-interval-msは1以上を指定してください。");
+		}
+		if (maxRetries <= 0) {
+			throw new IllegalArgumentException("write-behind.max-retriesは1以上を指定してください。");
+		}
+		this.dao = dao;
+		this.mode = mode;
+		this.maxPending = maxPending;
+		this.maxRetries = maxRetries;
+		this.flushTransaction = new TransactionTemplate(transactionManager);
+		this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		if (mode == WriteBehindMode.WRITE_BEHIND) {
+			this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "write-behind-flush");
+				thread.setDaemon(true);
+				return thread;
+			});
+			this.scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs,
+					TimeUnit.MILLISECONDS);
+		} else {
+			this.scheduler = null;
+		}
+	}
+
+	/**
+	 * <pre>
+	 * 1つのデータを更新する
+	 * {@link WriteBehindMode#WRITE_BEHIND}の場合はためるだけで、DBへの書き込みは後で行う
+	 * 引数のvaluesは複製してためるため、呼び出し後に変更しても影響しない
+	 * ためたidの数が上限に達して書き込んだ場合も、その書き込みの失敗は例外として返さない
+	 * </pre>
+	 * @param id 更新したいデータのid（プライマリキー）
+	 * @param values 更新したいデータ（idは更新できない）
+	 * @throws DataAccessException
+	 */
+	public void updateById(int id, JDBCEntityValues values) throws DataAccessException {
+		if (values.isEmpty()) {
+			throw new IllegalArgumentException("更新したいカラムが指定されていません。");
+		}
+		if (values.contains(JDBCEntityColumn.ID)) {
+			throw new IllegalArgumentException("idは更新できません。");
+		}
+		submittedCount.increment();
+		if (mode == WriteBehindMode.WRITE_THROUGH) {
+			dao.updateById(id, values);
+			writtenCount.increment();
+			return;
+		}
+		pending.merge(id, values.copy(), JDBCEntityValues::merge);
+		if (pending.size() >= maxPending) {
+			flush();
+		}
+	}
+
+	/**
+	 * <pre>
+	 * ためている更新を全て書き込む
+	 * 書き込み終わるまで待つ（別のスレッドが書き込み中の場合は、その書き込みも待つ）
+	 * 呼び出し元のトランザクションには参加せず、新しいトランザクションでコミットする
+	 * まとめた書き込みに失敗した場合はidごとに書き込み直し、失敗したidは戻して次の書き込みで再度書き込む
+	 * （続けてwrite-behind.max-retries回失敗したidは{@link #getParkedUpdates()}に退避する）
+	 * </pre>
+	 * @return 更新した数
+	 */
+	public int flush() {
+		flushLock.lock();
+		try {
+			if (pending.isEmpty()) {
+				return 0;
+			}
+			//ロックの順番を揃えるため、idの昇順で書き込む
+			Map<Integer, JDBCEntityValues> batch = new TreeMap<>();
+			for (Integer id : pending.keySet()) {
+				JDBCEntityValues values = pending.remove(id);
+				if (values != null) {
+					batch.put(id, values);
+				}
+			}
+			flushCount.increment();
+			try {
+				int updateCount = flushTransaction.execute(status -> dao.batchUpdateById(batch));
+				writtenCount.add(batch.size());
+				failureCounts.keySet().removeAll(batch.keySet());
+				return updateCount;
+			} catch (DataAccessException e) {
+				failedFlushCount.increment();
+				return writeEach(batch);
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	 * <pre>
+	 * 書き込みの定期実行を止め、ためている更新を全て書き込む
+	 * </pre>
+	 * @throws InterruptedException
+	 */
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		if (scheduler != null) {
+			scheduler.shutdown();
+			scheduler.awaitTermination(5, TimeUnit.SECONDS);
+		}
+		flush();
+	}
+
+	/**
+	 * @return 書き込み方式
+	 */
+	public WriteBehindMode getMode() {
+		return mode;
+	}
+
+	/**
+	 * @return 書き込んでいないidの数
+	 */
+	public int getPendingCount() {
+		return pending.size();
+	}
+
+	/**
+	 * @return {@link #updateById(int, JDBCEntityValues)}が呼ばれた回数
+	 */
+	public long getSubmittedCount() {
+		return submittedCount.sum();
+	}
+
+	/**
+	 * @return DBに書き込んだ行数（まとめた分は1行と数える）
+	 */
+	public long getWrittenCount() {
+		return writtenCount.sum();
+	}
+
+	/**
+	 * @return まとめて書き込んだ回数
+	 */
+	public long getFlushCount() {
+		return flushCount.sum();
+	}
+
+	/**
+	 * @return まとめた書き込みに失敗し、idごとに書き込み直した回数
+	 */
+	public long getFailedFlushCount() {
+		return failedFlushCount.sum();
+	}
+
+	/**
+	 * @return 書き込みを諦めて退避した更新（key:id）
+	 */
+	public Map<Integer, JDBCEntityValues> getParkedUpdates() {
+		return Map.copyOf(parked);
+	}
+
+	/**
+	 * <pre>
+	 * 退避した更新を取り除く（確認・対応が済んだ後に呼ぶ）
+	 * </pre>
+	 * @param id 取り除きたい更新のid
+	 * @return 取り除いた更新（退避されていなければnull）
+	 */
+	public JDBCEntityValues removeParkedUpdate(int id) {
+		return parked.remove(id);
+	}
+
+	/**
+	 * <pre>
+	 * まとめた書き込みに失敗した更新を1件ずつ（1件ごとに新しいトランザクションで）書き込み、失敗したidを特定する
+	 * 失敗したidはためている更新に戻し（書き込み中に同じidが更新されていた場合は、そちらの値を優先する）、
+	 * 続けてwrite-behind.max-retries回失敗した場合は退避する
+	 * </pre>
+	 */
+	private int writeEach(Map<Integer, JDBCEntityValues> batch) {
+		int updateCount = 0;
+		for (Map.Entry<Integer, JDBCEntityValues> entry : batch.entrySet()) {
+			Integer id = entry.getKey();
+			try {
+				updateCount += flushTransaction.execute(status -> dao.updateById(id, entry.getValue()));
+				writtenCount.increment();
+				failureCounts.remove(id);
+			} catch (DataAccessException e) {
+				if (failureCounts.merge(id, 1, Integer::sum) >= maxRetries) {
+					failureCounts.remove(id);
+					parked.put(id, entry.getValue());
+				} else {
+					pending.merge(id, entry.getValue(), (newer, failed) -> failed.merge(newer));
+				}
+			}
+		}
+		return updateCount;
+	}
+
+	private void flushQuietly() {
+		try {
+			flush();
+		} catch (RuntimeException e) {
+			//例外で定期実行が止まらないようにする
+			System.err.println(e.getMessage() + "\r\n" + e.getStackTrace());
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package com.example.demo.Dao.WriteBehind;
+
+/**
+ * @author Takumi
+ * <pre>
+ * {@link WriteBehindBuffer}の書き込み方式
+ * </pre>
+ */
+public enum WriteBehindMode {
+
+	/** ためずにその場でUPDATE文を実行する（呼び出し元のトランザクションに含まれる） */
+	WRITE_THROUGH,
+
+	/**
+	 * 更新をidごとにまとめてため、件数・時間のどちらかに達した時点でまとめて書き込む
+	 * 書き込むまではDBに反映されず、強制終了した場合はためていた更新が失われる
+	 */
+	WRITE_BEHIND
+}
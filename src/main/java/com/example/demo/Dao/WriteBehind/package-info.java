@@ -0,0 +1,6 @@
+/**
+ * @author Takumi
+ * 更新をメモリにためてまとめてDBに書き込むパッケージ
+ *
+ */
+package com.example.demo.Dao.WriteBehind;
@@ -0,0 +1,34 @@
+package com.example.demo.Entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <pre>
+ * テーブルtest_tableの1行を保持する、値を書き換え可能なクラス
+ * 1行ずつ処理するコールバックで同じインスタンスを使い回すために使用する
+ * コールバックの外で保持したい場合は{@link #toEntity()}でコピーすること
+ * </pre>
+ * @author Takumi
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class JDBCEntityRow {
+
+	private int id;
+	private String first_name;
+	private String last_name;
+	private int birth_day;
+
+	/** birth_dayがNULLの場合true（その場合birth_dayは0） */
+	private boolean birth_dayNull;
+
+	/**
+	 * @return 現在の値をコピーした{@link JDBCEntity}
+	 */
+	public JDBCEntity toEntity() {
+		return new JDBCEntity(id, first_name, last_name, birth_day);
+	}
+}
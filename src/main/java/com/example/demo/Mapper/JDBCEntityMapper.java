@@ -0,0 +1,65 @@
+package com.example.demo.Mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+import org.springframework.cache.annotation.CacheEvict;
+
+import com.example.demo.Dao.Cache.EntityCacheNames;
+import com.example.demo.Entity.JDBCEntity;
+
+/**
+ * @author Takumi
+ * <pre>
+ * MyBatisで{@link JDBCEntity#TEST TEST}テーブルを操作するマッパー
+ * SQLはアノテーションで指定し、#{パラメータ名}で値をマッピングする
+ * {@link JDBCEntity}はコンストラクタの引数の順番（id, first_name, last_name, birth_day）でマッピングされる
+ * 更新系は{@link EntityCacheNames}のtest_tableのキャッシュから対象のidを削除する（取得はキャッシュしない）
+ * </pre>
+ */
+@Mapper
+public interface JDBCEntityMapper {
+
+	/**
+	 * @return テーブル内の全データ
+	 */
+	@Select("SELECT id, first_name, last_name, birth_day FROM test_table")
+	List<JDBCEntity> findAll();
+
+	/**
+	 * @param id 取得したいデータのid（プライマリキー）
+	 * @return 渡したidのデータ（存在しない場合null）
+	 */
+	@Select("SELECT id, first_name, last_name, birth_day FROM test_table WHERE id = #{id}")
+	JDBCEntity findById(int id);
+
+	/**
+	 * @param entity 挿入したいデータ
+	 * @return 挿入数
+	 */
+	@CacheEvict(cacheNames = EntityCacheNames.JDBC_ENTITY, key = "#p0.id")
+	@Insert("INSERT INTO test_table (id, first_name, last_name, birth_day)"
+			+ " VALUES (#{id}, #{first_name}, #{last_name}, #{birth_day})")
+	int insert(JDBCEntity entity);
+
+	/**
+	 * @param entity 更新したいデータ（idで更新対象を指定）
+	 * @return 更新数
+	 */
+	@CacheEvict(cacheNames = EntityCacheNames.JDBC_ENTITY, key = "#p0.id")
+	@Update("UPDATE test_table SET first_name = #{first_name}, last_name = #{last_name}, birth_day = #{birth_day}"
+			+ " WHERE id = #{id}")
+	int update(JDBCEntity entity);
+
+	/**
+	 * @param id 削除したいデータのid（プライマリキー）
+	 * @return 削除数
+	 */
+	@CacheEvict(cacheNames = EntityCacheNames.JDBC_ENTITY, key = "#p0")
+	@Delete("DELETE FROM test_table WHERE id = #{id}")
+	int deleteById(int id);
+}
@@ -0,0 +1,4 @@
+/**
+ * MyBatisのマッパー
+ */
+package com.example.demo.Mapper;
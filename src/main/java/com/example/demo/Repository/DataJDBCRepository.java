@@ -1,8 +1,52 @@
 package com.example.demo.Repository;
 
+import java.util.Optional;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.repository.CrudRepository;
 
+import com.example.demo.Dao.Cache.EntityCacheNames;
 import com.example.demo.Entity.DataJDBCEntity;
 
+/**
+ * <pre>
+ * findByIdの結果は{@link EntityCacheNames#DATA_JDBC_ENTITY}にキャッシュする
+ * 保存・削除したidはキャッシュから削除し、複数件の保存・削除ではキャッシュ全体を削除する
+ * キャッシュには複製を保持し、キャッシュから返すのも毎回の複製
+ * </pre>
+ */
 public interface DataJDBCRepository extends CrudRepository<DataJDBCEntity, Integer> {
-}
\ No newline at end of file
+
+	@Override
+	@Cacheable(cacheNames = EntityCacheNames.DATA_JDBC_ENTITY, unless = "#result == null")
+	Optional<DataJDBCEntity> findById(Integer id);
+
+	@Override
+	@CacheEvict(cacheNames = EntityCacheNames.DATA_JDBC_ENTITY, key = "#p0.id")
+	<S extends DataJDBCEntity> S save(S entity);
+
+	@Override
+	@CacheEvict(cacheNames = EntityCacheNames.DATA_JDBC_ENTITY, allEntries = true)
+	<S extends DataJDBCEntity> Iterable<S> saveAll(Iterable<S> entities);
+
+	@Override
+	@CacheEvict(cacheNames = EntityCacheNames.DATA_JDBC_ENTITY)
+	void deleteById(Integer id);
+
+	@Override
+	@CacheEvict(cacheNames = EntityCacheNames.DATA_JDBC_ENTITY, key = "#p0.id")
+	void delete(DataJDBCEntity entity);
+
+	@Override
+	@CacheEvict(cacheNames = EntityCacheNames.DATA_JDBC_ENTITY, allEntries = true)
+	void deleteAllById(Iterable<? extends Integer> ids);
+
+	@Override
+	@CacheEvict(cacheNames = EntityCacheNames.DATA_JDBC_ENTITY, allEntries = true)
+	void deleteAll(Iterable<? extends DataJDBCEntity> entities);
+
+	@Override
+	@CacheEvict(cacheNames = EntityCacheNames.DATA_JDBC_ENTITY, allEntries = true)
+	void deleteAll();
+}
@@ -0,0 +1,27 @@
+package com.example.demo.Repository;
+
+import com.example.demo.Entity.JPAEntity;
+
+/**
+ * <pre>
+ * {@link JPAEntity}の一括挿入用のリポジトリ（{@link JPARepository}に追加するメソッド）
+ * </pre>
+ * @author Takumi
+ */
+public interface JPAEntityBatchRepository {
+
+	/**
+	 * <pre>
+	 * 新規のエンティティをまとめて挿入する
+	 * {@link JPARepository#saveAll(Iterable)}はidが割り当て済みのエンティティを既存とみなし、
+	 * 1件ごとにmerge（SELECT文）してから挿入するため、mergeせずにpersistする
+	 * INSERT文はspring.jpa.properties.hibernate.jdbc.batch_size件ずつJDBCのバッチで送り、
+	 * 送るたびに永続化コンテキストをクリアしてメモリ使用量を抑える
+	 * ※クリアするため、呼び出し元のトランザクションで取得済みのエンティティもデタッチ状態になる
+	 * ※既に存在するidが含まれる場合は、その行を送る時点で例外が発生する
+	 * </pre>
+	 * @param entities 挿入したいエンティティ（全て新規のもの）
+	 * @return 挿入した件数
+	 */
+	int persistAll(Iterable<JPAEntity> entities);
+}
@@ -0,0 +1,48 @@
+package com.example.demo.Repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.Entity.JPAEntity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * <pre>
+ * {@link JPAEntityBatchRepository}の実装
+ * Spring Dataが名前（インターフェース名 + Impl）で見つけ、{@link JPARepository}に組み込む
+ * </pre>
+ * @author Takumi
+ */
+public class JPAEntityBatchRepositoryImpl implements JPAEntityBatchRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/** flush・clearする件数（HibernateのJDBCバッチの件数に合わせる） */
+	private final int batchSize;
+
+	public JPAEntityBatchRepositoryImpl(@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("spring.jpa.properties.hibernate.jdbc.batch_sizeは1以上を指定してください。");
+		}
+		this.batchSize = batchSize;
+	}
+
+	@Override
+	@Transactional
+	public int persistAll(Iterable<JPAEntity> entities) {
+		int count = 0;
+		for (JPAEntity entity : entities) {
+			entityManager.persist(entity);
+			if (++count % batchSize == 0) {
+				entityManager.flush();
+				entityManager.clear();
+			}
+		}
+		entityManager.flush();
+		entityManager.clear();
+		return count;
+	}
+}
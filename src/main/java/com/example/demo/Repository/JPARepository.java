@@ -1,8 +1,79 @@
 package com.example.demo.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import com.example.demo.Dao.Cache.EntityCacheNames;
 import com.example.demo.Entity.JPAEntity;
 
-public interface JPARepository extends JpaRepository<JPAEntity, Integer>{
-}
\ No newline at end of file
+/**
+ * <pre>
+ * findByIdの結果は{@link EntityCacheNames#JPA_ENTITY}にキャッシュする
+ * 保存・削除したidはキャッシュから削除し、複数件の保存・削除ではキャッシュ全体を削除する
+ * キャッシュには取得したエンティティの複製を保持し、キャッシュから返すのも毎回の複製（デタッチ状態）のため、
+ * 取得したエンティティを変更しても保存されない（変更した場合はsave・saveAndFlushで保存する）
+ * 新規のエンティティを大量に挿入する場合は{@link #persistAll(Iterable)}を使用する
+ * </pre>
+ */
+public interface JPARepository extends JpaRepository<JPAEntity, Integer>, JPAEntityBatchRepository {
+
+	@Override
+	@Cacheable(cacheNames = EntityCacheNames.JPA_ENTITY, unless = "#result == null")
+	Optional<JPAEntity> findById(Integer id);
+
+	@Override
+	@CacheEvict(cacheNames = EntityCacheNames.JPA_ENTITY, key = "#p0.id")
+	<S extends JPAEntity> S save(S entity);
+
+	@Override
+	@CacheEvict(cacheNames = EntityCacheNames.JPA_ENTITY, key = "#p0.id")
+	<S extends JPAEntity> S saveAndFlush(S entity);
+
+	@Override
+	@CacheEvict(cacheNames = EntityCacheNames.JPA_ENTITY, allEntries = true)
+	<S extends JPAEntity> List<S> saveAll(Iterable<S> entities);
+
+	@Override
+	@CacheEvict(cacheNames = EntityCacheNames.JPA_ENTITY, allEntries = true)
+	<S extends JPAEntity> List<S> saveAllAndFlush(Iterable<S> entities);
+
+	@Override
+	@CacheEvict(cacheNames = EntityCacheNames.JPA_ENTITY, allEntries = true)
+	int persistAll(Iterable<JPAEntity> entities);
+
+	@Override
+	@CacheEvict(cacheNames = EntityCacheNames.JPA_ENTITY)
+	void deleteById(Integer id);
+
+	@Override
+	@CacheEvict(cacheNames = EntityCacheNames.JPA_ENTITY, key = "#p0.id")
+	void delete(JPAEntity entity);
+
+	@Override
+	@CacheEvict(cacheNames = EntityCacheNames.JPA_ENTITY, allEntries = true)
+	void deleteAllById(Iterable<? extends Integer> ids);
+
+	@Override
+	@CacheEvict(cacheNames = EntityCacheNames.JPA_ENTITY, allEntries = true)
+	void deleteAll(Iterable<? extends JPAEntity> entities);
+
+	@Override
+	@CacheEvict(cacheNames = EntityCacheNames.JPA_ENTITY, allEntries = true)
+	void deleteAll();
+
+	@Override
+	@CacheEvict(cacheNames = EntityCacheNames.JPA_ENTITY, allEntries = true)
+	void deleteAllInBatch(Iterable<JPAEntity> entities);
+
+	@Override
+	@CacheEvict(cacheNames = EntityCacheNames.JPA_ENTITY, allEntries = true)
+	void deleteAllByIdInBatch(Iterable<Integer> ids);
+
+	@Override
+	@CacheEvict(cacheNames = EntityCacheNames.JPA_ENTITY, allEntries = true)
+	void deleteAllInBatch();
+}
@@ -0,0 +1,98 @@
+package com.example.demo.Dao.Async;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+
+import com.example.demo.Dao.Binding.JDBCEntityValues;
+import com.example.demo.Entity.JDBCEntity;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * <pre>
+ * {@link AsyncJDBCTempDao}・{@link AsyncDaoExecutor}のテスト
+ * 別スレッドで実行されテストのトランザクションに参加しないため、DBのデータは変更しない
+ * </pre>
+ * @author Takumi
+ */
+@SpringBootTest
+class AsyncJDBCTempDaoTest {
+
+	@Autowired
+	private AsyncJDBCTempDao asyncDao;
+
+	@Autowired
+	private AsyncDaoExecutor executor;
+
+	@Autowired
+	private DataSource dataSource;
+
+	/**
+	 * <pre>
+	 * 同時実行数が接続プールの最大数と同じであること
+	 * </pre>
+	 */
+	@Test
+	void testMaxConcurrency() throws SQLException {
+		assertEquals(executor.getMaxConcurrency(), dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize());
+		assertEquals(executor.isVirtualThreads(), Runtime.version().feature() >= 21);
+	}
+
+	/**
+	 * <pre>
+	 * 複数の取得を同時に行い、全ての結果を受け取れること
+	 * </pre>
+	 */
+	@Test
+	void testFanOut() throws InterruptedException, ExecutionException {
+		List<CompletableFuture<JDBCEntity>> futures = new ArrayList<>();
+		for (int id = 1; id <= 4; id++) {
+			futures.add(asyncDao.getJDBCEntityById(id));
+		}
+		CompletableFuture<Integer> countFuture = asyncDao.getAllJDBCEntity().thenApply(List::size);
+
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+		assertEquals(futures.get(1).get().getLast_name().strip(), "二郎");
+		assertEquals(futures.get(3).get().getLast_name().strip(), "花子");
+		assertEquals(countFuture.get(), 4);
+		assertEquals(executor.getAvailablePermits(), executor.getMaxConcurrency());
+	}
+
+	/**
+	 * <pre>
+	 * 誕生日・姓での検索を同時に行い、両方の結果を受け取れること
+	 * </pre>
+	 */
+	@Test
+	void testSearch() throws InterruptedException, ExecutionException {
+		CompletableFuture<List<JDBCEntity>> byBirthDay = asyncDao.getJDBCEntitiesByBirthDay(20250101, 20251231);
+		CompletableFuture<List<JDBCEntity>> byLastName = asyncDao.getJDBCEntitiesByLastName("存在しない");
+
+		assertEquals(byBirthDay.get().stream().map(JDBCEntity::getId).toList(), List.of(4));
+		assertTrue(byLastName.get().isEmpty());
+	}
+
+	/**
+	 * <pre>
+	 * DAOで発生した例外がCompletableFutureの例外として返されること
+	 * </pre>
+	 */
+	@Test
+	void testException() {
+		CompletableFuture<Integer> future = asyncDao.updateById(1, JDBCEntityValues.create());
+
+		ExecutionException e = assertThrows(ExecutionException.class, future::get);
+		assertTrue(e.getCause() instanceof InvalidDataAccessApiUsageException);
+	}
+}
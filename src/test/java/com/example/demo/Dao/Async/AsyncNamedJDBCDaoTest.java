@@ -0,0 +1,62 @@
+package com.example.demo.Dao.Async;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.demo.Dao.Query.JDBCEntityFilter;
+import com.example.demo.Dao.Query.JDBCEntityLookupResult;
+import com.example.demo.Dao.Query.JDBCEntityPage;
+
+/**
+ * <pre>
+ * {@link AsyncNamedJDBCDao}のテスト
+ * 別スレッドで実行されテストのトランザクションに参加しないため、DBのデータは変更しない
+ * </pre>
+ * @author Takumi
+ */
+@SpringBootTest
+class AsyncNamedJDBCDaoTest {
+
+	@Autowired
+	private AsyncNamedJDBCDao asyncDao;
+
+	/**
+	 * <pre>
+	 * 一括取得とページングを同時に行い、両方の結果を組み合わせられること
+	 * </pre>
+	 */
+	@Test
+	void testCombine() throws InterruptedException, ExecutionException {
+		CompletableFuture<JDBCEntityLookupResult> lookup = asyncDao.getJDBCEntitiesByIds(List.of(1, 3, 99));
+		CompletableFuture<JDBCEntityPage> page = asyncDao.findPage(null, 2,
+				JDBCEntityFilter.create().birthDayFrom(20240101));
+
+		int total = lookup.thenCombine(page, (result, firstPage) -> result.getFound().size() + firstPage.size()).get();
+
+		assertEquals(total, 4);
+		assertEquals(lookup.get().getMissingIds(), List.of(99));
+		assertTrue(page.get().hasNext());
+	}
+
+	/**
+	 * <pre>
+	 * 複数件の削除を非同期に実行できること（存在しないidのみ指定し、DBのデータは変更しない）
+	 * </pre>
+	 */
+	@Test
+	void testDelete() throws InterruptedException, ExecutionException {
+		CompletableFuture<Integer> byIds = asyncDao.deleteByIds(List.of(9990, 9991));
+		CompletableFuture<Integer> byRange = asyncDao.deleteByIdRange(9990, 9999, 10);
+
+		assertEquals(byIds.get(), 0);
+		assertEquals(byRange.get(), 0);
+		assertEquals(asyncDao.getAllJDBCEntity().get().size(), 4);
+	}
+}
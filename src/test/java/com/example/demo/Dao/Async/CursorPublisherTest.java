@@ -0,0 +1,209 @@
+package com.example.demo.Dao.Async;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.demo.Dao.Query.JDBCEntityFilter;
+import com.example.demo.Entity.JDBCEntity;
+
+/**
+ * <pre>
+ * {@link CursorPublisher}のテスト
+ * 別スレッドで実行されテストのトランザクションに参加しないため、DBのデータは変更しない
+ * </pre>
+ * @author Takumi
+ */
+@SpringBootTest
+class CursorPublisherTest {
+
+	@Autowired
+	private AsyncJDBCTempDao asyncDao;
+
+	@Autowired
+	private AsyncNamedJDBCDao asyncNamedDao;
+
+	@Autowired
+	private AsyncDaoExecutor executor;
+
+	/**
+	 * <pre>
+	 * 1件ずつ要求して全件を受け取り、完了後に実行枠が解放されること
+	 * </pre>
+	 */
+	@Test
+	void testRequestOneByOne() throws InterruptedException {
+		TestSubscriber subscriber = new TestSubscriber(1, Long.MAX_VALUE);
+		asyncDao.publishAllJDBCEntity(2).subscribe(subscriber);
+
+		assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+		assertTrue(subscriber.completed);
+		assertNull(subscriber.error);
+		assertEquals(subscriber.received.size(), 4);
+		assertEquals(subscriber.received.get(0).getId(), 1);
+		assertEquals(subscriber.received.get(3).getId(), 4);
+		assertEquals(executor.getAvailablePermits(), executor.getMaxConcurrency());
+	}
+
+	/**
+	 * <pre>
+	 * 条件に一致するデータだけを受け取れること
+	 * </pre>
+	 */
+	@Test
+	void testFilter() throws InterruptedException {
+		TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE, Long.MAX_VALUE);
+		asyncNamedDao.publishJDBCEntities(JDBCEntityFilter.create().birthDayFrom(20250101), 10).subscribe(subscriber);
+
+		assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+		assertEquals(subscriber.received.size(), 1);
+		assertEquals(subscriber.received.get(0).getLast_name().strip(), "花子");
+	}
+
+	/**
+	 * <pre>
+	 * 途中でキャンセルした場合、それ以降は受け取らずにカーソル（実行枠）が解放されること
+	 * </pre>
+	 */
+	@Test
+	void testCancel() throws InterruptedException {
+		TestSubscriber subscriber = new TestSubscriber(1, 2);
+		asyncDao.publishAllJDBCEntity(1).subscribe(subscriber);
+
+		assertTrue(subscriber.cancelled.await(10, TimeUnit.SECONDS));
+		for (int i = 0; i < 100 && executor.getAvailablePermits() != executor.getMaxConcurrency(); i++) {
+			Thread.sleep(20);
+		}
+		assertEquals(executor.getAvailablePermits(), executor.getMaxConcurrency());
+		assertEquals(subscriber.received.size(), 2);
+		assertFalse(subscriber.completed);
+	}
+
+	/**
+	 * <pre>
+	 * 0以下を要求した場合はonErrorが呼ばれること
+	 * </pre>
+	 */
+	@Test
+	void testInvalidRequest() throws InterruptedException {
+		TestSubscriber subscriber = new TestSubscriber(0, Long.MAX_VALUE);
+		asyncDao.publishAllJDBCEntity().subscribe(subscriber);
+
+		assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+		assertTrue(subscriber.error instanceof IllegalArgumentException);
+	}
+
+	/**
+	 * <pre>
+	 * 開いているカーソルが実行枠を全て使っている間にsupplyの処理が実行枠を待っていても、
+	 * キャンセルでカーソルが閉じられ、待っていた処理が実行されること
+	 * </pre>
+	 */
+	@Test
+	void testCancelWhileSupplyWaiting() throws Exception {
+		AsyncDaoExecutor smallExecutor = new AsyncDaoExecutor(2);
+		try {
+			List<TestSubscriber> subscribers = new ArrayList<>();
+			for (int i = 0; i < smallExecutor.getMaxConcurrency(); i++) {
+				TestSubscriber subscriber = new TestSubscriber(2, Long.MAX_VALUE);
+				smallExecutor.publish(() -> Stream.of(new JDBCEntity(1, "カーソル", "一", 20240101),
+						new JDBCEntity(2, "カーソル", "二", 20240101), new JDBCEntity(3, "カーソル", "三", 20240101)))
+						.subscribe(subscriber);
+				subscribers.add(subscriber);
+			}
+			for (int i = 0; i < 100 && smallExecutor.getAvailablePermits() != 0; i++) {
+				Thread.sleep(20);
+			}
+			assertEquals(smallExecutor.getAvailablePermits(), 0);
+
+			List<CompletableFuture<Integer>> futures = new ArrayList<>();
+			for (int i = 0; i < smallExecutor.getMaxConcurrency(); i++) {
+				int value = i;
+				futures.add(smallExecutor.supply(() -> value));
+			}
+			for (TestSubscriber subscriber : subscribers) {
+				subscriber.subscription.cancel();
+			}
+
+			for (int i = 0; i < futures.size(); i++) {
+				assertEquals(futures.get(i).get(10, TimeUnit.SECONDS), i);
+			}
+			//supplyの処理が先に閉じたカーソルの実行枠だけで終わる場合があるため、残りのカーソルが閉じるまで待つ
+			for (int i = 0; i < 100 && smallExecutor.getAvailablePermits() != smallExecutor.getMaxConcurrency(); i++) {
+				Thread.sleep(20);
+			}
+			assertEquals(smallExecutor.getAvailablePermits(), smallExecutor.getMaxConcurrency());
+		} finally {
+			smallExecutor.destroy();
+		}
+	}
+
+	/**
+	 * <pre>
+	 * 1回にbatch件ずつ要求し、cancelAfter件受け取ったらキャンセルする購読者
+	 * </pre>
+	 */
+	private static class TestSubscriber implements Flow.Subscriber<JDBCEntity> {
+
+		private final long batch;
+
+		private final long cancelAfter;
+
+		private final List<JDBCEntity> received = new CopyOnWriteArrayList<>();
+
+		private final CountDownLatch terminated = new CountDownLatch(1);
+
+		private final CountDownLatch cancelled = new CountDownLatch(1);
+
+		private Flow.Subscription subscription;
+
+		private volatile boolean completed;
+
+		private volatile Throwable error;
+
+		TestSubscriber(long batch, long cancelAfter) {
+			this.batch = batch;
+			this.cancelAfter = cancelAfter;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+			subscription.request(batch);
+		}
+
+		@Override
+		public void onNext(JDBCEntity item) {
+			received.add(item);
+			if (received.size() >= cancelAfter) {
+				subscription.cancel();
+				cancelled.countDown();
+			} else if (batch == 1) {
+				subscription.request(1);
+			}
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error = throwable;
+			terminated.countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+			terminated.countDown();
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package com.example.demo.Dao.Batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.demo.Dao.JDBCTempDao;
+import com.example.demo.Entity.JDBCEntity;
+
+/**
+ * <pre>
+ * {@link ParallelBatchWriter}のテスト
+ * 別スレッドの接続で書き込むため@Transactionalは使用できない
+ * 追加したデータは{@link #cleanUp()}で削除する
+ * </pre>
+ * @author Takumi
+ */
+@SpringBootTest
+class ParallelBatchWriterTest {
+
+	@Autowired
+	private ParallelBatchWriter writer;
+
+	@Autowired
+	private JDBCTempDao dao;
+
+	@AfterEach
+	void cleanUp() {
+		dao.batchDelete(entities(5000, 8, "削除"));
+	}
+
+	/**
+	 * <pre>
+	 * パーティションに分けて並列に挿入・更新・削除できること
+	 * </pre>
+	 */
+	@Test
+	void testWrite() {
+		//並列で挿入
+		ParallelBatchResult insertResult = writer.write(BatchOperation.INSERT, entities(5000, 8, "並列"), 3, true);
+		assertFalse(insertResult.hasFailures());
+		assertEquals(insertResult.getPartitionResults().size(), 3);
+		assertEquals(insertResult.getTotalCount(), 8);
+		assertEquals(dao.getJDBCEntityById(5007).getFirst_name(), "並列");
+
+		//並列で更新
+		ParallelBatchResult updateResult = writer.write(BatchOperation.UPDATE, entities(5000, 8, "並列更新"), 4, false);
+		assertEquals(updateResult.getTotalCount(), 8);
+		assertEquals(dao.getJDBCEntityById(5000).getFirst_name(), "並列更新");
+
+		//並列で削除
+		ParallelBatchResult deleteResult = writer.write(BatchOperation.DELETE, entities(5000, 8, "削除"));
+		assertEquals(deleteResult.getTotalCount(), 8);
+		assertEquals(dao.getAllJDBCEntity().size(), 4);
+	}
+
+	/**
+	 * <pre>
+	 * {@link com.example.demo.Dao.NamedJDBCDao}でもパーティションに分けて並列に挿入・更新・削除できること
+	 * </pre>
+	 */
+	@Test
+	void testWriteNamed() {
+		ParallelBatchResult insertResult = writer.writeNamed(BatchOperation.INSERT, entities(5000, 8, "名前付き"), 3, true);
+		assertFalse(insertResult.hasFailures());
+		assertEquals(insertResult.getTotalCount(), 8);
+		assertEquals(dao.getJDBCEntityById(5005).getFirst_name(), "名前付き");
+
+		ParallelBatchResult upsertResult = writer.writeNamed(BatchOperation.UPSERT, entities(5004, 4, "名前更新"), 2, false);
+		assertEquals(upsertResult.getTotalCount(), 4);
+		assertEquals(dao.getJDBCEntityById(5007).getFirst_name(), "名前更新");
+
+		ParallelBatchResult deleteResult = writer.writeNamed(BatchOperation.DELETE, entities(5000, 8, "削除"));
+		assertEquals(deleteResult.getTotalCount(), 8);
+		assertEquals(dao.getAllJDBCEntity().size(), 4);
+	}
+
+	/**
+	 * <pre>
+	 * 一部のパーティションが失敗した場合
+	 * 失敗したパーティションだけがロールバックされ、結果に含まれること
+	 * </pre>
+	 */
+	@Test
+	void testWrite_partialFailure() {
+		//id:1は既に存在するため、id:1を含むパーティションは失敗する
+		List<JDBCEntity> insertList = entities(5000, 8, "並列");
+		insertList.add(new JDBCEntity(1, "重複", "太郎", 20240101));
+
+		ParallelBatchResult result = writer.write(BatchOperation.INSERT, insertList, 3, true);
+
+		assertTrue(result.hasFailures());
+		assertEquals(result.getFailures().size(), 1);
+		PartitionResult failure = result.getFailures().get(0);
+		assertEquals(failure.getFirstId(), 1);
+		assertEquals(failure.getLastId(), 5001);
+		assertEquals(result.getTotalCount(), 6);
+
+		//失敗したパーティションのデータはロールバックされている
+		assertTrue(dao.findById(5000).isEmpty());
+		assertEquals(dao.getJDBCEntityById(5002).getFirst_name(), "並列");
+		assertEquals(dao.getJDBCEntityById(1).getFirst_name(), "テスト");
+	}
+
+	/**
+	 * <pre>
+	 * 待っている間に割り込まれた場合
+	 * 終わっていないパーティションは失敗ではなく結果不明となり、割り込みフラグが残ること
+	 * </pre>
+	 */
+	@Test
+	void testWrite_interrupted() {
+		//キャンセルが間に合わなかった場合もデータが残らないよう、全パーティションが失敗するデータにする
+		Thread.currentThread().interrupt();
+
+		ParallelBatchResult result = writer.write(BatchOperation.INSERT, entities(1, 4, "割込"), 4, true);
+
+		assertTrue(Thread.interrupted());
+		assertEquals(result.getPartitionResults().size(), 4);
+		for (PartitionResult partition : result.getPartitionResults()) {
+			//割り込まれる前に終わったパーティションだけが失敗、それ以外は結果不明となる
+			assertNotEquals(partition.isFailed(), partition.isUnknown());
+		}
+		assertEquals(result.getFailures().size() + result.getUnknown().size(), 4);
+		assertEquals(result.getTotalCount(), 0);
+	}
+
+	/**
+	 * <pre>
+	 * 同じidのデータが別のパーティションに分かれないこと
+	 * </pre>
+	 */
+	@Test
+	void testPartitionById() {
+		List<JDBCEntity> list = new ArrayList<>();
+		for (int id : new int[] { 3, 1, 2, 2, 2, 4 }) {
+			list.add(new JDBCEntity(id, "分割", "太郎", 20240101));
+		}
+
+		List<List<JDBCEntity>> partitions = ParallelBatchWriter.partitionById(list, 3);
+
+		//id:2の3件は境界をずらして1つ目のパーティションにまとめられる
+		assertEquals(partitions.size(), 3);
+		assertEquals(partitions.get(0).size(), 4);
+		assertEquals(partitions.get(0).get(3).getId(), 2);
+		assertEquals(partitions.get(1).get(0).getId(), 3);
+		assertEquals(partitions.get(2).get(0).getId(), 4);
+	}
+
+	private static List<JDBCEntity> entities(int firstId, int count, String firstName) {
+		List<JDBCEntity> list = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			list.add(new JDBCEntity(firstId + i, firstName, "太郎" + i, 20240101));
+		}
+		return list;
+	}
+}
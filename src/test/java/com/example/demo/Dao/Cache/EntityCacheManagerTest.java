@@ -0,0 +1,101 @@
+package com.example.demo.Dao.Cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.Dao.JDBCTempDao;
+import com.example.demo.Dao.Binding.JDBCEntityValues;
+import com.example.demo.Entity.JDBCEntity;
+
+/**
+ * <pre>
+ * {@link EntityCacheManager}・{@link IdCache}のテスト
+ * トランザクション終了時の動きを確認するため@Transactionalは使用しない
+ * （DBの更新は全てロールバックする）
+ * </pre>
+ * @author Takumi
+ */
+@SpringBootTest
+class EntityCacheManagerTest {
+
+	@Autowired
+	private JDBCTempDao dao;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	/**
+	 * <pre>
+	 * トランザクション中に更新したデータはキャッシュに入らず、
+	 * ロールバック後は更新前のデータを取得できること
+	 * </pre>
+	 */
+	@Test
+	void testRollback() {
+		dao.getJDBCEntityById(4);
+
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			dao.updateById(4, JDBCEntityValues.create().firstName("ロールバック"));
+			assertEquals(dao.getJDBCEntityById(4).getFirst_name().strip(), "ロールバック");
+			status.setRollbackOnly();
+		});
+
+		JDBCEntity data = dao.getJDBCEntityById(4);
+		assertEquals(data.getFirst_name().strip(), "テスト");
+		assertEquals(data.getLast_name().strip(), "花子");
+	}
+
+	/**
+	 * <pre>
+	 * DBから取得している間に削除された場合は、取得した値を追加しないこと
+	 * </pre>
+	 */
+	@Test
+	void testPutAfterEvict() {
+		IdCache<String> cache = new IdCache<>("test", 10, Duration.ofMinutes(1));
+
+		long token = cache.loadToken();
+		cache.evict(1);
+		assertFalse(cache.put(1, "古い値", token));
+		assertNull(cache.get(1));
+
+		assertTrue(cache.put(1, "新しい値", cache.loadToken()));
+		assertEquals(cache.get(1), "新しい値");
+	}
+
+	/**
+	 * <pre>
+	 * 上限件数を超えた場合は最も使われていないものから削除し、
+	 * 有効期限を過ぎたものは取得できないこと
+	 * </pre>
+	 */
+	@Test
+	void testSizeAndTtl() throws InterruptedException {
+		IdCache<String> cache = new IdCache<>("test", 2, Duration.ofMillis(50));
+
+		cache.put(1, "1", cache.loadToken());
+		cache.put(2, "2", cache.loadToken());
+		cache.get(1);
+		cache.put(3, "3", cache.loadToken());
+
+		assertEquals(cache.size(), 2);
+		assertNull(cache.get(2));
+		assertEquals(cache.get(1), "1");
+
+		Thread.sleep(100);
+		assertNull(cache.get(1));
+
+		CacheStatistics statistics = cache.getStatistics();
+		assertEquals(statistics.getHitCount(), 2);
+		assertEquals(statistics.getMissCount(), 2);
+		assertEquals(statistics.getEvictionCount(), 2);
+		assertEquals(statistics.getHitRate(), 0.5);
+	}
+}
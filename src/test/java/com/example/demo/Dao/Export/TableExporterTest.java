@@ -0,0 +1,129 @@
+package com.example.demo.Dao.Export;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+
+import com.example.demo.Dao.Load.JDBCEntityCsvReader;
+import com.example.demo.Entity.JDBCEntity;
+
+/**
+ * <pre>
+ * {@link TableExporter}のテスト
+ * DBのデータは読み込むだけで変更しない
+ * </pre>
+ * @author Takumi
+ */
+@SpringBootTest
+class TableExporterTest {
+
+	@Autowired
+	private TableExporter exporter;
+
+	@TempDir
+	private Path tempDir;
+
+	/**
+	 * <pre>
+	 * CSVで書き出したものを{@link JDBCEntityCsvReader}で読み込めること
+	 * </pre>
+	 */
+	@Test
+	void testExportCsv() throws IOException {
+		Path file = tempDir.resolve("test_table.csv");
+
+		ExportResult result = exporter.export(JDBCEntity.TEST, file, ExportFormat.CSV, false, 2);
+
+		assertEquals(result.getRowCount(), 4);
+		assertEquals(result.getFileBytes(), Files.size(file));
+		assertEquals(result.getBytesWritten(), result.getFileBytes());
+		List<JDBCEntity> entities = new ArrayList<>();
+		try (JDBCEntityCsvReader reader = new JDBCEntityCsvReader(file, true)) {
+			JDBCEntity entity;
+			while ((entity = reader.next()) != null) {
+				entities.add(entity);
+			}
+		}
+		assertEquals(entities.size(), 4);
+		assertEquals(entities.get(0).getId(), 1);
+		assertEquals(entities.get(3).getLast_name().strip(), "花子");
+		assertEquals(entities.get(3).getBirth_day(), 20250101);
+	}
+
+	/**
+	 * <pre>
+	 * gzipで圧縮したバイナリ形式で書き出し、{@link DataInputStream}で読めること
+	 * </pre>
+	 */
+	@Test
+	void testExportBinaryGzip() throws IOException {
+		Path file = tempDir.resolve("test_table.bin.gz");
+
+		ExportResult result = exporter.export(JDBCEntity.TEST, file, ExportFormat.BINARY, true);
+
+		assertEquals(result.getRowCount(), 4);
+		try (DataInputStream in = new DataInputStream(
+				new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+			assertEquals(in.readInt(), BinaryRowFormat.MAGIC);
+			int columnCount = in.readInt();
+			assertEquals(columnCount, 4);
+			byte[] valueTypes = new byte[columnCount];
+			List<String> columnNames = new ArrayList<>();
+			for (int i = 0; i < columnCount; i++) {
+				columnNames.add(readString(in));
+				valueTypes[i] = in.readByte();
+			}
+			assertEquals(columnNames.get(0), JDBCEntity.ID.toUpperCase());
+			assertEquals(valueTypes[0], BinaryRowFormat.INT);
+			assertEquals(valueTypes[1], BinaryRowFormat.STRING);
+
+			int rowCount = 0;
+			while (in.readByte() == BinaryRowFormat.ROW) {
+				assertEquals(in.readByte(), BinaryRowFormat.NOT_NULL);
+				assertEquals(in.readInt(), ++rowCount);
+				assertEquals(in.readByte(), BinaryRowFormat.NOT_NULL);
+				assertEquals(readString(in).strip(), "テスト");
+				assertEquals(in.readByte(), BinaryRowFormat.NOT_NULL);
+				readString(in);
+				assertEquals(in.readByte(), BinaryRowFormat.NOT_NULL);
+				assertTrue(in.readInt() >= 20240101);
+			}
+			assertEquals(rowCount, 4);
+			assertEquals(in.read(), -1);
+		}
+	}
+
+	/**
+	 * <pre>
+	 * テーブル名に使用できない文字列の場合は例外が発生し、ファイルが残らないこと
+	 * </pre>
+	 */
+	@Test
+	void testInvalidTableName() {
+		Path file = tempDir.resolve("invalid.csv");
+
+		assertThrows(InvalidDataAccessApiUsageException.class,
+				() -> exporter.export("test_table; DROP TABLE test_table", file, ExportFormat.CSV, false));
+		assertFalse(Files.exists(file));
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,131 @@
+package com.example.demo.Dao.Index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.Dao.JDBCTempDao;
+import com.example.demo.Dao.NamedJDBCDao;
+import com.example.demo.Entity.JDBCEntity;
+
+/**
+ * <pre>
+ * {@link JDBCEntitySecondaryIndex}と、それを使用するDAOの検索のテスト
+ * </pre>
+ * @author Takumi
+ */
+@SpringBootTest
+@Transactional
+class JDBCEntitySecondaryIndexTest {
+
+	@Autowired
+	private JDBCEntitySecondaryIndex index;
+
+	@Autowired
+	private JDBCTempDao dao;
+
+	@Autowired
+	private NamedJDBCDao namedDao;
+
+	@Autowired
+	private JdbcTemplate jdbcTemp;
+
+	@BeforeEach
+	void enable() {
+		index.setEnabled(true);
+	}
+
+	@AfterEach
+	void disable() {
+		index.setEnabled(false);
+	}
+
+	/**
+	 * <pre>
+	 * インデックスを使用した場合と使用しない場合で同じ結果になること
+	 * </pre>
+	 */
+	@Test
+	void testSameAsSql() {
+		List<Integer> byBirthDay = ids(dao.getJDBCEntitiesByBirthDay(20240101, 20241231));
+		String lastName = dao.getJDBCEntityById(2).getLast_name();
+		List<Integer> byLastName = ids(namedDao.getJDBCEntitiesByLastName(lastName));
+
+		assertEquals(index.getIndexedCount(), 4);
+		assertEquals(byBirthDay, List.of(1, 2, 3));
+		assertEquals(byLastName, List.of(2));
+		assertTrue(dao.getJDBCEntitiesByBirthDay(20300101, 20301231).isEmpty());
+		assertTrue(dao.getJDBCEntitiesByLastName("存在しない").isEmpty());
+
+		index.setEnabled(false);
+
+		assertNull(index.findIdsByBirthDay(20240101, 20241231));
+		assertEquals(ids(namedDao.getJDBCEntitiesByBirthDay(20240101, 20241231)), byBirthDay);
+		assertEquals(ids(dao.getJDBCEntitiesByLastName(lastName)), byLastName);
+	}
+
+	/**
+	 * <pre>
+	 * DAOでの追加・更新・削除が検索結果に反映されること
+	 * </pre>
+	 */
+	@Test
+	void testSyncWithWrites() {
+		assertEquals(ids(dao.getJDBCEntitiesByBirthDay(20250101, 20251231)), List.of(4));
+
+		List<JDBCEntity> insertList = new ArrayList<>();
+		insertList.add(new JDBCEntity(9300, "索引", "追加", 20250505));
+		dao.batchInsert(insertList);
+		Map<String, String> updateMap = new LinkedHashMap<>();
+		updateMap.put(JDBCEntity.BIRTHDAY, "20250202");
+		updateMap.put(JDBCEntity.LAST_NAME, "変更");
+		dao.updateById(1, updateMap);
+		namedDao.deleteById(4);
+
+		assertEquals(ids(dao.getJDBCEntitiesByBirthDay(20250101, 20251231)), List.of(1, 9300));
+		assertEquals(ids(namedDao.getJDBCEntitiesByBirthDay(20240101, 20241231)), List.of(2, 3));
+		assertEquals(ids(dao.getJDBCEntitiesByLastName("変更")), List.of(1));
+		assertEquals(ids(namedDao.getJDBCEntitiesByLastName("追加")), List.of(9300));
+		assertEquals(index.getIndexedCount(), 4);
+	}
+
+	/**
+	 * <pre>
+	 * birth_dayがNULLの行は、0を含む範囲の検索でも返さないこと（SQLと同じ）
+	 * </pre>
+	 */
+	@Test
+	void testNullBirthDay() {
+		jdbcTemp.update("INSERT INTO test_table(id, first_name, last_name, birth_day) VALUES (?, ?, ?, NULL)",
+				9301, "索引", "空");
+
+		assertEquals(index.findIdsByBirthDay(-1, 1).length, 0);
+		assertTrue(dao.getJDBCEntitiesByBirthDay(-1, 1).isEmpty());
+		assertEquals(ids(dao.getJDBCEntitiesByLastName("空")), List.of(9301));
+		assertEquals(index.getIndexedCount(), 5);
+
+		//トランザクション中に変更した行も、NULLのままなら返さない
+		Map<String, String> updateMap = new LinkedHashMap<>();
+		updateMap.put(JDBCEntity.LAST_NAME, "変更");
+		dao.updateById(9301, updateMap);
+
+		assertTrue(dao.getJDBCEntitiesByBirthDay(-1, 1).isEmpty());
+		assertTrue(namedDao.getJDBCEntitiesByBirthDay(-1, 1).isEmpty());
+		assertEquals(ids(namedDao.getJDBCEntitiesByLastName("変更")), List.of(9301));
+	}
+
+	private static List<Integer> ids(List<JDBCEntity> entities) {
+		return entities.stream().map(JDBCEntity::getId).toList();
+	}
+}
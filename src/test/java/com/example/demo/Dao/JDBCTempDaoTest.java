@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -16,10 +17,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.Dao.Batch.BulkInsertMode;
+import com.example.demo.Dao.Batch.UpsertOutcome;
+import com.example.demo.Dao.Batch.UpsertResult;
+import com.example.demo.Dao.Query.JDBCEntityFilter;
+import com.example.demo.Dao.Query.JDBCEntityLookupResult;
+import com.example.demo.Dao.Query.JDBCEntityPage;
+import com.example.demo.Dao.Binding.JDBCEntityColumn;
+import com.example.demo.Dao.Binding.JDBCEntityValues;
+import com.example.demo.Dao.Cache.JDBCEntityCache;
+import com.example.demo.Dao.Statement.JDBCEntitySql;
 import com.example.demo.Entity.JDBCEntity;
+import com.example.demo.Entity.JDBCEntityRow;
 
 /**
  * @author Takumi
@@ -31,6 +44,12 @@ class JDBCTempDaoTest {
 	@Autowired
 	private JDBCTempDao dao;
 
+	@Autowired
+	private JDBCEntityCache entityCache;
+
+	@Autowired
+	private JdbcTemplate jdbcTemp;
+
 	/**
 	 * <pre>
 	 * {@link JdbcTemplate#queryForMap(String)}i
@@ -110,6 +129,61 @@ class JDBCTempDaoTest {
 		assertEquals(data.get(JDBCEntity.BIRTHDAY), 20200202);
 	}
 
+	/**
+	 * <pre>
+	 * {@link JDBCEntityValues}に型付きで更新したい値をセットし、
+	 * 引数に渡すことでデータを更新
+	 * </pre>
+	 */
+	@Test
+	void testUpdateById_typed() {
+		JDBCEntityValues values = JDBCEntityValues.create()
+				.lastName("太郎くん")
+				.birthDay(20250505)
+				.firstName("更新した");
+		int updateCount = dao.updateById(1, values);
+		assertTrue(updateCount == 1);
+
+		//更新後のデータ確認
+		Map<String, Object> updateData = dao.findById(1);
+		assertEquals(updateData.get(JDBCEntity.FIRST_NAME).toString().strip(), "更新した");
+		assertEquals(updateData.get(JDBCEntity.LAST_NAME).toString().strip(), "太郎くん");
+		assertEquals(updateData.get(JDBCEntity.BIRTHDAY), 20250505);
+
+		//同じカラムの組み合わせで別のデータを更新
+		updateCount = dao.updateById(2, JDBCEntityValues.create().firstName("二件目").lastName("更新").birthDay(20000101));
+		assertTrue(updateCount == 1);
+		assertEquals(dao.findById(2).get(JDBCEntity.FIRST_NAME).toString().strip(), "二件目");
+
+		//型が違うカラムの指定と、空の更新はエラー（@Repositoryのため例外は変換される）
+		assertThrows(IllegalArgumentException.class, () -> JDBCEntityValues.create().set(JDBCEntityColumn.ID, "1"));
+		assertThrows(InvalidDataAccessApiUsageException.class, () -> dao.updateById(1, JDBCEntityValues.create()));
+	}
+
+	/**
+	 * <pre>
+	 * {@link JDBCEntityValues}に型付きで挿入したい値をセットし、
+	 * 引数に渡すことでデータを挿入
+	 * </pre>
+	 */
+	@Test
+	void testInsert_typed() {
+		dao.insert(JDBCEntityValues.of(new JDBCEntity(10, "インサート", "太郎", 20200202)));
+
+		//一部のカラムのみ挿入
+		dao.insert(JDBCEntityValues.create().id(11).firstName("インサート").lastName("次郎"));
+
+		//データの挿入確認
+		Map<String, Object> data = dao.findById(10);
+		assertEquals(data.get(JDBCEntity.FIRST_NAME), "インサート");
+		assertEquals(data.get(JDBCEntity.LAST_NAME), "太郎");
+		assertEquals(data.get(JDBCEntity.BIRTHDAY), 20200202);
+
+		Map<String, Object> partData = dao.findById(11);
+		assertEquals(partData.get(JDBCEntity.LAST_NAME), "次郎");
+		assertNull(partData.get(JDBCEntity.BIRTHDAY));
+	}
+
 	/**
 	 * <pre>
 	 * {@link JdbcTemplate#update(String, Object...)}
@@ -167,6 +241,46 @@ class JDBCTempDaoTest {
 		assertEquals(Integer.parseInt(afterId2.get(JDBCEntity.BIRTHDAY).toString()), 20240203);
 	}
 
+	/**
+	 * <pre>
+	 * 変更されたカラムだけを一括更新する
+	 * 値が変わっていないデータ・存在しないidは更新されないこと
+	 * </pre>
+	 */
+	@Test
+	void testBatchUpdateChanged() {
+		JDBCEntity id1 = dao.getJDBCEntityById(1);
+		JDBCEntity id2 = dao.getJDBCEntityById(2);
+		JDBCEntity id3 = dao.getJDBCEntityById(3);
+		JDBCEntity id4 = dao.getJDBCEntityById(4);
+
+		List<JDBCEntity> entityList = new ArrayList<>();
+		entityList.add(new JDBCEntity(1, id1.getFirst_name(), "変更", id1.getBirth_day()));
+		entityList.add(new JDBCEntity(2, id2.getFirst_name(), id2.getLast_name(), 20240303));
+		entityList.add(new JDBCEntity(3, id3.getFirst_name(), id3.getLast_name(), id3.getBirth_day()));
+		entityList.add(new JDBCEntity(4, "", "空白", 0));
+		entityList.add(new JDBCEntity(100, "存在", "しない", 20240101));
+
+		int updateCount = dao.batchUpdateChanged(entityList);
+
+		assertEquals(updateCount, 3);
+		assertEquals(dao.getJDBCEntityById(1).getLast_name(), "変更");
+		assertEquals(dao.getJDBCEntityById(2).getBirth_day(), 20240303);
+		JDBCEntity after4 = dao.getJDBCEntityById(4);
+		assertEquals(after4.getFirst_name(), id4.getFirst_name());
+		assertEquals(after4.getLast_name(), "空白");
+		assertEquals(after4.getBirth_day(), 20250101);
+		assertEquals(dao.batchUpdateChanged(entityList.subList(2, 3)), 0);
+
+		JDBCEntityValues changes = JDBCEntityValues.changes(id2, entityList.get(1));
+		assertEquals(changes.columnNames(), List.of(JDBCEntity.BIRTHDAY));
+
+		//キャッシュを通さずに更新された値とも比べて、元に戻す更新を送ること
+		jdbcTemp.update("UPDATE test_table SET last_name = '外部' WHERE id = 3");
+		assertEquals(dao.batchUpdateChanged(entityList.subList(2, 3)), 1);
+		assertEquals(dao.getJDBCEntityById(3).getLast_name(), id3.getLast_name());
+	}
+
 	/**
 	 * <pre>
 	 * {@link JdbcTemplate#batchUpdate(String, org.springframework.jdbc.core.BatchPreparedStatementSetter)}
@@ -198,6 +312,88 @@ class JDBCTempDaoTest {
 		assertEquals(Integer.parseInt(insertData2.get(JDBCEntity.BIRTHDAY).toString()), 20240203);
 	}
 
+	/**
+	 * <pre>
+	 * チャンク分割した一括挿入
+	 * 複数行INSERT文とJDBCのバッチの両方で、端数のチャンクも含めて挿入できること
+	 * </pre>
+	 */
+	@Test
+	void testBatchInsert_chunked() {
+		//挿入データのセット（チャンクサイズ2で端数が出る件数）
+		List<JDBCEntity> multiRowList = new ArrayList<>();
+		List<JDBCEntity> batchList = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			multiRowList.add(new JDBCEntity(100 + i, "複数行", "太郎" + i, 20240101 + i));
+			batchList.add(new JDBCEntity(200 + i, "バッチ", "太郎" + i, 20240101 + i));
+		}
+
+		//データの一括挿入
+		assertEquals(dao.batchInsert(multiRowList, 2, BulkInsertMode.MULTI_ROW), 5);
+		assertEquals(dao.batchInsert(batchList, 2, BulkInsertMode.BATCH), 5);
+
+		//データの挿入確認
+		assertEquals(dao.getAllJDBCEntity().size(), 14);
+		JDBCEntity lastData = dao.getJDBCEntityById(104);
+		assertEquals(lastData.getFirst_name(), "複数行");
+		assertEquals(lastData.getLast_name(), "太郎4");
+		assertEquals(lastData.getBirth_day(), 20240105);
+		assertEquals(dao.getJDBCEntityById(204).getFirst_name(), "バッチ");
+	}
+
+	/**
+	 * <pre>
+	 * 複数行INSERTの行数が上限と2の累乗に丸められ、端数や上限を超えるチャンクサイズでも全件挿入されること
+	 * </pre>
+	 */
+	@Test
+	void testBatchInsert_multiRowSize() {
+		assertEquals(JDBCEntitySql.multiRowInsertSize(500, 500), 500);
+		assertEquals(JDBCEntitySql.multiRowInsertSize(7, 500), 4);
+		assertEquals(JDBCEntitySql.multiRowInsertSize(3, 500), 2);
+		assertThrows(IllegalArgumentException.class,
+				() -> JDBCEntitySql.multiRowInsertSize(1, JDBCEntitySql.MAX_MULTI_ROW_INSERT_SIZE + 1));
+
+		List<JDBCEntity> insertList = new ArrayList<>();
+		for (int i = 0; i < 7; i++) {
+			insertList.add(new JDBCEntity(300 + i, "上限", "太郎" + i, 20240101 + i));
+		}
+
+		assertEquals(dao.batchInsert(insertList.subList(0, 3), Integer.MAX_VALUE, BulkInsertMode.MULTI_ROW), 3);
+		assertEquals(dao.batchInsert(insertList.subList(3, 7), 3, BulkInsertMode.MULTI_ROW), 4);
+		assertEquals(dao.getJDBCEntityById(306).getLast_name(), "太郎6");
+		assertEquals(dao.getAllJDBCEntity().size(), 11);
+	}
+
+	/**
+	 * <pre>
+	 * 一括アップサート
+	 * 存在するidは更新、存在しないidは挿入され、1行ごとにどちらだったかを取得できる
+	 * </pre>
+	 */
+	@Test
+	void testBatchUpsert() {
+		List<JDBCEntity> upsertList = new ArrayList<>();
+		upsertList.add(new JDBCEntity(1, "更新", "太郎", 20240101));
+		upsertList.add(new JDBCEntity(20, "挿入", "一郎", 20200101));
+		upsertList.add(new JDBCEntity(2, "更新", "二郎", 20240101));
+		upsertList.add(new JDBCEntity(21, "挿入", "二郎", 20200101));
+		upsertList.add(new JDBCEntity(20, "再更新", "一郎", 20200101));
+
+		//チャンクをまたいで同じidがある場合も確認するため、2件ずつに分ける
+		UpsertResult result = dao.batchUpsert(upsertList, 2);
+
+		assertEquals(result.getOutcomes(), List.of(UpsertOutcome.UPDATED, UpsertOutcome.INSERTED,
+				UpsertOutcome.UPDATED, UpsertOutcome.INSERTED, UpsertOutcome.UPDATED));
+		assertEquals(result.getInsertedCount(), 2);
+		assertEquals(result.getUpdatedCount(), 3);
+
+		assertEquals(dao.getJDBCEntityById(1).getFirst_name().strip(), "更新");
+		assertEquals(dao.getJDBCEntityById(20).getFirst_name().strip(), "再更新");
+		assertEquals(dao.getJDBCEntityById(21).getFirst_name().strip(), "挿入");
+		assertEquals(dao.getAllJDBCEntity().size(), 6);
+	}
+
 	/**
 	 * {@link JdbcTemplate#batchUpdate(String, org.springframework.jdbc.core.BatchPreparedStatementSetter)}
 	 * を用いることでデータを一括削除する
@@ -224,6 +420,43 @@ class JDBCTempDaoTest {
 		assertTrue(afterId2.size() == 0);
 	}
 
+	/**
+	 * <pre>
+	 * 複数のidをIN句でまとめて削除する
+	 * 重複したid・存在しないidは削除数に含まれないこと
+	 * </pre>
+	 */
+	@Test
+	void testDeleteByIds() {
+		int deleteCount = dao.deleteByIds(List.of(1, 3, 3, 100));
+
+		assertEquals(deleteCount, 2);
+		assertTrue(dao.findById(1).isEmpty());
+		assertFalse(dao.findById(2).isEmpty());
+		assertTrue(dao.findById(3).isEmpty());
+		assertEquals(dao.deleteByIds(List.of()), 0);
+	}
+
+	/**
+	 * <pre>
+	 * idの範囲・条件に一致するデータをチャンクごとに削除する
+	 * </pre>
+	 */
+	@Test
+	void testDeleteByIdRange() {
+		List<JDBCEntity> insertList = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			insertList.add(new JDBCEntity(10000 + i, "範囲", "削除", 20260101 + i % 2));
+		}
+		dao.batchInsert(insertList, 500, BulkInsertMode.BATCH);
+
+		assertEquals(dao.deleteByFilter(JDBCEntityFilter.create().birthDayFrom(20260102), 64), 500);
+		assertEquals(dao.deleteByIdRange(10000, 10499, 64), 250);
+		assertEquals(dao.deleteByIdRange(10000, 20000, 700), 250);
+		assertEquals(dao.getAllJDBCEntity().size(), 4);
+		assertThrows(InvalidDataAccessApiUsageException.class, () -> dao.deleteByIdRange(1, 4, 0));
+	}
+
 	/**
 	 * <pre>
 	 * {@link JdbcTemplate#query(String, org.springframework.jdbc.core.RowMapper)}
@@ -250,6 +483,91 @@ class JDBCTempDaoTest {
 		assertEquals(twoData.getLast_name(), "二郎");
 	}
 
+	/**
+	 * <pre>
+	 * テーブル内のデータを1行ずつ使い回しの{@link JDBCEntityRow}で受け取る
+	 * </pre>
+	 */
+	@Test
+	void testForEachJDBCEntityRow() {
+		//データの取得（使い回しのインスタンスなのでコピーして保持する）
+		List<JDBCEntity> dataList = new ArrayList<>();
+		List<JDBCEntityRow> rowList = new ArrayList<>();
+		dao.forEachJDBCEntityRow(row -> {
+			rowList.add(row);
+			dataList.add(row.toEntity());
+		});
+
+		//取得データの確認
+		assertEquals(dataList.size(), 4);
+		assertSame(rowList.get(0), rowList.get(3));
+
+		JDBCEntity twoData = dataList.stream().filter(data -> data.getId() == 2).findFirst().orElseThrow();
+		assertEquals(twoData.getBirth_day(), 20240101);
+		assertEquals(twoData.getFirst_name(), "テスト");
+		assertEquals(twoData.getLast_name(), "二郎");
+	}
+
+	/**
+	 * <pre>
+	 * テーブル内のデータを前方向のみのカーソルで{@code Stream<JDBCEntity>}として取得
+	 * </pre>
+	 */
+	@Test
+	void testStreamAllJDBCEntity() {
+		//データの取得（ストリームは必ずcloseする）
+		List<JDBCEntity> dataList;
+		try (Stream<JDBCEntity> stream = dao.streamAllJDBCEntity(2)) {
+			dataList = stream.collect(Collectors.toList());
+		}
+
+		//取得データの確認
+		assertEquals(dataList.size(), 4);
+		JDBCEntity twoData = dataList.stream().filter(data -> data.getId() == 2).findFirst().orElseThrow();
+		assertEquals(twoData.getFirst_name(), "テスト");
+		assertEquals(twoData.getLast_name(), "二郎");
+
+		//Map版の取得
+		try (Stream<Map<String, Object>> stream = dao.streamAll(2)) {
+			assertEquals(stream.count(), 4);
+		}
+	}
+
+	/**
+	 * <pre>
+	 * 条件に一致するデータを前方向のみのカーソルでid順に読み進める
+	 * </pre>
+	 */
+	@Test
+	void testStreamJDBCEntities() {
+		List<JDBCEntity> dataList;
+		try (Stream<JDBCEntity> stream = dao.streamJDBCEntities(
+				JDBCEntityFilter.create().birthDayTo(20241231).lastName("二郎"), 1)) {
+			dataList = stream.collect(Collectors.toList());
+		}
+		assertEquals(dataList.size(), 1);
+		assertEquals(dataList.get(0).getId(), 2);
+
+		//条件なし
+		try (Stream<JDBCEntity> stream = dao.streamJDBCEntities(null, 2)) {
+			assertEquals(stream.map(JDBCEntity::getId).collect(Collectors.toList()), List.of(1, 2, 3, 4));
+		}
+	}
+
+	/**
+	 * <pre>
+	 * テーブル内のデータを前方向のみのカーソルで1行ずつ{@link JDBCEntity}で受け取る
+	 * </pre>
+	 */
+	@Test
+	void testForEachJDBCEntity() {
+		List<JDBCEntity> dataList = new ArrayList<>();
+		dao.forEachJDBCEntity(1, dataList::add);
+
+		assertEquals(dataList.size(), 4);
+		assertNotSame(dataList.get(0), dataList.get(1));
+	}
+
 	/**
 	 * <pre>
 	 * {@link JdbcTemplate#query(String, org.springframework.jdbc.core.RowMapper)}
@@ -268,6 +586,115 @@ class JDBCTempDaoTest {
 		assertEquals(data.getLast_name(), "二郎");
 	}
 
+	/**
+	 * <pre>
+	 * idでの取得結果がキャッシュされ、更新・削除でキャッシュから削除されることを確認
+	 * </pre>
+	 */
+	@Test
+	void testGetJDBCEntityById_cache() {
+		JDBCEntity first = dao.getJDBCEntityById(3);
+		long hitCount = entityCache.getEntityStatistics().getHitCount();
+
+		//2回目はキャッシュから取得
+		JDBCEntity second = dao.getJDBCEntityById(3);
+		assertSame(first, second);
+		assertEquals(entityCache.getEntityStatistics().getHitCount(), hitCount + 1);
+
+		//更新したidはキャッシュから削除され、DBから取得し直す
+		dao.updateById(3, JDBCEntityValues.create().firstName("キャッシュ"));
+		JDBCEntity updated = dao.getJDBCEntityById(3);
+		assertNotSame(first, updated);
+		assertEquals(updated.getFirst_name().strip(), "キャッシュ");
+
+		//Mapの取得も更新後の値になる
+		dao.findById(3);
+		dao.batchUpdate(List.of(new JDBCEntity(3, "一括", "更新", 20000101)));
+		assertEquals(dao.findById(3).get(JDBCEntity.FIRST_NAME).toString().strip(), "一括");
+
+		//削除したidは取得できない
+		dao.deleteById(3);
+		assertTrue(dao.findById(3).isEmpty());
+	}
+
+	/**
+	 * <pre>
+	 * 複数のidでまとめて取得
+	 * 取得できたデータは渡したidの順番（重複は除く）で、存在しないidはmissingIdsに入る
+	 * </pre>
+	 */
+	@Test
+	void testGetJDBCEntitiesByIds() {
+		JDBCEntityLookupResult result = dao.getJDBCEntitiesByIds(List.of(3, 1, 99, 1, 2));
+
+		assertEquals(List.copyOf(result.getFound().keySet()), List.of(3, 1, 2));
+		assertEquals(result.getMissingIds(), List.of(99));
+		assertFalse(result.isAllFound());
+		assertEquals(result.get(2).getLast_name().strip(), "二郎");
+
+		//IN句の上限を超える件数（複数回に分けて取得される）
+		List<JDBCEntity> insertList = new ArrayList<>();
+		List<Integer> ids = new ArrayList<>();
+		for (int id = 10000; id < 11200; id++) {
+			insertList.add(new JDBCEntity(id, "一括", "取得", 20240101));
+			ids.add(id);
+		}
+		dao.batchInsert(insertList);
+		ids.add(20000);
+
+		JDBCEntityLookupResult bulkResult = dao.getJDBCEntitiesByIds(ids);
+		assertEquals(bulkResult.getFound().size(), 1200);
+		assertEquals(bulkResult.getMissingIds(), List.of(20000));
+		assertEquals(bulkResult.get(11199).getFirst_name().strip(), "一括");
+
+		assertTrue(dao.getJDBCEntitiesByIds(List.of()).getFound().isEmpty());
+	}
+
+	/**
+	 * <pre>
+	 * キーセット方式のページングで全件をid順に取得
+	 * 検索条件を指定した場合は条件に合うデータのみ取得し、
+	 * 別の検索条件でトークンを使用した場合はエラーになる
+	 * </pre>
+	 */
+	@Test
+	void testFindPage() {
+		List<JDBCEntity> insertList = new ArrayList<>();
+		for (int id = 100; id < 125; id++) {
+			insertList.add(new JDBCEntity(id, "ページ", id % 2 == 0 ? "偶数" : "奇数", 20000000 + id));
+		}
+		dao.batchInsert(insertList);
+
+		//条件なしで全件（初期データ4件 + 25件）を10件ずつ取得
+		List<Integer> ids = new ArrayList<>();
+		List<Integer> pageSizes = new ArrayList<>();
+		String token = null;
+		do {
+			JDBCEntityPage page = dao.findPage(token, 10, null);
+			page.getContent().forEach(data -> ids.add(data.getId()));
+			pageSizes.add(page.size());
+			token = page.getNextToken();
+		} while (token != null);
+		assertEquals(pageSizes, List.of(10, 10, 9));
+		assertEquals(ids.size(), 29);
+		assertEquals(ids.get(4), 100);
+		assertEquals(ids.get(28), 124);
+
+		//誕生日の範囲と姓で絞り込み（id 110～120の偶数）
+		JDBCEntityFilter filter = JDBCEntityFilter.create().birthDayBetween(20000110, 20000120).lastName("偶数");
+		JDBCEntityPage first = dao.findPage(null, 4, filter);
+		assertEquals(first.getContent().stream().map(JDBCEntity::getId).toList(), List.of(110, 112, 114, 116));
+		assertTrue(first.hasNext());
+		JDBCEntityPage second = dao.findPage(first.getNextToken(), 4, filter);
+		assertEquals(second.getContent().stream().map(JDBCEntity::getId).toList(), List.of(118, 120));
+		assertFalse(second.hasNext());
+
+		//トークンと検索条件が違う場合はエラー
+		String firstToken = first.getNextToken();
+		assertThrows(InvalidDataAccessApiUsageException.class,
+				() -> dao.findPage(firstToken, 4, JDBCEntityFilter.create().lastName("奇数")));
+	}
+
 	/**
 	 * <pre>
 	 * {@link JdbcTemplate#execute(String)}
@@ -0,0 +1,160 @@
+package com.example.demo.Dao.Load;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.Dao.JDBCTempDao;
+import com.example.demo.Dao.Batch.BulkInsertMode;
+import com.example.demo.Entity.JDBCEntity;
+
+/**
+ * <pre>
+ * {@link CsvBulkLoader}・{@link JDBCEntityCsvReader}のテスト
+ * </pre>
+ * @author Takumi
+ */
+@SpringBootTest
+@Transactional
+class CsvBulkLoaderTest {
+
+	@Autowired
+	private CsvBulkLoader loader;
+
+	@Autowired
+	private JDBCTempDao dao;
+
+	@TempDir
+	private Path tempDir;
+
+	/**
+	 * <pre>
+	 * チャンクごとに挿入され、チャンクごとに進捗が通知されること
+	 * </pre>
+	 */
+	@Test
+	void testLoad() throws IOException {
+		Path csvFile = write("id,first_name,last_name,birth_day\n" + rows(6000, 5));
+		List<CsvLoadProgress> progressList = new ArrayList<>();
+
+		CsvLoadProgress result = loader.load(csvFile, true, 2, BulkInsertMode.MULTI_ROW, progressList::add);
+
+		assertEquals(result.getRowCount(), 5);
+		assertTrue(result.isCompleted());
+		assertEquals(result.getBytesRead(), result.getTotalBytes());
+		assertTrue(result.getRowsPerSecond() > 0);
+		assertEquals(progressList.size(), 3);
+		assertEquals(progressList.get(0).getRowCount(), 2);
+		assertFalse(progressList.get(0).isCompleted());
+		assertTrue(progressList.get(0).getPercent() < 100);
+		assertSame(progressList.get(2), result);
+		assertEquals(dao.getJDBCEntityById(6004).getLast_name(), "読込4");
+		assertEquals(dao.getAllJDBCEntity().size(), 9);
+	}
+
+	/**
+	 * <pre>
+	 * BOM・CRLF・"で囲んだ値（,・""・改行を含む）・カラムの並び替え・余分な列・空行を読み込めること
+	 * ウィンドウの境目にかかった行も読み込めること
+	 * </pre>
+	 */
+	@Test
+	void testReader() throws IOException {
+		Path csvFile = write("﻿birth_day,memo,LAST_NAME,id,first_name\r\n"
+				+ "20240101,無視,\"姓,\"\"1\"\"\",7001,名1\r\n"
+				+ "\r\n"
+				+ " 20240102 ,\"改行\r\nあり\",\"姓2\",\"7002\",\"名\n2\"\r\n"
+				+ "-1,,姓3,+7003,名3");
+
+		for (int windowSize : new int[] { 64, 97, JDBCEntityCsvReader.DEFAULT_WINDOW_SIZE }) {
+			List<JDBCEntity> entities = new ArrayList<>();
+			try (JDBCEntityCsvReader reader = new JDBCEntityCsvReader(csvFile, true, windowSize)) {
+				JDBCEntity entity;
+				while ((entity = reader.next()) != null) {
+					entities.add(entity);
+				}
+				assertEquals(reader.getBytesRead(), reader.getTotalBytes());
+			}
+
+			assertEquals(entities.size(), 3);
+			assertEquals(entities.get(0).getId(), 7001);
+			assertEquals(entities.get(0).getLast_name(), "姓,\"1\"");
+			assertEquals(entities.get(0).getBirth_day(), 20240101);
+			assertEquals(entities.get(1).getId(), 7002);
+			assertEquals(entities.get(1).getFirst_name(), "名\n2");
+			assertEquals(entities.get(1).getBirth_day(), 20240102);
+			assertEquals(entities.get(2).getId(), 7003);
+			assertEquals(entities.get(2).getBirth_day(), -1);
+		}
+	}
+
+	/**
+	 * <pre>
+	 * 形式が正しくない場合、何件目かを含めた例外が発生すること
+	 * </pre>
+	 */
+	@Test
+	void testInvalidCsv() throws IOException {
+		Path notNumber = write("id,first_name,last_name,birth_day\n8001,名,姓,20240101\n8002,名,姓,abc\n");
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> loader.load(notNumber, true, 10, BulkInsertMode.BATCH, null));
+		assertTrue(e.getMessage().contains("(3件目)"));
+
+		Path missingColumn = write("id,first_name,last_name\n8001,名,姓\n");
+		assertThrows(IllegalArgumentException.class, () -> loader.load(missingColumn));
+
+		Path longLine = write("8001,名,姓,20240101\n");
+		assertThrows(IllegalArgumentException.class, () -> {
+			try (JDBCEntityCsvReader reader = new JDBCEntityCsvReader(longLine, false, 8)) {
+				reader.next();
+			}
+		});
+
+		Path unclosedQuote = write("8001,名,\"姓,20240101\n");
+		assertThrows(IllegalArgumentException.class,
+				() -> loader.load(unclosedQuote, false, 10, BulkInsertMode.BATCH, null));
+	}
+
+	/**
+	 * <pre>
+	 * H2のCSVREADで挿入できること
+	 * </pre>
+	 */
+	@Test
+	void testLoadWithCsvRead() throws IOException {
+		Path csvFile = write("ID,FIRST_NAME,LAST_NAME,BIRTH_DAY\n" + rows(9000, 3));
+		List<CsvLoadProgress> progressList = new ArrayList<>();
+
+		CsvLoadProgress result = loader.loadWithCsvRead(csvFile, progressList::add);
+
+		assertEquals(result.getRowCount(), 3);
+		assertEquals(progressList.size(), 1);
+		assertEquals(dao.getJDBCEntityById(9002).getLast_name(), "読込2");
+		assertEquals(dao.getJDBCEntityById(9002).getBirth_day(), 20240101);
+	}
+
+	private Path write(String content) throws IOException {
+		Path csvFile = Files.createTempFile(tempDir, "load", ".csv");
+		Files.writeString(csvFile, content, StandardCharsets.UTF_8);
+		return csvFile;
+	}
+
+	private static String rows(int firstId, int count) {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			builder.append(firstId + i).append(",CSV,読込").append(i).append(",20240101\n");
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,129 @@
+package com.example.demo.Dao.Logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import com.example.demo.Dao.JDBCTempDao;
+import com.example.demo.Dao.SlowQuery.SlowQueryLog;
+import com.example.demo.Dao.Statement.JDBCEntitySql;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * <pre>
+ * {@link SqlLoggingDataSource}のテスト
+ * 設定の変更は取得済みの接続には反映されないため@Transactionalは使用しない（DBのデータは変更しない）
+ * </pre>
+ * @author Takumi
+ */
+@SpringBootTest
+@ExtendWith(OutputCaptureExtension.class)
+class SqlLoggingDataSourceTest {
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private SqlLogSettings settings;
+
+	@Autowired
+	private AsyncSqlLogWriter writer;
+
+	@Autowired
+	private SlowQueryLog slowQueryLog;
+
+	@Autowired
+	private JDBCTempDao dao;
+
+	@AfterEach
+	void resetSettings() {
+		settings.setEnabled(true);
+		settings.setSampleRate(0.0);
+		settings.setSlowThresholdMillis(200);
+		settings.setStatementThreshold(JDBCEntitySql.DELETE_BY_ID, -1);
+		slowQueryLog.setEnabled(true);
+	}
+
+	/**
+	 * <pre>
+	 * DataSourceがラップされ、元のHikariDataSourceも取得できること
+	 * </pre>
+	 */
+	@Test
+	void testUnwrap() throws SQLException {
+		assertTrue(dataSource instanceof SqlLoggingDataSource);
+		assertTrue(dataSource.isWrapperFor(HikariDataSource.class));
+		assertNotNull(dataSource.unwrap(HikariDataSource.class));
+	}
+
+	/**
+	 * <pre>
+	 * ログ出力が無効で、有効なリスナー（{@link SlowQueryLog}）もない場合は元の接続がそのまま返されること
+	 * </pre>
+	 */
+	@Test
+	void testDisabled() throws SQLException {
+		try (Connection connection = dataSource.getConnection()) {
+			assertTrue(Proxy.isProxyClass(connection.getClass()));
+		}
+
+		settings.setEnabled(false);
+		try (Connection connection = dataSource.getConnection()) {
+			assertTrue(Proxy.isProxyClass(connection.getClass()));
+		}
+
+		slowQueryLog.setEnabled(false);
+		try (Connection connection = dataSource.getConnection()) {
+			assertFalse(Proxy.isProxyClass(connection.getClass()));
+		}
+	}
+
+	/**
+	 * <pre>
+	 * サンプリングの割合を実行中に変更すると、次の接続からログが出力されること
+	 * </pre>
+	 */
+	@Test
+	void testSampling(CapturedOutput output) throws InterruptedException {
+		settings.setSampleRate(1.0);
+		dao.findAll();
+
+		awaitOutput(output, "[SAMPLED]");
+		assertTrue(output.getOut().contains("sql=" + JDBCEntitySql.SELECT_ALL));
+	}
+
+	/**
+	 * <pre>
+	 * SQLごとのしきい値を超えた場合はサンプリングに関係なく出力されること
+	 * </pre>
+	 */
+	@Test
+	void testStatementThreshold(CapturedOutput output) throws InterruptedException {
+		settings.setStatementThreshold(JDBCEntitySql.DELETE_BY_ID, 0);
+		//存在しないidのため削除はされない
+		dao.deleteById(9999);
+
+		awaitOutput(output, "[SLOW]");
+		assertTrue(output.getOut().contains("sql=" + JDBCEntitySql.DELETE_BY_ID));
+	}
+
+	private void awaitOutput(CapturedOutput output, String expected) throws InterruptedException {
+		for (int i = 0; i < 100 && !output.getOut().contains(expected); i++) {
+			Thread.sleep(50);
+		}
+		assertTrue(output.getOut().contains(expected));
+		assertEquals(writer.getDroppedCount(), 0);
+	}
+}
@@ -0,0 +1,162 @@
+package com.example.demo.Dao.Metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.Dao.JDBCTempDao;
+import com.example.demo.Dao.NamedJDBCDao;
+import com.example.demo.Dao.Binding.JDBCEntityValues;
+import com.example.demo.Entity.JDBCEntity;
+import com.example.demo.Repository.DataJDBCRepository;
+import com.example.demo.Repository.JPARepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * <pre>
+ * {@link DaoMetricsAspect}のテスト
+ * メトリクスは他のテストと共有されるため、実行前後の差で確認する
+ * </pre>
+ * @author Takumi
+ */
+@SpringBootTest
+@Transactional
+class DaoMetricsAspectTest {
+
+	@Autowired
+	private MeterRegistry registry;
+
+	@Autowired
+	private JDBCTempDao jdbcTempDao;
+
+	@Autowired
+	private NamedJDBCDao namedJdbcDao;
+
+	@Autowired
+	private JPARepository jpaRepository;
+
+	@Autowired
+	private DataJDBCRepository dataJdbcRepository;
+
+	/**
+	 * <pre>
+	 * 処理時間と取得件数がstack・operationごとに記録されること
+	 * </pre>
+	 */
+	@Test
+	void testOperationTimer() {
+		long before = timerCount(DaoStack.JDBC_TEMPLATE, "findAll");
+		double rowsBefore = rowsTotal(DaoStack.JDBC_TEMPLATE, "findAll");
+
+		jdbcTempDao.findAll();
+		jdbcTempDao.findAll();
+
+		assertEquals(timerCount(DaoStack.JDBC_TEMPLATE, "findAll"), before + 2);
+		assertEquals(rowsTotal(DaoStack.JDBC_TEMPLATE, "findAll"), rowsBefore + 8);
+
+		long namedBefore = timerCount(DaoStack.NAMED_JDBC_TEMPLATE, "getJDBCEntityById");
+		namedJdbcDao.getJDBCEntityById(1);
+		assertEquals(timerCount(DaoStack.NAMED_JDBC_TEMPLATE, "getJDBCEntityById"), namedBefore + 1);
+	}
+
+	/**
+	 * <pre>
+	 * Spring Dataのリポジトリ（継承したメソッドを含む）も記録されること
+	 * </pre>
+	 */
+	@Test
+	void testRepositoryTimer() {
+		long jpaBefore = timerCount(DaoStack.JPA, "findAll");
+		long dataJdbcBefore = timerCount(DaoStack.DATA_JDBC, "existsById");
+
+		assertEquals(jpaRepository.findAll().size(), 4);
+		assertTrue(dataJdbcRepository.existsById(1));
+
+		assertEquals(timerCount(DaoStack.JPA, "findAll"), jpaBefore + 1);
+		assertEquals(timerCount(DaoStack.DATA_JDBC, "existsById"), dataJdbcBefore + 1);
+	}
+
+	/**
+	 * <pre>
+	 * 一括処理で渡した件数と更新件数が記録されること
+	 * </pre>
+	 */
+	@Test
+	void testBatchSize() {
+		DistributionSummary batchSize = registry.find(DaoMetricNames.BATCH_SIZE)
+				.tags(DaoMetricNames.TAG_STACK, DaoStack.JDBC_TEMPLATE.getTagValue(),
+						DaoMetricNames.TAG_OPERATION, "batchInsert")
+				.summary();
+		long countBefore = batchSize == null ? 0 : batchSize.count();
+		double totalBefore = batchSize == null ? 0 : batchSize.totalAmount();
+		double rowsBefore = rowsTotal(DaoStack.JDBC_TEMPLATE, "batchInsert");
+
+		jdbcTempDao.batchInsert(List.of(
+				new JDBCEntity(101, "メトリクス", "一郎", 20240101),
+				new JDBCEntity(102, "メトリクス", "二郎", 20240101),
+				new JDBCEntity(103, "メトリクス", "三郎", 20240101)));
+
+		batchSize = registry.get(DaoMetricNames.BATCH_SIZE)
+				.tags(DaoMetricNames.TAG_STACK, DaoStack.JDBC_TEMPLATE.getTagValue(),
+						DaoMetricNames.TAG_OPERATION, "batchInsert")
+				.summary();
+		assertEquals(batchSize.count(), countBefore + 1);
+		assertEquals(batchSize.totalAmount(), totalBefore + 3);
+		assertEquals(rowsTotal(DaoStack.JDBC_TEMPLATE, "batchInsert"), rowsBefore + 3);
+	}
+
+	/**
+	 * <pre>
+	 * 例外が発生した場合はoutcome=errorの処理時間と例外の回数が記録され、例外はそのまま投げられること
+	 * </pre>
+	 */
+	@Test
+	void testError() {
+		Counter counter = errorCounter();
+		double before = counter == null ? 0 : counter.count();
+
+		assertThrows(InvalidDataAccessApiUsageException.class,
+				() -> jdbcTempDao.updateById(1, JDBCEntityValues.create()));
+
+		assertEquals(errorCounter().count(), before + 1);
+		assertNotNull(registry.find(DaoMetricNames.OPERATION)
+				.tags(DaoMetricNames.TAG_STACK, DaoStack.JDBC_TEMPLATE.getTagValue(),
+						DaoMetricNames.TAG_OPERATION, "updateById",
+						DaoMetricNames.TAG_OUTCOME, DaoMetricNames.OUTCOME_ERROR)
+				.timer());
+	}
+
+	private Counter errorCounter() {
+		return registry.find(DaoMetricNames.ERRORS)
+				.tags(DaoMetricNames.TAG_STACK, DaoStack.JDBC_TEMPLATE.getTagValue(),
+						DaoMetricNames.TAG_OPERATION, "updateById",
+						DaoMetricNames.TAG_EXCEPTION, InvalidDataAccessApiUsageException.class.getSimpleName())
+				.counter();
+	}
+
+	private long timerCount(DaoStack stack, String operation) {
+		Timer timer = registry.find(DaoMetricNames.OPERATION)
+				.tags(DaoMetricNames.TAG_STACK, stack.getTagValue(),
+						DaoMetricNames.TAG_OPERATION, operation,
+						DaoMetricNames.TAG_OUTCOME, DaoMetricNames.OUTCOME_SUCCESS)
+				.timer();
+		return timer == null ? 0 : timer.count();
+	}
+
+	private double rowsTotal(DaoStack stack, String operation) {
+		DistributionSummary rows = registry.find(DaoMetricNames.ROWS)
+				.tags(DaoMetricNames.TAG_STACK, stack.getTagValue(), DaoMetricNames.TAG_OPERATION, operation)
+				.summary();
+		return rows == null ? 0 : rows.totalAmount();
+	}
+}
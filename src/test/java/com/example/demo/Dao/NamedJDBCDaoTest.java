@@ -8,6 +8,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -15,10 +16,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.Dao.Batch.BulkInsertMode;
+import com.example.demo.Dao.Batch.UpsertOutcome;
+import com.example.demo.Dao.Batch.UpsertResult;
+import com.example.demo.Dao.Query.JDBCEntityFilter;
+import com.example.demo.Dao.Query.JDBCEntityLookupResult;
+import com.example.demo.Dao.Query.JDBCEntityPage;
 import com.example.demo.Entity.JDBCEntity;
+import com.example.demo.Entity.JDBCEntityRow;
 
 /**
  * @author Takumi
@@ -83,6 +92,27 @@ class NamedJDBCDaoTest {
 		assertEquals(updateData.get(JDBCEntity.LAST_NAME).toString().strip(), "太郎くん");
 	}
 
+	/**
+	 * <pre>
+	 * 更新したいカラムにid（プライマリキー）を含めた場合
+	 * WHERE句のパラメータ名が被らずに更新できること
+	 * </pre>
+	 */
+	@Test
+	void testUpdateById_withId() {
+		//データの更新
+		Map<String, String> updateMap = new LinkedHashMap<>();
+		updateMap.put(JDBCEntity.ID, "30");
+		updateMap.put(JDBCEntity.FIRST_NAME, "更新した");
+		int updateCount = dao.updateById(1, updateMap);
+		assertTrue(updateCount == 1);
+
+		//更新データの確認
+		Map<String, Object> updateData = dao.findById(30);
+		assertEquals(updateData.get(JDBCEntity.FIRST_NAME).toString().strip(), "更新した");
+		assertTrue(dao.findById(1).isEmpty());
+	}
+
 	/**
 	 * <pre>
 	 * 挿入したいデータの{@code Map<String, String>}を作成。
@@ -191,6 +221,64 @@ class NamedJDBCDaoTest {
 		assertEquals(Integer.parseInt(insertData2.get(JDBCEntity.BIRTHDAY).toString()), 20240203);
 	}
 
+	/**
+	 * <pre>
+	 * チャンク分割した一括挿入
+	 * 複数行INSERT文とJDBCのバッチの両方で、端数のチャンクも含めて挿入できること
+	 * </pre>
+	 */
+	@Test
+	void testBatchInsert_chunked() {
+		//挿入データのセット（チャンクサイズ2で端数が出る件数）
+		List<JDBCEntity> multiRowList = new ArrayList<>();
+		List<JDBCEntity> batchList = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			multiRowList.add(new JDBCEntity(100 + i, "複数行", "太郎" + i, 20240101 + i));
+			batchList.add(new JDBCEntity(200 + i, "バッチ", "太郎" + i, 20240101 + i));
+		}
+
+		//データの一括挿入
+		assertEquals(dao.batchInsert(multiRowList, 2, BulkInsertMode.MULTI_ROW), 5);
+		assertEquals(dao.batchInsert(batchList, 2, BulkInsertMode.BATCH), 5);
+
+		//データの挿入確認
+		assertEquals(dao.getAllJDBCEntity().size(), 14);
+		JDBCEntity lastData = dao.getJDBCEntityById(104);
+		assertEquals(lastData.getFirst_name(), "複数行");
+		assertEquals(lastData.getLast_name(), "太郎4");
+		assertEquals(lastData.getBirth_day(), 20240105);
+		assertEquals(dao.getJDBCEntityById(204).getFirst_name(), "バッチ");
+	}
+
+	/**
+	 * <pre>
+	 * 一括アップサート
+	 * 存在するidは更新、存在しないidは挿入され、1行ごとにどちらだったかを取得できる
+	 * </pre>
+	 */
+	@Test
+	void testBatchUpsert() {
+		List<JDBCEntity> upsertList = new ArrayList<>();
+		upsertList.add(new JDBCEntity(1, "更新", "太郎", 20240101));
+		upsertList.add(new JDBCEntity(20, "挿入", "一郎", 20200101));
+		upsertList.add(new JDBCEntity(2, "更新", "二郎", 20240101));
+		upsertList.add(new JDBCEntity(21, "挿入", "二郎", 20200101));
+		upsertList.add(new JDBCEntity(20, "再更新", "一郎", 20200101));
+
+		//チャンクをまたいで同じidがある場合も確認するため、2件ずつに分ける
+		UpsertResult result = dao.batchUpsert(upsertList, 2);
+
+		assertEquals(result.getOutcomes(), List.of(UpsertOutcome.UPDATED, UpsertOutcome.INSERTED,
+				UpsertOutcome.UPDATED, UpsertOutcome.INSERTED, UpsertOutcome.UPDATED));
+		assertEquals(result.getInsertedCount(), 2);
+		assertEquals(result.getUpdatedCount(), 3);
+
+		assertEquals(dao.getJDBCEntityById(1).getFirst_name().strip(), "更新");
+		assertEquals(dao.getJDBCEntityById(20).getFirst_name().strip(), "再更新");
+		assertEquals(dao.getJDBCEntityById(21).getFirst_name().strip(), "挿入");
+		assertEquals(dao.getAllJDBCEntity().size(), 6);
+	}
+
 	/**
 	 * <pre>
 	 * データの一括削除
@@ -217,6 +305,43 @@ class NamedJDBCDaoTest {
 		assertTrue(afterId2.size() == 0);
 	}
 
+	/**
+	 * <pre>
+	 * 複数のidをIN句でまとめて削除する
+	 * 重複したid・存在しないidは削除数に含まれないこと
+	 * </pre>
+	 */
+	@Test
+	void testDeleteByIds() {
+		int deleteCount = dao.deleteByIds(List.of(1, 3, 3, 100));
+
+		assertEquals(deleteCount, 2);
+		assertTrue(dao.findById(1).isEmpty());
+		assertFalse(dao.findById(2).isEmpty());
+		assertTrue(dao.findById(3).isEmpty());
+		assertEquals(dao.deleteByIds(List.of()), 0);
+	}
+
+	/**
+	 * <pre>
+	 * idの範囲・条件に一致するデータをチャンクごとに削除する
+	 * </pre>
+	 */
+	@Test
+	void testDeleteByIdRange() {
+		List<JDBCEntity> insertList = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			insertList.add(new JDBCEntity(10000 + i, "範囲", "削除", 20260101 + i % 2));
+		}
+		dao.batchInsert(insertList, 500, BulkInsertMode.BATCH);
+
+		assertEquals(dao.deleteByFilter(JDBCEntityFilter.create().birthDayFrom(20260102), 64), 500);
+		assertEquals(dao.deleteByIdRange(10000, 10499, 64), 250);
+		assertEquals(dao.deleteByIdRange(10000, 20000, 700), 250);
+		assertEquals(dao.getAllJDBCEntity().size(), 4);
+		assertThrows(InvalidDataAccessApiUsageException.class, () -> dao.deleteByIdRange(1, 4, 0));
+	}
+
 	/**
 	 * <pre>
 	 * テーブルの前データを{@code List<JDBCEntity>}として取得する
@@ -243,6 +368,91 @@ class NamedJDBCDaoTest {
 		assertEquals(twoData.getLast_name(), "二郎");
 	}
 
+	/**
+	 * <pre>
+	 * テーブル内のデータを1行ずつ使い回しの{@link JDBCEntityRow}で受け取る
+	 * </pre>
+	 */
+	@Test
+	void testForEachJDBCEntityRow() {
+		//データの取得（使い回しのインスタンスなのでコピーして保持する）
+		List<JDBCEntity> dataList = new ArrayList<>();
+		List<JDBCEntityRow> rowList = new ArrayList<>();
+		dao.forEachJDBCEntityRow(row -> {
+			rowList.add(row);
+			dataList.add(row.toEntity());
+		});
+
+		//取得データの確認
+		assertEquals(dataList.size(), 4);
+		assertSame(rowList.get(0), rowList.get(3));
+
+		JDBCEntity twoData = dataList.stream().filter(data -> data.getId() == 2).findFirst().orElseThrow();
+		assertEquals(twoData.getBirth_day(), 20240101);
+		assertEquals(twoData.getFirst_name(), "テスト");
+		assertEquals(twoData.getLast_name(), "二郎");
+	}
+
+	/**
+	 * <pre>
+	 * テーブル内のデータを前方向のみのカーソルで{@code Stream<JDBCEntity>}として取得
+	 * </pre>
+	 */
+	@Test
+	void testStreamAllJDBCEntity() {
+		//データの取得（ストリームは必ずcloseする）
+		List<JDBCEntity> dataList;
+		try (Stream<JDBCEntity> stream = dao.streamAllJDBCEntity(2)) {
+			dataList = stream.collect(Collectors.toList());
+		}
+
+		//取得データの確認
+		assertEquals(dataList.size(), 4);
+		JDBCEntity twoData = dataList.stream().filter(data -> data.getId() == 2).findFirst().orElseThrow();
+		assertEquals(twoData.getFirst_name(), "テスト");
+		assertEquals(twoData.getLast_name(), "二郎");
+
+		//Map版の取得
+		try (Stream<Map<String, Object>> stream = dao.streamAll(2)) {
+			assertEquals(stream.count(), 4);
+		}
+	}
+
+	/**
+	 * <pre>
+	 * 条件に一致するデータを前方向のみのカーソルでid順に読み進める
+	 * </pre>
+	 */
+	@Test
+	void testStreamJDBCEntities() {
+		List<JDBCEntity> dataList;
+		try (Stream<JDBCEntity> stream = dao.streamJDBCEntities(
+				JDBCEntityFilter.create().birthDayTo(20241231).lastName("二郎"), 1)) {
+			dataList = stream.collect(Collectors.toList());
+		}
+		assertEquals(dataList.size(), 1);
+		assertEquals(dataList.get(0).getId(), 2);
+
+		//条件なし
+		try (Stream<JDBCEntity> stream = dao.streamJDBCEntities(null, 2)) {
+			assertEquals(stream.map(JDBCEntity::getId).collect(Collectors.toList()), List.of(1, 2, 3, 4));
+		}
+	}
+
+	/**
+	 * <pre>
+	 * テーブル内のデータを前方向のみのカーソルで1行ずつ{@link JDBCEntity}で受け取る
+	 * </pre>
+	 */
+	@Test
+	void testForEachJDBCEntity() {
+		List<JDBCEntity> dataList = new ArrayList<>();
+		dao.forEachJDBCEntity(1, dataList::add);
+
+		assertEquals(dataList.size(), 4);
+		assertNotSame(dataList.get(0), dataList.get(1));
+	}
+
 	/**
 	 * <pre>
 	 * 取得したいデータのid（プライマリキー）を渡すことで、
@@ -261,6 +471,84 @@ class NamedJDBCDaoTest {
 		assertEquals(data.getLast_name(), "二郎");
 	}
 
+	/**
+	 * <pre>
+	 * 複数のidでまとめて取得
+	 * 取得できたデータは渡したidの順番（重複は除く）で、存在しないidはmissingIdsに入る
+	 * </pre>
+	 */
+	@Test
+	void testGetJDBCEntitiesByIds() {
+		JDBCEntityLookupResult result = dao.getJDBCEntitiesByIds(List.of(3, 1, 99, 1, 2));
+
+		assertEquals(List.copyOf(result.getFound().keySet()), List.of(3, 1, 2));
+		assertEquals(result.getMissingIds(), List.of(99));
+		assertFalse(result.isAllFound());
+		assertEquals(result.get(2).getLast_name().strip(), "二郎");
+
+		//IN句の上限を超える件数（複数回に分けて取得される）
+		List<JDBCEntity> insertList = new ArrayList<>();
+		List<Integer> ids = new ArrayList<>();
+		for (int id = 10000; id < 11200; id++) {
+			insertList.add(new JDBCEntity(id, "一括", "取得", 20240101));
+			ids.add(id);
+		}
+		dao.batchInsert(insertList);
+		ids.add(20000);
+
+		JDBCEntityLookupResult bulkResult = dao.getJDBCEntitiesByIds(ids);
+		assertEquals(bulkResult.getFound().size(), 1200);
+		assertEquals(bulkResult.getMissingIds(), List.of(20000));
+		assertEquals(bulkResult.get(11199).getFirst_name().strip(), "一括");
+
+		assertTrue(dao.getJDBCEntitiesByIds(List.of()).getFound().isEmpty());
+	}
+
+	/**
+	 * <pre>
+	 * キーセット方式のページングで全件をid順に取得
+	 * 検索条件を指定した場合は条件に合うデータのみ取得し、
+	 * 別の検索条件でトークンを使用した場合はエラーになる
+	 * </pre>
+	 */
+	@Test
+	void testFindPage() {
+		List<JDBCEntity> insertList = new ArrayList<>();
+		for (int id = 100; id < 125; id++) {
+			insertList.add(new JDBCEntity(id, "ページ", id % 2 == 0 ? "偶数" : "奇数", 20000000 + id));
+		}
+		dao.batchInsert(insertList);
+
+		//条件なしで全件（初期データ4件 + 25件）を10件ずつ取得
+		List<Integer> ids = new ArrayList<>();
+		List<Integer> pageSizes = new ArrayList<>();
+		String token = null;
+		do {
+			JDBCEntityPage page = dao.findPage(token, 10, null);
+			page.getContent().forEach(data -> ids.add(data.getId()));
+			pageSizes.add(page.size());
+			token = page.getNextToken();
+		} while (token != null);
+		assertEquals(pageSizes, List.of(10, 10, 9));
+		assertEquals(ids.size(), 29);
+		assertEquals(ids.get(4), 100);
+		assertEquals(ids.get(28), 124);
+
+		//誕生日の範囲と姓で絞り込み（id 110～120の偶数）
+		JDBCEntityFilter filter = JDBCEntityFilter.create().birthDayBetween(20000110, 20000120).lastName("偶数");
+		JDBCEntityPage first = dao.findPage(null, 4, filter);
+		assertEquals(first.getContent().stream().map(JDBCEntity::getId).toList(), List.of(110, 112, 114, 116));
+		assertTrue(first.hasNext());
+		JDBCEntityPage second = dao.findPage(first.getNextToken(), 4, filter);
+		assertEquals(second.getContent().stream().map(JDBCEntity::getId).toList(), List.of(118, 120));
+		assertFalse(second.hasNext());
+
+		//トークンと検索条件が違う場合はエラー
+		String firstToken = first.getNextToken();
+		assertThrows(InvalidDataAccessApiUsageException.class,
+				() -> dao.findPage(firstToken, 4, JDBCEntityFilter.create().lastName("奇数")));
+	}
+
 	/**
 	 * <pre>
 	 * 削除したいテーブルの名前を渡すことでテーブルを削除する
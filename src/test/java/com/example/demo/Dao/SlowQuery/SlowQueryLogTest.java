@@ -0,0 +1,126 @@
+package com.example.demo.Dao.SlowQuery;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.test.context.transaction.BeforeTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.Dao.JDBCTempDao;
+import com.example.demo.Dao.Statement.JDBCEntitySql;
+import com.example.demo.Entity.JDBCEntity;
+
+/**
+ * <pre>
+ * {@link SlowQueryLog}・{@link SqlFingerprint}のテスト
+ * デフォルトでは無効のため、テストのトランザクションが接続を取得する前に有効にする
+ * </pre>
+ * @author Takumi
+ */
+@SpringBootTest
+@Transactional
+class SlowQueryLogTest {
+
+	@Autowired
+	private SlowQueryLog slowQueryLog;
+
+	@Autowired
+	private JDBCTempDao dao;
+
+	@BeforeTransaction
+	void enable() {
+		slowQueryLog.setEnabled(true);
+	}
+
+	@AfterTransaction
+	void disable() {
+		slowQueryLog.setEnabled(false);
+	}
+
+	@BeforeEach
+	void reset() {
+		slowQueryLog.reset();
+	}
+
+	@AfterEach
+	void resetThreshold() {
+		slowQueryLog.setThresholdMillis(100);
+	}
+
+	/**
+	 * <pre>
+	 * リテラル・IN句・複数行のVALUES句・SET句の順番がまとめられること
+	 * </pre>
+	 */
+	@Test
+	void testFingerprint() {
+		assertEquals(SqlFingerprint.fingerprint("SELECT *  FROM test_table\n WHERE id = 10 AND last_name = 'O''Brien'"),
+				"select * from test_table where id = ? and last_name = ?");
+		assertEquals(SqlFingerprint.fingerprint(JDBCEntitySql.selectByIds(4)),
+				SqlFingerprint.fingerprint(JDBCEntitySql.selectByIds(64)));
+		assertEquals(SqlFingerprint.fingerprint(JDBCEntitySql.multiRowInsert(2)),
+				SqlFingerprint.fingerprint(JDBCEntitySql.multiRowInsert(100)));
+		assertEquals(SqlFingerprint.fingerprint("UPDATE test_table SET last_name = ?, first_name = ? WHERE id = ?"),
+				SqlFingerprint.fingerprint("update test_table set first_name = ?, last_name = ? where id = ?"));
+		assertEquals(SqlFingerprint.fingerprint("SELECT * FROM test_table WHERE birth_day >= 20240101 -- コメント"),
+				"select * from test_table where birth_day >= ?");
+	}
+
+	/**
+	 * <pre>
+	 * 更新するカラムの順番が違うupdateByIdが同じフィンガープリントで集計されること
+	 * </pre>
+	 */
+	@Test
+	void testStatistics() {
+		Map<String, String> first = new LinkedHashMap<>();
+		first.put(JDBCEntity.FIRST_NAME, "フィンガー");
+		first.put(JDBCEntity.LAST_NAME, "プリント");
+		Map<String, String> second = new LinkedHashMap<>();
+		second.put(JDBCEntity.LAST_NAME, "プリント");
+		second.put(JDBCEntity.FIRST_NAME, "フィンガー");
+
+		dao.updateById(1, first);
+		dao.updateById(2, second);
+
+		String fingerprint = "update test_table set first_name = ?, last_name = ? where id = ?";
+		FingerprintStatistics statistics = slowQueryLog.getStatistics(fingerprint);
+		assertNotNull(statistics);
+		assertEquals(statistics.getCount(), 2);
+		assertEquals(statistics.getErrorCount(), 0);
+		assertTrue(statistics.getP99Millis() >= statistics.getP50Millis());
+		assertTrue(statistics.getMaxMillis() > 0);
+	}
+
+	/**
+	 * <pre>
+	 * しきい値以上のSQLがバインドした値を伏せて記録されること
+	 * </pre>
+	 */
+	@Test
+	void testSlowQuery() {
+		slowQueryLog.setThresholdMillis(0);
+
+		Map<String, String> data = new LinkedHashMap<>();
+		data.put(JDBCEntity.FIRST_NAME, "秘密の値");
+		dao.updateById(3, data);
+
+		List<SlowQuery> slowQueries = slowQueryLog.getSlowQueries();
+		SlowQuery slowQuery = slowQueries.stream()
+				.filter(query -> query.getFingerprint().startsWith("update test_table"))
+				.findFirst().orElseThrow();
+		assertEquals(slowQuery.getSql(), "update test_table set first_name = ? where id = ?");
+		assertEquals(slowQuery.getBinds(), "[1:String=?, 2:Int=?]");
+		assertFalse(slowQuery.getBinds().contains("秘密の値"));
+		assertNull(slowQuery.getError());
+	}
+}
@@ -0,0 +1,134 @@
+package com.example.demo.Dao.Snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.Dao.JDBCTempDao;
+import com.example.demo.Dao.Query.JDBCEntityFilter;
+import com.example.demo.Entity.JDBCEntity;
+
+/**
+ * <pre>
+ * {@link JDBCEntitySnapshot}・{@link JDBCEntitySnapshotManager}のテスト
+ * </pre>
+ * @author Takumi
+ */
+@SpringBootTest
+@Transactional
+class JDBCEntitySnapshotTest {
+
+	@Autowired
+	private JDBCEntitySnapshotManager manager;
+
+	@Autowired
+	private JDBCTempDao dao;
+
+	@BeforeEach
+	void reload() {
+		//他のテストでの変更（ロールバック済み）を反映しておく
+		manager.reload();
+	}
+
+	/**
+	 * <pre>
+	 * 列の配列に対して検索・件数・グループごとの件数を求められること
+	 * </pre>
+	 */
+	@Test
+	void testScan() {
+		JDBCEntitySnapshot snapshot = manager.getSnapshot();
+
+		assertEquals(snapshot.size(), 4);
+		assertEquals(snapshot.getFirstNameCardinality(), 1);
+		assertEquals(snapshot.getLastName(snapshot.indexOf(4)).strip(), "花子");
+		assertEquals(snapshot.indexOf(100), -1);
+		assertEquals(snapshot.count(null), 4);
+		assertEquals(snapshot.count(JDBCEntityFilter.create().birthDayFrom(20250101)), 1);
+		assertEquals(snapshot.filter(JDBCEntityFilter.create().birthDayTo(20241231)).cardinality(), 3);
+
+		String lastName = snapshot.getLastName(snapshot.indexOf(2));
+		assertEquals(snapshot.count(JDBCEntityFilter.create().lastName(lastName)), 1);
+		assertEquals(snapshot.count(JDBCEntityFilter.create().lastName("存在しない")), 0);
+
+		Map<String, Integer> byFirstName = snapshot.countByFirstName(JDBCEntityFilter.create().birthDayTo(20241231));
+		assertEquals(byFirstName.size(), 1);
+		assertEquals(byFirstName.values().iterator().next(), 3);
+		Map<Integer, Integer> byBirthDay = snapshot.countByBirthDay(null);
+		assertEquals(byBirthDay.get(20240101), 3);
+		assertEquals(byBirthDay.get(20250101), 1);
+
+		List<JDBCEntity> entities = new ArrayList<>();
+		snapshot.forEach(JDBCEntityFilter.create().birthDayFrom(20250101), entities::add);
+		assertEquals(entities.size(), 1);
+		assertEquals(entities.get(0).getId(), 4);
+	}
+
+	/**
+	 * <pre>
+	 * DAOで変更した行だけが反映され、変更前のスナップショットは変わらないこと
+	 * </pre>
+	 */
+	@Test
+	void testRefresh() {
+		JDBCEntitySnapshot before = manager.getSnapshot();
+
+		List<JDBCEntity> insertList = new ArrayList<>();
+		insertList.add(new JDBCEntity(9100, "集計", "追加", 20260101));
+		dao.batchInsert(insertList);
+		Map<String, String> updateMap = new LinkedHashMap<>();
+		updateMap.put(JDBCEntity.LAST_NAME, "更新");
+		dao.updateById(1, updateMap);
+		dao.deleteById(4);
+		assertTrue(manager.isStale());
+		assertEquals(manager.getDirtyCount(), 3);
+
+		JDBCEntitySnapshot after = manager.refresh();
+
+		assertFalse(manager.isStale());
+		assertEquals(after.getVersion(), before.getVersion() + 1);
+		assertEquals(after.size(), 4);
+		assertEquals(after.indexOf(4), -1);
+		assertEquals(after.getLastName(after.indexOf(1)), "更新");
+		assertEquals(after.get(after.indexOf(9100)).getFirst_name(), "集計");
+		assertEquals(after.getId(after.size() - 1), 9100);
+		assertEquals(after.countByFirstName(null).get("集計"), 1);
+
+		assertEquals(before.size(), 4);
+		assertEquals(before.getLastName(before.indexOf(1)).strip(), "太郎");
+		assertNotEquals(before.indexOf(4), -1);
+		assertSame(manager.refresh(), after);
+	}
+
+	/**
+	 * <pre>
+	 * 変更されたidが多い場合は全件を読み込み直すこと
+	 * </pre>
+	 */
+	@Test
+	void testFullReload() {
+		JDBCEntitySnapshot before = manager.getSnapshot();
+
+		List<JDBCEntity> insertList = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			insertList.add(new JDBCEntity(9200 + i, "一括", "追加" + i, 20260101));
+		}
+		dao.batchInsert(insertList);
+
+		JDBCEntitySnapshot after = manager.refresh();
+
+		assertEquals(after.getVersion(), before.getVersion() + 1);
+		assertEquals(after.size(), 14);
+		assertEquals(after.getLastNameCardinality(), 14);
+		assertEquals(after.count(JDBCEntityFilter.create().birthDayFrom(20260101)), 10);
+	}
+}
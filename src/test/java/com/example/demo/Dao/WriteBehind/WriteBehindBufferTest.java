@@ -0,0 +1,180 @@
+package com.example.demo.Dao.WriteBehind;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.Dao.JDBCTempDao;
+import com.example.demo.Dao.Binding.JDBCEntityValues;
+import com.example.demo.Entity.JDBCEntity;
+
+/**
+ * <pre>
+ * {@link WriteBehindBuffer}のテスト
+ * 書き込みは新しいトランザクションでコミットされるため、テストのトランザクションは使用せず、終了後に初期データに戻す
+ * 定期実行の書き込みがテスト中に行われないよう、間隔は十分に長くする
+ * </pre>
+ * @author Takumi
+ */
+@SpringBootTest
+class WriteBehindBufferTest {
+
+	@Autowired
+	private JDBCTempDao dao;
+
+	@Autowired
+	private WriteBehindBuffer writeThroughBuffer;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private WriteBehindBuffer buffer;
+
+	@BeforeEach
+	void create() {
+		buffer = new WriteBehindBuffer(dao, transactionManager, WriteBehindMode.WRITE_BEHIND, 3, 60000, 2);
+	}
+
+	@AfterEach
+	void shutdown() throws InterruptedException {
+		buffer.shutdown();
+		//初期データ（data.sql）に戻す
+		String[] lastNames = { "太郎", "二郎", "三郎", "花子" };
+		for (int id = 1; id <= 4; id++) {
+			dao.updateById(id, JDBCEntityValues.create().firstName("テスト").lastName(lastNames[id - 1])
+					.birthDay(id == 4 ? 20250101 : 20240101));
+		}
+	}
+
+	/**
+	 * <pre>
+	 * 同じidへの更新がまとめられ、flushするまでDBに反映されないこと
+	 * </pre>
+	 */
+	@Test
+	void testCoalesce() {
+		buffer.updateById(1, JDBCEntityValues.create().lastName("一"));
+		buffer.updateById(1, JDBCEntityValues.create().birthDay(20260101));
+		buffer.updateById(1, JDBCEntityValues.create().lastName("二"));
+		buffer.updateById(2, JDBCEntityValues.create().lastName("三"));
+
+		assertEquals(buffer.getPendingCount(), 2);
+		assertEquals(dao.getJDBCEntityById(1).getLast_name().strip(), "太郎");
+
+		assertEquals(buffer.flush(), 2);
+
+		JDBCEntity data = dao.getJDBCEntityById(1);
+		assertEquals(data.getLast_name(), "二");
+		assertEquals(data.getBirth_day(), 20260101);
+		assertEquals(dao.getJDBCEntityById(2).getLast_name(), "三");
+		assertEquals(buffer.getPendingCount(), 0);
+		assertEquals(buffer.getSubmittedCount(), 4);
+		assertEquals(buffer.getWrittenCount(), 2);
+		assertEquals(buffer.getFlushCount(), 1);
+		assertEquals(buffer.flush(), 0);
+	}
+
+	/**
+	 * <pre>
+	 * ためたidの数が上限に達した時点で書き込まれること
+	 * </pre>
+	 */
+	@Test
+	void testFlushOnSize() {
+		buffer.updateById(1, JDBCEntityValues.create().firstName("上限"));
+		buffer.updateById(2, JDBCEntityValues.create().firstName("上限"));
+		assertEquals(buffer.getFlushCount(), 0);
+
+		buffer.updateById(3, JDBCEntityValues.create().firstName("上限"));
+
+		assertEquals(buffer.getFlushCount(), 1);
+		assertEquals(buffer.getPendingCount(), 0);
+		assertEquals(dao.getJDBCEntityById(3).getFirst_name(), "上限");
+	}
+
+	/**
+	 * <pre>
+	 * 書き込めない更新があっても他のidは書き込まれ、書き込めない更新は上限回数失敗した後に退避されること
+	 * 上限に達して書き込んだ更新の呼び出し元には、書き込みの失敗が例外として返らないこと
+	 * </pre>
+	 */
+	@Test
+	void testParkFailedUpdate() {
+		//last_nameはVARCHAR(10)のため、何度書き込んでも失敗する
+		buffer.updateById(1, JDBCEntityValues.create().lastName("とても長くて書き込めない名前"));
+		buffer.updateById(2, JDBCEntityValues.create().lastName("正常"));
+		assertDoesNotThrow(() -> buffer.updateById(3, JDBCEntityValues.create().lastName("正常")));
+
+		assertEquals(buffer.getFailedFlushCount(), 1);
+		assertEquals(buffer.getPendingCount(), 1);
+		assertEquals(dao.getJDBCEntityById(2).getLast_name(), "正常");
+		assertEquals(dao.getJDBCEntityById(3).getLast_name(), "正常");
+		assertTrue(buffer.getParkedUpdates().isEmpty());
+
+		assertEquals(buffer.flush(), 0);
+
+		assertEquals(buffer.getPendingCount(), 0);
+		assertEquals(buffer.getParkedUpdates().keySet(), Set.of(1));
+		assertEquals(buffer.getWrittenCount(), 2);
+		assertEquals(dao.getJDBCEntityById(1).getLast_name().strip(), "太郎");
+		assertNotNull(buffer.removeParkedUpdate(1));
+		assertTrue(buffer.getParkedUpdates().isEmpty());
+	}
+
+	/**
+	 * <pre>
+	 * 呼び出し元のトランザクションの中で書き込んでも、呼び出し元のロールバックで書き込んだ更新が失われないこと
+	 * </pre>
+	 */
+	@Test
+	void testFlushOutsideCallerTransaction() {
+		TransactionTemplate callerTransaction = new TransactionTemplate(transactionManager);
+		callerTransaction.executeWithoutResult(status -> {
+			buffer.updateById(2, JDBCEntityValues.create().lastName("独立"));
+			buffer.flush();
+			status.setRollbackOnly();
+		});
+
+		assertEquals(dao.getJDBCEntityById(2).getLast_name(), "独立");
+		assertEquals(buffer.getWrittenCount(), 1);
+	}
+
+	/**
+	 * <pre>
+	 * 終了時にためていた更新が書き込まれること
+	 * </pre>
+	 */
+	@Test
+	void testFlushOnShutdown() throws InterruptedException {
+		buffer.updateById(4, JDBCEntityValues.create().lastName("終了"));
+
+		buffer.shutdown();
+
+		assertEquals(dao.getJDBCEntityById(4).getLast_name(), "終了");
+	}
+
+	/**
+	 * <pre>
+	 * デフォルトの設定ではためずにその場で更新し、idの更新はできないこと
+	 * </pre>
+	 */
+	@Test
+	void testWriteThrough() {
+		assertEquals(writeThroughBuffer.getMode(), WriteBehindMode.WRITE_THROUGH);
+
+		writeThroughBuffer.updateById(1, JDBCEntityValues.create().lastName("即時"));
+
+		assertEquals(writeThroughBuffer.getPendingCount(), 0);
+		assertEquals(dao.getJDBCEntityById(1).getLast_name(), "即時");
+		assertThrows(IllegalArgumentException.class,
+				() -> buffer.updateById(1, JDBCEntityValues.create().id(100)));
+	}
+}
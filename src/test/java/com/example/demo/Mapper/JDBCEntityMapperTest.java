@@ -0,0 +1,56 @@
+package com.example.demo.Mapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.Entity.JDBCEntity;
+
+/**
+ * {@link JDBCEntityMapper}のテスト
+ * @author Takumi
+ *
+ */
+@SpringBootTest
+@Transactional
+class JDBCEntityMapperTest {
+
+	@Autowired
+	private JDBCEntityMapper mapper;
+
+	@Test
+	void testFindAll() {
+		List<JDBCEntity> data = mapper.findAll();
+
+		assertEquals(data.size(), 4);
+	}
+
+	@Test
+	void testFindById() {
+		JDBCEntity data = mapper.findById(2);
+
+		assertEquals(data.getId(), 2);
+		assertEquals(data.getFirst_name(), "テスト");
+		assertEquals(data.getLast_name(), "二郎");
+		assertEquals(data.getBirth_day(), 20240101);
+	}
+
+	@Test
+	void testInsertUpdateDelete() {
+		assertEquals(mapper.insert(new JDBCEntity(50, "マイバティス", "太郎", 20200202)), 1);
+		assertEquals(mapper.findById(50).getFirst_name(), "マイバティス");
+
+		assertEquals(mapper.update(new JDBCEntity(50, "更新した", "太郎", 20200203)), 1);
+		JDBCEntity updated = mapper.findById(50);
+		assertEquals(updated.getFirst_name(), "更新した");
+		assertEquals(updated.getBirth_day(), 20200203);
+
+		assertEquals(mapper.deleteById(50), 1);
+		assertNull(mapper.findById(50));
+	}
+}
@@ -2,14 +2,18 @@ package com.example.demo.Repository;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.Dao.Cache.EntityCacheManager;
+import com.example.demo.Dao.Cache.EntityCacheNames;
 import com.example.demo.Entity.JPAEntity;
 
 /**
@@ -24,6 +28,9 @@ class JPARepositoryTest {
 	@Autowired
 	private JPARepository repository;
 
+	@Autowired
+	private EntityCacheManager cacheManager;
+
 	@Test
 	void findAllTest() {
 		List<JPAEntity> data = repository.findAll();
@@ -46,6 +53,28 @@ class JPARepositoryTest {
 		assertEquals(data.getBirth_day(), 20240101);
 	}
 	
+	@Test
+	void findByIdCacheTest() {
+		JPAEntity first = repository.findById(2).orElse(null);
+		long hitCount = cacheManager.getStatistics(EntityCacheNames.JPA_ENTITY).getHitCount();
+
+		//2回目はキャッシュから取得（管理しているエンティティとは別の複製）
+		JPAEntity second = repository.findById(2).orElse(null);
+		assertNotSame(first, second);
+		assertNotSame(second, repository.findById(2).orElse(null));
+		assertEquals(second.getLast_name(), first.getLast_name());
+		assertEquals(cacheManager.getStatistics(EntityCacheNames.JPA_ENTITY).getHitCount(), hitCount + 2);
+
+		//保存したidはキャッシュから削除され、取得し直す
+		repository.save(new JPAEntity(2, "キャッシュ", "更新", 20000101));
+		JPAEntity updated = repository.findById(2).orElse(null);
+		assertEquals(updated.getFirst_name().strip(), "キャッシュ");
+
+		//存在しないidはキャッシュしない
+		assertTrue(repository.findById(99).isEmpty());
+		assertTrue(repository.findById(99).isEmpty());
+	}
+
 	@Test
 	void saveTest() {
 		assertFalse(repository.existsById(9));
@@ -63,6 +92,27 @@ class JPARepositoryTest {
 		assertEquals(insertData.getBirth_day(), 20200202);
 	}
 	
+	@Test
+	void persistAllTest() {
+		List<JPAEntity> insertList = new ArrayList<>();
+		for (int i = 0; i < 120; i++) {
+			insertList.add(new JPAEntity(1000 + i, "一括", "挿入" + i, 20240101));
+		}
+
+		assertEquals(repository.persistAll(insertList), 120);
+
+		assertEquals(repository.count(), 124);
+		JPAEntity insertData = repository.findById(1119).orElse(null);
+		assertEquals(insertData.getLast_name(), "挿入119");
+	}
+
+	@Test
+	void persistAllExistingIdTest() {
+		List<JPAEntity> insertList = List.of(new JPAEntity(1, "既存", "id", 20240101));
+
+		assertThrows(DataIntegrityViolationException.class, () -> repository.persistAll(insertList));
+	}
+
 	@Test
 	void deleteTest() {
 		assertTrue(repository.existsById(1));